@@ -55,6 +55,9 @@ android {
 dependencies {
     // Core library desugaring for flutter_local_notifications
     coreLibraryDesugaring("com.android.tools:desugar_jdk_libs:2.0.4")
+
+    // Rdzeń obliczeniowy (android/budcore, dołączony przez includeBuild)
+    implementation("com.example.budapp:budcore")
     
     // Zależności dla testów jednostkowych (Unit Tests)
     testImplementation("junit:junit:4.13.2")
@@ -0,0 +1,51 @@
+package com.example.budapp
+
+import android.os.Handler
+import android.os.Looper
+import com.example.budapp.batch.CalculationBatch
+import io.flutter.plugin.common.BasicMessageChannel
+import io.flutter.plugin.common.BinaryCodec
+import io.flutter.plugin.common.BinaryMessenger
+import java.nio.ByteBuffer
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Kanał platformy wykonujący paczki obliczeń [CalculationBatch] poza wątkiem UI.
+ * Jedna paczka to jeden komunikat i jedna odpowiedź, niezależnie od liczby operacji.
+ */
+class CalculatorChannel(messenger: BinaryMessenger) {
+
+    companion object {
+        const val CHANNEL = "com.example.budapp/calculator"
+    }
+
+    private val channel = BasicMessageChannel(messenger, CHANNEL, BinaryCodec.INSTANCE)
+    private val executor: ExecutorService = Executors.newSingleThreadExecutor()
+    private val mainHandler = Handler(Looper.getMainLooper())
+
+    init {
+        channel.setMessageHandler { message, reply ->
+            if (message == null) {
+                reply.reply(null)
+                return@setMessageHandler
+            }
+            // Bufor komunikatu jest ważny tylko w trakcie wywołania - dekodujemy od razu
+            val batch = try {
+                CalculationBatch.decode(message)
+            } catch (e: IllegalArgumentException) {
+                reply.reply(null)
+                return@setMessageHandler
+            }
+            executor.execute {
+                val response: ByteBuffer = batch.execute()
+                mainHandler.post { reply.reply(response) }
+            }
+        }
+    }
+
+    fun dispose() {
+        channel.setMessageHandler(null)
+        executor.shutdown()
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.budapp
+
+import android.os.Handler
+import android.os.Looper
+import com.example.budapp.history.HistoryRecord
+import com.example.budapp.history.HistoryStore
+import com.example.budapp.history.HistoryType
+import io.flutter.plugin.common.BinaryMessenger
+import io.flutter.plugin.common.MethodCall
+import io.flutter.plugin.common.MethodChannel
+import java.io.File
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+/**
+ * Kanał platformy udostępniający binarny magazyn historii ([HistoryStore]) dla Fluttera.
+ * Operacje na plikach wykonywane są w osobnym wątku, odpowiedzi wracają na wątek główny.
+ */
+class HistoryChannel(private val directory: File, messenger: BinaryMessenger) :
+    MethodChannel.MethodCallHandler {
+
+    companion object {
+        const val CHANNEL = "com.example.budapp/history"
+        private const val PRELOAD_LIMIT = 20
+    }
+
+    private val channel = MethodChannel(messenger, CHANNEL)
+    private val executor: ExecutorService = Executors.newSingleThreadExecutor()
+    private val mainHandler = Handler(Looper.getMainLooper())
+    private var store: HistoryStore? = null
+
+    init {
+        channel.setMethodCallHandler(this)
+    }
+
+    override fun onMethodCall(call: MethodCall, result: MethodChannel.Result) {
+        executor.execute {
+            try {
+                val reply = handle(call)
+                mainHandler.post {
+                    if (reply === Unhandled) result.notImplemented() else result.success(reply)
+                }
+            } catch (e: Exception) {
+                mainHandler.post { result.error("HISTORY_ERROR", e.message, null) }
+            }
+        }
+    }
+
+    private object Unhandled
+
+    private fun handle(call: MethodCall): Any? {
+        return when (call.method) {
+            "append" -> {
+                val type = type(call)
+                val store = openStore()
+                val timestamp = call.argument<Number>("timestamp")?.toLong() ?: System.currentTimeMillis()
+                val fields = call.argument<Map<String, Any?>>("values") ?: emptyMap()
+                store.append(type, timestamp, toValues(type, fields))
+            }
+            "latest" -> {
+                val type = type(call)
+                openStore().latest(type, call.argument<Int>("limit") ?: Int.MAX_VALUE).map { toMap(type, it) }
+            }
+            "remove" -> openStore().remove(type(call), call.argument<Number>("id")?.toLong() ?: -1L)
+            "clear" -> {
+                openStore().clear(type(call))
+                null
+            }
+            else -> Unhandled
+        }
+    }
+
+    /**
+     * Otwiera magazyn i wczytuje najnowsze wpisy każdego typu w wątku historii,
+     * żeby pierwsze zapytanie z Fluttera nie czekało na mapowanie plików.
+     */
+    fun preload(limit: Int = PRELOAD_LIMIT): Future<*> = executor.submit {
+        val store = openStore()
+        for (type in HistoryType.values()) {
+            store.latest(type, limit)
+        }
+    }
+
+    private fun type(call: MethodCall): HistoryType =
+        HistoryType.fromKey(call.argument<String>("type") ?: "")
+
+    private fun openStore(): HistoryStore =
+        store ?: HistoryStore(directory).also { store = it }
+
+    private fun toValues(type: HistoryType, fields: Map<String, Any?>): DoubleArray =
+        DoubleArray(type.fieldCount) { i ->
+            when (val value = fields[type.getFieldName(i)]) {
+                is Number -> value.toDouble()
+                is Boolean -> if (value) 1.0 else 0.0
+                else -> 0.0
+            }
+        }
+
+    private fun toMap(type: HistoryType, record: HistoryRecord): Map<String, Any> {
+        val map = HashMap<String, Any>(type.fieldCount + 2)
+        map["id"] = record.id
+        map["timestamp"] = record.timestamp
+        for (i in 0 until type.fieldCount) {
+            val value = record.getValue(i)
+            map[type.getFieldName(i)] = if (type.isFlagField(i)) value != 0.0 else value
+        }
+        return map
+    }
+
+    fun dispose() {
+        channel.setMethodCallHandler(null)
+        executor.execute { store?.close() }
+        executor.shutdown()
+    }
+}
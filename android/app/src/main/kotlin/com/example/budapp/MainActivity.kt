@@ -1,5 +1,55 @@
 package com.example.budapp
 
+import android.os.Build
+import android.os.Bundle
+import android.os.Process
+import android.os.SystemClock
+import com.example.budapp.warmup.WarmupService
 import io.flutter.embedding.android.FlutterActivity
+import io.flutter.embedding.engine.FlutterEngine
+import java.io.File
 
-class MainActivity : FlutterActivity()
+class MainActivity : FlutterActivity() {
+
+    private var historyChannel: HistoryChannel? = null
+    private var calculatorChannel: CalculatorChannel? = null
+    private var warmupChannel: WarmupChannel? = null
+    private var createNanos = 0L
+    private var processStartMillis = -1L
+
+    override fun onCreate(savedInstanceState: Bundle?) {
+        createNanos = System.nanoTime()
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.N) {
+            processStartMillis = SystemClock.elapsedRealtime() - Process.getStartElapsedRealtime()
+        }
+        super.onCreate(savedInstanceState)
+    }
+
+    override fun configureFlutterEngine(flutterEngine: FlutterEngine) {
+        super.configureFlutterEngine(flutterEngine)
+        val messenger = flutterEngine.dartExecutor.binaryMessenger
+        val history = HistoryChannel(File(filesDir, "history"), messenger)
+        historyChannel = history
+        calculatorChannel = CalculatorChannel(messenger)
+
+        val warmup = WarmupService.builder()
+            .addDefaultPhases()
+            .addPhase("history") { history.preload().get() }
+            .build()
+        if (processStartMillis >= 0) {
+            warmup.record("process", processStartMillis * 1_000_000)
+        }
+        warmup.record("engine", System.nanoTime() - createNanos)
+        warmupChannel = WarmupChannel(warmup, messenger)
+    }
+
+    override fun cleanUpFlutterEngine(flutterEngine: FlutterEngine) {
+        historyChannel?.dispose()
+        historyChannel = null
+        calculatorChannel?.dispose()
+        calculatorChannel = null
+        warmupChannel?.dispose()
+        warmupChannel = null
+        super.cleanUpFlutterEngine(flutterEngine)
+    }
+}
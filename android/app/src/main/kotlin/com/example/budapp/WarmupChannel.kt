@@ -0,0 +1,64 @@
+package com.example.budapp
+
+import android.os.Handler
+import android.os.Looper
+import android.os.Process
+import com.example.budapp.warmup.StartupTimings
+import com.example.budapp.warmup.WarmupService
+import io.flutter.plugin.common.BinaryMessenger
+import io.flutter.plugin.common.MethodCall
+import io.flutter.plugin.common.MethodChannel
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * Kanał platformy uruchamiający rozgrzewkę [WarmupService] w wątku tła o niskim priorytecie
+ * i zgłaszający Flutterowi gotowość oraz czasy faz startu.
+ */
+class WarmupChannel(private val service: WarmupService, messenger: BinaryMessenger) :
+    MethodChannel.MethodCallHandler {
+
+    companion object {
+        const val CHANNEL = "com.example.budapp/warmup"
+    }
+
+    private val channel = MethodChannel(messenger, CHANNEL)
+    private val executor: ExecutorService = Executors.newSingleThreadExecutor { task ->
+        Thread({
+            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND)
+            task.run()
+        }, "budapp-warmup")
+    }
+    private val mainHandler = Handler(Looper.getMainLooper())
+
+    init {
+        channel.setMethodCallHandler(this)
+        service.start(executor)
+    }
+
+    override fun onMethodCall(call: MethodCall, result: MethodChannel.Result) {
+        when (call.method) {
+            "status" -> result.success(toMap(service.timings))
+            // Odpowiedź dopiero po zakończeniu rozgrzewki (od razu, jeśli już się zakończyła)
+            "awaitReady" -> service.whenReady { timings -> mainHandler.post { result.success(toMap(timings)) } }
+            else -> result.notImplemented()
+        }
+    }
+
+    private fun toMap(timings: StartupTimings): Map<String, Any?> = mapOf(
+        "ready" to timings.isReady,
+        "totalMs" to timings.totalNanos / 1e6,
+        "phases" to (0 until timings.phaseCount).map { i ->
+            mapOf(
+                "name" to timings.getPhaseName(i),
+                "ms" to timings.getPhaseMillis(i),
+                "error" to timings.getPhaseFailure(i),
+            )
+        },
+    )
+
+    fun dispose() {
+        channel.setMethodCallHandler(null)
+        executor.shutdown()
+    }
+}
@@ -0,0 +1,39 @@
+plugins {
+    java
+}
+
+repositories {
+    mavenCentral()
+}
+
+val jmhVersion = "1.37"
+
+dependencies {
+    implementation("com.example.budapp:budcore")
+    implementation("org.openjdk.jmh:jmh-core:$jmhVersion")
+    // Punkt odniesienia JSON dla PlanCodecBenchmark
+    implementation("org.json:json:20240303")
+    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+    options.release = 11
+}
+
+// Wyniki w formacie JSON: build/reports/jmh/results.json
+// Dodatkowe argumenty JMH: -PjmhArgs="-f 1 -wi 2 -i 3 ConstructionCalculator"
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Uruchamia benchmarki JMH i zapisuje wyniki do JSON"
+    val resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    doFirst {
+        resultsFile.get().asFile.parentFile.mkdirs()
+    }
+    args("-rf", "json", "-rff", resultsFile.get().asFile.absolutePath)
+    (project.findProperty("jmhArgs") as String?)?.let { extra ->
+        args(extra.split(" ").filter { it.isNotBlank() })
+    }
+}
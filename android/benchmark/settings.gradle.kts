@@ -0,0 +1,5 @@
+// Samodzielny build benchmarków JMH - nie wymaga Flutter SDK ani Android SDK.
+// Uruchomienie: gradle -p android/benchmark jmh
+rootProject.name = "benchmark"
+
+includeBuild("../budcore")
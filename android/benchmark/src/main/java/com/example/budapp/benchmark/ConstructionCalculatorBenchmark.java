@@ -0,0 +1,144 @@
+package com.example.budapp.benchmark;
+
+import com.example.budapp.utils.ConstructionCalculator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarki metod obliczeniowych kalkulatora - wersja skalarna (pętla wywołań)
+ * kontra wsadowa dla tej samej partii danych.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConstructionCalculatorBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private double[] lengths;
+    private double[] widths;
+    private double[] heights;
+    private double[] prices;
+    private double[] waste;
+    private double[] vatRates;
+    private double[] out;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lengths = new double[size];
+        widths = new double[size];
+        heights = new double[size];
+        prices = new double[size];
+        waste = new double[size];
+        vatRates = new double[size];
+        out = new double[size];
+        double[] rates = {23.0, 8.0, 5.0};
+        for (int i = 0; i < size; i++) {
+            lengths[i] = 1 + random.nextDouble() * 20;
+            widths[i] = 1 + random.nextDouble() * 20;
+            heights[i] = 2.4 + random.nextDouble();
+            prices[i] = random.nextInt(20_000) / 100.0;
+            waste[i] = random.nextInt(20);
+            vatRates[i] = rates[i % rates.length];
+        }
+    }
+
+    // ==================== SKALARNE ====================
+
+    @Benchmark
+    public void areaScalar(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(ConstructionCalculator.calculateArea(lengths[i], widths[i]));
+        }
+    }
+
+    @Benchmark
+    public void workCostScalar(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(ConstructionCalculator.calculateWorkCost(lengths[i], prices[i]));
+        }
+    }
+
+    @Benchmark
+    public void materialQuantityScalar(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(ConstructionCalculator.calculateMaterialQuantity(lengths[i], widths[i], waste[i]));
+        }
+    }
+
+    @Benchmark
+    public void volumeScalar(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(ConstructionCalculator.calculateVolume(lengths[i], widths[i], heights[i]));
+        }
+    }
+
+    @Benchmark
+    public void vatScalar(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(ConstructionCalculator.calculateVAT(prices[i], vatRates[i]));
+        }
+    }
+
+    @Benchmark
+    public void grossAmountScalar(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(ConstructionCalculator.calculateGrossAmount(prices[i], vatRates[i]));
+        }
+    }
+
+    // ==================== WSADOWE ====================
+
+    @Benchmark
+    public double[] areaBatch() {
+        ConstructionCalculator.calculateAreas(lengths, widths, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] workCostBatch() {
+        ConstructionCalculator.calculateWorkCosts(lengths, prices, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] materialQuantityBatch() {
+        ConstructionCalculator.calculateMaterialQuantities(lengths, widths, waste, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] volumeBatch() {
+        ConstructionCalculator.calculateVolumes(lengths, widths, heights, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] vatBatch() {
+        ConstructionCalculator.calculateVATs(prices, vatRates, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] grossAmountBatch() {
+        ConstructionCalculator.calculateGrossAmounts(prices, vatRates, out);
+        return out;
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.budapp.benchmark;
+
+import com.example.budapp.estimation.Material;
+import com.example.budapp.estimation.PlanCodec;
+import com.example.budapp.estimation.RenovationPlan;
+import com.example.budapp.estimation.Room;
+import com.example.budapp.estimation.Task;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarki binarnego formatu {@link PlanCodec} na tle JSON w postaci Room.toMap / Material.toMap /
+ * Task.toMap z renovation_plan.dart - kodowanie do bajtów UTF-8 i dekodowanie z powrotem do planu.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PlanCodecBenchmark {
+
+    private static final String[] CATEGORIES = {"paint", "tiles", "adhesive", "flooring", "plaster"};
+
+    @Param({"10", "300"})
+    public int rooms;
+
+    private RenovationPlan plan;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(16);
+        List<Room> roomList = new ArrayList<>(rooms);
+        for (int r = 0; r < rooms; r++) {
+            List<Material> materials = new ArrayList<>();
+            List<Task> tasks = new ArrayList<>();
+            for (int m = 0; m < 4; m++) {
+                String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+                materials.add(new Material("Materiał " + category + " " + m, category,
+                        random.nextInt(500) / 100.0, random.nextInt(20), random.nextInt(20_000) / 100.0));
+            }
+            for (int t = 0; t < 3; t++) {
+                String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+                tasks.add(new Task("Praca " + category, category, random.nextInt(15_000) / 100.0));
+            }
+            roomList.add(new Room("Pomieszczenie " + r, 5 + random.nextInt(4000) / 100.0, materials, tasks));
+        }
+        plan = new RenovationPlan("plan-1", "Remont mieszkania", roomList, 23);
+        ByteBuffer encoded = PlanCodec.encode(plan);
+        binary = new byte[encoded.remaining()];
+        encoded.get(binary);
+        json = encodeJson();
+    }
+
+    // ==================== BINARNY ====================
+
+    @Benchmark
+    public ByteBuffer encodeBinary() {
+        return PlanCodec.encode(plan);
+    }
+
+    @Benchmark
+    public RenovationPlan decodeBinary() {
+        return PlanCodec.decodePlan(ByteBuffer.wrap(binary));
+    }
+
+    // ==================== JSON ====================
+
+    @Benchmark
+    public byte[] encodeJson() {
+        JSONArray roomArray = new JSONArray();
+        for (Room room : plan.getRooms()) {
+            JSONArray materials = new JSONArray();
+            for (Material material : room.getMaterials()) {
+                materials.put(new JSONObject()
+                        .put("name", material.getName())
+                        .put("category", material.getCategory())
+                        .put("usagePerSquareMeter", material.getUsagePerSquareMeter())
+                        .put("wastePercentage", material.getWastePercentage())
+                        .put("pricePerUnit", material.getPricePerUnit()));
+            }
+            JSONArray tasks = new JSONArray();
+            for (Task task : room.getTasks()) {
+                tasks.put(new JSONObject()
+                        .put("name", task.getName())
+                        .put("category", task.getCategory())
+                        .put("pricePerSquareMeter", task.getPricePerSquareMeter()));
+            }
+            roomArray.put(new JSONObject()
+                    .put("name", room.getName())
+                    .put("area", room.getArea())
+                    .put("materials", materials)
+                    .put("tasks", tasks));
+        }
+        return new JSONObject()
+                .put("id", plan.getId())
+                .put("name", plan.getName())
+                .put("vatRate", plan.getVatRate())
+                .put("rooms", roomArray)
+                .toString()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public RenovationPlan decodeJson() {
+        JSONObject root = new JSONObject(new String(json, StandardCharsets.UTF_8));
+        JSONArray roomArray = root.getJSONArray("rooms");
+        List<Room> roomList = new ArrayList<>(roomArray.length());
+        for (int r = 0; r < roomArray.length(); r++) {
+            JSONObject room = roomArray.getJSONObject(r);
+            JSONArray materialArray = room.getJSONArray("materials");
+            List<Material> materials = new ArrayList<>(materialArray.length());
+            for (int m = 0; m < materialArray.length(); m++) {
+                JSONObject material = materialArray.getJSONObject(m);
+                materials.add(new Material(material.getString("name"), material.getString("category"),
+                        material.getDouble("usagePerSquareMeter"), material.getDouble("wastePercentage"),
+                        material.getDouble("pricePerUnit")));
+            }
+            JSONArray taskArray = room.getJSONArray("tasks");
+            List<Task> tasks = new ArrayList<>(taskArray.length());
+            for (int t = 0; t < taskArray.length(); t++) {
+                JSONObject task = taskArray.getJSONObject(t);
+                tasks.add(new Task(task.getString("name"), task.getString("category"),
+                        task.getDouble("pricePerSquareMeter")));
+            }
+            roomList.add(new Room(room.getString("name"), room.getDouble("area"), materials, tasks));
+        }
+        return new RenovationPlan(root.getString("id"), root.getString("name"), roomList,
+                root.getDouble("vatRate"));
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.budapp.benchmark;
+
+import com.example.budapp.optimization.MaterialDemand;
+import com.example.budapp.optimization.PurchaseOptimizer;
+import com.example.budapp.optimization.PurchasePlan;
+import com.example.budapp.optimization.SupplyCatalog;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark doboru zakupów {@link PurchaseOptimizer} - setki materiałów u kilkunastu dostawców,
+ * po trzy rozmiary opakowań (ta sama instancja co w PurchaseOptimizerTest).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PurchaseOptimizerBenchmark {
+
+    private static final double[] PACKAGE_SIZES = {1, 5, 25};
+
+    @Param({"400"})
+    public int materials;
+
+    @Param({"12"})
+    public int suppliers;
+
+    private List<MaterialDemand> demands;
+    private SupplyCatalog catalog;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(5);
+        SupplyCatalog.Builder builder = SupplyCatalog.builder();
+        for (int s = 0; s < suppliers; s++) {
+            builder.addSupplier("S" + s, 50 + random.nextInt(200));
+        }
+        demands = new ArrayList<>(materials);
+        for (int m = 0; m < materials; m++) {
+            demands.add(new MaterialDemand("M" + m, 1 + random.nextDouble() * 500, 0));
+            for (int s = 0; s < suppliers; s++) {
+                double unit = 1 + random.nextDouble() * 20;
+                for (double size : PACKAGE_SIZES) {
+                    builder.addOffer(s, "M" + m, "M" + m + "/" + size, size,
+                            Math.round(unit * size * (1 - size / 200) * 100) / 100.0, 1);
+                }
+            }
+        }
+        catalog = builder.build();
+    }
+
+    // ==================== OPTYMALIZACJA ====================
+
+    @Benchmark
+    public PurchasePlan optimize() {
+        return PurchaseOptimizer.optimize(demands, catalog);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.budapp.benchmark;
+
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.CurrencyFormatter;
+import com.example.budapp.utils.EmailValidator;
+import java.text.DecimalFormat;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarki ścieżek tekstowych: formatowanie kwot oraz walidacja email i hasła.
+ * Warianty "legacy" odtwarzają poprzednie implementacje jako punkt odniesienia.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringPathBenchmark {
+
+    private static final int SAMPLES = 1024;
+    private static final String LEGACY_EMAIL_REGEX = "^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$";
+
+    private final DecimalFormat legacyFormat = new DecimalFormat("#.##");
+    private final StringBuilder sb = new StringBuilder(64);
+    private double[] amounts;
+    private String[] emails;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        amounts = new double[SAMPLES];
+        emails = new String[SAMPLES];
+        String[] templates = {"jan.kowalski@example.pl", "biuro@firma-budowlana.com.pl",
+                "invalid-email", "a@b.c", "user_1@sub.domain.info", "brak@domeny"};
+        for (int i = 0; i < SAMPLES; i++) {
+            amounts[i] = random.nextInt(10_000_000) / 100.0;
+            emails[i] = templates[i % templates.length];
+        }
+    }
+
+    private int next() {
+        index = (index + 1) & (SAMPLES - 1);
+        return index;
+    }
+
+    // ==================== FORMATOWANIE ====================
+
+    @Benchmark
+    public String formatCurrency() {
+        return ConstructionCalculator.formatCurrency(amounts[next()]);
+    }
+
+    @Benchmark
+    public StringBuilder formatCurrencyAppendTo() {
+        sb.setLength(0);
+        return CurrencyFormatter.PLN.appendTo(sb, amounts[next()]);
+    }
+
+    @Benchmark
+    public String formatCurrencyLegacyDecimalFormat() {
+        return legacyFormat.format(amounts[next()]) + " PLN";
+    }
+
+    // ==================== WALIDACJA ====================
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return ConstructionCalculator.isValidEmail(emails[next()]);
+    }
+
+    @Benchmark
+    public boolean isValidEmailLegacyRegex() {
+        return emails[next()].matches(LEGACY_EMAIL_REGEX);
+    }
+
+    @Benchmark
+    public void validateAllEmails(Blackhole bh) {
+        bh.consume(EmailValidator.validateAll(emails));
+    }
+
+    @Benchmark
+    public boolean isValidPassword() {
+        return ConstructionCalculator.isValidPassword(emails[next()]);
+    }
+}
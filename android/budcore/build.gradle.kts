@@ -0,0 +1,23 @@
+plugins {
+    `java-library`
+}
+
+group = "com.example.budapp"
+version = "1.0.0"
+
+repositories {
+    google()
+    mavenCentral()
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+    options.release = 11
+}
+
+dependencies {
+    // Adnotacje @NonNull - zwykły jar JVM, potrzebny tylko przy kompilacji
+    compileOnly("androidx.annotation:annotation:1.8.2")
+
+    testImplementation("junit:junit:4.13.2")
+}
@@ -0,0 +1,3 @@
+// Czysto JVM-owy rdzeń obliczeniowy BudApp - buduje się bez Flutter SDK i Android SDK.
+// Aplikacja dołącza go przez includeBuild("budcore") w android/settings.gradle.kts.
+rootProject.name = "budcore"
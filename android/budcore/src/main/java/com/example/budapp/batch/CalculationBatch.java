@@ -0,0 +1,95 @@
+package com.example.budapp.batch;
+
+import androidx.annotation.NonNull;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Paczka obliczeń przesyłana jednym komunikatem przez kanał platformy.
+ * <p>
+ * Format żądania (little-endian): {@code [int32 liczba][uint8 kod, float64 argumenty...]...}.
+ * Format odpowiedzi: {@code [int32 liczba][uint8 status, float64 wynik]...}, gdzie status
+ * 0 oznacza sukces, a 1 błędne argumenty (wynik to wtedy NaN). Błąd jednej operacji
+ * nie przerywa pozostałych.
+ */
+public final class CalculationBatch {
+
+    /** Status: obliczenie poprawne */
+    public static final int STATUS_OK = 0;
+    /** Status: argumenty odrzucone przez kalkulator */
+    public static final int STATUS_INVALID = 1;
+
+    private static final int RESULT_SIZE = 1 + 8;
+
+    private final CalculationOp[] ops;
+    private final int[] offsets;
+    private final double[] args;
+
+    private CalculationBatch(CalculationOp[] ops, int[] offsets, double[] args) {
+        this.ops = ops;
+        this.offsets = offsets;
+        this.args = args;
+    }
+
+    /**
+     * Dekoduje żądanie do pamięci na stercie - bufor wejściowy nie jest potem potrzebny,
+     * więc obliczenia mogą biec w innym wątku niż odbiór komunikatu.
+     * @param request bufor żądania (od bieżącej pozycji)
+     * @throws IllegalArgumentException gdy komunikat jest uszkodzony
+     */
+    @NonNull
+    public static CalculationBatch decode(@NonNull ByteBuffer request) {
+        ByteBuffer in = request.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            int count = in.getInt();
+            // Każda operacja zajmuje co najmniej 1 + 2 * 8 bajtów
+            if (count < 0 || count > in.remaining() / 17) {
+                throw new IllegalArgumentException("Nieprawidłowa liczba operacji: " + count);
+            }
+            CalculationOp[] ops = new CalculationOp[count];
+            int[] offsets = new int[count];
+            double[] args = new double[count * 3];
+            int used = 0;
+            for (int i = 0; i < count; i++) {
+                CalculationOp op = CalculationOp.fromCode(in.get() & 0xFF);
+                ops[i] = op;
+                offsets[i] = used;
+                for (int a = 0; a < op.getArity(); a++) {
+                    args[used++] = in.getDouble();
+                }
+            }
+            if (in.hasRemaining()) {
+                throw new IllegalArgumentException("Nadmiarowe dane w komunikacie");
+            }
+            return new CalculationBatch(ops, offsets, args);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Komunikat obcięty", e);
+        }
+    }
+
+    /** Liczba operacji w paczce */
+    public int size() {
+        return ops.length;
+    }
+
+    /**
+     * Wykonuje wszystkie operacje i koduje odpowiedź
+     * @return bezpośredni bufor odpowiedzi, gotowy do odczytu
+     */
+    @NonNull
+    public ByteBuffer execute() {
+        ByteBuffer out = ByteBuffer.allocateDirect(4 + ops.length * RESULT_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(ops.length);
+        for (int i = 0; i < ops.length; i++) {
+            try {
+                double result = ops[i].apply(args, offsets[i]);
+                out.put((byte) STATUS_OK).putDouble(result);
+            } catch (IllegalArgumentException e) {
+                out.put((byte) STATUS_INVALID).putDouble(Double.NaN);
+            }
+        }
+        out.flip();
+        return out;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.budapp.batch;
+
+import com.example.budapp.utils.ConstructionCalculator;
+
+/**
+ * Operacje kalkulatora dostępne w paczce obliczeń.
+ * Kod operacji jest częścią formatu binarnego - nie zmieniać istniejących wartości.
+ */
+public enum CalculationOp {
+    /** powierzchnia: długość, szerokość */
+    AREA(0, 2),
+    /** koszt prac: powierzchnia, cena za m² */
+    WORK_COST(1, 2),
+    /** ilość materiału: powierzchnia, zużycie na m², zapas w % */
+    MATERIAL_QUANTITY(2, 3),
+    /** objętość: długość, szerokość, wysokość */
+    VOLUME(3, 3),
+    /** VAT: kwota netto, stawka w % */
+    VAT(4, 2),
+    /** kwota brutto: kwota netto, stawka VAT w % */
+    GROSS_AMOUNT(5, 2);
+
+    private static final CalculationOp[] BY_CODE = values();
+
+    private final int code;
+    private final int arity;
+
+    CalculationOp(int code, int arity) {
+        this.code = code;
+        this.arity = arity;
+    }
+
+    /** Kod operacji w formacie binarnym */
+    public int getCode() {
+        return code;
+    }
+
+    /** Liczba argumentów operacji */
+    public int getArity() {
+        return arity;
+    }
+
+    /**
+     * Zwraca operację o podanym kodzie
+     * @throws IllegalArgumentException dla nieznanego kodu
+     */
+    public static CalculationOp fromCode(int code) {
+        if (code < 0 || code >= BY_CODE.length) {
+            throw new IllegalArgumentException("Nieznany kod operacji: " + code);
+        }
+        return BY_CODE[code];
+    }
+
+    /**
+     * Wykonuje operację na argumentach zapisanych w tablicy
+     * @param args tablica argumentów
+     * @param offset indeks pierwszego argumentu
+     */
+    double apply(double[] args, int offset) {
+        switch (this) {
+            case AREA:
+                return ConstructionCalculator.calculateArea(args[offset], args[offset + 1]);
+            case WORK_COST:
+                return ConstructionCalculator.calculateWorkCost(args[offset], args[offset + 1]);
+            case MATERIAL_QUANTITY:
+                return ConstructionCalculator.calculateMaterialQuantity(args[offset], args[offset + 1], args[offset + 2]);
+            case VOLUME:
+                return ConstructionCalculator.calculateVolume(args[offset], args[offset + 1], args[offset + 2]);
+            case VAT:
+                return ConstructionCalculator.calculateVAT(args[offset], args[offset + 1]);
+            case GROSS_AMOUNT:
+                return ConstructionCalculator.calculateGrossAmount(args[offset], args[offset + 1]);
+            default:
+                throw new AssertionError(this);
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package com.example.budapp.boq;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.ConstructionCalculator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Strumieniowe przetwarzanie przedmiaru (bill of quantities) z pliku CSV.
+ * <p>
+ * Wiersz wejściowy: {@code pomieszczenie, długość, szerokość, wysokość, zużycie/m², zapas %, cena jedn., VAT %}.
+ * Wiersz wyjściowy: {@code pomieszczenie, powierzchnia, objętość, ilość, netto, brutto} - w CSV lub JSON Lines.
+ * Dane czytane są kanałem NIO przez bufory o stałym rozmiarze, więc zużycie pamięci
+ * nie zależy od wielkości pliku. Instancja nie jest bezpieczna wątkowo.
+ */
+public final class BillOfQuantitiesProcessor {
+
+    /** Format pliku wynikowego */
+    public enum OutputFormat {
+        CSV,
+        JSON_LINES
+    }
+
+    /** Maksymalna długość wiersza wejściowego w bajtach */
+    public static final int MAX_LINE_LENGTH = 4096;
+
+    private static final int COLUMNS = 8;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // Najgorszy przypadek: każdy bajt nazwy jako 6-bajtowa sekwencja ucieczki JSON plus liczby
+    private static final int MAX_OUTPUT_ROW = MAX_LINE_LENGTH * 6 + 256;
+    private static final double[] POW10 = new double[23];
+    /** Największa wartość bezwzględna, której grosze mieszczą się w long (zapis w {@link #writeFixed2}) */
+    private static final double MAX_FIXED2 = 0x1p63 / 100.0;
+    private static final byte[] CSV_HEADER =
+            "room,area,volume,quantity,net,gross\n".getBytes(StandardCharsets.US_ASCII);
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private final byte delimiter;
+    private final boolean hasHeader;
+    private final OutputFormat format;
+
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final byte[] line = new byte[MAX_LINE_LENGTH];
+    private final byte[] fields = new byte[MAX_LINE_LENGTH];
+    private final int[] fieldStart = new int[COLUMNS];
+    private final int[] fieldEnd = new int[COLUMNS];
+    private final double[] values = new double[COLUMNS];
+
+    /** Procesor dla CSV rozdzielanego przecinkami, z nagłówkiem, z wynikiem w CSV */
+    public BillOfQuantitiesProcessor() {
+        this(',', true, OutputFormat.CSV);
+    }
+
+    /**
+     * @param delimiter separator kolumn (np. ',' lub ';')
+     * @param hasHeader czy pierwszy wiersz jest nagłówkiem
+     * @param format format pliku wynikowego
+     */
+    public BillOfQuantitiesProcessor(char delimiter, boolean hasHeader, @NonNull OutputFormat format) {
+        if (delimiter > 127 || delimiter == '"' || delimiter == '\n' || delimiter == '\r') {
+            throw new IllegalArgumentException("Nieprawidłowy separator kolumn");
+        }
+        this.delimiter = (byte) delimiter;
+        this.hasHeader = hasHeader;
+        this.format = format;
+    }
+
+    /**
+     * Przetwarza plik przedmiaru
+     * @param input plik wejściowy CSV
+     * @param output plik wynikowy (nadpisywany)
+     * @return statystyki przetwarzania
+     */
+    @NonNull
+    public ProcessingStats process(@NonNull Path input, @NonNull Path output) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return process(in, out);
+        }
+    }
+
+    /**
+     * Przetwarza przedmiar z kanału wejściowego do wyjściowego. Kanały nie są zamykane.
+     * @param in kanał z danymi CSV
+     * @param out kanał na wiersze wynikowe
+     * @return statystyki przetwarzania
+     * @throws IllegalArgumentException gdy wiersz jest nieprawidłowy (komunikat zawiera numer wiersza)
+     */
+    @NonNull
+    public ProcessingStats process(@NonNull ReadableByteChannel in, @NonNull WritableByteChannel out) throws IOException {
+        long start = System.nanoTime();
+        long rows = 0;
+        long bytesRead = 0;
+        long lineNumber = 0;
+        int lineLength = 0;
+        readBuffer.clear();
+        writeBuffer.clear();
+        if (format == OutputFormat.CSV) {
+            writeBuffer.put(CSV_HEADER);
+        }
+
+        boolean eof = false;
+        while (!eof) {
+            int n = in.read(readBuffer);
+            if (n < 0) {
+                eof = true;
+            } else {
+                bytesRead += n;
+            }
+            readBuffer.flip();
+            while (readBuffer.hasRemaining()) {
+                byte b = readBuffer.get();
+                if (b != '\n') {
+                    if (lineLength == MAX_LINE_LENGTH) {
+                        throw new IllegalArgumentException("Wiersz " + (lineNumber + 1) + ": przekroczona maksymalna długość");
+                    }
+                    line[lineLength++] = b;
+                    continue;
+                }
+                lineNumber++;
+                if (processLine(lineLength, lineNumber, out)) {
+                    rows++;
+                }
+                lineLength = 0;
+            }
+            readBuffer.clear();
+        }
+        if (lineLength > 0 && processLine(lineLength, ++lineNumber, out)) {
+            rows++;
+        }
+        flush(out);
+        return new ProcessingStats(rows, bytesRead, System.nanoTime() - start);
+    }
+
+    private boolean processLine(int length, long lineNumber, WritableByteChannel out) throws IOException {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        if (length == 0 || (hasHeader && lineNumber == 1)) {
+            return false;
+        }
+        splitFields(length, lineNumber);
+        for (int i = 1; i < COLUMNS; i++) {
+            values[i] = parseNumber(fieldStart[i], fieldEnd[i], lineNumber);
+        }
+
+        double area;
+        double volume;
+        double quantity;
+        double net;
+        double gross;
+        try {
+            area = ConstructionCalculator.calculateArea(values[1], values[2]);
+            volume = ConstructionCalculator.calculateVolume(values[1], values[2], values[3]);
+            quantity = ConstructionCalculator.calculateMaterialQuantity(area, values[4], values[5]);
+            net = ConstructionCalculator.calculateWorkCost(quantity, values[6]);
+            gross = ConstructionCalculator.calculateGrossAmount(net, values[7]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Wiersz " + lineNumber + ": " + e.getMessage(), e);
+        }
+        // Iloczyny poprawnych wartości też mogą wyjść poza zakres groszy - sprawdzamy przed zapisem wiersza
+        checkFixed2(area, lineNumber);
+        checkFixed2(volume, lineNumber);
+        checkFixed2(quantity, lineNumber);
+        checkFixed2(net, lineNumber);
+        checkFixed2(gross, lineNumber);
+
+        if (writeBuffer.remaining() < MAX_OUTPUT_ROW) {
+            flush(out);
+        }
+        if (format == OutputFormat.CSV) {
+            writeCsvRoom();
+            writeBuffer.put((byte) ',');
+            writeFixed2(area);
+            writeBuffer.put((byte) ',');
+            writeFixed2(volume);
+            writeBuffer.put((byte) ',');
+            writeFixed2(quantity);
+            writeBuffer.put((byte) ',');
+            writeFixed2(net);
+            writeBuffer.put((byte) ',');
+            writeFixed2(gross);
+            writeBuffer.put((byte) '\n');
+        } else {
+            writeAscii("{\"room\":\"");
+            writeJsonRoom();
+            writeAscii("\",\"area\":");
+            writeFixed2(area);
+            writeAscii(",\"volume\":");
+            writeFixed2(volume);
+            writeAscii(",\"quantity\":");
+            writeFixed2(quantity);
+            writeAscii(",\"net\":");
+            writeFixed2(net);
+            writeAscii(",\"gross\":");
+            writeFixed2(gross);
+            writeAscii("}\n");
+        }
+        return true;
+    }
+
+    /** Dzieli wiersz na kolumny, usuwając cudzysłowy CSV (treść trafia do tablicy fields) */
+    private void splitFields(int length, long lineNumber) {
+        int column = 0;
+        int pos = 0;
+        int outPos = 0;
+        while (true) {
+            if (column == COLUMNS) {
+                throw new IllegalArgumentException("Wiersz " + lineNumber + ": oczekiwano " + COLUMNS + " kolumn");
+            }
+            fieldStart[column] = outPos;
+            if (pos < length && line[pos] == '"') {
+                pos++;
+                while (true) {
+                    if (pos == length) {
+                        throw new IllegalArgumentException("Wiersz " + lineNumber + ": niezamknięty cudzysłów");
+                    }
+                    byte b = line[pos++];
+                    if (b == '"') {
+                        if (pos < length && line[pos] == '"') {
+                            pos++;
+                        } else {
+                            break;
+                        }
+                    }
+                    fields[outPos++] = b;
+                }
+            } else {
+                while (pos < length && line[pos] != delimiter) {
+                    fields[outPos++] = line[pos++];
+                }
+            }
+            fieldEnd[column++] = outPos;
+            if (pos == length) {
+                break;
+            }
+            if (line[pos] != delimiter) {
+                throw new IllegalArgumentException("Wiersz " + lineNumber + ": znak po cudzysłowie zamykającym");
+            }
+            pos++;
+        }
+        if (column != COLUMNS) {
+            throw new IllegalArgumentException("Wiersz " + lineNumber + ": oczekiwano " + COLUMNS + " kolumn");
+        }
+    }
+
+    /**
+     * Parsuje liczbę dziesiętną bez tworzenia obiektów dla typowego zapisu (do 15 cyfr, bez wykładnika).
+     * Dla pozostałych zapisów korzysta z {@link Double#parseDouble(String)} i odrzuca NaN, nieskończoności
+     * oraz wartości, których groszy nie da się zapisać w long.
+     */
+    private double parseNumber(int from, int to, long lineNumber) {
+        while (from < to && fields[from] == ' ') {
+            from++;
+        }
+        while (to > from && fields[to - 1] == ' ') {
+            to--;
+        }
+        int pos = from;
+        boolean negative = false;
+        if (pos < to && (fields[pos] == '-' || fields[pos] == '+')) {
+            negative = fields[pos++] == '-';
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = 0;
+        boolean dot = false;
+        boolean sawDigit = false;
+        boolean simple = true;
+        for (; pos < to && simple; pos++) {
+            byte b = fields[pos];
+            if (b >= '0' && b <= '9') {
+                sawDigit = true;
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa != 0) {
+                    digits++;
+                }
+                if (dot) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && !dot) {
+                dot = true;
+            } else {
+                simple = false;
+            }
+        }
+        if (simple && sawDigit && digits <= 15 && fractionDigits < POW10.length) {
+            double value = mantissa / POW10[fractionDigits];
+            return negative ? -value : value;
+        }
+        String text = new String(fields, from, to - from, StandardCharsets.US_ASCII);
+        double value;
+        try {
+            value = Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Wiersz " + lineNumber + ": nieprawidłowa liczba '" + text + "'", e);
+        }
+        if (!(Math.abs(value) < MAX_FIXED2)) {
+            throw new IllegalArgumentException("Wiersz " + lineNumber + ": liczba poza zakresem '" + text + "'");
+        }
+        return value;
+    }
+
+    private static void checkFixed2(double value, long lineNumber) {
+        if (!(Math.abs(value) < MAX_FIXED2)) {
+            throw new IllegalArgumentException("Wiersz " + lineNumber + ": wynik poza zakresem");
+        }
+    }
+
+    private void writeCsvRoom() {
+        int from = fieldStart[0];
+        int to = fieldEnd[0];
+        boolean quote = false;
+        for (int i = from; i < to; i++) {
+            byte b = fields[i];
+            if (b == delimiter || b == ',' || b == '"' || b == '\r' || b == '\n') {
+                quote = true;
+                break;
+            }
+        }
+        if (!quote) {
+            writeBuffer.put(fields, from, to - from);
+            return;
+        }
+        writeBuffer.put((byte) '"');
+        for (int i = from; i < to; i++) {
+            if (fields[i] == '"') {
+                writeBuffer.put((byte) '"');
+            }
+            writeBuffer.put(fields[i]);
+        }
+        writeBuffer.put((byte) '"');
+    }
+
+    private void writeJsonRoom() {
+        for (int i = fieldStart[0]; i < fieldEnd[0]; i++) {
+            byte b = fields[i];
+            if (b == '"' || b == '\\') {
+                writeBuffer.put((byte) '\\').put(b);
+            } else if (b >= 0 && b < 0x20) {
+                writeAscii("\\u00");
+                writeBuffer.put((byte) Character.forDigit(b >> 4, 16)).put((byte) Character.forDigit(b & 0xf, 16));
+            } else {
+                // Bajty UTF-8 spoza ASCII kopiowane bez zmian
+                writeBuffer.put(b);
+            }
+        }
+    }
+
+    /** Zapisuje wynik kalkulatora (zaokrąglony do 0.01) jako liczbę z kropką dziesiętną */
+    private void writeFixed2(double value) {
+        long cents = Math.round(value * 100.0);
+        long integerPart = cents / 100;
+        int fraction = (int) (cents % 100);
+        long p = 1;
+        while (integerPart / p >= 10) {
+            p *= 10;
+        }
+        for (; p > 0; p /= 10) {
+            writeBuffer.put((byte) ('0' + (integerPart / p) % 10));
+        }
+        if (fraction != 0) {
+            writeBuffer.put((byte) '.').put((byte) ('0' + fraction / 10));
+            if (fraction % 10 != 0) {
+                writeBuffer.put((byte) ('0' + fraction % 10));
+            }
+        }
+    }
+
+    private void writeAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            writeBuffer.put((byte) text.charAt(i));
+        }
+    }
+
+    private void flush(WritableByteChannel out) throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            out.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.budapp.boq;
+
+import java.util.Locale;
+
+/**
+ * Statystyki przetwarzania przedmiaru: liczba wierszy, bajtów i czas
+ */
+public final class ProcessingStats {
+
+    private final long rows;
+    private final long bytesRead;
+    private final long elapsedNanos;
+
+    ProcessingStats(long rows, long bytesRead, long elapsedNanos) {
+        this.rows = rows;
+        this.bytesRead = bytesRead;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /** Liczba przetworzonych wierszy danych (bez nagłówka i pustych linii) */
+    public long getRows() {
+        return rows;
+    }
+
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** Przepustowość w wierszach na sekundę */
+    public double getRowsPerSecond() {
+        return elapsedNanos == 0 ? 0 : rows * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d wierszy, %d B, %.1f ms, %.0f wierszy/s",
+                rows, bytesRead, elapsedNanos / 1e6, getRowsPerSecond());
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.budapp.cache;
+
+import com.example.budapp.utils.ConstructionCalculator;
+
+/**
+ * Fasada nad {@link ConstructionCalculator} zapamiętująca wyniki dla powtarzających się
+ * argumentów. Trafienie zwraca wynik bez ponownej walidacji i obliczeń; niepoprawne
+ * argumenty nie są zapamiętywane i zawsze kończą się wyjątkiem kalkulatora.
+ * <p>
+ * Bezpieczna wątkowo. Wyniki są identyczne z wywołaniami {@link ConstructionCalculator}.
+ */
+public final class CachedCalculator {
+
+    /** Domyślna maksymalna liczba zapamiętanych wyników */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    private static final int OP_AREA = 0;
+    private static final int OP_VOLUME = 1;
+    private static final int OP_MATERIAL_QUANTITY = 2;
+
+    private static final PrimitiveKeyCache.Computation AREA =
+            (length, width, unused) -> ConstructionCalculator.calculateArea(length, width);
+    private static final PrimitiveKeyCache.Computation VOLUME =
+            ConstructionCalculator::calculateVolume;
+    private static final PrimitiveKeyCache.Computation MATERIAL_QUANTITY =
+            ConstructionCalculator::calculateMaterialQuantity;
+
+    private final PrimitiveKeyCache cache;
+
+    public CachedCalculator() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param maximumSize maksymalna liczba zapamiętanych wyników
+     */
+    public CachedCalculator(int maximumSize) {
+        this.cache = new PrimitiveKeyCache(maximumSize);
+    }
+
+    /** @see ConstructionCalculator#calculateArea(double, double) */
+    public double calculateArea(double length, double width) {
+        return cache.get(OP_AREA, length, width, 0, AREA);
+    }
+
+    /** @see ConstructionCalculator#calculateVolume(double, double, double) */
+    public double calculateVolume(double length, double width, double height) {
+        return cache.get(OP_VOLUME, length, width, height, VOLUME);
+    }
+
+    /** @see ConstructionCalculator#calculateMaterialQuantity(double, double, double) */
+    public double calculateMaterialQuantity(double area, double usagePerSquareMeter, double wastePercentage) {
+        return cache.get(OP_MATERIAL_QUANTITY, area, usagePerSquareMeter, wastePercentage, MATERIAL_QUANTITY);
+    }
+
+    /** Liczba wywołań obsłużonych z pamięci podręcznej */
+    public long getHitCount() {
+        return cache.hitCount();
+    }
+
+    /** Liczba wywołań wymagających obliczenia */
+    public long getMissCount() {
+        return cache.missCount();
+    }
+
+    /** Liczba zapamiętanych wyników */
+    public int size() {
+        return cache.size();
+    }
+
+    /** Usuwa wszystkie zapamiętane wyniki (liczniki pozostają) */
+    public void clear() {
+        cache.clear();
+    }
+}
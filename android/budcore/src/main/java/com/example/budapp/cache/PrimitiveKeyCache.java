@@ -0,0 +1,214 @@
+package com.example.budapp.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Ograniczona pamięć podręczna wyników {@code double} z kluczem złożonym z kodu operacji
+ * i maksymalnie trzech argumentów {@code double}.
+ * <p>
+ * Klucze przechowywane są jako bity w tablicy {@code long[]} (adresowanie otwarte, sondowanie
+ * liniowe) - bez opakowywania w {@code Double}. Tabela podzielona jest na segmenty z osobnymi
+ * blokadami, więc wątki korzystające z różnych kluczy zwykle sobie nie przeszkadzają.
+ * Po przekroczeniu limitu segment usuwa wpis algorytmem CLOCK (przybliżenie LRU).
+ */
+final class PrimitiveKeyCache {
+
+    /** Obliczenie wykonywane przy braku wyniku w pamięci podręcznej */
+    interface Computation {
+        double compute(double a, double b, double c);
+    }
+
+    private static final int MAX_SEGMENTS = 16;
+    private static final int KEY_WORDS = 4;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param maximumSize maksymalna łączna liczba wpisów
+     */
+    PrimitiveKeyCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Rozmiar pamięci podręcznej musi być dodatni");
+        }
+        int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+        segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maximumSize / segmentCount);
+        }
+        segmentShift = 64 - Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    /**
+     * Zwraca zapamiętany wynik albo oblicza go i zapamiętuje.
+     * Wyjątki obliczenia są przekazywane dalej, a wynik nie jest zapamiętywany.
+     */
+    double get(int op, double a, double b, double c, Computation computation) {
+        long ka = Double.doubleToLongBits(a);
+        long kb = Double.doubleToLongBits(b);
+        long kc = Double.doubleToLongBits(c);
+        long hash = hash(op, ka, kb, kc);
+        Segment segment = segments[segmentShift == 64 ? 0 : (int) (hash >>> segmentShift)];
+        int slotHash = (int) hash;
+        synchronized (segment) {
+            int slot = segment.find(slotHash, op, ka, kb, kc);
+            if (slot >= 0) {
+                segment.referenced[slot] = true;
+                hits.increment();
+                return segment.values[slot];
+            }
+        }
+        misses.increment();
+        double value = computation.compute(a, b, c);
+        synchronized (segment) {
+            segment.put(slotHash, op, ka, kb, kc, value);
+        }
+        return value;
+    }
+
+    long hitCount() {
+        return hits.sum();
+    }
+
+    long missCount() {
+        return misses.sum();
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    private static long hash(int op, long a, long b, long c) {
+        long h = op * 0x9E3779B97F4A7C15L;
+        h = (h ^ a) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ b) * 0x94D049BB133111EBL;
+        h = (h ^ c) * 0xBF58476D1CE4E5B9L;
+        return h ^ (h >>> 31);
+    }
+
+    private static final class Segment {
+        final int maxSize;
+        final int mask;
+        final int[] hashes;
+        final long[] keys;
+        final double[] values;
+        final boolean[] used;
+        final boolean[] referenced;
+        int size;
+        int hand;
+
+        Segment(int maxSize) {
+            this.maxSize = Math.max(maxSize, 1);
+            // Współczynnik wypełnienia <= 0.5 - krótkie sekwencje sondowania
+            int capacity = Math.max(8, Integer.highestOneBit(this.maxSize * 2 - 1) << 1);
+            mask = capacity - 1;
+            hashes = new int[capacity];
+            keys = new long[capacity * KEY_WORDS];
+            values = new double[capacity];
+            used = new boolean[capacity];
+            referenced = new boolean[capacity];
+        }
+
+        int find(int hash, int op, long a, long b, long c) {
+            for (int slot = hash & mask; used[slot]; slot = (slot + 1) & mask) {
+                int k = slot * KEY_WORDS;
+                if (hashes[slot] == hash && keys[k] == op && keys[k + 1] == a
+                        && keys[k + 2] == b && keys[k + 3] == c) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        void put(int hash, int op, long a, long b, long c, double value) {
+            int slot = find(hash, op, a, b, c);
+            if (slot < 0) {
+                if (size == maxSize) {
+                    evict();
+                }
+                slot = hash & mask;
+                while (used[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                int k = slot * KEY_WORDS;
+                hashes[slot] = hash;
+                keys[k] = op;
+                keys[k + 1] = a;
+                keys[k + 2] = b;
+                keys[k + 3] = c;
+                used[slot] = true;
+                size++;
+            }
+            values[slot] = value;
+            referenced[slot] = true;
+        }
+
+        // CLOCK: wpisy użyte od ostatniego przejścia wskazówki dostają drugą szansę
+        private void evict() {
+            while (true) {
+                if (used[hand]) {
+                    if (referenced[hand]) {
+                        referenced[hand] = false;
+                    } else {
+                        removeAt(hand);
+                        return;
+                    }
+                }
+                hand = (hand + 1) & mask;
+            }
+        }
+
+        // Usuwanie z przesunięciem wstecz - bez znaczników usunięcia w tabeli
+        private void removeAt(int hole) {
+            int slot = hole;
+            while (true) {
+                slot = (slot + 1) & mask;
+                if (!used[slot]) {
+                    break;
+                }
+                int home = hashes[slot] & mask;
+                boolean reachable = hole <= slot
+                        ? home > hole && home <= slot
+                        : home > hole || home <= slot;
+                if (!reachable) {
+                    move(slot, hole);
+                    hole = slot;
+                }
+            }
+            used[hole] = false;
+            referenced[hole] = false;
+            size--;
+        }
+
+        private void move(int from, int to) {
+            hashes[to] = hashes[from];
+            System.arraycopy(keys, from * KEY_WORDS, keys, to * KEY_WORDS, KEY_WORDS);
+            values[to] = values[from];
+            referenced[to] = referenced[from];
+        }
+
+        void clear() {
+            Arrays.fill(used, false);
+            Arrays.fill(referenced, false);
+            size = 0;
+            hand = 0;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.budapp.catalog;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.MoneyCalculator;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Niezmienny katalog cen materiałów w układzie kolumnowym.
+ * <p>
+ * Pozycja katalogu to indeks w równoległych tablicach: SKU, identyfikator nazwy, identyfikator
+ * jednostki i cena w groszach. Nazwy i jednostki przechowywane są raz (pule), ceny w tablicy
+ * {@code long[]}. Wyszukiwanie po SKU korzysta z tablicy mieszającej (O(1)), wyszukiwanie po
+ * początku nazwy - z posortowanej puli nazw (wyszukiwanie binarne). Bezpieczny wątkowo.
+ */
+public final class PriceCatalog {
+
+    private final String[] skus;
+    private final int[] nameIds;
+    private final int[] unitIds;
+    private final long[] pricesMinor;
+    private final String[] names;
+    private final String[] units;
+
+    private final int[] skuTable;
+    private final int skuMask;
+
+    // Indeks prefiksowy: nazwy znormalizowane posortowane alfabetycznie, a dla każdej
+    // z nich zakres pozycji katalogu w nameEntries (układ CSR)
+    private final String[] sortedNames;
+    private final int[] sortedNameStart;
+    private final int[] nameEntries;
+
+    private PriceCatalog(Builder builder) {
+        int size = builder.size;
+        skus = Arrays.copyOf(builder.skus, size);
+        nameIds = Arrays.copyOf(builder.nameIds, size);
+        unitIds = Arrays.copyOf(builder.unitIds, size);
+        pricesMinor = Arrays.copyOf(builder.pricesMinor, size);
+        names = new String[builder.names.size()];
+        for (Map.Entry<String, Integer> entry : builder.names.entrySet()) {
+            names[entry.getValue()] = entry.getKey();
+        }
+        units = new String[builder.units.size()];
+        for (Map.Entry<String, Integer> entry : builder.units.entrySet()) {
+            units[entry.getValue()] = entry.getKey();
+        }
+
+        skuTable = builder.skuTable.clone();
+        skuMask = builder.skuMask;
+
+        // Sortowanie puli nazw po postaci znormalizowanej
+        final String[] normalized = new String[names.length];
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < names.length; i++) {
+            normalized[i] = normalize(names[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> normalized[a].compareTo(normalized[b]));
+        int[] rank = new int[names.length];
+        sortedNames = new String[names.length];
+        for (int r = 0; r < order.length; r++) {
+            rank[order[r]] = r;
+            sortedNames[r] = normalized[order[r]];
+        }
+        sortedNameStart = new int[names.length + 1];
+        for (int i = 0; i < size; i++) {
+            sortedNameStart[rank[nameIds[i]] + 1]++;
+        }
+        for (int r = 0; r < names.length; r++) {
+            sortedNameStart[r + 1] += sortedNameStart[r];
+        }
+        nameEntries = new int[size];
+        int[] fill = Arrays.copyOf(sortedNameStart, names.length);
+        for (int i = 0; i < size; i++) {
+            nameEntries[fill[rank[nameIds[i]]]++] = i;
+        }
+    }
+
+    /** Tworzy pusty budowniczy */
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Liczba pozycji katalogu */
+    public int size() {
+        return skus.length;
+    }
+
+    /** Liczba różnych nazw materiałów */
+    public int distinctNameCount() {
+        return names.length;
+    }
+
+    /**
+     * Zwraca pozycję o podanym SKU
+     * @return indeks pozycji lub -1, gdy SKU nie istnieje
+     */
+    public int indexOf(@NonNull String sku) {
+        for (int slot = mix(sku.hashCode()) & skuMask; ; slot = (slot + 1) & skuMask) {
+            int entry = skuTable[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (skus[entry - 1].equals(sku)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    /** SKU pozycji */
+    @NonNull
+    public String getSku(int index) {
+        return skus[index];
+    }
+
+    /** Nazwa materiału pozycji */
+    @NonNull
+    public String getName(int index) {
+        return names[nameIds[index]];
+    }
+
+    /** Jednostka ceny pozycji (np. "m²", "l", "szt.") */
+    @NonNull
+    public String getUnit(int index) {
+        return units[unitIds[index]];
+    }
+
+    /** Cena jednostkowa w groszach */
+    public long getPriceMinor(int index) {
+        return pricesMinor[index];
+    }
+
+    /** Cena jednostkowa w złotych */
+    public double getPrice(int index) {
+        return MoneyCalculator.toDouble(pricesMinor[index]);
+    }
+
+    /**
+     * Zwraca cenę jednostkową dla SKU
+     * @throws IllegalArgumentException gdy SKU nie istnieje w katalogu
+     */
+    public double getPrice(@NonNull String sku) {
+        int index = indexOf(sku);
+        if (index < 0) {
+            throw new IllegalArgumentException("Nieznany SKU: " + sku);
+        }
+        return getPrice(index);
+    }
+
+    /**
+     * Wyszukuje pozycje, których nazwa zaczyna się od podanego tekstu (bez rozróżniania wielkości liter)
+     * @param prefix początek nazwy
+     * @param limit maksymalna liczba wyników
+     * @return indeksy pozycji w kolejności alfabetycznej nazw
+     * @throws IllegalArgumentException gdy limit jest ujemny
+     */
+    @NonNull
+    public int[] findByNamePrefix(@NonNull String prefix, int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit wyników musi być nieujemny: " + limit);
+        }
+        String key = normalize(prefix);
+        int low = 0;
+        int high = sortedNames.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedNames[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int[] result = new int[Math.min(limit, size())];
+        int found = 0;
+        for (int r = low; r < sortedNames.length && found < result.length && sortedNames[r].startsWith(key); r++) {
+            for (int e = sortedNameStart[r]; e < sortedNameStart[r + 1] && found < result.length; e++) {
+                result[found++] = nameEntries[e];
+            }
+        }
+        return found == result.length ? result : Arrays.copyOf(result, found);
+    }
+
+    private static String normalize(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Budowniczy katalogu. Nazwy i jednostki są deduplikowane w trakcie dodawania.
+     */
+    public static final class Builder {
+        private String[] skus = new String[1024];
+        private int[] nameIds = new int[1024];
+        private int[] unitIds = new int[1024];
+        private long[] pricesMinor = new long[1024];
+        private int size;
+        private final Map<String, Integer> names = new HashMap<>();
+        private final Map<String, Integer> units = new HashMap<>();
+        private int[] skuTable = new int[2048];
+        private int skuMask = 2047;
+
+        /**
+         * Dodaje pozycję katalogu
+         * @param sku unikalny kod pozycji
+         * @param name nazwa materiału
+         * @param unit jednostka ceny
+         * @param priceMinor cena jednostkowa w groszach
+         * @return ten budowniczy
+         * @throws IllegalArgumentException dla pustego lub powtórzonego SKU albo ujemnej ceny
+         */
+        @NonNull
+        public Builder add(@NonNull String sku, @NonNull String name, @NonNull String unit, long priceMinor) {
+            if (sku.isEmpty()) {
+                throw new IllegalArgumentException("SKU nie może być pusty");
+            }
+            if (priceMinor < 0) {
+                throw new IllegalArgumentException("Cena musi być nieujemna: " + sku);
+            }
+            if (find(sku) >= 0) {
+                throw new IllegalArgumentException("Powtórzony SKU: " + sku);
+            }
+            if (size == skus.length) {
+                int capacity = size * 2;
+                skus = Arrays.copyOf(skus, capacity);
+                nameIds = Arrays.copyOf(nameIds, capacity);
+                unitIds = Arrays.copyOf(unitIds, capacity);
+                pricesMinor = Arrays.copyOf(pricesMinor, capacity);
+            }
+            skus[size] = sku;
+            nameIds[size] = intern(names, name);
+            unitIds[size] = intern(units, unit);
+            pricesMinor[size] = priceMinor;
+            size++;
+            if (size * 2 > skuTable.length) {
+                rehash(skuTable.length * 2);
+            } else {
+                insert(size - 1);
+            }
+            return this;
+        }
+
+        /** Buduje niezmienny katalog */
+        @NonNull
+        public PriceCatalog build() {
+            return new PriceCatalog(this);
+        }
+
+        private static int intern(Map<String, Integer> pool, String value) {
+            Integer id = pool.get(value);
+            if (id == null) {
+                id = pool.size();
+                pool.put(value, id);
+            }
+            return id;
+        }
+
+        private int find(String sku) {
+            for (int slot = mix(sku.hashCode()) & skuMask; skuTable[slot] != 0; slot = (slot + 1) & skuMask) {
+                if (skus[skuTable[slot] - 1].equals(sku)) {
+                    return skuTable[slot] - 1;
+                }
+            }
+            return -1;
+        }
+
+        private void insert(int index) {
+            int slot = mix(skus[index].hashCode()) & skuMask;
+            while (skuTable[slot] != 0) {
+                slot = (slot + 1) & skuMask;
+            }
+            skuTable[slot] = index + 1;
+        }
+
+        private void rehash(int capacity) {
+            skuTable = new int[capacity];
+            skuMask = capacity - 1;
+            for (int i = 0; i < size; i++) {
+                insert(i);
+            }
+        }
+    }
+}
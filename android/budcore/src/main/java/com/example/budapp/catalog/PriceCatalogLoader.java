@@ -0,0 +1,85 @@
+package com.example.budapp.catalog;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.MoneyCalculator;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wczytuje katalog cen z pliku tekstowego UTF-8.
+ * <p>
+ * Wiersz: {@code SKU;nazwa;jednostka;cena}. Cena może mieć kropkę lub przecinek dziesiętny.
+ * Nazwa może zawierać średnik - SKU to pierwsza kolumna, a jednostka i cena dwie ostatnie.
+ * Pierwszy wiersz zaczynający się od "sku;" jest traktowany jako nagłówek, puste wiersze są pomijane.
+ */
+public final class PriceCatalogLoader {
+
+    private static final char SEPARATOR = ';';
+
+    private PriceCatalogLoader() {
+    }
+
+    /**
+     * Wczytuje katalog z pliku
+     * @throws IllegalArgumentException z numerem wiersza dla błędnych danych
+     */
+    @NonNull
+    public static PriceCatalog load(@NonNull File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            return load(in);
+        }
+    }
+
+    /**
+     * Wczytuje katalog ze strumienia (strumień nie jest zamykany)
+     * @throws IllegalArgumentException z numerem wiersza dla błędnych danych
+     */
+    @NonNull
+    public static PriceCatalog load(@NonNull InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        PriceCatalog.Builder builder = PriceCatalog.builder();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || (lineNumber == 1 && line.regionMatches(true, 0, "sku;", 0, 4))) {
+                continue;
+            }
+            try {
+                parseLine(line, builder);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Wiersz " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void parseLine(String line, PriceCatalog.Builder builder) {
+        int first = line.indexOf(SEPARATOR);
+        int last = line.lastIndexOf(SEPARATOR);
+        int beforeLast = last > 0 ? line.lastIndexOf(SEPARATOR, last - 1) : -1;
+        if (first < 0 || beforeLast <= first) {
+            throw new IllegalArgumentException("Oczekiwano 4 kolumn: SKU;nazwa;jednostka;cena");
+        }
+        String sku = line.substring(0, first).trim();
+        String name = line.substring(first + 1, beforeLast).trim();
+        String unit = line.substring(beforeLast + 1, last).trim();
+        String price = line.substring(last + 1).trim().replace(',', '.');
+        double value;
+        try {
+            value = Double.parseDouble(price);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Nieprawidłowa cena: " + price);
+        }
+        // NaN, nieskończoność i kwoty poza zakresem groszy long rzuciłyby ArithmeticException bez numeru wiersza
+        if (!(value >= 0) || value * 100.0 >= 0x1p63) {
+            throw new IllegalArgumentException("Nieprawidłowa cena: " + price);
+        }
+        builder.add(sku, name, unit, MoneyCalculator.fromDouble(value));
+    }
+}
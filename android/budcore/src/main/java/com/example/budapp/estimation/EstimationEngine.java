@@ -0,0 +1,204 @@
+package com.example.budapp.estimation;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Wycena planów remontu oparta o {@link ConstructionCalculator}.
+ * Pomieszczenia wszystkich planów wyceniane są niezależnie (opcjonalnie równolegle w ForkJoinPool),
+ * a sumy liczone w groszach - wynik jest identyczny niezależnie od liczby wątków.
+ */
+public final class EstimationEngine {
+
+    /** Kategoria, do której trafiają koszty zadań (jak w smart_renovation_planner.dart) */
+    public static final String LABOR_CATEGORY = "Robocizna";
+
+    /** Rezerwa 10% w punktach bazowych */
+    public static final int CONTINGENCY_BASIS_POINTS = 1000;
+
+    private static final int ROOMS_PER_TASK = 16;
+
+    private final ForkJoinPool pool;
+
+    private EstimationEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /** Silnik liczący w bieżącym wątku */
+    @NonNull
+    public static EstimationEngine sequential() {
+        return new EstimationEngine(null);
+    }
+
+    /** Silnik liczący równolegle we wspólnej puli ForkJoin */
+    @NonNull
+    public static EstimationEngine parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /** Silnik liczący równolegle we wskazanej puli */
+    @NonNull
+    public static EstimationEngine parallel(@NonNull ForkJoinPool pool) {
+        return new EstimationEngine(pool);
+    }
+
+    /**
+     * Wycenia jeden plan
+     * @param plan plan remontu
+     * @return wycena
+     */
+    @NonNull
+    public PlanEstimate estimate(@NonNull RenovationPlan plan) {
+        return estimateAll(Collections.singletonList(plan)).get(0);
+    }
+
+    /**
+     * Wycenia portfel planów
+     * @param plans plany remontu
+     * @return wyceny w kolejności planów
+     * @throws IllegalArgumentException gdy dane materiału lub zadania są nieprawidłowe
+     */
+    @NonNull
+    public List<PlanEstimate> estimateAll(@NonNull List<RenovationPlan> plans) {
+        int[] planStart = new int[plans.size() + 1];
+        for (int p = 0; p < plans.size(); p++) {
+            planStart[p + 1] = planStart[p] + plans.get(p).getRooms().size();
+        }
+        Room[] rooms = new Room[planStart[plans.size()]];
+        for (int p = 0; p < plans.size(); p++) {
+            List<Room> planRooms = plans.get(p).getRooms();
+            for (int r = 0; r < planRooms.size(); r++) {
+                rooms[planStart[p] + r] = planRooms.get(r);
+            }
+        }
+
+        RoomEstimate[] results = new RoomEstimate[rooms.length];
+        if (pool == null || rooms.length <= ROOMS_PER_TASK) {
+            estimateRooms(rooms, results, 0, rooms.length);
+        } else {
+            pool.invoke(new RoomBatch(rooms, results, 0, rooms.length));
+        }
+
+        List<PlanEstimate> estimates = new ArrayList<>(plans.size());
+        for (int p = 0; p < plans.size(); p++) {
+            estimates.add(assemble(plans.get(p), results, planStart[p], planStart[p + 1]));
+        }
+        return estimates;
+    }
+
+    /**
+     * Wycenia pojedyncze pomieszczenie: ilości materiałów z zapasem, koszty materiałów i robocizny
+     * @param room pomieszczenie
+     * @return wycena pomieszczenia
+     */
+    @NonNull
+    public static RoomEstimate estimateRoom(@NonNull Room room) {
+        List<Material> materials = room.getMaterials();
+        List<Task> tasks = room.getTasks();
+        double area = room.getArea();
+        double[] quantities = new double[materials.size()];
+        long[] materialCosts = new long[materials.size()];
+        long[] taskCosts = new long[tasks.size()];
+        long total = 0;
+
+        for (int i = 0; i < quantities.length; i++) {
+            Material material = materials.get(i);
+            quantities[i] = ConstructionCalculator.calculateMaterialQuantity(
+                    area, material.getUsagePerSquareMeter(), material.getWastePercentage());
+            materialCosts[i] = MoneyCalculator.fromDouble(
+                    ConstructionCalculator.calculateWorkCost(quantities[i], material.getPricePerUnit()));
+            total = Math.addExact(total, materialCosts[i]);
+        }
+        for (int i = 0; i < taskCosts.length; i++) {
+            taskCosts[i] = MoneyCalculator.fromDouble(
+                    ConstructionCalculator.calculateWorkCost(area, tasks.get(i).getPricePerSquareMeter()));
+            total = Math.addExact(total, taskCosts[i]);
+        }
+        return new RoomEstimate(quantities, materialCosts, taskCosts, total);
+    }
+
+    private static void estimateRooms(Room[] rooms, RoomEstimate[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = estimateRoom(rooms[i]);
+        }
+    }
+
+    private static PlanEstimate assemble(RenovationPlan plan, RoomEstimate[] results, int from, int to) {
+        RoomEstimate[] rooms = new RoomEstimate[to - from];
+        System.arraycopy(results, from, rooms, 0, rooms.length);
+
+        // Kategorie w kolejności pierwszego wystąpienia - tak jak mapa w widoku kosztorysu
+        Map<String, long[]> categories = new LinkedHashMap<>();
+        long net = 0;
+        for (int r = 0; r < rooms.length; r++) {
+            Room room = plan.getRooms().get(r);
+            RoomEstimate estimate = rooms[r];
+            for (int i = 0; i < estimate.getMaterialCount(); i++) {
+                addToCategory(categories, room.getMaterials().get(i).getCategory(), estimate.getMaterialCostMinor(i));
+            }
+            for (int i = 0; i < estimate.getTaskCount(); i++) {
+                addToCategory(categories, LABOR_CATEGORY, estimate.getTaskCostMinor(i));
+            }
+            net = Math.addExact(net, estimate.getTotalMinor());
+        }
+
+        String[] names = new String[categories.size()];
+        long[] totals = new long[categories.size()];
+        int c = 0;
+        for (Map.Entry<String, long[]> entry : categories.entrySet()) {
+            names[c] = entry.getKey();
+            totals[c++] = entry.getValue()[0];
+        }
+
+        long contingency = MoneyCalculator.percentage(net, CONTINGENCY_BASIS_POINTS, RoundingMode.HALF_UP);
+        long grandTotal = Math.addExact(net, contingency);
+        long vat = MoneyCalculator.calculateVAT(grandTotal,
+                MoneyCalculator.vatRateToBasisPoints(plan.getVatRate()), RoundingMode.HALF_UP);
+        return new PlanEstimate(plan.getId(), rooms, names, totals, net, contingency, vat);
+    }
+
+    private static void addToCategory(Map<String, long[]> categories, String category, long amount) {
+        long[] total = categories.get(category);
+        if (total == null) {
+            total = new long[1];
+            categories.put(category, total);
+        }
+        total[0] = Math.addExact(total[0], amount);
+    }
+
+    private static final class RoomBatch extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Room[] rooms;
+        private final RoomEstimate[] results;
+        private final int from;
+        private final int to;
+
+        RoomBatch(Room[] rooms, RoomEstimate[] results, int from, int to) {
+            this.rooms = rooms;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= ROOMS_PER_TASK) {
+                estimateRooms(rooms, results, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RoomBatch(rooms, results, from, mid), new RoomBatch(rooms, results, mid, to));
+        }
+    }
+}
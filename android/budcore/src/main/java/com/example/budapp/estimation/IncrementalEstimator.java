@@ -0,0 +1,361 @@
+package com.example.budapp.estimation;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Przyrostowa wycena jednego planu remontu - graf zależności węzłów:
+ * pozycje (materiał/zadanie) → suma pomieszczenia → netto → rezerwa → razem → VAT,
+ * oraz pozycje → suma kategorii.
+ * <p>
+ * Zmiana jednego wejścia przelicza tylko węzły na ścieżce od zmienionej pozycji do wyniku
+ * (sumy aktualizowane są różnicą), więc koszt edycji nie zależy od wielkości planu.
+ * Wyniki są identyczne z {@link EstimationEngine}. Liczba przeliczonych węzłów dostępna jest
+ * przez {@link #getRecomputedNodeCount()}. Instancja nie jest bezpieczna wątkowo.
+ */
+public final class IncrementalEstimator {
+
+    private final String planId;
+    private final String planName;
+    private final List<RoomNode> rooms = new ArrayList<>();
+    private final Map<String, CategoryNode> categories = new HashMap<>();
+    private double vatRate;
+
+    private long netMinor;
+    private long contingencyMinor;
+    private long vatMinor;
+    private long recomputed;
+
+    /**
+     * Buduje graf i liczy pełną wycenę planu
+     * @param plan plan remontu
+     * @throws IllegalArgumentException gdy dane materiału lub zadania są nieprawidłowe
+     */
+    public IncrementalEstimator(@NonNull RenovationPlan plan) {
+        this.planId = plan.getId();
+        this.planName = plan.getName();
+        this.vatRate = plan.getVatRate();
+        MoneyCalculator.vatRateToBasisPoints(vatRate);
+        for (Room room : plan.getRooms()) {
+            RoomNode node = new RoomNode(room);
+            rooms.add(node);
+            attach(node);
+            netMinor = Math.addExact(netMinor, node.totalMinor);
+        }
+        updateTotals();
+    }
+
+    // ==================== EDYCJA ====================
+
+    /**
+     * Zmienia powierzchnię pomieszczenia - przelicza wszystkie pozycje tego pomieszczenia
+     * @param room indeks pomieszczenia
+     * @param area nowa powierzchnia w m²
+     */
+    public void setRoomArea(int room, double area) {
+        RoomNode node = rooms.get(room);
+        RoomNode updated = new RoomNode(
+                new Room(node.name, area, Arrays.asList(node.materials), Arrays.asList(node.tasks)));
+        long before = node.totalMinor;
+        for (int i = 0; i < node.materials.length; i++) {
+            addToCategory(node.materials[i].getCategory(), updated.materialCostsMinor[i] - node.materialCostsMinor[i]);
+        }
+        for (int i = 0; i < node.tasks.length; i++) {
+            addToCategory(EstimationEngine.LABOR_CATEGORY, updated.taskCostsMinor[i] - node.taskCostsMinor[i]);
+        }
+        rooms.set(room, updated);
+        recomputed += node.materials.length + node.tasks.length + 1;
+        addToNet(updated.totalMinor - before);
+    }
+
+    /**
+     * Zastępuje materiał w pomieszczeniu
+     * @param room indeks pomieszczenia
+     * @param index indeks materiału
+     * @param material nowe dane materiału
+     */
+    public void setMaterial(int room, int index, @NonNull Material material) {
+        RoomNode node = rooms.get(room);
+        Material previous = node.materials[index];
+        long oldCost = node.materialCostsMinor[index];
+        double quantity = ConstructionCalculator.calculateMaterialQuantity(
+                node.area, material.getUsagePerSquareMeter(), material.getWastePercentage());
+        long cost = MoneyCalculator.fromDouble(
+                ConstructionCalculator.calculateWorkCost(quantity, material.getPricePerUnit()));
+        recomputed++;
+
+        node.materials[index] = material;
+        node.materialQuantities[index] = quantity;
+        node.materialCostsMinor[index] = cost;
+        if (previous.getCategory().equals(material.getCategory())) {
+            addToCategory(material.getCategory(), cost - oldCost);
+        } else {
+            detachFromCategory(previous.getCategory(), oldCost);
+            attachToCategory(material.getCategory(), cost);
+        }
+        addToRoom(node, cost - oldCost);
+    }
+
+    /**
+     * Zastępuje zadanie w pomieszczeniu
+     * @param room indeks pomieszczenia
+     * @param index indeks zadania
+     * @param task nowe dane zadania
+     */
+    public void setTask(int room, int index, @NonNull Task task) {
+        RoomNode node = rooms.get(room);
+        long oldCost = node.taskCostsMinor[index];
+        long cost = MoneyCalculator.fromDouble(
+                ConstructionCalculator.calculateWorkCost(node.area, task.getPricePerSquareMeter()));
+        recomputed++;
+
+        node.tasks[index] = task;
+        node.taskCostsMinor[index] = cost;
+        addToCategory(EstimationEngine.LABOR_CATEGORY, cost - oldCost);
+        addToRoom(node, cost - oldCost);
+    }
+
+    /**
+     * Dodaje pomieszczenie na końcu planu
+     * @return indeks nowego pomieszczenia
+     */
+    public int addRoom(@NonNull Room room) {
+        RoomNode node = new RoomNode(room);
+        rooms.add(node);
+        recomputed += node.materials.length + node.tasks.length + 1;
+        attach(node);
+        addToNet(node.totalMinor);
+        return rooms.size() - 1;
+    }
+
+    /**
+     * Usuwa pomieszczenie z planu
+     * @param room indeks pomieszczenia
+     */
+    public void removeRoom(int room) {
+        RoomNode node = rooms.remove(room);
+        for (int i = 0; i < node.materials.length; i++) {
+            detachFromCategory(node.materials[i].getCategory(), node.materialCostsMinor[i]);
+        }
+        for (int i = 0; i < node.tasks.length; i++) {
+            detachFromCategory(EstimationEngine.LABOR_CATEGORY, node.taskCostsMinor[i]);
+        }
+        addToNet(-node.totalMinor);
+    }
+
+    /**
+     * Zmienia stawkę VAT planu - przelicza tylko węzeł VAT
+     * @param rate stawka VAT w procentach
+     */
+    public void setVatRate(double rate) {
+        MoneyCalculator.vatRateToBasisPoints(rate);
+        vatRate = rate;
+        updateVat();
+    }
+
+    // ==================== ODCZYT ====================
+
+    public int getRoomCount() {
+        return rooms.size();
+    }
+
+    public long getNetTotalMinor() {
+        return netMinor;
+    }
+
+    public long getContingencyMinor() {
+        return contingencyMinor;
+    }
+
+    public long getGrandTotalMinor() {
+        return netMinor + contingencyMinor;
+    }
+
+    public long getVatMinor() {
+        return vatMinor;
+    }
+
+    public long getGrossTotalMinor() {
+        return getGrandTotalMinor() + vatMinor;
+    }
+
+    /** Suma pomieszczenia w groszach */
+    public long getRoomTotalMinor(int room) {
+        return rooms.get(room).totalMinor;
+    }
+
+    /**
+     * Suma kategorii w groszach
+     * @return suma lub 0, gdy kategoria nie występuje w planie
+     */
+    public long getCategoryTotalMinor(@NonNull String category) {
+        CategoryNode node = categories.get(category);
+        return node == null ? 0 : node.totalMinor;
+    }
+
+    /** Łączna liczba węzłów przeliczonych od utworzenia lub ostatniego wyzerowania licznika */
+    public long getRecomputedNodeCount() {
+        return recomputed;
+    }
+
+    public void resetRecomputedNodeCount() {
+        recomputed = 0;
+    }
+
+    /**
+     * Zwraca bieżącą wycenę w postaci {@link PlanEstimate} (kopiuje stan - O(rozmiar planu))
+     */
+    @NonNull
+    public PlanEstimate snapshot() {
+        RoomEstimate[] estimates = new RoomEstimate[rooms.size()];
+        // Kolejność kategorii jak w EstimationEngine - pierwsze wystąpienie w planie
+        Map<String, Long> order = new LinkedHashMap<>();
+        for (int r = 0; r < estimates.length; r++) {
+            RoomNode node = rooms.get(r);
+            estimates[r] = new RoomEstimate(node.materialQuantities.clone(), node.materialCostsMinor.clone(),
+                    node.taskCostsMinor.clone(), node.totalMinor);
+            for (Material material : node.materials) {
+                putCategory(order, material.getCategory());
+            }
+            if (node.tasks.length > 0) {
+                putCategory(order, EstimationEngine.LABOR_CATEGORY);
+            }
+        }
+        String[] names = order.keySet().toArray(new String[0]);
+        long[] totals = new long[names.length];
+        for (int c = 0; c < names.length; c++) {
+            totals[c] = order.get(names[c]);
+        }
+        return new PlanEstimate(planId, estimates, names, totals, netMinor, contingencyMinor, vatMinor);
+    }
+
+    /** Zwraca bieżący stan jako niezmienny plan */
+    @NonNull
+    public RenovationPlan toPlan() {
+        List<Room> result = new ArrayList<>(rooms.size());
+        for (RoomNode node : rooms) {
+            result.add(new Room(node.name, node.area, Arrays.asList(node.materials), Arrays.asList(node.tasks)));
+        }
+        return new RenovationPlan(planId, planName, result, vatRate);
+    }
+
+    // ==================== PROPAGACJA ====================
+
+    private void putCategory(Map<String, Long> order, String category) {
+        if (!order.containsKey(category)) {
+            order.put(category, categories.get(category).totalMinor);
+        }
+    }
+
+    private void attach(RoomNode node) {
+        for (int i = 0; i < node.materials.length; i++) {
+            attachToCategory(node.materials[i].getCategory(), node.materialCostsMinor[i]);
+        }
+        for (int i = 0; i < node.tasks.length; i++) {
+            attachToCategory(EstimationEngine.LABOR_CATEGORY, node.taskCostsMinor[i]);
+        }
+    }
+
+    private void attachToCategory(String category, long amount) {
+        CategoryNode node = categories.get(category);
+        if (node == null) {
+            node = new CategoryNode();
+            categories.put(category, node);
+        }
+        node.references++;
+        node.totalMinor = Math.addExact(node.totalMinor, amount);
+        recomputed++;
+    }
+
+    private void detachFromCategory(String category, long amount) {
+        CategoryNode node = categories.get(category);
+        if (--node.references == 0) {
+            categories.remove(category);
+        } else {
+            node.totalMinor = Math.subtractExact(node.totalMinor, amount);
+        }
+        recomputed++;
+    }
+
+    private void addToCategory(String category, long delta) {
+        if (delta != 0) {
+            CategoryNode node = categories.get(category);
+            node.totalMinor = Math.addExact(node.totalMinor, delta);
+            recomputed++;
+        }
+    }
+
+    private void addToRoom(RoomNode node, long delta) {
+        if (delta != 0) {
+            node.totalMinor = Math.addExact(node.totalMinor, delta);
+            recomputed++;
+            addToNet(delta);
+        }
+    }
+
+    private void addToNet(long delta) {
+        if (delta != 0) {
+            netMinor = Math.addExact(netMinor, delta);
+            updateTotals();
+        }
+    }
+
+    // netto → rezerwa → razem → VAT; razem to suma, więc liczymy ją przy odczycie
+    private void updateTotals() {
+        contingencyMinor = MoneyCalculator.percentage(
+                netMinor, EstimationEngine.CONTINGENCY_BASIS_POINTS, RoundingMode.HALF_UP);
+        recomputed += 3;
+        updateVat();
+    }
+
+    private void updateVat() {
+        vatMinor = MoneyCalculator.calculateVAT(Math.addExact(netMinor, contingencyMinor),
+                MoneyCalculator.vatRateToBasisPoints(vatRate), RoundingMode.HALF_UP);
+        recomputed++;
+    }
+
+    /** Węzeł pomieszczenia: pozycje i ich suma */
+    private static final class RoomNode {
+        final String name;
+        final double area;
+        final Material[] materials;
+        final Task[] tasks;
+        final double[] materialQuantities;
+        final long[] materialCostsMinor;
+        final long[] taskCostsMinor;
+        long totalMinor;
+
+        RoomNode(Room room) {
+            RoomEstimate estimate = EstimationEngine.estimateRoom(room);
+            name = room.getName();
+            area = room.getArea();
+            materials = room.getMaterials().toArray(new Material[0]);
+            tasks = room.getTasks().toArray(new Task[0]);
+            materialQuantities = new double[materials.length];
+            materialCostsMinor = new long[materials.length];
+            taskCostsMinor = new long[tasks.length];
+            for (int i = 0; i < materials.length; i++) {
+                materialQuantities[i] = estimate.getMaterialQuantity(i);
+                materialCostsMinor[i] = estimate.getMaterialCostMinor(i);
+            }
+            for (int i = 0; i < tasks.length; i++) {
+                taskCostsMinor[i] = estimate.getTaskCostMinor(i);
+            }
+            totalMinor = estimate.getTotalMinor();
+        }
+    }
+
+    /** Węzeł sumy kategorii; liczba odwołań pozwala usunąć kategorię, gdy zniknie ostatnia pozycja */
+    private static final class CategoryNode {
+        long totalMinor;
+        int references;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.budapp.estimation;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Materiał w pomieszczeniu - odpowiednik klasy Material z lib/models/renovation_plan.dart.
+ * Ilość wyliczana jest z powierzchni pomieszczenia, zużycia na m² i procentu zapasu.
+ */
+public final class Material {
+
+    private final String name;
+    private final String category;
+    private final double usagePerSquareMeter;
+    private final double wastePercentage;
+    private final double pricePerUnit;
+
+    /**
+     * @param name nazwa materiału
+     * @param category kategoria (grupuje koszty w kosztorysie)
+     * @param usagePerSquareMeter zużycie na m²
+     * @param wastePercentage procent zapasu (0-100)
+     * @param pricePerUnit cena za jednostkę
+     */
+    public Material(@NonNull String name, @NonNull String category, double usagePerSquareMeter,
+                    double wastePercentage, double pricePerUnit) {
+        this.name = name;
+        this.category = category;
+        this.usagePerSquareMeter = usagePerSquareMeter;
+        this.wastePercentage = wastePercentage;
+        this.pricePerUnit = pricePerUnit;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @NonNull
+    public String getCategory() {
+        return category;
+    }
+
+    public double getUsagePerSquareMeter() {
+        return usagePerSquareMeter;
+    }
+
+    public double getWastePercentage() {
+        return wastePercentage;
+    }
+
+    public double getPricePerUnit() {
+        return pricePerUnit;
+    }
+}
@@ -0,0 +1,389 @@
+package com.example.budapp.estimation;
+
+import androidx.annotation.NonNull;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Zwarty format binarny planów remontu i ich wycen.
+ * <p>
+ * Nagłówek: {@code "BPLN"}, wersja schematu, rodzaj komunikatu. Liczby całkowite zapisywane są
+ * jako varint (zigzag dla wartości ze znakiem), liczby {@code double} o dokładności do groszy/centymetrów
+ * jako varint setnych, a pozostałe jako 8 bajtów. Powtarzające się teksty (np. kategorie) trafiają
+ * do tabeli i kolejne wystąpienia zapisywane są jako indeks.
+ * <p>
+ * Wycena ma sumy w stałym miejscu nagłówka, więc {@link #peekGrossTotalMinor(ByteBuffer)} odczytuje je
+ * bez dekodowania reszty. Dekodowanie czyta bezpośrednio z bufora (także mapowanego z pliku),
+ * bez kopiowania do tablicy pośredniej. Kolejność bajtów: little-endian.
+ */
+public final class PlanCodec {
+
+    /** Bieżąca wersja schematu */
+    public static final int VERSION = 1;
+
+    private static final int MAGIC = 0x4E4C5042; // "BPLN" w little-endian
+    private static final int KIND_PLAN = 1;
+    private static final int KIND_ESTIMATE = 2;
+    private static final int HEADER_SIZE = 8;
+    private static final int OFFSET_NET = HEADER_SIZE;
+    private static final int OFFSET_CONTINGENCY = OFFSET_NET + 8;
+    private static final int OFFSET_VAT = OFFSET_CONTINGENCY + 8;
+    private static final int ESTIMATE_FIXED_SIZE = OFFSET_VAT + 8;
+
+    private PlanCodec() {
+    }
+
+    // ==================== PLAN ====================
+
+    /**
+     * Koduje plan remontu
+     * @return bufor gotowy do odczytu
+     */
+    @NonNull
+    public static ByteBuffer encode(@NonNull RenovationPlan plan) {
+        Writer out = new Writer(256);
+        out.header(KIND_PLAN);
+        out.string(plan.getId());
+        out.string(plan.getName());
+        out.decimal(plan.getVatRate());
+        out.varint(plan.getRooms().size());
+        for (Room room : plan.getRooms()) {
+            out.string(room.getName());
+            out.decimal(room.getArea());
+            out.varint(room.getMaterials().size());
+            for (Material material : room.getMaterials()) {
+                out.string(material.getName());
+                out.string(material.getCategory());
+                out.decimal(material.getUsagePerSquareMeter());
+                out.decimal(material.getWastePercentage());
+                out.decimal(material.getPricePerUnit());
+            }
+            out.varint(room.getTasks().size());
+            for (Task task : room.getTasks()) {
+                out.string(task.getName());
+                out.string(task.getCategory());
+                out.decimal(task.getPricePerSquareMeter());
+            }
+        }
+        return out.toBuffer();
+    }
+
+    /**
+     * Dekoduje plan remontu od bieżącej pozycji bufora (pozycja bufora nie jest zmieniana)
+     * @throws IllegalArgumentException gdy dane są uszkodzone lub zapisane w nowszej wersji schematu
+     */
+    @NonNull
+    public static RenovationPlan decodePlan(@NonNull ByteBuffer buffer) {
+        Reader in = new Reader(buffer, KIND_PLAN);
+        try {
+            String id = in.string();
+            String name = in.string();
+            double vatRate = in.decimal();
+            int roomCount = in.count();
+            List<Room> rooms = new ArrayList<>(roomCount);
+            for (int r = 0; r < roomCount; r++) {
+                String roomName = in.string();
+                double area = in.decimal();
+                int materialCount = in.count();
+                List<Material> materials = new ArrayList<>(materialCount);
+                for (int m = 0; m < materialCount; m++) {
+                    materials.add(new Material(in.string(), in.string(), in.decimal(), in.decimal(), in.decimal()));
+                }
+                int taskCount = in.count();
+                List<Task> tasks = new ArrayList<>(taskCount);
+                for (int t = 0; t < taskCount; t++) {
+                    tasks.add(new Task(in.string(), in.string(), in.decimal()));
+                }
+                rooms.add(new Room(roomName, area, materials, tasks));
+            }
+            return new RenovationPlan(id, name, rooms, vatRate);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Komunikat obcięty", e);
+        }
+    }
+
+    // ==================== WYCENA ====================
+
+    /**
+     * Koduje wycenę planu
+     * @return bufor gotowy do odczytu
+     */
+    @NonNull
+    public static ByteBuffer encode(@NonNull PlanEstimate estimate) {
+        Writer out = new Writer(128);
+        out.header(KIND_ESTIMATE);
+        out.fixed64(estimate.getNetTotalMinor());
+        out.fixed64(estimate.getContingencyMinor());
+        out.fixed64(estimate.getVatMinor());
+        out.string(estimate.getPlanId());
+        out.varint(estimate.getCategoryCount());
+        for (int c = 0; c < estimate.getCategoryCount(); c++) {
+            out.string(estimate.getCategory(c));
+            out.signed(estimate.getCategoryTotalMinor(c));
+        }
+        out.varint(estimate.getRoomCount());
+        for (int r = 0; r < estimate.getRoomCount(); r++) {
+            RoomEstimate room = estimate.getRoom(r);
+            out.varint(room.getMaterialCount());
+            for (int i = 0; i < room.getMaterialCount(); i++) {
+                out.decimal(room.getMaterialQuantity(i));
+                out.signed(room.getMaterialCostMinor(i));
+            }
+            out.varint(room.getTaskCount());
+            for (int i = 0; i < room.getTaskCount(); i++) {
+                out.signed(room.getTaskCostMinor(i));
+            }
+            out.signed(room.getTotalMinor());
+        }
+        return out.toBuffer();
+    }
+
+    /**
+     * Dekoduje wycenę planu od bieżącej pozycji bufora (pozycja bufora nie jest zmieniana)
+     * @throws IllegalArgumentException gdy dane są uszkodzone lub zapisane w nowszej wersji schematu
+     */
+    @NonNull
+    public static PlanEstimate decodeEstimate(@NonNull ByteBuffer buffer) {
+        Reader in = new Reader(buffer, KIND_ESTIMATE);
+        try {
+            long net = in.fixed64();
+            long contingency = in.fixed64();
+            long vat = in.fixed64();
+            String planId = in.string();
+            int categoryCount = in.count();
+            String[] categories = new String[categoryCount];
+            long[] totals = new long[categoryCount];
+            for (int c = 0; c < categoryCount; c++) {
+                categories[c] = in.string();
+                totals[c] = in.signed();
+            }
+            int roomCount = in.count();
+            RoomEstimate[] rooms = new RoomEstimate[roomCount];
+            for (int r = 0; r < roomCount; r++) {
+                int materialCount = in.count();
+                double[] quantities = new double[materialCount];
+                long[] materialCosts = new long[materialCount];
+                for (int i = 0; i < materialCount; i++) {
+                    quantities[i] = in.decimal();
+                    materialCosts[i] = in.signed();
+                }
+                long[] taskCosts = new long[in.count()];
+                for (int i = 0; i < taskCosts.length; i++) {
+                    taskCosts[i] = in.signed();
+                }
+                rooms[r] = new RoomEstimate(quantities, materialCosts, taskCosts, in.signed());
+            }
+            return new PlanEstimate(planId, rooms, categories, totals, net, contingency, vat);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Komunikat obcięty", e);
+        }
+    }
+
+    /**
+     * Odczytuje kwotę brutto zakodowanej wyceny bez dekodowania pozostałych danych
+     * @return kwota brutto w groszach
+     */
+    public static long peekGrossTotalMinor(@NonNull ByteBuffer buffer) {
+        ByteBuffer in = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int base = in.position();
+        checkHeader(in, base, KIND_ESTIMATE);
+        if (in.remaining() < ESTIMATE_FIXED_SIZE) {
+            throw new IllegalArgumentException("Komunikat obcięty");
+        }
+        return in.getLong(base + OFFSET_NET) + in.getLong(base + OFFSET_CONTINGENCY) + in.getLong(base + OFFSET_VAT);
+    }
+
+    private static void checkHeader(ByteBuffer in, int base, int kind) {
+        if (in.remaining() < HEADER_SIZE || in.getInt(base) != MAGIC) {
+            throw new IllegalArgumentException("To nie jest komunikat planu");
+        }
+        int version = in.get(base + 4) & 0xFF;
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Nieobsługiwana wersja schematu: " + version);
+        }
+        if (in.get(base + 5) != kind) {
+            throw new IllegalArgumentException("Nieoczekiwany rodzaj komunikatu: " + in.get(base + 5));
+        }
+    }
+
+    // ==================== ZAPIS I ODCZYT ====================
+
+    // Liczba double zapisywana jest jako zigzag-varint podwojonej liczby setnych, jeśli da się ją
+    // dokładnie odtworzyć. Taki varint nigdy nie jest pojedynczym bajtem 0x01, więc ten bajt
+    // oznacza surowe 8 bajtów, które po nim następują
+    private static final int DECIMAL_RAW = 1;
+    private static final long MAX_HUNDREDTHS = 1L << 52;
+
+    private static final class Writer {
+        private byte[] bytes;
+        private int size;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(int capacity) {
+            bytes = new byte[capacity];
+        }
+
+        void header(int kind) {
+            fixed32(MAGIC);
+            put(VERSION);
+            put(kind);
+            put(0);
+            put(0);
+        }
+
+        void varint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        void signed(long value) {
+            varint((value << 1) ^ (value >> 63));
+        }
+
+        void decimal(double value) {
+            double scaled = value * 100.0;
+            long hundredths = Math.round(scaled);
+            if (Math.abs(hundredths) < MAX_HUNDREDTHS && hundredths / 100.0 == value
+                    && Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(-0.0)) {
+                signed(hundredths << 1);
+            } else {
+                put(DECIMAL_RAW);
+                fixed64(Double.doubleToRawLongBits(value));
+            }
+        }
+
+        void fixed32(int value) {
+            ensure(4);
+            for (int i = 0; i < 4; i++) {
+                bytes[size++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        void fixed64(long value) {
+            ensure(8);
+            for (int i = 0; i < 8; i++) {
+                bytes[size++] = (byte) (value >>> (8 * i));
+            }
+        }
+
+        // 0 = nowy tekst (długość + UTF-8), n > 0 = n-ty wcześniej zapisany tekst
+        void string(String value) {
+            Integer index = strings.get(value);
+            if (index != null) {
+                varint(index + 1);
+                return;
+            }
+            strings.put(value, strings.size());
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            varint(0);
+            varint(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, bytes, size, utf8.length);
+            size += utf8.length;
+        }
+
+        private void put(int value) {
+            ensure(1);
+            bytes[size++] = (byte) value;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + extra));
+            }
+        }
+
+        ByteBuffer toBuffer() {
+            return ByteBuffer.wrap(bytes, 0, size).slice().order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    private static final class Reader {
+        private final ByteBuffer in;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(ByteBuffer buffer, int kind) {
+            in = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            checkHeader(in, in.position(), kind);
+            in.position(in.position() + HEADER_SIZE);
+        }
+
+        long varint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = in.get();
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Nieprawidłowy varint");
+        }
+
+        long signed() {
+            long raw = varint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        // Liczność kolekcji - ograniczona rozmiarem bufora, żeby uszkodzone dane nie alokowały gigabajtów.
+        // 10-bajtowy varint może dać liczbę ujemną, więc sprawdzamy też dolną granicę
+        int count() {
+            long value = varint();
+            if (value < 0 || value > in.remaining()) {
+                throw new IllegalArgumentException("Nieprawidłowa liczba elementów: " + value);
+            }
+            return (int) value;
+        }
+
+        double decimal() {
+            if (!in.hasRemaining()) {
+                throw new BufferUnderflowException();
+            }
+            if (in.get(in.position()) == DECIMAL_RAW) {
+                in.get();
+                return Double.longBitsToDouble(in.getLong());
+            }
+            return (signed() >> 1) / 100.0;
+        }
+
+        long fixed64() {
+            return in.getLong();
+        }
+
+        String string() {
+            long tag = varint();
+            if (tag < 0) {
+                throw new IllegalArgumentException("Nieprawidłowe odwołanie do tekstu: " + tag);
+            }
+            if (tag > 0) {
+                if (tag > strings.size()) {
+                    throw new IllegalArgumentException("Nieprawidłowe odwołanie do tekstu: " + tag);
+                }
+                return strings.get((int) tag - 1);
+            }
+            int length = count();
+            String value;
+            if (in.hasArray()) {
+                value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+                in.position(in.position() + length);
+            } else {
+                byte[] utf8 = new byte[length];
+                in.get(utf8);
+                value = new String(utf8, StandardCharsets.UTF_8);
+            }
+            strings.add(value);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.budapp.estimation;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.MoneyCalculator;
+
+/**
+ * Wynik wyceny planu remontu: pomieszczenia, sumy kategorii, rezerwa, VAT i brutto.
+ * Wszystkie kwoty w groszach; gettery bez przyrostka Minor zwracają złote jako double.
+ */
+public final class PlanEstimate {
+
+    private final String planId;
+    private final RoomEstimate[] rooms;
+    private final String[] categories;
+    private final long[] categoryTotalsMinor;
+    private final long netTotalMinor;
+    private final long contingencyMinor;
+    private final long vatMinor;
+
+    PlanEstimate(String planId, RoomEstimate[] rooms, String[] categories, long[] categoryTotalsMinor,
+                 long netTotalMinor, long contingencyMinor, long vatMinor) {
+        this.planId = planId;
+        this.rooms = rooms;
+        this.categories = categories;
+        this.categoryTotalsMinor = categoryTotalsMinor;
+        this.netTotalMinor = netTotalMinor;
+        this.contingencyMinor = contingencyMinor;
+        this.vatMinor = vatMinor;
+    }
+
+    @NonNull
+    public String getPlanId() {
+        return planId;
+    }
+
+    public int getRoomCount() {
+        return rooms.length;
+    }
+
+    @NonNull
+    public RoomEstimate getRoom(int i) {
+        return rooms[i];
+    }
+
+    /** Liczba kategorii kosztów (w kolejności pierwszego wystąpienia w planie) */
+    public int getCategoryCount() {
+        return categories.length;
+    }
+
+    @NonNull
+    public String getCategory(int i) {
+        return categories[i];
+    }
+
+    public long getCategoryTotalMinor(int i) {
+        return categoryTotalsMinor[i];
+    }
+
+    /** Suma materiałów i robocizny */
+    public long getNetTotalMinor() {
+        return netTotalMinor;
+    }
+
+    /** Rezerwa na nieprzewidziane wydatki */
+    public long getContingencyMinor() {
+        return contingencyMinor;
+    }
+
+    /** Suma netto z rezerwą */
+    public long getGrandTotalMinor() {
+        return netTotalMinor + contingencyMinor;
+    }
+
+    public long getVatMinor() {
+        return vatMinor;
+    }
+
+    public long getGrossTotalMinor() {
+        return getGrandTotalMinor() + vatMinor;
+    }
+
+    public double getNetTotal() {
+        return MoneyCalculator.toDouble(netTotalMinor);
+    }
+
+    public double getContingency() {
+        return MoneyCalculator.toDouble(contingencyMinor);
+    }
+
+    public double getGrandTotal() {
+        return MoneyCalculator.toDouble(getGrandTotalMinor());
+    }
+
+    public double getVat() {
+        return MoneyCalculator.toDouble(vatMinor);
+    }
+
+    public double getGrossTotal() {
+        return MoneyCalculator.toDouble(getGrossTotalMinor());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.budapp.estimation;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Plan remontu - odpowiednik klasy RenovationPlan z lib/models/renovation_plan.dart
+ */
+public final class RenovationPlan {
+
+    private final String id;
+    private final String name;
+    private final List<Room> rooms;
+    private final double vatRate;
+
+    /**
+     * @param id identyfikator planu
+     * @param name nazwa planu
+     * @param rooms pomieszczenia
+     * @param vatRate stawka VAT (np. 23 dla 23%)
+     */
+    public RenovationPlan(@NonNull String id, @NonNull String name, @NonNull List<Room> rooms, double vatRate) {
+        this.id = id;
+        this.name = name;
+        this.rooms = Collections.unmodifiableList(new ArrayList<>(rooms));
+        this.vatRate = vatRate;
+    }
+
+    @NonNull
+    public String getId() {
+        return id;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @NonNull
+    public List<Room> getRooms() {
+        return rooms;
+    }
+
+    public double getVatRate() {
+        return vatRate;
+    }
+}
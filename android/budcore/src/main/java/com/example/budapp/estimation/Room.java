@@ -0,0 +1,49 @@
+package com.example.budapp.estimation;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Pomieszczenie w planie remontu - odpowiednik klasy Room z lib/models/renovation_plan.dart
+ */
+public final class Room {
+
+    private final String name;
+    private final double area;
+    private final List<Material> materials;
+    private final List<Task> tasks;
+
+    /**
+     * @param name nazwa pomieszczenia
+     * @param area powierzchnia w m²
+     * @param materials materiały
+     * @param tasks zadania
+     */
+    public Room(@NonNull String name, double area, @NonNull List<Material> materials, @NonNull List<Task> tasks) {
+        this.name = name;
+        this.area = area;
+        this.materials = Collections.unmodifiableList(new ArrayList<>(materials));
+        this.tasks = Collections.unmodifiableList(new ArrayList<>(tasks));
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    public double getArea() {
+        return area;
+    }
+
+    @NonNull
+    public List<Material> getMaterials() {
+        return materials;
+    }
+
+    @NonNull
+    public List<Task> getTasks() {
+        return tasks;
+    }
+}
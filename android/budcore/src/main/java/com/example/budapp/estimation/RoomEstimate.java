@@ -0,0 +1,54 @@
+package com.example.budapp.estimation;
+
+import com.example.budapp.utils.MoneyCalculator;
+
+/**
+ * Wynik wyceny jednego pomieszczenia. Kwoty przechowywane są w groszach,
+ * w kolejności materiałów i zadań z {@link Room}.
+ */
+public final class RoomEstimate {
+
+    private final double[] materialQuantities;
+    private final long[] materialCostsMinor;
+    private final long[] taskCostsMinor;
+    private final long totalMinor;
+
+    RoomEstimate(double[] materialQuantities, long[] materialCostsMinor, long[] taskCostsMinor, long totalMinor) {
+        this.materialQuantities = materialQuantities;
+        this.materialCostsMinor = materialCostsMinor;
+        this.taskCostsMinor = taskCostsMinor;
+        this.totalMinor = totalMinor;
+    }
+
+    public int getMaterialCount() {
+        return materialQuantities.length;
+    }
+
+    public int getTaskCount() {
+        return taskCostsMinor.length;
+    }
+
+    /** Ilość materiału i (z zapasem) */
+    public double getMaterialQuantity(int i) {
+        return materialQuantities[i];
+    }
+
+    /** Koszt materiału i w groszach */
+    public long getMaterialCostMinor(int i) {
+        return materialCostsMinor[i];
+    }
+
+    /** Koszt zadania i w groszach */
+    public long getTaskCostMinor(int i) {
+        return taskCostsMinor[i];
+    }
+
+    /** Suma materiałów i robocizny w groszach */
+    public long getTotalMinor() {
+        return totalMinor;
+    }
+
+    public double getTotal() {
+        return MoneyCalculator.toDouble(totalMinor);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.budapp.estimation;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Zadanie (robocizna) w pomieszczeniu - odpowiednik klasy Task z lib/models/renovation_plan.dart.
+ * Koszt wyliczany jest z powierzchni pomieszczenia i stawki za m².
+ */
+public final class Task {
+
+    private final String name;
+    private final String category;
+    private final double pricePerSquareMeter;
+
+    /**
+     * @param name nazwa zadania
+     * @param category kategoria zadania
+     * @param pricePerSquareMeter stawka za m²
+     */
+    public Task(@NonNull String name, @NonNull String category, double pricePerSquareMeter) {
+        this.name = name;
+        this.category = category;
+        this.pricePerSquareMeter = pricePerSquareMeter;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @NonNull
+    public String getCategory() {
+        return category;
+    }
+
+    public double getPricePerSquareMeter() {
+        return pricePerSquareMeter;
+    }
+}
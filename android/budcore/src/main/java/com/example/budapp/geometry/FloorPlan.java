@@ -0,0 +1,248 @@
+package com.example.budapp.geometry;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+
+/**
+ * Niezmienny rzut pomieszczeń w układzie kolumnowym.
+ * <p>
+ * Wierzchołki wszystkich pomieszczeń leżą w dwóch tablicach {@code double[]}, a pomieszczenie i
+ * zajmuje zakres {@code [vertexStart[i], vertexStart[i + 1])}. Ściana j łączy wierzchołek j
+ * z następnym (ostatnia zamyka wielokąt). Sufit jest płaszczyzną {@code h(x, y) = h0 + gx*x + gy*y};
+ * sufit płaski ma zerowy gradient. Otwory (drzwi, okna) zapisane są analogicznie w tablicach
+ * z zakresami na pomieszczenie. Obliczenia wykonuje {@link GeometryEngine}.
+ */
+public final class FloorPlan {
+
+    final double[] xs;
+    final double[] ys;
+    final int[] vertexStart;
+    final double[] ceilingBase;
+    final double[] ceilingGradientX;
+    final double[] ceilingGradientY;
+    final int[] openingStart;
+    final int[] openingWall;
+    final double[] openingWidth;
+    final double[] openingHeight;
+
+    private FloorPlan(Builder builder) {
+        int rooms = builder.roomCount;
+        xs = Arrays.copyOf(builder.xs, builder.vertexCount);
+        ys = Arrays.copyOf(builder.ys, builder.vertexCount);
+        vertexStart = Arrays.copyOf(builder.vertexStart, rooms + 1);
+        ceilingBase = Arrays.copyOf(builder.ceilingBase, rooms);
+        ceilingGradientX = Arrays.copyOf(builder.ceilingGradientX, rooms);
+        ceilingGradientY = Arrays.copyOf(builder.ceilingGradientY, rooms);
+
+        // Otwory dodawane są w dowolnej kolejności - grupujemy je według pomieszczeń (układ CSR)
+        int openings = builder.openingCount;
+        openingStart = new int[rooms + 1];
+        for (int i = 0; i < openings; i++) {
+            openingStart[builder.openingRoom[i] + 1]++;
+        }
+        for (int r = 0; r < rooms; r++) {
+            openingStart[r + 1] += openingStart[r];
+        }
+        int[] next = Arrays.copyOf(openingStart, rooms);
+        openingWall = new int[openings];
+        openingWidth = new double[openings];
+        openingHeight = new double[openings];
+        for (int i = 0; i < openings; i++) {
+            int slot = next[builder.openingRoom[i]]++;
+            openingWall[slot] = builder.openingWall[i];
+            openingWidth[slot] = builder.openingWidth[i];
+            openingHeight[slot] = builder.openingHeight[i];
+        }
+    }
+
+    /** Budowniczy z współrzędnymi w metrach */
+    @NonNull
+    public static Builder builder() {
+        return new Builder(1.0);
+    }
+
+    /**
+     * Budowniczy przeliczający współrzędne skalą - jak _scaleFactor w room_measurement.dart
+     * @param scaleFactor liczba metrów na jednostkę współrzędnych
+     */
+    @NonNull
+    public static Builder builder(double scaleFactor) {
+        if (!(scaleFactor > 0) || Double.isInfinite(scaleFactor)) {
+            throw new IllegalArgumentException("Skala musi być dodatnia");
+        }
+        return new Builder(scaleFactor);
+    }
+
+    public int getRoomCount() {
+        return ceilingBase.length;
+    }
+
+    /** Liczba wierzchołków (i ścian) pomieszczenia */
+    public int getVertexCount(int room) {
+        return vertexStart[room + 1] - vertexStart[room];
+    }
+
+    /** Współrzędna x wierzchołka w metrach */
+    public double getX(int room, int vertex) {
+        return xs[vertexStart[room] + vertex];
+    }
+
+    /** Współrzędna y wierzchołka w metrach */
+    public double getY(int room, int vertex) {
+        return ys[vertexStart[room] + vertex];
+    }
+
+    /** Wysokość sufitu pomieszczenia w punkcie (x, y) */
+    public double getCeilingHeight(int room, double x, double y) {
+        return ceilingBase[room] + ceilingGradientX[room] * x + ceilingGradientY[room] * y;
+    }
+
+    public int getOpeningCount(int room) {
+        return openingStart[room + 1] - openingStart[room];
+    }
+
+    public static final class Builder {
+        private final double scale;
+        private double[] xs = new double[64];
+        private double[] ys = new double[64];
+        private int vertexCount;
+        private int[] vertexStart = new int[17];
+        private double[] ceilingBase = new double[16];
+        private double[] ceilingGradientX = new double[16];
+        private double[] ceilingGradientY = new double[16];
+        private int roomCount;
+        private int[] openingRoom = new int[16];
+        private int[] openingWall = new int[16];
+        private double[] openingWidth = new double[16];
+        private double[] openingHeight = new double[16];
+        private int openingCount;
+
+        private Builder(double scale) {
+            this.scale = scale;
+        }
+
+        /**
+         * Dodaje pomieszczenie o płaskim suficie
+         * @param xs współrzędne x kolejnych wierzchołków (w jednostkach skali)
+         * @param ys współrzędne y kolejnych wierzchołków
+         * @param ceilingHeight wysokość sufitu w metrach
+         * @return indeks pomieszczenia
+         * @throws IllegalArgumentException dla mniej niż 3 wierzchołków, niezgodnych długości tablic,
+         *         nieskończonych współrzędnych lub niedodatniej wysokości
+         */
+        public int addRoom(@NonNull double[] xs, @NonNull double[] ys, double ceilingHeight) {
+            if (xs.length != ys.length) {
+                throw new IllegalArgumentException("Liczba współrzędnych x i y musi być równa");
+            }
+            if (xs.length < 3) {
+                throw new IllegalArgumentException("Wielokąt musi mieć co najmniej 3 wierzchołki");
+            }
+            if (!(ceilingHeight > 0) || Double.isInfinite(ceilingHeight)) {
+                throw new IllegalArgumentException("Wysokość musi być dodatnia");
+            }
+            if (vertexCount + xs.length > this.xs.length) {
+                int capacity = Math.max(this.xs.length * 2, vertexCount + xs.length);
+                this.xs = Arrays.copyOf(this.xs, capacity);
+                this.ys = Arrays.copyOf(this.ys, capacity);
+            }
+            for (int i = 0; i < xs.length; i++) {
+                double x = xs[i] * scale;
+                double y = ys[i] * scale;
+                if (Double.isNaN(x) || Double.isInfinite(x) || Double.isNaN(y) || Double.isInfinite(y)) {
+                    throw new IllegalArgumentException("Współrzędne muszą być liczbami skończonymi");
+                }
+                this.xs[vertexCount + i] = x;
+                this.ys[vertexCount + i] = y;
+            }
+            if (roomCount == ceilingBase.length) {
+                int capacity = roomCount * 2;
+                vertexStart = Arrays.copyOf(vertexStart, capacity + 1);
+                ceilingBase = Arrays.copyOf(ceilingBase, capacity);
+                ceilingGradientX = Arrays.copyOf(ceilingGradientX, capacity);
+                ceilingGradientY = Arrays.copyOf(ceilingGradientY, capacity);
+            }
+            vertexCount += xs.length;
+            ceilingBase[roomCount] = ceilingHeight;
+            ceilingGradientX[roomCount] = 0;
+            ceilingGradientY[roomCount] = 0;
+            vertexStart[++roomCount] = vertexCount;
+            return roomCount - 1;
+        }
+
+        /**
+         * Ustawia sufit skośny: wysokość zmienia się liniowo wzdłuż odcinka między dwoma punktami
+         * i jest stała w kierunku prostopadłym (np. poddasze)
+         * @param room indeks pomieszczenia
+         * @param x1 x pierwszego punktu (w jednostkach skali)
+         * @param y1 y pierwszego punktu
+         * @param height1 wysokość w pierwszym punkcie w metrach
+         * @param x2 x drugiego punktu
+         * @param y2 y drugiego punktu
+         * @param height2 wysokość w drugim punkcie w metrach
+         * @return ten budowniczy
+         */
+        @NonNull
+        public Builder setSlopedCeiling(int room, double x1, double y1, double height1,
+                                        double x2, double y2, double height2) {
+            checkRoom(room);
+            double dx = (x2 - x1) * scale;
+            double dy = (y2 - y1) * scale;
+            double lengthSquared = dx * dx + dy * dy;
+            if (!(lengthSquared > 0) || Double.isInfinite(lengthSquared)) {
+                throw new IllegalArgumentException("Punkty sufitu muszą być różne");
+            }
+            if (Double.isNaN(height1 - height2) || Double.isInfinite(height1 - height2)) {
+                throw new IllegalArgumentException("Wysokość musi być liczbą skończoną");
+            }
+            double slope = (height2 - height1) / lengthSquared;
+            ceilingGradientX[room] = slope * dx;
+            ceilingGradientY[room] = slope * dy;
+            ceilingBase[room] = height1 - ceilingGradientX[room] * x1 * scale - ceilingGradientY[room] * y1 * scale;
+            return this;
+        }
+
+        /**
+         * Dodaje otwór (drzwi, okno) w ścianie
+         * @param room indeks pomieszczenia
+         * @param wall indeks ściany (od wierzchołka wall do następnego)
+         * @param width szerokość w metrach
+         * @param height wysokość w metrach
+         * @return ten budowniczy
+         */
+        @NonNull
+        public Builder addOpening(int room, int wall, double width, double height) {
+            checkRoom(room);
+            if (wall < 0 || wall >= vertexStart[room + 1] - vertexStart[room]) {
+                throw new IllegalArgumentException("Pomieszczenie " + room + " nie ma ściany " + wall);
+            }
+            if (!(width > 0) || !(height > 0) || Double.isInfinite(width) || Double.isInfinite(height)) {
+                throw new IllegalArgumentException("Wymiary otworu muszą być dodatnie");
+            }
+            if (openingCount == openingRoom.length) {
+                int capacity = openingCount * 2;
+                openingRoom = Arrays.copyOf(openingRoom, capacity);
+                openingWall = Arrays.copyOf(openingWall, capacity);
+                openingWidth = Arrays.copyOf(openingWidth, capacity);
+                openingHeight = Arrays.copyOf(openingHeight, capacity);
+            }
+            openingRoom[openingCount] = room;
+            openingWall[openingCount] = wall;
+            openingWidth[openingCount] = width;
+            openingHeight[openingCount] = height;
+            openingCount++;
+            return this;
+        }
+
+        /** Buduje niezmienny rzut */
+        @NonNull
+        public FloorPlan build() {
+            return new FloorPlan(this);
+        }
+
+        private void checkRoom(int room) {
+            if (room < 0 || room >= roomCount) {
+                throw new IllegalArgumentException("Nieznane pomieszczenie: " + room);
+            }
+        }
+    }
+}
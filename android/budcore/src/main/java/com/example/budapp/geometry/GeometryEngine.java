@@ -0,0 +1,157 @@
+package com.example.budapp.geometry;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Obliczenia geometrii rzutów: powierzchnia i obwód dowolnego wielokąta (wzór Gaussa - shoelace),
+ * powierzchnie ścian pomniejszone o otwory, powierzchnia i kubatura pod sufitem skośnym.
+ * <p>
+ * Wszystkie pomieszczenia {@link FloorPlan} liczone są w jednym przebiegu po tablicach
+ * współrzędnych. Wielokąt może być wklęsły i mieć dowolną orientację, ale nie może
+ * przecinać sam siebie. Wyniki nie są zaokrąglane - zaokrągla dopiero kalkulator ilości.
+ */
+public final class GeometryEngine {
+
+    private GeometryEngine() {
+    }
+
+    /**
+     * Oblicza pole wielokąta
+     * @param xs współrzędne x wierzchołków
+     * @param ys współrzędne y wierzchołków
+     * @return pole (nieujemne, niezależne od orientacji)
+     */
+    public static double polygonArea(@NonNull double[] xs, @NonNull double[] ys) {
+        checkPolygon(xs, ys);
+        return Math.abs(twiceSignedArea(xs, ys, 0, xs.length)) / 2.0;
+    }
+
+    /**
+     * Oblicza obwód wielokąta
+     * @param xs współrzędne x wierzchołków
+     * @param ys współrzędne y wierzchołków
+     * @return obwód (z bokiem zamykającym)
+     */
+    public static double polygonPerimeter(@NonNull double[] xs, @NonNull double[] ys) {
+        checkPolygon(xs, ys);
+        double perimeter = 0;
+        for (int i = 0; i < xs.length; i++) {
+            int j = i + 1 == xs.length ? 0 : i + 1;
+            perimeter += length(xs[j] - xs[i], ys[j] - ys[i]);
+        }
+        return perimeter;
+    }
+
+    /**
+     * Oblicza geometrię wszystkich pomieszczeń rzutu
+     * @param plan rzut
+     * @return wyniki w kolejności pomieszczeń
+     * @throws IllegalArgumentException gdy wielokąt ma zerowe pole, sufit schodzi poniżej podłogi
+     *         albo otwory są większe niż ściana
+     */
+    @NonNull
+    public static PlanGeometry evaluate(@NonNull FloorPlan plan) {
+        int rooms = plan.getRoomCount();
+        double[] floorArea = new double[rooms];
+        double[] perimeter = new double[rooms];
+        double[] grossWallArea = new double[rooms];
+        double[] openingArea = new double[rooms];
+        double[] ceilingArea = new double[rooms];
+        double[] volume = new double[rooms];
+        double[] wallArea = new double[16];
+
+        double[] xs = plan.xs;
+        double[] ys = plan.ys;
+        for (int r = 0; r < rooms; r++) {
+            int from = plan.vertexStart[r];
+            int to = plan.vertexStart[r + 1];
+            double gx = plan.ceilingGradientX[r];
+            double gy = plan.ceilingGradientY[r];
+            if (wallArea.length < to - from) {
+                wallArea = new double[to - from];
+            }
+
+            // Współrzędne względem pierwszego wierzchołka - mniejsze błędy zaokrągleń dla dużych wartości
+            double x0 = xs[from];
+            double y0 = ys[from];
+            double twiceArea = 0;
+            double momentX = 0;
+            double momentY = 0;
+            double walls = 0;
+            double length = 0;
+            for (int i = from; i < to; i++) {
+                int j = i + 1 == to ? from : i + 1;
+                double xi = xs[i] - x0;
+                double yi = ys[i] - y0;
+                double xj = xs[j] - x0;
+                double yj = ys[j] - y0;
+                double cross = xi * yj - xj * yi;
+                twiceArea += cross;
+                momentX += (xi + xj) * cross;
+                momentY += (yi + yj) * cross;
+
+                double wallLength = length(xj - xi, yj - yi);
+                double heightI = plan.getCeilingHeight(r, xs[i], ys[i]);
+                if (heightI < 0) {
+                    throw new IllegalArgumentException(
+                            "Pomieszczenie " + r + ": sufit poniżej podłogi w wierzchołku " + (i - from));
+                }
+                double heightJ = plan.getCeilingHeight(r, xs[j], ys[j]);
+                // Wysokość zmienia się liniowo wzdłuż ściany - pole trapezu
+                wallArea[i - from] = wallLength * (heightI + heightJ) / 2.0;
+                walls += wallArea[i - from];
+                length += wallLength;
+            }
+            if (twiceArea == 0) {
+                throw new IllegalArgumentException("Pomieszczenie " + r + ": wielokąt ma zerowe pole");
+            }
+            double sign = Math.signum(twiceArea);
+
+            double openings = 0;
+            for (int o = plan.openingStart[r]; o < plan.openingStart[r + 1]; o++) {
+                int wall = plan.openingWall[o];
+                double area = plan.openingWidth[o] * plan.openingHeight[o];
+                wallArea[wall] -= area;
+                if (wallArea[wall] < 0) {
+                    throw new IllegalArgumentException(
+                            "Pomieszczenie " + r + ", ściana " + wall + ": otwory większe niż ściana");
+                }
+                openings += area;
+            }
+
+            floorArea[r] = Math.abs(twiceArea) / 2.0;
+            perimeter[r] = length;
+            grossWallArea[r] = walls;
+            openingArea[r] = openings;
+            ceilingArea[r] = floorArea[r] * Math.sqrt(1 + gx * gx + gy * gy);
+            // Całka płaszczyzny po wielokącie = pole x wysokość w środku ciężkości
+            volume[r] = floorArea[r] * plan.getCeilingHeight(r, x0, y0)
+                    + sign * (gx * momentX + gy * momentY) / 6.0;
+        }
+        return new PlanGeometry(floorArea, perimeter, grossWallArea, openingArea, ceilingArea, volume);
+    }
+
+    private static double twiceSignedArea(double[] xs, double[] ys, int from, int to) {
+        double x0 = xs[from];
+        double y0 = ys[from];
+        double twiceArea = 0;
+        for (int i = from; i < to; i++) {
+            int j = i + 1 == to ? from : i + 1;
+            twiceArea += (xs[i] - x0) * (ys[j] - y0) - (xs[j] - x0) * (ys[i] - y0);
+        }
+        return twiceArea;
+    }
+
+    private static double length(double dx, double dy) {
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    private static void checkPolygon(double[] xs, double[] ys) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Liczba współrzędnych x i y musi być równa");
+        }
+        if (xs.length < 3) {
+            throw new IllegalArgumentException("Wielokąt musi mieć co najmniej 3 wierzchołki");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.budapp.geometry;
+
+/**
+ * Wyniki {@link GeometryEngine} dla pomieszczeń rzutu - powierzchnie w m², długości w m, kubatura w m³.
+ * Powierzchnie ścian dotyczą strony wewnętrznej (do malowania i tynkowania).
+ */
+public final class PlanGeometry {
+
+    private final double[] floorArea;
+    private final double[] perimeter;
+    private final double[] grossWallArea;
+    private final double[] openingArea;
+    private final double[] ceilingArea;
+    private final double[] volume;
+
+    PlanGeometry(double[] floorArea, double[] perimeter, double[] grossWallArea, double[] openingArea,
+                 double[] ceilingArea, double[] volume) {
+        this.floorArea = floorArea;
+        this.perimeter = perimeter;
+        this.grossWallArea = grossWallArea;
+        this.openingArea = openingArea;
+        this.ceilingArea = ceilingArea;
+        this.volume = volume;
+    }
+
+    public int getRoomCount() {
+        return floorArea.length;
+    }
+
+    /** Pole podłogi (do posadzek) */
+    public double getFloorArea(int room) {
+        return floorArea[room];
+    }
+
+    /** Obwód (do listew przypodłogowych) */
+    public double getPerimeter(int room) {
+        return perimeter[room];
+    }
+
+    /** Powierzchnia ścian bez odliczenia otworów */
+    public double getGrossWallArea(int room) {
+        return grossWallArea[room];
+    }
+
+    /** Łączna powierzchnia drzwi i okien */
+    public double getOpeningArea(int room) {
+        return openingArea[room];
+    }
+
+    /** Powierzchnia ścian po odliczeniu otworów */
+    public double getNetWallArea(int room) {
+        return grossWallArea[room] - openingArea[room];
+    }
+
+    /** Powierzchnia sufitu (dla skośnego większa niż podłogi) */
+    public double getCeilingArea(int room) {
+        return ceilingArea[room];
+    }
+
+    public double getVolume(int room) {
+        return volume[room];
+    }
+
+    public double getTotalFloorArea() {
+        return sum(floorArea);
+    }
+
+    public double getTotalNetWallArea() {
+        return sum(grossWallArea) - sum(openingArea);
+    }
+
+    public double getTotalCeilingArea() {
+        return sum(ceilingArea);
+    }
+
+    public double getTotalVolume() {
+        return sum(volume);
+    }
+
+    private static double sum(double[] values) {
+        double total = 0;
+        for (double value : values) {
+            total += value;
+        }
+        return total;
+    }
+}
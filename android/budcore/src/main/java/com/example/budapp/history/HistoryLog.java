@@ -0,0 +1,259 @@
+package com.example.budapp.history;
+
+import androidx.annotation.NonNull;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binarny dziennik historii jednego typu, mapowany do pamięci.
+ * <p>
+ * Plik: nagłówek (32 B) + rekordy o stałym rozmiarze {@code [id][timestamp][flagi][pola double...]}.
+ * Dopisanie wpisu to zapis jednego rekordu i licznika w nagłówku (O(1)), usunięcie ustawia
+ * znacznik w rekordzie. Gdy usuniętych rekordów jest więcej niż żywych, plik jest kompaktowany.
+ */
+public final class HistoryLog implements Closeable {
+
+    private static final int MAGIC = 0x42485354; // "BHST"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 32;
+    private static final int OFFSET_COUNT = 16;
+    private static final int OFFSET_NEXT_ID = 24;
+    private static final int RECORD_FIXED = 24;
+    private static final long FLAG_DELETED = 1;
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int COMPACT_MIN_DELETED = 32;
+
+    private final File file;
+    private final HistoryType type;
+    private final int recordSize;
+
+    private RandomAccessFile raf;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int capacity;
+    private int count;
+    private int live;
+    private long nextId;
+
+    /**
+     * Otwiera lub tworzy dziennik
+     * @param file plik dziennika
+     * @param type typ historii (określa rozmiar rekordu)
+     */
+    public HistoryLog(@NonNull File file, @NonNull HistoryType type) throws IOException {
+        this.file = file;
+        this.type = type;
+        this.recordSize = RECORD_FIXED + 8 * type.getFieldCount();
+        open();
+    }
+
+    private void open() throws IOException {
+        raf = new RandomAccessFile(file, "rw");
+        channel = raf.getChannel();
+        long size = channel.size();
+        if (size < HEADER_SIZE) {
+            map(INITIAL_CAPACITY);
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, VERSION);
+            buffer.putInt(8, recordSize);
+            buffer.putInt(12, type.ordinal());
+            buffer.putLong(OFFSET_COUNT, 0);
+            buffer.putLong(OFFSET_NEXT_ID, 1);
+        } else {
+            map((int) ((size - HEADER_SIZE) / recordSize));
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                    || buffer.getInt(8) != recordSize || buffer.getInt(12) != type.ordinal()) {
+                close();
+                throw new IOException("Nieprawidłowy plik historii: " + file);
+            }
+        }
+        count = (int) buffer.getLong(OFFSET_COUNT);
+        nextId = buffer.getLong(OFFSET_NEXT_ID);
+        live = 0;
+        for (int slot = 0; slot < count; slot++) {
+            if (!isDeleted(slot)) {
+                live++;
+            }
+        }
+    }
+
+    private void map(int newCapacity) throws IOException {
+        capacity = Math.max(newCapacity, 1);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity * recordSize);
+    }
+
+    /**
+     * Dopisuje wpis
+     * @param timestamp czas obliczenia w ms
+     * @param values wartości pól w kolejności typu
+     * @return identyfikator wpisu
+     */
+    public synchronized long append(long timestamp, @NonNull double[] values) throws IOException {
+        if (values.length != type.getFieldCount()) {
+            throw new IllegalArgumentException("Oczekiwano " + type.getFieldCount() + " wartości dla " + type.getKey());
+        }
+        if (count == capacity) {
+            map(capacity * 2);
+        }
+        long id = nextId++;
+        int offset = offset(count);
+        buffer.putLong(offset, id);
+        buffer.putLong(offset + 8, timestamp);
+        buffer.putLong(offset + 16, 0);
+        for (int i = 0; i < values.length; i++) {
+            buffer.putDouble(offset + RECORD_FIXED + 8 * i, values[i]);
+        }
+        // Licznik w nagłówku zapisywany na końcu - dopiero on "zatwierdza" rekord
+        count++;
+        live++;
+        buffer.putLong(OFFSET_NEXT_ID, nextId);
+        buffer.putLong(OFFSET_COUNT, count);
+        return id;
+    }
+
+    /**
+     * Oznacza wpis jako usunięty
+     * @param id identyfikator wpisu
+     * @return true jeśli wpis istniał i został usunięty
+     */
+    public synchronized boolean remove(long id) throws IOException {
+        int slot = findSlot(id);
+        if (slot < 0 || isDeleted(slot)) {
+            return false;
+        }
+        int offset = offset(slot) + 16;
+        buffer.putLong(offset, buffer.getLong(offset) | FLAG_DELETED);
+        live--;
+        int deleted = count - live;
+        if (deleted >= COMPACT_MIN_DELETED && deleted > live) {
+            compact();
+        }
+        return true;
+    }
+
+    /** Usuwa wszystkie wpisy (identyfikatory nie są używane ponownie) */
+    public synchronized void clear() {
+        count = 0;
+        live = 0;
+        buffer.putLong(OFFSET_COUNT, 0);
+    }
+
+    /**
+     * Zwraca najnowsze wpisy
+     * @param limit maksymalna liczba wpisów
+     * @return wpisy od najnowszego
+     */
+    @NonNull
+    public synchronized List<HistoryRecord> latest(int limit) {
+        List<HistoryRecord> result = new ArrayList<>(Math.min(limit, live));
+        for (int slot = count - 1; slot >= 0 && result.size() < limit; slot--) {
+            if (!isDeleted(slot)) {
+                result.add(read(slot));
+            }
+        }
+        return result;
+    }
+
+    /** Liczba żywych wpisów */
+    public synchronized int size() {
+        return live;
+    }
+
+    /** Liczba zajętych rekordów w pliku (łącznie z usuniętymi) */
+    public synchronized int slotCount() {
+        return count;
+    }
+
+    /** Przepisuje plik bez usuniętych rekordów */
+    public synchronized void compact() throws IOException {
+        File temp = new File(file.getPath() + ".tmp");
+        try (RandomAccessFile out = new RandomAccessFile(temp, "rw")) {
+            out.setLength(0);
+            FileChannel outChannel = out.getChannel();
+            MappedByteBuffer target = outChannel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) Math.max(live, INITIAL_CAPACITY) * recordSize);
+            for (int i = 0; i < OFFSET_COUNT; i += 4) {
+                target.putInt(i, buffer.getInt(i));
+            }
+            int written = 0;
+            for (int slot = 0; slot < count; slot++) {
+                if (isDeleted(slot)) {
+                    continue;
+                }
+                int from = offset(slot);
+                int to = HEADER_SIZE + written * recordSize;
+                for (int b = 0; b < recordSize; b += 8) {
+                    target.putLong(to + b, buffer.getLong(from + b));
+                }
+                written++;
+            }
+            target.putLong(OFFSET_COUNT, written);
+            target.putLong(OFFSET_NEXT_ID, nextId);
+            target.force();
+        }
+        close();
+        if (!temp.renameTo(file)) {
+            // Oryginalny plik jest nienaruszony - otwieramy go ponownie, żeby dziennik działał dalej
+            open();
+            temp.delete();
+            throw new IOException("Nie udało się podmienić pliku historii: " + file);
+        }
+        open();
+    }
+
+    /** Wymusza zapis zmian na dysk */
+    public synchronized void flush() {
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (raf != null) {
+            buffer.force();
+            raf.close();
+            raf = null;
+            channel = null;
+        }
+    }
+
+    // Rekordy są posortowane rosnąco po id (dopisywanie i kompaktowanie zachowują kolejność)
+    private int findSlot(long id) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midId = buffer.getLong(offset(mid));
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private HistoryRecord read(int slot) {
+        int offset = offset(slot);
+        double[] values = new double[type.getFieldCount()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = buffer.getDouble(offset + RECORD_FIXED + 8 * i);
+        }
+        return new HistoryRecord(buffer.getLong(offset), buffer.getLong(offset + 8), values);
+    }
+
+    private boolean isDeleted(int slot) {
+        return (buffer.getLong(offset(slot) + 16) & FLAG_DELETED) != 0;
+    }
+
+    private int offset(int slot) {
+        return HEADER_SIZE + slot * recordSize;
+    }
+}
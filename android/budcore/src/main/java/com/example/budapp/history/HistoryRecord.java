@@ -0,0 +1,43 @@
+package com.example.budapp.history;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Pojedynczy wpis historii obliczeń
+ */
+public final class HistoryRecord {
+
+    private final long id;
+    private final long timestamp;
+    private final double[] values;
+
+    HistoryRecord(long id, long timestamp, double[] values) {
+        this.id = id;
+        this.timestamp = timestamp;
+        this.values = values;
+    }
+
+    /** Stały identyfikator wpisu (nie zmienia się przy kompaktowaniu) */
+    public long getId() {
+        return id;
+    }
+
+    /** Czas obliczenia w milisekundach od epoki */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getValueCount() {
+        return values.length;
+    }
+
+    /** Wartość pola i w kolejności {@link HistoryType#getFieldName(int)} */
+    public double getValue(int i) {
+        return values[i];
+    }
+
+    @NonNull
+    public double[] getValues() {
+        return values.clone();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.budapp.history;
+
+import androidx.annotation.NonNull;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Magazyn historii obliczeń - po jednym {@link HistoryLog} na typ kalkulatora w jednym katalogu.
+ * Dzienniki otwierane są przy pierwszym użyciu.
+ */
+public final class HistoryStore implements Closeable {
+
+    private final File directory;
+    private final Map<HistoryType, HistoryLog> logs = new EnumMap<>(HistoryType.class);
+
+    /**
+     * @param directory katalog z plikami historii (tworzony w razie potrzeby)
+     */
+    public HistoryStore(@NonNull File directory) throws IOException {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Nie można utworzyć katalogu historii: " + directory);
+        }
+        this.directory = directory;
+    }
+
+    /**
+     * Dopisuje wpis historii
+     * @param type typ kalkulatora
+     * @param timestamp czas obliczenia w ms
+     * @param values wartości pól w kolejności typu
+     * @return identyfikator wpisu
+     */
+    public long append(@NonNull HistoryType type, long timestamp, @NonNull double[] values) throws IOException {
+        return log(type).append(timestamp, values);
+    }
+
+    /**
+     * Usuwa wpis historii
+     * @return true jeśli wpis istniał
+     */
+    public boolean remove(@NonNull HistoryType type, long id) throws IOException {
+        return log(type).remove(id);
+    }
+
+    /** Usuwa całą historię danego typu */
+    public void clear(@NonNull HistoryType type) throws IOException {
+        log(type).clear();
+    }
+
+    /**
+     * Zwraca najnowsze wpisy danego typu
+     * @param limit maksymalna liczba wpisów
+     * @return wpisy od najnowszego
+     */
+    @NonNull
+    public List<HistoryRecord> latest(@NonNull HistoryType type, int limit) throws IOException {
+        return log(type).latest(limit);
+    }
+
+    /**
+     * Zwraca dziennik danego typu, otwierając go w razie potrzeby
+     */
+    @NonNull
+    public synchronized HistoryLog log(@NonNull HistoryType type) throws IOException {
+        HistoryLog log = logs.get(type);
+        if (log == null) {
+            log = new HistoryLog(new File(directory, "history_" + type.getKey() + ".bin"), type);
+            logs.put(type, log);
+        }
+        return log;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (HistoryLog log : logs.values()) {
+            try {
+                log.close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        logs.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
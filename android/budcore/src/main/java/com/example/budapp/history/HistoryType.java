@@ -0,0 +1,59 @@
+package com.example.budapp.history;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Typy historii obliczeń - odpowiedniki list z lib/history_manager.dart.
+ * Każdy typ ma stałą listę pól liczbowych, dzięki czemu rekordy mają stały rozmiar.
+ */
+public enum HistoryType {
+    AREA("area", "length", "width", "result"),
+    WORK("work", "area", "price", "usage", "result", "totalUsage"),
+    MATERIAL("material", "area", "usage", "result"),
+    DIMENSIONS("dimensions", "length", "width", "height", "result"),
+    VOLUME_MASS("volume_mass", "length", "width", "height", "density", "volume", "mass"),
+    VAT_TAX("vat_tax", "net", "vatRate", "taxRate", "taxOnGross", "vatAmount", "gross", "taxAmount", "total");
+
+    private final String key;
+    private final String[] fields;
+
+    HistoryType(String key, String... fields) {
+        this.key = key;
+        this.fields = fields;
+    }
+
+    /** Klucz typu (jak w nazwach kluczy SharedPreferences bez przedrostka "history_") */
+    @NonNull
+    public String getKey() {
+        return key;
+    }
+
+    public int getFieldCount() {
+        return fields.length;
+    }
+
+    @NonNull
+    public String getFieldName(int i) {
+        return fields[i];
+    }
+
+    /** Pola logiczne zapisywane jako 0/1 */
+    public boolean isFlagField(int i) {
+        return "taxOnGross".equals(fields[i]);
+    }
+
+    /**
+     * Zwraca typ dla klucza
+     * @param key klucz typu, np. "area"
+     * @return typ historii
+     */
+    @NonNull
+    public static HistoryType fromKey(@NonNull String key) {
+        for (HistoryType type : values()) {
+            if (type.key.equals(key)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Nieznany typ historii: " + key);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.budapp.invoice;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Faktura do przeliczenia - numer i pozycje. Dane stron i daty nie biorą udziału
+ * w obliczeniach, więc renderer bierze je bezpośrednio ze swojego modelu.
+ */
+public final class Invoice {
+
+    private final String number;
+    private final List<InvoiceLine> lines;
+
+    /**
+     * @param number numer faktury
+     * @param lines pozycje w kolejności na fakturze
+     */
+    public Invoice(@NonNull String number, @NonNull List<InvoiceLine> lines) {
+        this.number = number;
+        this.lines = Collections.unmodifiableList(new ArrayList<>(lines));
+    }
+
+    @NonNull
+    public String getNumber() {
+        return number;
+    }
+
+    @NonNull
+    public List<InvoiceLine> getLines() {
+        return lines;
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.budapp.invoice;
+
+import androidx.annotation.NonNull;
+import java.util.List;
+
+/**
+ * Gotowy do wyrenderowania model faktury: wiersze tabeli pozycji, zestawienie VAT według stawek
+ * i sumy. Kwoty są już zaokrąglone (w groszach) i sformatowane jak w PdfService
+ * ("1234.50 PLN"), więc renderer zajmuje się tylko układem strony.
+ */
+public final class InvoiceLayout {
+
+    private final String number;
+    private final List<Row> rows;
+    private final List<VatRow> vatRows;
+    private final long netTotalMinor;
+    private final long vatTotalMinor;
+    private final String netTotalText;
+    private final String vatTotalText;
+    private final String grossTotalText;
+
+    InvoiceLayout(String number, List<Row> rows, List<VatRow> vatRows, long netTotalMinor, long vatTotalMinor) {
+        this.number = number;
+        this.rows = rows;
+        this.vatRows = vatRows;
+        this.netTotalMinor = netTotalMinor;
+        this.vatTotalMinor = vatTotalMinor;
+        this.netTotalText = InvoiceProcessor.formatAmount(netTotalMinor);
+        this.vatTotalText = InvoiceProcessor.formatAmount(vatTotalMinor);
+        this.grossTotalText = InvoiceProcessor.formatAmount(getGrossTotalMinor());
+    }
+
+    @NonNull
+    public String getNumber() {
+        return number;
+    }
+
+    /** Wiersze tabeli pozycji w kolejności faktury */
+    @NonNull
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /** Zestawienie według stawek VAT, od najwyższej stawki */
+    @NonNull
+    public List<VatRow> getVatRows() {
+        return vatRows;
+    }
+
+    public long getNetTotalMinor() {
+        return netTotalMinor;
+    }
+
+    public long getVatTotalMinor() {
+        return vatTotalMinor;
+    }
+
+    public long getGrossTotalMinor() {
+        return netTotalMinor + vatTotalMinor;
+    }
+
+    @NonNull
+    public String getNetTotalText() {
+        return netTotalText;
+    }
+
+    @NonNull
+    public String getVatTotalText() {
+        return vatTotalText;
+    }
+
+    @NonNull
+    public String getGrossTotalText() {
+        return grossTotalText;
+    }
+
+    /**
+     * Wiersz tabeli pozycji (kolumny Lp., Nazwa, Ilość, Cena jedn., Wartość, VAT)
+     */
+    public static final class Row {
+
+        private final int position;
+        private final String name;
+        private final String quantityText;
+        private final String unitPriceText;
+        private final long netMinor;
+        private final String netText;
+        private final String vatRateText;
+
+        Row(int position, String name, String quantityText, String unitPriceText, long netMinor, String vatRateText) {
+            this.position = position;
+            this.name = name;
+            this.quantityText = quantityText;
+            this.unitPriceText = unitPriceText;
+            this.netMinor = netMinor;
+            this.netText = InvoiceProcessor.formatAmount(netMinor);
+            this.vatRateText = vatRateText;
+        }
+
+        /** Liczba porządkowa od 1 */
+        public int getPosition() {
+            return position;
+        }
+
+        @NonNull
+        public String getName() {
+            return name;
+        }
+
+        /** Ilość z jednostką, np. "12.5 m2" */
+        @NonNull
+        public String getQuantityText() {
+            return quantityText;
+        }
+
+        @NonNull
+        public String getUnitPriceText() {
+            return unitPriceText;
+        }
+
+        public long getNetMinor() {
+            return netMinor;
+        }
+
+        @NonNull
+        public String getNetText() {
+            return netText;
+        }
+
+        /** Stawka VAT, np. "23%" lub "8.5%" */
+        @NonNull
+        public String getVatRateText() {
+            return vatRateText;
+        }
+    }
+
+    /**
+     * Wiersz zestawienia VAT dla jednej stawki
+     */
+    public static final class VatRow {
+
+        private final int rateBasisPoints;
+        private final String rateText;
+        private final long netMinor;
+        private final long vatMinor;
+        private final String netText;
+        private final String vatText;
+        private final String grossText;
+
+        VatRow(int rateBasisPoints, String rateText, long netMinor, long vatMinor) {
+            this.rateBasisPoints = rateBasisPoints;
+            this.rateText = rateText;
+            this.netMinor = netMinor;
+            this.vatMinor = vatMinor;
+            this.netText = InvoiceProcessor.formatAmount(netMinor);
+            this.vatText = InvoiceProcessor.formatAmount(vatMinor);
+            this.grossText = InvoiceProcessor.formatAmount(getGrossMinor());
+        }
+
+        /** Stawka w punktach bazowych (2300 = 23%) */
+        public int getRateBasisPoints() {
+            return rateBasisPoints;
+        }
+
+        @NonNull
+        public String getRateText() {
+            return rateText;
+        }
+
+        public long getNetMinor() {
+            return netMinor;
+        }
+
+        public long getVatMinor() {
+            return vatMinor;
+        }
+
+        public long getGrossMinor() {
+            return netMinor + vatMinor;
+        }
+
+        @NonNull
+        public String getNetText() {
+            return netText;
+        }
+
+        @NonNull
+        public String getVatText() {
+            return vatText;
+        }
+
+        @NonNull
+        public String getGrossText() {
+            return grossText;
+        }
+    }
+}
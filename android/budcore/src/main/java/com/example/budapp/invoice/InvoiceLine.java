@@ -0,0 +1,53 @@
+package com.example.budapp.invoice;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Pozycja faktury - odpowiednik InvoiceItem z lib/services/pdf_service.dart,
+ * rozszerzony o stawkę VAT pozycji (faktura może mieć pozycje w różnych stawkach).
+ */
+public final class InvoiceLine {
+
+    private final String name;
+    private final double quantity;
+    private final String unit;
+    private final double unitPrice;
+    private final double vatRate;
+
+    /**
+     * @param name nazwa towaru lub usługi
+     * @param quantity ilość
+     * @param unit jednostka (np. "m2", "szt")
+     * @param unitPrice cena jednostkowa netto w złotych
+     * @param vatRate stawka VAT w procentach (np. 23 lub 8)
+     */
+    public InvoiceLine(@NonNull String name, double quantity, @NonNull String unit, double unitPrice, double vatRate) {
+        this.name = name;
+        this.quantity = quantity;
+        this.unit = unit;
+        this.unitPrice = unitPrice;
+        this.vatRate = vatRate;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    public double getQuantity() {
+        return quantity;
+    }
+
+    @NonNull
+    public String getUnit() {
+        return unit;
+    }
+
+    public double getUnitPrice() {
+        return unitPrice;
+    }
+
+    public double getVatRate() {
+        return vatRate;
+    }
+}
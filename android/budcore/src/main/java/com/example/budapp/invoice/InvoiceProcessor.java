@@ -0,0 +1,177 @@
+package com.example.budapp.invoice;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Etap obliczeń faktur poprzedzający renderowanie PDF. Wartości pozycji liczone są jak
+ * {@link ConstructionCalculator#calculateWorkCost}, a VAT przez {@link VatAggregator}
+ * od sumy netto każdej stawki (HALF_UP, w groszach). Faktury są niezależne, więc przy wielu
+ * fakturach (np. zamknięcie miesiąca) liczone są równolegle w ForkJoinPool; wynik nie zależy
+ * od liczby wątków.
+ */
+public final class InvoiceProcessor {
+
+    private static final int INVOICES_PER_TASK = 8;
+
+    private final ForkJoinPool pool;
+
+    private InvoiceProcessor(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /** Procesor liczący w bieżącym wątku */
+    @NonNull
+    public static InvoiceProcessor sequential() {
+        return new InvoiceProcessor(null);
+    }
+
+    /** Procesor liczący równolegle we wspólnej puli ForkJoin */
+    @NonNull
+    public static InvoiceProcessor parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /** Procesor liczący równolegle we wskazanej puli */
+    @NonNull
+    public static InvoiceProcessor parallel(@NonNull ForkJoinPool pool) {
+        return new InvoiceProcessor(pool);
+    }
+
+    /**
+     * Przelicza faktury
+     * @param invoices faktury
+     * @return modele do renderowania w kolejności faktur
+     * @throws IllegalArgumentException gdy pozycja faktury jest nieprawidłowa (komunikat wskazuje fakturę i pozycję)
+     */
+    @NonNull
+    public List<InvoiceLayout> processAll(@NonNull List<Invoice> invoices) {
+        Invoice[] input = invoices.toArray(new Invoice[0]);
+        InvoiceLayout[] results = new InvoiceLayout[input.length];
+        if (pool == null || input.length <= INVOICES_PER_TASK) {
+            processRange(input, results, 0, input.length);
+        } else {
+            pool.invoke(new InvoiceBatch(input, results, 0, input.length));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Przelicza jedną fakturę
+     * @param invoice faktura
+     * @return model do renderowania
+     * @throws IllegalArgumentException gdy pozycja faktury jest nieprawidłowa
+     */
+    @NonNull
+    public static InvoiceLayout process(@NonNull Invoice invoice) {
+        List<InvoiceLine> lines = invoice.getLines();
+        List<InvoiceLayout.Row> rows = new ArrayList<>(lines.size());
+        VatAggregator vatSummary = new VatAggregator();
+
+        for (int i = 0; i < lines.size(); i++) {
+            InvoiceLine line = lines.get(i);
+            int rate;
+            long lineNet;
+            long unitPrice;
+            try {
+                if (Double.isNaN(line.getQuantity()) || Double.isInfinite(line.getQuantity())) {
+                    throw new IllegalArgumentException("Ilość musi być liczbą skończoną");
+                }
+                rate = MoneyCalculator.vatRateToBasisPoints(line.getVatRate());
+                lineNet = MoneyCalculator.fromDouble(
+                        ConstructionCalculator.calculateWorkCost(line.getQuantity(), line.getUnitPrice()));
+                unitPrice = MoneyCalculator.fromDouble(line.getUnitPrice());
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                throw new IllegalArgumentException(
+                        "Faktura " + invoice.getNumber() + ", pozycja " + (i + 1) + ": " + e.getMessage(), e);
+            }
+
+            vatSummary.add(lineNet, rate);
+            rows.add(new InvoiceLayout.Row(i + 1, line.getName(), line.getQuantity() + " " + line.getUnit(),
+                    formatAmount(unitPrice), lineNet, formatRate(rate)));
+        }
+
+        List<InvoiceLayout.VatRow> vatRows = new ArrayList<>(vatSummary.getRateCount());
+        for (int i = 0; i < vatSummary.getRateCount(); i++) {
+            vatRows.add(new InvoiceLayout.VatRow(vatSummary.getRateBasisPoints(i), formatRate(vatSummary.getRateBasisPoints(i)),
+                    vatSummary.getNetMinor(i), vatSummary.getVatMinor(i)));
+        }
+        return new InvoiceLayout(invoice.getNumber(), Collections.unmodifiableList(rows),
+                Collections.unmodifiableList(vatRows), vatSummary.getNetTotalMinor(), vatSummary.getVatTotalMinor());
+    }
+
+    /**
+     * Formatuje kwotę w groszach z dwoma miejscami po przecinku - jak toStringAsFixed(2) w PdfService
+     */
+    @NonNull
+    static String formatAmount(long minor) {
+        StringBuilder sb = new StringBuilder(20);
+        if (minor < 0) {
+            sb.append('-');
+        }
+        long abs = Math.abs(minor);
+        long fraction = abs % MoneyCalculator.MINOR_PER_UNIT;
+        sb.append(abs / MoneyCalculator.MINOR_PER_UNIT).append('.');
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        return sb.append(fraction).append(" PLN").toString();
+    }
+
+    /**
+     * Formatuje stawkę z punktów bazowych: 2300 -> "23%", 850 -> "8.5%"
+     */
+    @NonNull
+    static String formatRate(int basisPoints) {
+        int whole = basisPoints / MoneyCalculator.BASIS_POINTS_PER_PERCENT;
+        int fraction = basisPoints % MoneyCalculator.BASIS_POINTS_PER_PERCENT;
+        if (fraction == 0) {
+            return whole + "%";
+        }
+        String digits = fraction < 10 ? "0" + fraction : String.valueOf(fraction);
+        if (digits.endsWith("0")) {
+            digits = digits.substring(0, 1);
+        }
+        return whole + "." + digits + "%";
+    }
+
+    private static void processRange(Invoice[] invoices, InvoiceLayout[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            results[i] = process(invoices[i]);
+        }
+    }
+
+    private static final class InvoiceBatch extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Invoice[] invoices;
+        private final InvoiceLayout[] results;
+        private final int from;
+        private final int to;
+
+        InvoiceBatch(Invoice[] invoices, InvoiceLayout[] results, int from, int to) {
+            this.invoices = invoices;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= INVOICES_PER_TASK) {
+                processRange(invoices, results, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new InvoiceBatch(invoices, results, from, mid), new InvoiceBatch(invoices, results, mid, to));
+        }
+    }
+}
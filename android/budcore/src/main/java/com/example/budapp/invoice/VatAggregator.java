@@ -0,0 +1,162 @@
+package com.example.budapp.invoice;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.MoneyCalculator;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Zestawienie VAT według stawek. Pozycje sumowane są netto w groszach osobno dla każdej stawki,
+ * a VAT liczony i zaokrąglany dopiero od sumy stawki - zgodnie z zasadą sumowania przed
+ * zaokrągleniem. Stawki trzymane są w tablicach prymitywów, posortowane malejąco.
+ * <p>
+ * Instancja nie jest bezpieczna wątkowo: każdy wątek zbiera własne zestawienie,
+ * a częściowe wyniki łączy się metodą {@link #merge(VatAggregator)}.
+ */
+public final class VatAggregator {
+
+    private final RoundingMode mode;
+    private int[] rates = new int[4];
+    private long[] nets = new long[4];
+    private int count;
+    private long netTotalMinor;
+
+    /** Zestawienie z zaokrąglaniem VAT HALF_UP (jak w kalkulatorze) */
+    public VatAggregator() {
+        this(RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @param mode tryb zaokrąglania VAT każdej stawki
+     */
+    public VatAggregator(@NonNull RoundingMode mode) {
+        if (mode != RoundingMode.HALF_UP && mode != RoundingMode.HALF_EVEN) {
+            throw new IllegalArgumentException("Nieobsługiwany tryb zaokrąglania: " + mode);
+        }
+        this.mode = mode;
+    }
+
+    /**
+     * Dodaje pozycję
+     * @param netMinor kwota netto w groszach
+     * @param rateBasisPoints stawka VAT w punktach bazowych (2300 dla 23%)
+     * @return to samo zestawienie
+     */
+    @NonNull
+    public VatAggregator add(long netMinor, int rateBasisPoints) {
+        if (netMinor < 0) {
+            throw new IllegalArgumentException("Kwota musi być nieujemna");
+        }
+        if (rateBasisPoints < 0 || rateBasisPoints > 100 * MoneyCalculator.BASIS_POINTS_PER_PERCENT) {
+            throw new IllegalArgumentException("Stawka VAT musi być między 0 a 100");
+        }
+        int slot = slotFor(rateBasisPoints);
+        nets[slot] = Math.addExact(nets[slot], netMinor);
+        netTotalMinor = Math.addExact(netTotalMinor, netMinor);
+        return this;
+    }
+
+    /**
+     * Dodaje pozycję z API double
+     * @param net kwota netto w złotych
+     * @param vatRate stawka VAT w procentach
+     * @return to samo zestawienie
+     */
+    @NonNull
+    public VatAggregator add(double net, double vatRate) {
+        return add(MoneyCalculator.fromDouble(net), MoneyCalculator.vatRateToBasisPoints(vatRate));
+    }
+
+    /**
+     * Dołącza częściowe zestawienie (np. z innego wątku)
+     * @param other zestawienie do dołączenia - nie jest modyfikowane
+     * @return to samo zestawienie
+     */
+    @NonNull
+    public VatAggregator merge(@NonNull VatAggregator other) {
+        for (int i = 0; i < other.count; i++) {
+            int slot = slotFor(other.rates[i]);
+            nets[slot] = Math.addExact(nets[slot], other.nets[i]);
+        }
+        netTotalMinor = Math.addExact(netTotalMinor, other.netTotalMinor);
+        return this;
+    }
+
+    /** Usuwa wszystkie pozycje */
+    public void clear() {
+        count = 0;
+        netTotalMinor = 0;
+    }
+
+    /** Liczba różnych stawek */
+    public int getRateCount() {
+        return count;
+    }
+
+    /** Stawka i w punktach bazowych (od najwyższej) */
+    public int getRateBasisPoints(int i) {
+        checkIndex(i);
+        return rates[i];
+    }
+
+    /** Suma netto stawki i w groszach */
+    public long getNetMinor(int i) {
+        checkIndex(i);
+        return nets[i];
+    }
+
+    /** VAT stawki i w groszach, zaokrąglony od sumy netto stawki */
+    public long getVatMinor(int i) {
+        checkIndex(i);
+        return MoneyCalculator.calculateVAT(nets[i], rates[i], mode);
+    }
+
+    /** Brutto stawki i w groszach */
+    public long getGrossMinor(int i) {
+        return Math.addExact(getNetMinor(i), getVatMinor(i));
+    }
+
+    public long getNetTotalMinor() {
+        return netTotalMinor;
+    }
+
+    /** Suma VAT wszystkich stawek */
+    public long getVatTotalMinor() {
+        long vat = 0;
+        for (int i = 0; i < count; i++) {
+            vat = Math.addExact(vat, MoneyCalculator.calculateVAT(nets[i], rates[i], mode));
+        }
+        return vat;
+    }
+
+    public long getGrossTotalMinor() {
+        return Math.addExact(netTotalMinor, getVatTotalMinor());
+    }
+
+    // Stawek jest zwykle kilka - wyszukiwanie liniowe z wstawianiem w porządku malejącym
+    private int slotFor(int rate) {
+        int slot = 0;
+        while (slot < count && rates[slot] > rate) {
+            slot++;
+        }
+        if (slot < count && rates[slot] == rate) {
+            return slot;
+        }
+        if (count == rates.length) {
+            rates = Arrays.copyOf(rates, count * 2);
+            nets = Arrays.copyOf(nets, count * 2);
+        }
+        System.arraycopy(rates, slot, rates, slot + 1, count - slot);
+        System.arraycopy(nets, slot, nets, slot + 1, count - slot);
+        rates[slot] = rate;
+        nets[slot] = 0;
+        count++;
+        return slot;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Indeks stawki poza zakresem: " + i);
+        }
+    }
+}
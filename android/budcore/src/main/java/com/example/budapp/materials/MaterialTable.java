@@ -0,0 +1,236 @@
+package com.example.budapp.materials;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Niezmienna tabela materiałów w układzie kolumnowym: zużycie na jednostkę wymiaru pomieszczenia,
+ * jednostka zużycia, gęstość, wielkość opakowania i domyślny zapas. Materiał to indeks
+ * w równoległych tablicach; wyszukiwanie po identyfikatorze w O(1). Bezpieczna wątkowo.
+ * <p>
+ * {@link #defaults()} zwraca tabelę wbudowaną, {@link MaterialTableLoader} wczytuje własną.
+ */
+public final class MaterialTable {
+
+    private static final MaterialTable DEFAULTS = builder()
+            .add("farba-scienna", "Farba lateksowa", MeasureBasis.WALL_AREA,
+                    0.2, MaterialUnit.LITER, 0, 10, MaterialUnit.LITER, 10)
+            .add("farba-sufitowa", "Farba sufitowa", MeasureBasis.CEILING_AREA,
+                    0.2, MaterialUnit.LITER, 0, 10, MaterialUnit.LITER, 10)
+            .add("grunt", "Grunt głęboko penetrujący", MeasureBasis.WALL_AREA,
+                    0.1, MaterialUnit.LITER, 0, 5, MaterialUnit.LITER, 5)
+            .add("gladz", "Gładź gipsowa", MeasureBasis.WALL_AREA,
+                    1.0, MaterialUnit.KILOGRAM, 0, 20, MaterialUnit.KILOGRAM, 10)
+            .add("tynk-gipsowy", "Tynk gipsowy 10 mm", MeasureBasis.WALL_AREA,
+                    0.01, MaterialUnit.CUBIC_METER, 1000, 30, MaterialUnit.KILOGRAM, 5)
+            .add("klej-plytki", "Klej do płytek", MeasureBasis.FLOOR_AREA,
+                    5.0, MaterialUnit.KILOGRAM, 0, 25, MaterialUnit.KILOGRAM, 10)
+            .add("plytki", "Płytki podłogowe", MeasureBasis.FLOOR_AREA,
+                    1.0, MaterialUnit.SQUARE_METER, 0, 1.44, MaterialUnit.SQUARE_METER, 10)
+            .add("panele", "Panele podłogowe", MeasureBasis.FLOOR_AREA,
+                    1.0, MaterialUnit.SQUARE_METER, 0, 2.22, MaterialUnit.SQUARE_METER, 5)
+            .add("wylewka", "Wylewka samopoziomująca 5 mm", MeasureBasis.FLOOR_AREA,
+                    0.005, MaterialUnit.CUBIC_METER, 1700, 25, MaterialUnit.KILOGRAM, 5)
+            .add("jastrych", "Jastrych cementowy 50 mm", MeasureBasis.FLOOR_AREA,
+                    0.05, MaterialUnit.CUBIC_METER, 2000, 25, MaterialUnit.KILOGRAM, 5)
+            .add("listwa", "Listwa przypodłogowa", MeasureBasis.PERIMETER,
+                    1.0, MaterialUnit.METER, 0, 2.5, MaterialUnit.METER, 10)
+            .add("piasek", "Piasek zasypowy 100 mm", MeasureBasis.FLOOR_AREA,
+                    0.1, MaterialUnit.CUBIC_METER, 1600, 1000, MaterialUnit.KILOGRAM, 0)
+            .build();
+
+    private final String[] ids;
+    private final String[] names;
+    private final MeasureBasis[] bases;
+    private final double[] usages;
+    private final MaterialUnit[] usageUnits;
+    private final double[] densities;
+    private final double[] packageSizes;
+    private final MaterialUnit[] packageUnits;
+    private final double[] wastePercentages;
+    private final Map<String, Integer> index;
+
+    private MaterialTable(Builder builder) {
+        int size = builder.size;
+        ids = Arrays.copyOf(builder.ids, size);
+        names = Arrays.copyOf(builder.names, size);
+        bases = Arrays.copyOf(builder.bases, size);
+        usages = Arrays.copyOf(builder.usages, size);
+        usageUnits = Arrays.copyOf(builder.usageUnits, size);
+        densities = Arrays.copyOf(builder.densities, size);
+        packageSizes = Arrays.copyOf(builder.packageSizes, size);
+        packageUnits = Arrays.copyOf(builder.packageUnits, size);
+        wastePercentages = Arrays.copyOf(builder.wastePercentages, size);
+        index = new HashMap<>(builder.index);
+    }
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** Wbudowana tabela typowych materiałów wykończeniowych */
+    @NonNull
+    public static MaterialTable defaults() {
+        return DEFAULTS;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Zwraca indeks materiału
+     * @param id identyfikator materiału
+     * @return indeks lub -1 gdy brak
+     */
+    public int indexOf(@NonNull String id) {
+        Integer i = index.get(id);
+        return i == null ? -1 : i;
+    }
+
+    /**
+     * Zwraca indeks materiału
+     * @throws IllegalArgumentException gdy materiału nie ma w tabeli
+     */
+    public int require(@NonNull String id) {
+        int i = indexOf(id);
+        if (i < 0) {
+            throw new IllegalArgumentException("Nieznany materiał: " + id);
+        }
+        return i;
+    }
+
+    @NonNull
+    public String getId(int i) {
+        return ids[i];
+    }
+
+    @NonNull
+    public String getName(int i) {
+        return names[i];
+    }
+
+    @NonNull
+    public MeasureBasis getBasis(int i) {
+        return bases[i];
+    }
+
+    /** Zużycie w jednostce zużycia na jednostkę wymiaru (m², m lub m³) */
+    public double getUsage(int i) {
+        return usages[i];
+    }
+
+    @NonNull
+    public MaterialUnit getUsageUnit(int i) {
+        return usageUnits[i];
+    }
+
+    /** Gęstość w kg/m³ (0 gdy nie dotyczy) */
+    public double getDensity(int i) {
+        return densities[i];
+    }
+
+    /** Wielkość opakowania w jednostce opakowania */
+    public double getPackageSize(int i) {
+        return packageSizes[i];
+    }
+
+    @NonNull
+    public MaterialUnit getPackageUnit(int i) {
+        return packageUnits[i];
+    }
+
+    /** Domyślny procent zapasu (0-100) */
+    public double getWastePercentage(int i) {
+        return wastePercentages[i];
+    }
+
+    public static final class Builder {
+        private String[] ids = new String[16];
+        private String[] names = new String[16];
+        private MeasureBasis[] bases = new MeasureBasis[16];
+        private double[] usages = new double[16];
+        private MaterialUnit[] usageUnits = new MaterialUnit[16];
+        private double[] densities = new double[16];
+        private double[] packageSizes = new double[16];
+        private MaterialUnit[] packageUnits = new MaterialUnit[16];
+        private double[] wastePercentages = new double[16];
+        private final Map<String, Integer> index = new HashMap<>();
+        private int size;
+
+        /**
+         * Dodaje materiał
+         * @param id unikalny identyfikator
+         * @param name nazwa
+         * @param basis wymiar pomieszczenia, od którego zależy zużycie
+         * @param usage zużycie na jednostkę wymiaru
+         * @param usageUnit jednostka zużycia
+         * @param density gęstość w kg/m³ (0 gdy nie dotyczy)
+         * @param packageSize wielkość opakowania
+         * @param packageUnit jednostka opakowania
+         * @param wastePercentage domyślny procent zapasu (0-100)
+         * @return ten budowniczy
+         * @throws IllegalArgumentException dla pustego lub powtórzonego id, niedodatnich wartości
+         *         lub jednostek, których nie da się przeliczyć
+         */
+        @NonNull
+        public Builder add(@NonNull String id, @NonNull String name, @NonNull MeasureBasis basis, double usage,
+                           @NonNull MaterialUnit usageUnit, double density, double packageSize,
+                           @NonNull MaterialUnit packageUnit, double wastePercentage) {
+            if (id.isEmpty()) {
+                throw new IllegalArgumentException("Identyfikator materiału nie może być pusty");
+            }
+            if (index.containsKey(id)) {
+                throw new IllegalArgumentException("Powtórzony materiał: " + id);
+            }
+            if (!(usage > 0) || Double.isInfinite(usage)) {
+                throw new IllegalArgumentException("Zużycie musi być dodatnie: " + id);
+            }
+            if (!(packageSize > 0) || Double.isInfinite(packageSize)) {
+                throw new IllegalArgumentException("Wielkość opakowania musi być dodatnia: " + id);
+            }
+            if (!(density >= 0) || Double.isInfinite(density)) {
+                throw new IllegalArgumentException("Gęstość musi być nieujemna: " + id);
+            }
+            if (!(wastePercentage >= 0 && wastePercentage <= 100)) {
+                throw new IllegalArgumentException("Procent odpadu musi być między 0 a 100: " + id);
+            }
+            if (!usageUnit.canConvertTo(packageUnit, density)) {
+                throw new IllegalArgumentException("Nie można przeliczyć " + usageUnit.getSymbol()
+                        + " na " + packageUnit.getSymbol() + ": " + id);
+            }
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                names = Arrays.copyOf(names, capacity);
+                bases = Arrays.copyOf(bases, capacity);
+                usages = Arrays.copyOf(usages, capacity);
+                usageUnits = Arrays.copyOf(usageUnits, capacity);
+                densities = Arrays.copyOf(densities, capacity);
+                packageSizes = Arrays.copyOf(packageSizes, capacity);
+                packageUnits = Arrays.copyOf(packageUnits, capacity);
+                wastePercentages = Arrays.copyOf(wastePercentages, capacity);
+            }
+            ids[size] = id;
+            names[size] = name;
+            bases[size] = basis;
+            usages[size] = usage;
+            usageUnits[size] = usageUnit;
+            densities[size] = density;
+            packageSizes[size] = packageSize;
+            packageUnits[size] = packageUnit;
+            wastePercentages[size] = wastePercentage;
+            index.put(id, size++);
+            return this;
+        }
+
+        /** Buduje niezmienną tabelę */
+        @NonNull
+        public MaterialTable build() {
+            return new MaterialTable(this);
+        }
+    }
+}
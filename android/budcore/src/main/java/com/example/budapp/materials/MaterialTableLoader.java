@@ -0,0 +1,95 @@
+package com.example.budapp.materials;
+
+import androidx.annotation.NonNull;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wczytuje tabelę materiałów z pliku tekstowego UTF-8.
+ * <p>
+ * Wiersz: {@code id;nazwa;wymiar;zużycie;jednostka;gęstość;opakowanie;jednostka opakowania;zapas},
+ * gdzie wymiar to klucz {@link MeasureBasis} (np. "walls"), a jednostki to symbole {@link MaterialUnit}
+ * (np. "kg"). Liczby mogą mieć kropkę lub przecinek dziesiętny, pusta gęstość oznacza 0.
+ * Nazwa może zawierać średnik. Pierwszy wiersz zaczynający się od "id;" jest traktowany jako nagłówek,
+ * puste wiersze są pomijane.
+ */
+public final class MaterialTableLoader {
+
+    private static final char SEPARATOR = ';';
+    private static final int TRAILING_COLUMNS = 7;
+    private static final String COLUMNS_MESSAGE =
+            "Oczekiwano 9 kolumn: id;nazwa;wymiar;zużycie;jednostka;gęstość;opakowanie;jednostka;zapas";
+
+    private MaterialTableLoader() {
+    }
+
+    /**
+     * Wczytuje tabelę z pliku
+     * @throws IllegalArgumentException z numerem wiersza dla błędnych danych
+     */
+    @NonNull
+    public static MaterialTable load(@NonNull File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            return load(in);
+        }
+    }
+
+    /**
+     * Wczytuje tabelę ze strumienia (strumień nie jest zamykany)
+     * @throws IllegalArgumentException z numerem wiersza dla błędnych danych
+     */
+    @NonNull
+    public static MaterialTable load(@NonNull InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        MaterialTable.Builder builder = MaterialTable.builder();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || (lineNumber == 1 && line.regionMatches(true, 0, "id;", 0, 3))) {
+                continue;
+            }
+            try {
+                parseLine(line, builder);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Wiersz " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void parseLine(String line, MaterialTable.Builder builder) {
+        // Stałe kolumny od końca - nazwa to wszystko między id a nimi
+        String[] tail = new String[TRAILING_COLUMNS];
+        int end = line.length();
+        for (int c = TRAILING_COLUMNS - 1; c >= 0; c--) {
+            int separator = line.lastIndexOf(SEPARATOR, end - 1);
+            if (separator < 0) {
+                throw new IllegalArgumentException(COLUMNS_MESSAGE);
+            }
+            tail[c] = line.substring(separator + 1, end).trim();
+            end = separator;
+        }
+        int first = line.indexOf(SEPARATOR);
+        if (first >= end) {
+            throw new IllegalArgumentException(COLUMNS_MESSAGE);
+        }
+        builder.add(line.substring(0, first).trim(), line.substring(first + 1, end).trim(),
+                MeasureBasis.fromKey(tail[0]), number(tail[1], "zużycie"), MaterialUnit.fromSymbol(tail[2]),
+                tail[3].isEmpty() ? 0 : number(tail[3], "gęstość"), number(tail[4], "opakowanie"),
+                MaterialUnit.fromSymbol(tail[5]), number(tail[6], "zapas"));
+    }
+
+    private static double number(String value, String column) {
+        try {
+            return Double.parseDouble(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Nieprawidłowa wartość (" + column + "): " + value);
+        }
+    }
+}
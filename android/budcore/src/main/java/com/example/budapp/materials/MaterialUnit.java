@@ -0,0 +1,85 @@
+package com.example.budapp.materials;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Jednostki materiałów. Jednostki tej samej wielkości przeliczane są współczynnikiem,
+ * a masa i objętość - przez gęstość w kg/m³ (jak w volumemasscalc.dart).
+ */
+public enum MaterialUnit {
+    KILOGRAM("kg", Dimension.MASS, 1.0),
+    LITER("l", Dimension.VOLUME, 0.001),
+    CUBIC_METER("m3", Dimension.VOLUME, 1.0),
+    SQUARE_METER("m2", Dimension.AREA, 1.0),
+    METER("m", Dimension.LENGTH, 1.0),
+    PIECE("szt", Dimension.COUNT, 1.0);
+
+    enum Dimension {
+        MASS, VOLUME, AREA, LENGTH, COUNT
+    }
+
+    private final String symbol;
+    private final Dimension dimension;
+    // Współczynnik do jednostki podstawowej wielkości (kg, m³, m², m, szt)
+    private final double factor;
+
+    MaterialUnit(String symbol, Dimension dimension, double factor) {
+        this.symbol = symbol;
+        this.dimension = dimension;
+        this.factor = factor;
+    }
+
+    /** Symbol używany w tabelach materiałów, np. "kg" */
+    @NonNull
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Sprawdza, czy ilość da się przeliczyć na wskazaną jednostkę
+     * @param target jednostka docelowa
+     * @param density gęstość w kg/m³ (0 gdy nieznana)
+     */
+    public boolean canConvertTo(@NonNull MaterialUnit target, double density) {
+        return dimension == target.dimension || (isMassOrVolume() && target.isMassOrVolume() && density > 0);
+    }
+
+    /**
+     * Przelicza ilość na inną jednostkę
+     * @param value ilość w tej jednostce
+     * @param target jednostka docelowa
+     * @param density gęstość w kg/m³ (potrzebna tylko między masą a objętością)
+     * @return ilość w jednostce docelowej
+     * @throws IllegalArgumentException gdy jednostek nie da się przeliczyć
+     */
+    public double convert(double value, @NonNull MaterialUnit target, double density) {
+        if (!canConvertTo(target, density)) {
+            throw new IllegalArgumentException("Nie można przeliczyć " + symbol + " na " + target.symbol);
+        }
+        double base = value * factor;
+        if (dimension == Dimension.VOLUME && target.dimension == Dimension.MASS) {
+            base *= density;
+        } else if (dimension == Dimension.MASS && target.dimension == Dimension.VOLUME) {
+            base /= density;
+        }
+        return base / target.factor;
+    }
+
+    /**
+     * Zwraca jednostkę o podanym symbolu
+     * @throws IllegalArgumentException dla nieznanego symbolu
+     */
+    @NonNull
+    public static MaterialUnit fromSymbol(@NonNull String symbol) {
+        for (MaterialUnit unit : values()) {
+            if (unit.symbol.equalsIgnoreCase(symbol)) {
+                return unit;
+            }
+        }
+        throw new IllegalArgumentException("Nieznana jednostka: " + symbol);
+    }
+
+    private boolean isMassOrVolume() {
+        return dimension == Dimension.MASS || dimension == Dimension.VOLUME;
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.budapp.materials;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.geometry.PlanGeometry;
+import com.example.budapp.utils.ConstructionCalculator;
+
+/**
+ * Zamienia wymiary pomieszczeń na listę zakupów: zużycie z {@link MaterialTable}, zapas,
+ * przeliczenie jednostek (objętość, masa przez gęstość) i zaokrąglenie w górę do pełnych opakowań.
+ */
+public final class MaterialsEngine {
+
+    // Tolerancja błędów zmiennoprzecinkowych przy zaokrąglaniu do opakowań (10.0000000001 to 10 opakowań)
+    private static final double PACKAGE_EPSILON = 1e-9;
+
+    private MaterialsEngine() {
+    }
+
+    /**
+     * Oblicza potrzebną ilość materiału - wzór jak {@link ConstructionCalculator#calculateMaterialQuantity},
+     * ale bez zaokrąglenia do 0.01, bo część zużyć wyrażona jest w m³
+     * @param table tabela materiałów
+     * @param material indeks materiału
+     * @param measure wymiar pomieszczenia (m², m lub m³ zależnie od {@link MeasureBasis})
+     * @return ilość z zapasem w jednostce zużycia
+     */
+    public static double requiredQuantity(@NonNull MaterialTable table, int material, double measure) {
+        if (measure < 0) {
+            throw new IllegalArgumentException("Wymiar musi być nieujemny");
+        }
+        return measure * table.getUsage(material) * (1 + table.getWastePercentage(material) / 100.0);
+    }
+
+    /**
+     * Przelicza ilość z jednostki zużycia na jednostkę opakowania
+     */
+    public static double toPackageUnit(@NonNull MaterialTable table, int material, double quantity) {
+        return table.getUsageUnit(material)
+                .convert(quantity, table.getPackageUnit(material), table.getDensity(material));
+    }
+
+    /**
+     * Oblicza liczbę pełnych opakowań
+     * @param table tabela materiałów
+     * @param material indeks materiału
+     * @param packageQuantity ilość w jednostce opakowania
+     * @return liczba opakowań (zaokrąglona w górę)
+     */
+    public static long packageCount(@NonNull MaterialTable table, int material, double packageQuantity) {
+        return (long) Math.ceil(packageQuantity / table.getPackageSize(material) - PACKAGE_EPSILON);
+    }
+
+    /**
+     * Oblicza masę materiału o podanej objętości (jak volumemasscalc.dart, z gęstością z tabeli)
+     * @param volume objętość w m³
+     * @return masa w kg
+     */
+    public static double massOf(@NonNull MaterialTable table, int material, double volume) {
+        return MaterialUnit.CUBIC_METER.convert(volume, MaterialUnit.KILOGRAM, table.getDensity(material));
+    }
+
+    /**
+     * Tworzy listę zakupów dla jednego pomieszczenia
+     * @param table tabela materiałów
+     * @param geometry geometria rzutu
+     * @param room indeks pomieszczenia
+     * @param materialIds identyfikatory materiałów
+     * @throws IllegalArgumentException dla nieznanego materiału
+     */
+    @NonNull
+    public static ShoppingList forRoom(@NonNull MaterialTable table, @NonNull PlanGeometry geometry, int room,
+                                       @NonNull String... materialIds) {
+        return build(table, geometry, room, room + 1, materialIds);
+    }
+
+    /**
+     * Tworzy listę zakupów dla wszystkich pomieszczeń rzutu. Ilości są sumowane przed
+     * zaokrągleniem do opakowań, więc resztki z różnych pomieszczeń się wykorzystują.
+     * @throws IllegalArgumentException dla nieznanego materiału
+     */
+    @NonNull
+    public static ShoppingList forPlan(@NonNull MaterialTable table, @NonNull PlanGeometry geometry,
+                                       @NonNull String... materialIds) {
+        return build(table, geometry, 0, geometry.getRoomCount(), materialIds);
+    }
+
+    private static ShoppingList build(MaterialTable table, PlanGeometry geometry, int fromRoom, int toRoom,
+                                      String[] materialIds) {
+        int[] materials = new int[materialIds.length];
+        double[] required = new double[materialIds.length];
+        double[] packageQuantities = new double[materialIds.length];
+        long[] packages = new long[materialIds.length];
+        for (int i = 0; i < materialIds.length; i++) {
+            int material = table.require(materialIds[i]);
+            MeasureBasis basis = table.getBasis(material);
+            double measure = 0;
+            for (int room = fromRoom; room < toRoom; room++) {
+                measure += basis.measure(geometry, room);
+            }
+            materials[i] = material;
+            required[i] = requiredQuantity(table, material, measure);
+            packageQuantities[i] = toPackageUnit(table, material, required[i]);
+            packages[i] = packageCount(table, material, packageQuantities[i]);
+        }
+        return new ShoppingList(table, materials, required, packageQuantities, packages);
+    }
+}
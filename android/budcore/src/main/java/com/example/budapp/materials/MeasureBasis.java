@@ -0,0 +1,66 @@
+package com.example.budapp.materials;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.geometry.PlanGeometry;
+
+/**
+ * Wymiar pomieszczenia, od którego zależy zużycie materiału
+ */
+public enum MeasureBasis {
+    /** Zużycie na m² podłogi */
+    FLOOR_AREA("floor"),
+    /** Zużycie na m² ścian po odliczeniu otworów */
+    WALL_AREA("walls"),
+    /** Zużycie na m² sufitu */
+    CEILING_AREA("ceiling"),
+    /** Zużycie na metr obwodu */
+    PERIMETER("perimeter"),
+    /** Zużycie na m³ kubatury */
+    VOLUME("volume");
+
+    private final String key;
+
+    MeasureBasis(String key) {
+        this.key = key;
+    }
+
+    /** Klucz używany w plikach tabel materiałów */
+    @NonNull
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Zwraca wymiar pomieszczenia z wyników geometrii
+     * @param geometry geometria rzutu
+     * @param room indeks pomieszczenia
+     */
+    public double measure(@NonNull PlanGeometry geometry, int room) {
+        switch (this) {
+            case FLOOR_AREA:
+                return geometry.getFloorArea(room);
+            case WALL_AREA:
+                return geometry.getNetWallArea(room);
+            case CEILING_AREA:
+                return geometry.getCeilingArea(room);
+            case PERIMETER:
+                return geometry.getPerimeter(room);
+            default:
+                return geometry.getVolume(room);
+        }
+    }
+
+    /**
+     * Zwraca wymiar o podanym kluczu
+     * @throws IllegalArgumentException dla nieznanego klucza
+     */
+    @NonNull
+    public static MeasureBasis fromKey(@NonNull String key) {
+        for (MeasureBasis basis : values()) {
+            if (basis.key.equalsIgnoreCase(key)) {
+                return basis;
+            }
+        }
+        throw new IllegalArgumentException("Nieznany wymiar: " + key);
+    }
+}
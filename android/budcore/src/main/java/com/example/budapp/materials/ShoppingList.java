@@ -0,0 +1,74 @@
+package com.example.budapp.materials;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Lista zakupów z {@link MaterialsEngine}: dla każdego materiału potrzebna ilość (z zapasem),
+ * ta sama ilość w jednostce opakowania i liczba pełnych opakowań.
+ */
+public final class ShoppingList {
+
+    private final MaterialTable table;
+    private final int[] materials;
+    private final double[] requiredQuantities;
+    private final double[] packageQuantities;
+    private final long[] packageCounts;
+
+    ShoppingList(MaterialTable table, int[] materials, double[] requiredQuantities,
+                 double[] packageQuantities, long[] packageCounts) {
+        this.table = table;
+        this.materials = materials;
+        this.requiredQuantities = requiredQuantities;
+        this.packageQuantities = packageQuantities;
+        this.packageCounts = packageCounts;
+    }
+
+    public int size() {
+        return materials.length;
+    }
+
+    /** Indeks materiału w tabeli */
+    public int getMaterial(int i) {
+        return materials[i];
+    }
+
+    @NonNull
+    public String getMaterialId(int i) {
+        return table.getId(materials[i]);
+    }
+
+    @NonNull
+    public String getName(int i) {
+        return table.getName(materials[i]);
+    }
+
+    /** Potrzebna ilość z zapasem w jednostce zużycia */
+    public double getRequiredQuantity(int i) {
+        return requiredQuantities[i];
+    }
+
+    @NonNull
+    public MaterialUnit getUsageUnit(int i) {
+        return table.getUsageUnit(materials[i]);
+    }
+
+    /** Potrzebna ilość przeliczona na jednostkę opakowania */
+    public double getPackageQuantity(int i) {
+        return packageQuantities[i];
+    }
+
+    @NonNull
+    public MaterialUnit getPackageUnit(int i) {
+        return table.getPackageUnit(materials[i]);
+    }
+
+    /** Liczba pełnych opakowań do kupienia */
+    public long getPackageCount(int i) {
+        return packageCounts[i];
+    }
+
+    /** Kupowana ilość: pełne opakowania w jednostce opakowania */
+    public double getPurchasedQuantity(int i) {
+        return packageCounts[i] * table.getPackageSize(materials[i]);
+    }
+}
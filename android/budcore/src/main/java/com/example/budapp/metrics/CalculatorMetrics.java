@@ -0,0 +1,127 @@
+package com.example.budapp.metrics;
+
+import androidx.annotation.NonNull;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Liczniki wywołań, odrzuconych argumentów i histogramy czasów metod kalkulatora.
+ * <p>
+ * Domyślnie wyłączone. Gdy są wyłączone, instrumentacja kosztuje jeden odczyt pola
+ * {@code volatile} na wywołanie - bez pomiaru czasu i bez zapisów. Bezpieczne wątkowo.
+ */
+public final class CalculatorMetrics {
+
+    /** Mierzone operacje */
+    public enum Operation {
+        AREA("area"),
+        WORK_COST("workCost"),
+        MATERIAL("material"),
+        VOLUME("volume"),
+        VAT("vat"),
+        GROSS("gross"),
+        FORMAT("format"),
+        EMAIL_VALIDATION("emailValidation"),
+        /** wszystkie metody wsadowe - jeden pomiar na partię */
+        BATCH("batch");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        /** Nazwa operacji w eksporcie */
+        @NonNull
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private static final long DISABLED = Long.MIN_VALUE;
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final LongAdder[] FAILURES = new LongAdder[OPERATIONS.length];
+    private static final LatencyHistogram[] LATENCIES = new LatencyHistogram[OPERATIONS.length];
+
+    static {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            FAILURES[i] = new LongAdder();
+            LATENCIES[i] = new LatencyHistogram();
+        }
+    }
+
+    private static volatile boolean enabled;
+
+    private CalculatorMetrics() {
+    }
+
+    /** Włącza lub wyłącza zbieranie metryk */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Rozpoczyna pomiar
+     * @return znacznik czasu do przekazania do {@link #stop(Operation, long)}
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * Kończy pomiar udanego wywołania
+     * @param start wynik {@link #start()}
+     */
+    public static void stop(@NonNull Operation operation, long start) {
+        if (start != DISABLED) {
+            LATENCIES[operation.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Zlicza odrzucone argumenty i tworzy wyjątek do rzucenia
+     * @param message komunikat wyjątku
+     * @return wyjątek walidacji
+     */
+    @NonNull
+    public static IllegalArgumentException rejected(@NonNull Operation operation, @NonNull String message) {
+        if (enabled) {
+            FAILURES[operation.ordinal()].increment();
+        }
+        return new IllegalArgumentException(message);
+    }
+
+    /**
+     * Zlicza wiersze odrzucone przez walidację bez wyjątków
+     * @param rows liczba odrzuconych wierszy
+     */
+    public static void rejectedRows(@NonNull Operation operation, int rows) {
+        if (enabled && rows > 0) {
+            FAILURES[operation.ordinal()].add(rows);
+        }
+    }
+
+    /** Zwraca bieżący stan wszystkich metryk */
+    @NonNull
+    public static MetricsSnapshot snapshot() {
+        MetricsSnapshot.OperationStats[] stats = new MetricsSnapshot.OperationStats[OPERATIONS.length];
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            LatencyHistogram histogram = LATENCIES[i];
+            stats[i] = new MetricsSnapshot.OperationStats(OPERATIONS[i], histogram.getCount(), FAILURES[i].sum(),
+                    histogram.getTotalNanos(), histogram.valueAtPercentile(50), histogram.valueAtPercentile(90),
+                    histogram.valueAtPercentile(99), histogram.getMaxNanos());
+        }
+        return new MetricsSnapshot(stats);
+    }
+
+    /** Zeruje wszystkie metryki */
+    public static void reset() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            FAILURES[i].reset();
+            LATENCIES[i].reset();
+        }
+    }
+}
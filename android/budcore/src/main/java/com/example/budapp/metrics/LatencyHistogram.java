@@ -0,0 +1,112 @@
+package com.example.budapp.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram czasów w nanosekundach o kubełkach logarytmiczno-liniowych (jak HdrHistogram).
+ * <p>
+ * Każda potęga dwójki dzielona jest na 16 kubełków, więc błąd względny odczytanego percentyla
+ * nie przekracza ~6%. Zapis to jedna operacja atomowa na tablicy o stałym rozmiarze - bez alokacji.
+ * Wartości powyżej {@link #MAX_TRACKABLE_NANOS} trafiają do ostatniego kubełka.
+ */
+public final class LatencyHistogram {
+
+    /** Największa rozróżnialna wartość (~18 minut) */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 40) - 1;
+
+    private static final int SUB_BITS = 5;
+    private static final int LINEAR = 1 << SUB_BITS;
+    private static final int HALF = LINEAR / 2;
+    private static final int BUCKETS = index(MAX_TRACKABLE_NANOS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Zapisuje pomiar
+     * @param nanos czas w nanosekundach (wartości ujemne traktowane jak 0)
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, Math.min(nanos, MAX_TRACKABLE_NANOS));
+        counts.incrementAndGet(index(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /** Liczba pomiarów */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /** Suma pomiarów w nanosekundach */
+    public long getTotalNanos() {
+        return total.sum();
+    }
+
+    /** Największy pomiar w nanosekundach */
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    /**
+     * Zwraca wartość, poniżej której (włącznie) leży podany odsetek pomiarów
+     * @param percentile percentyl 0-100
+     * @return górna granica kubełka w nanosekundach, 0 dla pustego histogramu
+     */
+    public long valueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentyl musi być między 0 a 100");
+        }
+        long[] snapshot = new long[BUCKETS];
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            recorded += snapshot[i];
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= target) {
+                return Math.min(upperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /** Zeruje histogram */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+
+    // Wartości < 32 mają własne kubełki; dalej każda potęga dwójki ma 16 kubełków
+    static int index(long value) {
+        if (value < LINEAR) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BITS - 1);
+        return LINEAR + (shift - 1) * HALF + (int) (value >>> shift) - HALF;
+    }
+
+    static long upperBound(int index) {
+        if (index < LINEAR) {
+            return index;
+        }
+        int shift = (index - LINEAR) / HALF + 1;
+        long mantissa = (index - LINEAR) % HALF + HALF;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.budapp.metrics;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Niezmienny stan metryk kalkulatora w chwili wykonania {@link CalculatorMetrics#snapshot()}.
+ */
+public final class MetricsSnapshot {
+
+    /** Metryki jednej operacji; czasy w nanosekundach */
+    public static final class OperationStats {
+        private final CalculatorMetrics.Operation operation;
+        private final long calls;
+        private final long failures;
+        private final long totalNanos;
+        private final long p50Nanos;
+        private final long p90Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+
+        OperationStats(CalculatorMetrics.Operation operation, long calls, long failures, long totalNanos,
+                       long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos) {
+            this.operation = operation;
+            this.calls = calls;
+            this.failures = failures;
+            this.totalNanos = totalNanos;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        @NonNull
+        public CalculatorMetrics.Operation getOperation() {
+            return operation;
+        }
+
+        /** Liczba udanych wywołań */
+        public long getCalls() {
+            return calls;
+        }
+
+        /** Liczba wywołań odrzuconych przez walidację */
+        public long getFailures() {
+            return failures;
+        }
+
+        public long getMeanNanos() {
+            return calls == 0 ? 0 : totalNanos / calls;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP90Nanos() {
+            return p90Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+    }
+
+    private final OperationStats[] stats;
+
+    MetricsSnapshot(OperationStats[] stats) {
+        this.stats = stats;
+    }
+
+    /** Metryki podanej operacji */
+    @NonNull
+    public OperationStats get(@NonNull CalculatorMetrics.Operation operation) {
+        return stats[operation.ordinal()];
+    }
+
+    /**
+     * Eksportuje metryki jako obiekt JSON:
+     * {@code {"area":{"calls":..,"failures":..,"meanNs":..,"p50Ns":..,"p90Ns":..,"p99Ns":..,"maxNs":..},...}}
+     */
+    @NonNull
+    public String toJson() {
+        StringBuilder json = new StringBuilder(128 * stats.length).append('{');
+        for (int i = 0; i < stats.length; i++) {
+            OperationStats s = stats[i];
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('"').append(s.operation.getKey()).append("\":{")
+                    .append("\"calls\":").append(s.calls)
+                    .append(",\"failures\":").append(s.failures)
+                    .append(",\"meanNs\":").append(s.getMeanNanos())
+                    .append(",\"p50Ns\":").append(s.p50Nanos)
+                    .append(",\"p90Ns\":").append(s.p90Nanos)
+                    .append(",\"p99Ns\":").append(s.p99Nanos)
+                    .append(",\"maxNs\":").append(s.maxNanos)
+                    .append('}');
+        }
+        return json.append('}').toString();
+    }
+}
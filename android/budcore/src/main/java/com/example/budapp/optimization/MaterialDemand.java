@@ -0,0 +1,84 @@
+package com.example.budapp.optimization;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.estimation.EstimationEngine;
+import com.example.budapp.estimation.Material;
+import com.example.budapp.estimation.RenovationPlan;
+import com.example.budapp.estimation.Room;
+import com.example.budapp.estimation.RoomEstimate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Zapotrzebowanie na materiał: potrzebna ilość i koszt według cen z planu (punkt odniesienia
+ * dla oszczędności).
+ */
+public final class MaterialDemand {
+
+    private final String materialKey;
+    private final double quantity;
+    private final long baselineCostMinor;
+
+    /**
+     * @param materialKey klucz materiału w {@link SupplyCatalog}
+     * @param quantity potrzebna ilość z zapasem
+     * @param baselineCostMinor koszt według cen z planu w groszach
+     */
+    public MaterialDemand(@NonNull String materialKey, double quantity, long baselineCostMinor) {
+        if (!(quantity >= 0) || Double.isInfinite(quantity)) {
+            throw new IllegalArgumentException("Ilość musi być nieujemna: " + materialKey);
+        }
+        this.materialKey = materialKey;
+        this.quantity = quantity;
+        this.baselineCostMinor = baselineCostMinor;
+    }
+
+    /**
+     * Zbiera zapotrzebowanie z planu - ilości z calculateMaterialQuantity (przez
+     * {@link EstimationEngine#estimateRoom}) zsumowane po nazwie materiału we wszystkich pomieszczeniach
+     * @param plan plan remontu
+     * @return zapotrzebowanie w kolejności pierwszego wystąpienia materiału
+     */
+    @NonNull
+    public static List<MaterialDemand> fromPlan(@NonNull RenovationPlan plan) {
+        Map<String, Total> totals = new LinkedHashMap<>();
+        for (Room room : plan.getRooms()) {
+            RoomEstimate estimate = EstimationEngine.estimateRoom(room);
+            for (int i = 0; i < estimate.getMaterialCount(); i++) {
+                Material material = room.getMaterials().get(i);
+                Total total = totals.get(material.getName());
+                if (total == null) {
+                    total = new Total();
+                    totals.put(material.getName(), total);
+                }
+                total.quantity += estimate.getMaterialQuantity(i);
+                total.costMinor = Math.addExact(total.costMinor, estimate.getMaterialCostMinor(i));
+            }
+        }
+        List<MaterialDemand> demands = new ArrayList<>(totals.size());
+        for (Map.Entry<String, Total> entry : totals.entrySet()) {
+            demands.add(new MaterialDemand(entry.getKey(), entry.getValue().quantity, entry.getValue().costMinor));
+        }
+        return demands;
+    }
+
+    @NonNull
+    public String getMaterialKey() {
+        return materialKey;
+    }
+
+    public double getQuantity() {
+        return quantity;
+    }
+
+    public long getBaselineCostMinor() {
+        return baselineCostMinor;
+    }
+
+    private static final class Total {
+        double quantity;
+        long costMinor;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.budapp.optimization;
+
+import java.util.Arrays;
+
+/**
+ * Najtańsze pokrycie potrzebnej ilości opakowaniami z ofert jednego dostawcy (np. puszki 10 l
+ * i 2.5 l) z uwzględnieniem minimalnej liczby opakowań. Podział i ograniczenia: oferty
+ * przeglądane są od najniższej ceny jednostkowej, a dolne ograniczenie kosztu reszty to
+ * brakująca ilość razy najniższa cena jednostkowa pozostałych ofert.
+ */
+final class PackageCover {
+
+    /** Koszt, gdy ilości nie da się pokryć */
+    static final long INFEASIBLE = Long.MAX_VALUE;
+
+    private final SupplyCatalog catalog;
+    private final int[] offers;
+    private final double[] unitPrices;
+    private final long[] counts;
+    private final long[] bestCounts;
+    private long best;
+    private double tolerance;
+
+    /**
+     * @param catalog katalog ofert
+     * @param offers oferty jednego dostawcy dla jednego materiału
+     */
+    PackageCover(SupplyCatalog catalog, int[] offers) {
+        this.catalog = catalog;
+        this.offers = offers.clone();
+        // Sortowanie po cenie jednostkowej rosnąco (ofert jest kilka - sortowanie przez wstawianie)
+        for (int i = 1; i < this.offers.length; i++) {
+            int offer = this.offers[i];
+            int j = i - 1;
+            while (j >= 0 && unitPrice(catalog, this.offers[j]) > unitPrice(catalog, offer)) {
+                this.offers[j + 1] = this.offers[j];
+                j--;
+            }
+            this.offers[j + 1] = offer;
+        }
+        unitPrices = new double[this.offers.length + 1];
+        for (int i = 0; i < this.offers.length; i++) {
+            unitPrices[i] = unitPrice(catalog, this.offers[i]);
+        }
+        unitPrices[this.offers.length] = Double.POSITIVE_INFINITY;
+        counts = new long[this.offers.length];
+        bestCounts = new long[this.offers.length];
+    }
+
+    /**
+     * Oblicza najtańsze pokrycie
+     * @param need potrzebna ilość
+     * @return koszt w groszach lub {@link #INFEASIBLE}
+     */
+    long solve(double need) {
+        best = INFEASIBLE;
+        tolerance = Math.max(need, 1.0) * 1e-9;
+        Arrays.fill(counts, 0);
+        Arrays.fill(bestCounts, 0);
+        search(0, need, 0);
+        return best;
+    }
+
+    /** Liczba ofert dostawcy */
+    int size() {
+        return offers.length;
+    }
+
+    /** Indeks k-tej oferty w katalogu */
+    int getOffer(int k) {
+        return offers[k];
+    }
+
+    /** Liczba opakowań k-tej oferty w najlepszym pokryciu */
+    long getCount(int k) {
+        return bestCounts[k];
+    }
+
+    private void search(int k, double remaining, long cost) {
+        if (remaining <= tolerance) {
+            if (cost < best) {
+                best = cost;
+                System.arraycopy(counts, 0, bestCounts, 0, counts.length);
+            }
+            return;
+        }
+        if (k == offers.length || cost + remaining * unitPrices[k] >= best) {
+            return;
+        }
+        int offer = offers[k];
+        double size = catalog.getPackageSize(offer);
+        long price = catalog.getPackagePriceMinor(offer);
+        int minimum = catalog.getMinimumPackages(offer);
+        long max = Math.max((long) Math.ceil((remaining - tolerance) / size), minimum);
+
+        // Liczba opakowań: od pokrywającej całość w dół; poniżej minimum tylko 0
+        long n = max;
+        while (true) {
+            double left = Math.max(0, remaining - n * size);
+            long total = cost + n * price;
+            // Przy niepokrytej reszcie zmniejszanie n tylko podnosi ograniczenie - można przerwać
+            if (left > tolerance && total + left * unitPrices[k + 1] >= best) {
+                break;
+            }
+            counts[k] = n;
+            search(k + 1, left, total);
+            if (n == 0) {
+                break;
+            }
+            n = n - 1 >= minimum ? n - 1 : 0;
+        }
+        counts[k] = 0;
+    }
+
+    private static double unitPrice(SupplyCatalog catalog, int offer) {
+        return catalog.getPackagePriceMinor(offer) / catalog.getPackageSize(offer);
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.budapp.optimization;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dobór najtańszego zestawu zakupów: dla każdego materiału produkt, dostawca i opakowania.
+ * <p>
+ * Dla każdej pary (dostawca, materiał) {@link PackageCover} wyznacza najtańsze pokrycie ilości
+ * opakowaniami z uwzględnieniem minimalnych zamówień. Koszt dostawy wiąże materiały ze sobą,
+ * więc zbiór dostawców dobierany jest metodą podziału i ograniczeń: dostawcy rozpatrywani są
+ * kolejno (włącz / pomiń), a dolne ograniczenie węzła to dostawy już włączonych dostawców plus
+ * najtańsza oferta każdego materiału wśród włączonych i jeszcze nierozpatrzonych. Początkowe
+ * górne ograniczenie daje zachłanne usuwanie dostawców. Wynik jest optymalny; czas rośnie
+ * z liczbą dostawców, a liniowo z liczbą materiałów.
+ */
+public final class PurchaseOptimizer {
+
+    private static final long INF = PackageCover.INFEASIBLE;
+
+    private final int suppliers;
+    private final int demands;
+    private final long[] fees;
+    private final long[][] costs;
+    private final int[] order;
+    private final long[][] suffixMin;
+    private final long[][] levelBest;
+    private final boolean[] chosen;
+    private boolean[] bestChosen;
+    private long bestTotal;
+    private long nodes;
+
+    private PurchaseOptimizer(long[] fees, long[][] costs) {
+        this.suppliers = fees.length;
+        this.demands = costs.length == 0 ? 0 : costs[0].length;
+        this.fees = fees;
+        this.costs = costs;
+        this.order = new int[suppliers];
+        this.suffixMin = new long[suppliers + 1][demands];
+        this.levelBest = new long[suppliers + 1][demands];
+        this.chosen = new boolean[suppliers];
+    }
+
+    /**
+     * Wyznacza najtańszy zestaw zakupów
+     * @param demands zapotrzebowanie (np. z {@link MaterialDemand#fromPlan})
+     * @param catalog dostawcy i oferty
+     * @return plan zakupów
+     * @throws IllegalArgumentException gdy dla materiału nie ma żadnej oferty
+     */
+    @NonNull
+    public static PurchasePlan optimize(@NonNull List<MaterialDemand> demands, @NonNull SupplyCatalog catalog) {
+        int suppliers = catalog.getSupplierCount();
+        long[] fees = new long[suppliers];
+        for (int s = 0; s < suppliers; s++) {
+            fees[s] = catalog.getDeliveryFeeMinor(s);
+        }
+
+        // Koszt pokrycia każdego zapotrzebowania przez każdego dostawcę
+        long[][] costs = new long[suppliers][demands.size()];
+        PackageCover[][] covers = new PackageCover[suppliers][demands.size()];
+        for (int d = 0; d < demands.size(); d++) {
+            MaterialDemand demand = demands.get(d);
+            int[] offers = catalog.offersFor(demand.getMaterialKey());
+            for (int s = 0; s < suppliers; s++) {
+                int[] own = offersOf(catalog, offers, s);
+                if (demand.getQuantity() == 0) {
+                    costs[s][d] = 0;
+                } else if (own.length == 0) {
+                    costs[s][d] = INF;
+                } else {
+                    covers[s][d] = new PackageCover(catalog, own);
+                    costs[s][d] = covers[s][d].solve(demand.getQuantity());
+                }
+            }
+            boolean available = demand.getQuantity() == 0;
+            for (int s = 0; s < suppliers && !available; s++) {
+                available = costs[s][d] != INF;
+            }
+            if (!available) {
+                throw new IllegalArgumentException("Brak oferty dla materiału: " + demand.getMaterialKey());
+            }
+        }
+
+        PurchaseOptimizer optimizer = new PurchaseOptimizer(fees, costs);
+        optimizer.search();
+        return optimizer.toPlan(catalog, demands, covers);
+    }
+
+    private void search() {
+        // Najpierw dostawcy najczęściej najtańsi - wcześnie dobre rozwiązania, silniejsze odcięcia
+        final int[] cheapestCount = new int[suppliers];
+        for (int d = 0; d < demands; d++) {
+            int cheapest = -1;
+            for (int s = 0; s < suppliers; s++) {
+                if (costs[s][d] != INF && (cheapest < 0 || costs[s][d] < costs[cheapest][d])) {
+                    cheapest = s;
+                }
+            }
+            if (cheapest >= 0) {
+                cheapestCount[cheapest]++;
+            }
+        }
+        Integer[] sorted = new Integer[suppliers];
+        for (int s = 0; s < suppliers; s++) {
+            sorted[s] = s;
+        }
+        Arrays.sort(sorted, (a, b) -> cheapestCount[a] != cheapestCount[b]
+                ? Integer.compare(cheapestCount[b], cheapestCount[a]) : Long.compare(fees[a], fees[b]));
+        for (int s = 0; s < suppliers; s++) {
+            order[s] = sorted[s];
+        }
+
+        Arrays.fill(suffixMin[suppliers], INF);
+        for (int level = suppliers - 1; level >= 0; level--) {
+            long[] own = costs[order[level]];
+            for (int d = 0; d < demands; d++) {
+                suffixMin[level][d] = Math.min(own[d], suffixMin[level + 1][d]);
+            }
+        }
+
+        greedyUpperBound();
+        Arrays.fill(levelBest[0], INF);
+        if (demands == 0) {
+            return;
+        }
+        branch(0, 0);
+    }
+
+    // Start ze wszystkimi dostawcami i usuwanie tego, którego brak najbardziej obniża koszt
+    private void greedyUpperBound() {
+        boolean[] open = new boolean[suppliers];
+        Arrays.fill(open, true);
+        long current = total(open);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int drop = -1;
+            long dropTotal = current;
+            for (int s = 0; s < suppliers; s++) {
+                if (open[s]) {
+                    open[s] = false;
+                    long candidate = total(open);
+                    if (candidate < dropTotal) {
+                        dropTotal = candidate;
+                        drop = s;
+                    }
+                    open[s] = true;
+                }
+            }
+            if (drop >= 0) {
+                open[drop] = false;
+                current = dropTotal;
+                improved = true;
+            }
+        }
+        bestChosen = open;
+        bestTotal = current;
+    }
+
+    // Koszt przy danym zbiorze dostawców - dostawę płacimy tylko tam, gdzie coś kupujemy
+    private long total(boolean[] open) {
+        long total = 0;
+        boolean[] used = new boolean[suppliers];
+        for (int d = 0; d < demands; d++) {
+            int cheapest = cheapest(open, d);
+            if (cheapest < 0) {
+                return INF;
+            }
+            used[cheapest] = true;
+            total += costs[cheapest][d];
+        }
+        for (int s = 0; s < suppliers; s++) {
+            if (used[s]) {
+                total += fees[s];
+            }
+        }
+        return total;
+    }
+
+    private int cheapest(boolean[] open, int demand) {
+        int cheapest = -1;
+        for (int s = 0; s < suppliers; s++) {
+            if (open[s] && costs[s][demand] != INF && (cheapest < 0 || costs[s][demand] < costs[cheapest][demand])) {
+                cheapest = s;
+            }
+        }
+        return cheapest;
+    }
+
+    private void branch(int level, long feesSoFar) {
+        nodes++;
+        long[] current = levelBest[level];
+        long bound = feesSoFar;
+        for (int d = 0; d < demands; d++) {
+            long best = Math.min(current[d], suffixMin[level][d]);
+            if (best == INF) {
+                return;
+            }
+            bound += best;
+        }
+        if (bound >= bestTotal) {
+            return;
+        }
+        if (level == suppliers) {
+            bestTotal = bound;
+            bestChosen = chosen.clone();
+            return;
+        }
+
+        int supplier = order[level];
+        long[] own = costs[supplier];
+        long[] next = levelBest[level + 1];
+        boolean improves = false;
+        for (int d = 0; d < demands; d++) {
+            next[d] = Math.min(current[d], own[d]);
+            improves |= next[d] < current[d];
+        }
+        // Dostawca, który niczego nie tanieje, dodałby tylko koszt dostawy
+        if (improves) {
+            chosen[supplier] = true;
+            branch(level + 1, feesSoFar + fees[supplier]);
+            chosen[supplier] = false;
+        }
+        System.arraycopy(current, 0, levelBest[level + 1], 0, demands);
+        branch(level + 1, feesSoFar);
+    }
+
+    private PurchasePlan toPlan(SupplyCatalog catalog, List<MaterialDemand> demandList, PackageCover[][] covers) {
+        int[] demandSuppliers = new int[demands];
+        long[] demandCosts = new long[demands];
+        long[] baselines = new long[demands];
+        boolean[] used = new boolean[suppliers];
+        int[] lineDemands = new int[16];
+        int[] lineOffers = new int[16];
+        long[] linePackages = new long[16];
+        int lines = 0;
+        for (int d = 0; d < demands; d++) {
+            MaterialDemand demand = demandList.get(d);
+            baselines[d] = demand.getBaselineCostMinor();
+            if (demand.getQuantity() == 0) {
+                demandSuppliers[d] = -1;
+                continue;
+            }
+            int supplier = cheapest(bestChosen, d);
+            demandSuppliers[d] = supplier;
+            demandCosts[d] = costs[supplier][d];
+            used[supplier] = true;
+            PackageCover cover = covers[supplier][d];
+            cover.solve(demand.getQuantity());
+            for (int k = 0; k < cover.size(); k++) {
+                if (cover.getCount(k) == 0) {
+                    continue;
+                }
+                if (lines == lineOffers.length) {
+                    lineDemands = Arrays.copyOf(lineDemands, lines * 2);
+                    lineOffers = Arrays.copyOf(lineOffers, lines * 2);
+                    linePackages = Arrays.copyOf(linePackages, lines * 2);
+                }
+                lineDemands[lines] = d;
+                lineOffers[lines] = cover.getOffer(k);
+                linePackages[lines++] = cover.getCount(k);
+            }
+        }
+        long deliveryFees = 0;
+        for (int s = 0; s < suppliers; s++) {
+            if (used[s]) {
+                deliveryFees += fees[s];
+            }
+        }
+        return new PurchasePlan(catalog, demandSuppliers, demandCosts, baselines, Arrays.copyOf(lineDemands, lines),
+                Arrays.copyOf(lineOffers, lines), Arrays.copyOf(linePackages, lines), used, deliveryFees, nodes);
+    }
+
+    private static int[] offersOf(SupplyCatalog catalog, int[] offers, int supplier) {
+        int count = 0;
+        for (int offer : offers) {
+            if (catalog.getOfferSupplier(offer) == supplier) {
+                count++;
+            }
+        }
+        int[] own = new int[count];
+        int i = 0;
+        for (int offer : offers) {
+            if (catalog.getOfferSupplier(offer) == supplier) {
+                own[i++] = offer;
+            }
+        }
+        return own;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.budapp.optimization;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.MoneyCalculator;
+
+/**
+ * Wynik {@link PurchaseOptimizer}: dla każdego zapotrzebowania wybrany dostawca i opakowania,
+ * koszty dostaw i oszczędność względem cen z planu. Kwoty w groszach; gettery bez przyrostka
+ * Minor zwracają złote jako double (jak potentialSavings w modelu Recommendation).
+ */
+public final class PurchasePlan {
+
+    private final SupplyCatalog catalog;
+    private final int[] demandSuppliers;
+    private final long[] demandCostsMinor;
+    private final long[] demandBaselinesMinor;
+    private final int[] lineDemands;
+    private final int[] lineOffers;
+    private final long[] linePackages;
+    private final boolean[] usedSuppliers;
+    private final long deliveryFeesMinor;
+    private final long exploredNodes;
+
+    PurchasePlan(SupplyCatalog catalog, int[] demandSuppliers, long[] demandCostsMinor, long[] demandBaselinesMinor,
+                 int[] lineDemands, int[] lineOffers, long[] linePackages, boolean[] usedSuppliers,
+                 long deliveryFeesMinor, long exploredNodes) {
+        this.catalog = catalog;
+        this.demandSuppliers = demandSuppliers;
+        this.demandCostsMinor = demandCostsMinor;
+        this.demandBaselinesMinor = demandBaselinesMinor;
+        this.lineDemands = lineDemands;
+        this.lineOffers = lineOffers;
+        this.linePackages = linePackages;
+        this.usedSuppliers = usedSuppliers;
+        this.deliveryFeesMinor = deliveryFeesMinor;
+        this.exploredNodes = exploredNodes;
+    }
+
+    public int getDemandCount() {
+        return demandSuppliers.length;
+    }
+
+    /** Dostawca wybrany dla zapotrzebowania (-1 dla zerowej ilości) */
+    public int getDemandSupplier(int demand) {
+        return demandSuppliers[demand];
+    }
+
+    /** Koszt towaru dla zapotrzebowania bez dostawy */
+    public long getDemandCostMinor(int demand) {
+        return demandCostsMinor[demand];
+    }
+
+    /** Oszczędność na zapotrzebowaniu względem cen z planu (bez kosztów dostawy) */
+    public long getDemandSavingsMinor(int demand) {
+        return demandBaselinesMinor[demand] - demandCostsMinor[demand];
+    }
+
+    /** Liczba pozycji zamówienia (oferta i liczba opakowań) */
+    public int getLineCount() {
+        return lineOffers.length;
+    }
+
+    public int getLineDemand(int line) {
+        return lineDemands[line];
+    }
+
+    /** Indeks oferty w {@link SupplyCatalog} */
+    public int getLineOffer(int line) {
+        return lineOffers[line];
+    }
+
+    @NonNull
+    public String getLineProduct(int line) {
+        return catalog.getOfferProduct(lineOffers[line]);
+    }
+
+    public long getLinePackages(int line) {
+        return linePackages[line];
+    }
+
+    public long getLineCostMinor(int line) {
+        return linePackages[line] * catalog.getPackagePriceMinor(lineOffers[line]);
+    }
+
+    /** Czy zamawiamy coś u dostawcy */
+    public boolean isSupplierUsed(int supplier) {
+        return usedSuppliers[supplier];
+    }
+
+    public long getDeliveryFeesMinor() {
+        return deliveryFeesMinor;
+    }
+
+    /** Koszt towaru i dostaw */
+    public long getTotalCostMinor() {
+        long total = deliveryFeesMinor;
+        for (long cost : demandCostsMinor) {
+            total += cost;
+        }
+        return total;
+    }
+
+    /** Koszt zapotrzebowania według cen z planu */
+    public long getBaselineCostMinor() {
+        long total = 0;
+        for (long cost : demandBaselinesMinor) {
+            total += cost;
+        }
+        return total;
+    }
+
+    /** Oszczędność względem cen z planu - ujemna, gdy ceny w planie były zaniżone */
+    public long getPotentialSavingsMinor() {
+        return getBaselineCostMinor() - getTotalCostMinor();
+    }
+
+    public double getTotalCost() {
+        return MoneyCalculator.toDouble(getTotalCostMinor());
+    }
+
+    public double getPotentialSavings() {
+        return MoneyCalculator.toDouble(getPotentialSavingsMinor());
+    }
+
+    /** Liczba węzłów przeszukanych przez podział i ograniczenia (diagnostyka) */
+    public long getExploredNodes() {
+        return exploredNodes;
+    }
+}
@@ -0,0 +1,183 @@
+package com.example.budapp.optimization;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.MoneyCalculator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Niezmienny katalog dostawców i ofert dla {@link PurchaseOptimizer}.
+ * <p>
+ * Dostawca ma koszt dostawy naliczany raz, jeśli cokolwiek u niego kupujemy. Oferta to produkt
+ * zastępujący materiał (klucz materiału, np. nazwa z planu) w opakowaniu o danej wielkości
+ * i cenie, z minimalną liczbą opakowań w zamówieniu. Oferty trzymane są w równoległych tablicach,
+ * a dla każdego materiału zapamiętana jest lista indeksów ofert.
+ */
+public final class SupplyCatalog {
+
+    private final String[] supplierNames;
+    private final long[] deliveryFeesMinor;
+    private final int[] offerSuppliers;
+    private final String[] offerProducts;
+    private final double[] packageSizes;
+    private final long[] packagePricesMinor;
+    private final int[] minimumPackages;
+    private final Map<String, int[]> offersByMaterial;
+
+    private SupplyCatalog(Builder builder) {
+        supplierNames = builder.supplierNames.toArray(new String[0]);
+        deliveryFeesMinor = new long[supplierNames.length];
+        for (int s = 0; s < supplierNames.length; s++) {
+            deliveryFeesMinor[s] = builder.deliveryFeesMinor.get(s);
+        }
+        int size = builder.size;
+        offerSuppliers = Arrays.copyOf(builder.offerSuppliers, size);
+        offerProducts = Arrays.copyOf(builder.offerProducts, size);
+        packageSizes = Arrays.copyOf(builder.packageSizes, size);
+        packagePricesMinor = Arrays.copyOf(builder.packagePricesMinor, size);
+        minimumPackages = Arrays.copyOf(builder.minimumPackages, size);
+        offersByMaterial = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : builder.offersByMaterial.entrySet()) {
+            int[] offers = new int[entry.getValue().size()];
+            for (int i = 0; i < offers.length; i++) {
+                offers[i] = entry.getValue().get(i);
+            }
+            offersByMaterial.put(entry.getKey(), offers);
+        }
+    }
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getSupplierCount() {
+        return supplierNames.length;
+    }
+
+    @NonNull
+    public String getSupplierName(int supplier) {
+        return supplierNames[supplier];
+    }
+
+    public long getDeliveryFeeMinor(int supplier) {
+        return deliveryFeesMinor[supplier];
+    }
+
+    public int getOfferCount() {
+        return offerSuppliers.length;
+    }
+
+    public int getOfferSupplier(int offer) {
+        return offerSuppliers[offer];
+    }
+
+    @NonNull
+    public String getOfferProduct(int offer) {
+        return offerProducts[offer];
+    }
+
+    /** Wielkość opakowania w jednostce materiału */
+    public double getPackageSize(int offer) {
+        return packageSizes[offer];
+    }
+
+    public long getPackagePriceMinor(int offer) {
+        return packagePricesMinor[offer];
+    }
+
+    public int getMinimumPackages(int offer) {
+        return minimumPackages[offer];
+    }
+
+    /** Indeksy ofert dla materiału (pusta tablica, gdy brak) */
+    @NonNull
+    int[] offersFor(String materialKey) {
+        int[] offers = offersByMaterial.get(materialKey);
+        return offers == null ? new int[0] : offers;
+    }
+
+    public static final class Builder {
+        private final List<String> supplierNames = new ArrayList<>();
+        private final List<Long> deliveryFeesMinor = new ArrayList<>();
+        private int[] offerSuppliers = new int[64];
+        private String[] offerProducts = new String[64];
+        private double[] packageSizes = new double[64];
+        private long[] packagePricesMinor = new long[64];
+        private int[] minimumPackages = new int[64];
+        private final Map<String, List<Integer>> offersByMaterial = new LinkedHashMap<>();
+        private int size;
+
+        /**
+         * Dodaje dostawcę
+         * @param name nazwa dostawcy
+         * @param deliveryFee koszt dostawy w złotych
+         * @return indeks dostawcy
+         */
+        public int addSupplier(@NonNull String name, double deliveryFee) {
+            if (deliveryFee < 0) {
+                throw new IllegalArgumentException("Koszt dostawy musi być nieujemny: " + name);
+            }
+            supplierNames.add(name);
+            deliveryFeesMinor.add(MoneyCalculator.fromDouble(deliveryFee));
+            return supplierNames.size() - 1;
+        }
+
+        /**
+         * Dodaje ofertę
+         * @param supplier indeks dostawcy
+         * @param materialKey materiał, który oferta pokrywa
+         * @param product nazwa produktu
+         * @param packageSize wielkość opakowania w jednostce materiału
+         * @param packagePrice cena opakowania w złotych
+         * @param minimumPackages minimalna liczba opakowań w zamówieniu (co najmniej 1)
+         * @return ten budowniczy
+         */
+        @NonNull
+        public Builder addOffer(int supplier, @NonNull String materialKey, @NonNull String product,
+                                double packageSize, double packagePrice, int minimumPackages) {
+            if (supplier < 0 || supplier >= supplierNames.size()) {
+                throw new IllegalArgumentException("Nieznany dostawca: " + supplier);
+            }
+            if (!(packageSize > 0) || Double.isInfinite(packageSize)) {
+                throw new IllegalArgumentException("Wielkość opakowania musi być dodatnia: " + product);
+            }
+            if (packagePrice < 0) {
+                throw new IllegalArgumentException("Cena musi być nieujemna: " + product);
+            }
+            if (minimumPackages < 1) {
+                throw new IllegalArgumentException("Minimalna liczba opakowań musi być dodatnia: " + product);
+            }
+            if (size == offerSuppliers.length) {
+                int capacity = size * 2;
+                offerSuppliers = Arrays.copyOf(offerSuppliers, capacity);
+                offerProducts = Arrays.copyOf(offerProducts, capacity);
+                packageSizes = Arrays.copyOf(packageSizes, capacity);
+                packagePricesMinor = Arrays.copyOf(packagePricesMinor, capacity);
+                this.minimumPackages = Arrays.copyOf(this.minimumPackages, capacity);
+            }
+            offerSuppliers[size] = supplier;
+            offerProducts[size] = product;
+            packageSizes[size] = packageSize;
+            packagePricesMinor[size] = MoneyCalculator.fromDouble(packagePrice);
+            this.minimumPackages[size] = minimumPackages;
+            List<Integer> offers = offersByMaterial.get(materialKey);
+            if (offers == null) {
+                offers = new ArrayList<>();
+                offersByMaterial.put(materialKey, offers);
+            }
+            offers.add(size++);
+            return this;
+        }
+
+        /** Buduje niezmienny katalog */
+        @NonNull
+        public SupplyCatalog build() {
+            return new SupplyCatalog(this);
+        }
+    }
+}
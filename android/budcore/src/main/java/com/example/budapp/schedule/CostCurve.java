@@ -0,0 +1,91 @@
+package com.example.budapp.schedule;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.MoneyCalculator;
+import java.util.Arrays;
+
+/**
+ * Krzywa skumulowanego kosztu robocizny w czasie - funkcja schodkowa.
+ * Koszt zadania (z {@code calculateWorkCost}) naliczany jest w chwili jego zakończenia.
+ */
+public final class CostCurve {
+
+    private final int[] times;
+    private final long[] cumulativeMinor;
+
+    private CostCurve(int[] times, long[] cumulativeMinor) {
+        this.times = times;
+        this.cumulativeMinor = cumulativeMinor;
+    }
+
+    /**
+     * @param plan indeks planu lub -1 dla wszystkich planów
+     */
+    static CostCurve of(TaskGraph graph, int[] start, int plan) {
+        int n = graph.getTaskCount();
+        long[] keys = new long[n];
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (plan < 0 || graph.taskPlans[i] == plan) {
+                keys[count++] = LongHeap.key(start[i] + graph.durations[i], i);
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        int[] times = new int[count];
+        long[] cumulative = new long[count];
+        int points = 0;
+        long total = 0;
+        for (int k = 0; k < count; k++) {
+            int time = LongHeap.priority(keys[k]);
+            total += graph.costsMinor[LongHeap.task(keys[k])];
+            if (points > 0 && times[points - 1] == time) {
+                cumulative[points - 1] = total;
+            } else {
+                times[points] = time;
+                cumulative[points++] = total;
+            }
+        }
+        return new CostCurve(Arrays.copyOf(times, points), Arrays.copyOf(cumulative, points));
+    }
+
+    /** Liczba punktów (chwil, w których rośnie koszt) */
+    public int getPointCount() {
+        return times.length;
+    }
+
+    /** Chwila punktu w godzinach pracy */
+    public int getTime(int point) {
+        return times[point];
+    }
+
+    /** Koszt skumulowany do chwili punktu włącznie, w groszach */
+    public long getCumulativeMinor(int point) {
+        return cumulativeMinor[point];
+    }
+
+    /**
+     * Koszt zakończonych zadań w danej chwili
+     * @param hour godzina od początku harmonogramu
+     * @return koszt w groszach
+     */
+    public long getCostAtMinor(int hour) {
+        int point = Arrays.binarySearch(times, hour);
+        if (point < 0) {
+            point = -point - 2;
+        }
+        return point < 0 ? 0 : cumulativeMinor[point];
+    }
+
+    public double getCostAt(int hour) {
+        return MoneyCalculator.toDouble(getCostAtMinor(hour));
+    }
+
+    public long getTotalMinor() {
+        return cumulativeMinor.length == 0 ? 0 : cumulativeMinor[cumulativeMinor.length - 1];
+    }
+
+    public double getTotal() {
+        return MoneyCalculator.toDouble(getTotalMinor());
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.budapp.schedule;
+
+import java.util.Arrays;
+
+/**
+ * Kopiec minimum na tablicy {@code long[]} - klucze pakowane jako (priorytet << 32) | indeks zadania,
+ * więc przy równym priorytecie wygrywa mniejszy indeks i kolejność jest deterministyczna.
+ */
+final class LongHeap {
+
+    private long[] heap = new long[16];
+    private int size;
+
+    static long key(int priority, int task) {
+        return ((long) priority << 32) | task;
+    }
+
+    static int task(long key) {
+        return (int) key;
+    }
+
+    static int priority(long key) {
+        return (int) (key >>> 32);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    void add(long key) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    long peek() {
+        return heap[0];
+    }
+
+    long poll() {
+        long top = heap[0];
+        long last = heap[--size];
+        int i = 0;
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (last <= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = last;
+        return top;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.budapp.schedule;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+
+/**
+ * Wynik {@link Scheduler}: terminy CPM (bez ograniczeń brygad) oraz terminy wyrównane do liczby brygad.
+ * Czasy w godzinach pracy od początku harmonogramu; indeksy zadań i planów jak w {@link TaskGraph}.
+ */
+public final class Schedule {
+
+    private final TaskGraph graph;
+    private final int[] earliestStart;
+    private final int[] latestStart;
+    private final int[] planFinish;
+    private final int[] start;
+    private final int[] leveledPlanFinish;
+
+    Schedule(TaskGraph graph, int[] earliestStart, int[] latestStart, int[] planFinish, int[] start) {
+        this.graph = graph;
+        this.earliestStart = earliestStart;
+        this.latestStart = latestStart;
+        this.planFinish = planFinish;
+        this.start = start;
+        this.leveledPlanFinish = new int[planFinish.length];
+        for (int i = 0; i < start.length; i++) {
+            int finish = getFinish(i);
+            int plan = graph.taskPlans[i];
+            if (leveledPlanFinish[plan] < finish) {
+                leveledPlanFinish[plan] = finish;
+            }
+        }
+    }
+
+    @NonNull
+    public TaskGraph getGraph() {
+        return graph;
+    }
+
+    // ==================== CPM ====================
+
+    public int getEarliestStart(int task) {
+        return earliestStart[task];
+    }
+
+    public int getEarliestFinish(int task) {
+        return earliestStart[task] + graph.durations[task];
+    }
+
+    public int getLatestStart(int task) {
+        return latestStart[task];
+    }
+
+    public int getLatestFinish(int task) {
+        return latestStart[task] + graph.durations[task];
+    }
+
+    /** Zapas całkowity - o ile zadanie może się opóźnić bez przesunięcia końca planu */
+    public int getSlack(int task) {
+        return latestStart[task] - earliestStart[task];
+    }
+
+    public boolean isCritical(int task) {
+        return latestStart[task] == earliestStart[task];
+    }
+
+    /** Czas trwania planu według CPM (bez ograniczeń brygad) */
+    public int getPlanDuration(int plan) {
+        return planFinish[plan];
+    }
+
+    /**
+     * Ścieżka krytyczna planu - łańcuch zadań z zerowym zapasem od startu do końca planu.
+     * Przy kilku równoległych ścieżkach wybierana jest ta o najmniejszych indeksach.
+     * @return indeksy zadań w kolejności wykonywania
+     */
+    @NonNull
+    public int[] getCriticalPath(int plan) {
+        int current = -1;
+        for (int i = 0; i < start.length && current < 0; i++) {
+            if (graph.taskPlans[i] == plan && earliestStart[i] == 0 && isCritical(i)) {
+                current = i;
+            }
+        }
+        int[] path = new int[8];
+        int length = 0;
+        while (current >= 0) {
+            if (length == path.length) {
+                path = Arrays.copyOf(path, length * 2);
+            }
+            path[length++] = current;
+            int finish = getEarliestFinish(current);
+            int next = -1;
+            for (int e = graph.successorStart[current]; e < graph.successorStart[current + 1]; e++) {
+                int s = graph.successors[e];
+                if (isCritical(s) && earliestStart[s] == finish && (next < 0 || s < next)) {
+                    next = s;
+                }
+            }
+            current = next;
+        }
+        return Arrays.copyOf(path, length);
+    }
+
+    // ==================== HARMONOGRAM WYRÓWNANY ====================
+
+    /** Start zadania po wyrównaniu zasobów */
+    public int getStart(int task) {
+        return start[task];
+    }
+
+    public int getFinish(int task) {
+        return start[task] + graph.durations[task];
+    }
+
+    /** Opóźnienie względem najwcześniejszego startu wynikające z braku wolnej brygady */
+    public int getDelay(int task) {
+        return start[task] - earliestStart[task];
+    }
+
+    /** Koniec planu po wyrównaniu zasobów */
+    public int getLeveledPlanDuration(int plan) {
+        return leveledPlanFinish[plan];
+    }
+
+    /** Koniec ostatniego zadania wszystkich planów */
+    public int getMakespan() {
+        int makespan = 0;
+        for (int finish : leveledPlanFinish) {
+            makespan = Math.max(makespan, finish);
+        }
+        return makespan;
+    }
+
+    // ==================== KOSZTY W CZASIE ====================
+
+    /** Skumulowany koszt robocizny wszystkich planów w harmonogramie wyrównanym */
+    @NonNull
+    public CostCurve getCostCurve() {
+        return CostCurve.of(graph, start, -1);
+    }
+
+    /** Skumulowany koszt robocizny jednego planu w harmonogramie wyrównanym */
+    @NonNull
+    public CostCurve getCostCurve(int plan) {
+        return CostCurve.of(graph, start, plan);
+    }
+}
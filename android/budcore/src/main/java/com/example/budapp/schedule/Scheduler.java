@@ -0,0 +1,158 @@
+package com.example.budapp.schedule;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Harmonogram zadań metodą ścieżki krytycznej (CPM) z wyrównaniem zasobów brygad.
+ * <p>
+ * Jedno wywołanie obejmuje wszystkie plany grafu: sortowanie topologiczne Kahna na tablicach CSR,
+ * przejście w przód (najwcześniejsze terminy), przejście wstecz do końca każdego planu (najpóźniejsze
+ * terminy i zapas), a następnie szeregowanie listowe w kolejności czasu - zadanie gotowe czeka na wolną
+ * brygadę, a pierwszeństwo ma zadanie o najwcześniejszym najpóźniejszym starcie. Brygady są wspólne
+ * dla wszystkich planów, więc równoległe remonty konkurują o te same zespoły.
+ */
+public final class Scheduler {
+
+    private Scheduler() {
+    }
+
+    /**
+     * Wyznacza harmonogram
+     * @param graph graf zadań
+     * @return harmonogram CPM i harmonogram wyrównany
+     * @throws IllegalArgumentException jeśli zależności tworzą cykl
+     */
+    @NonNull
+    public static Schedule schedule(@NonNull TaskGraph graph) {
+        int n = graph.getTaskCount();
+        int[] order = topologicalOrder(graph);
+
+        // Przejście w przód: najwcześniejszy start
+        int[] earliestStart = new int[n];
+        int[] planFinish = new int[graph.getPlanCount()];
+        for (int i : order) {
+            int finish = earliestStart[i] + graph.durations[i];
+            for (int e = graph.successorStart[i]; e < graph.successorStart[i + 1]; e++) {
+                int s = graph.successors[e];
+                if (earliestStart[s] < finish) {
+                    earliestStart[s] = finish;
+                }
+            }
+            int plan = graph.taskPlans[i];
+            if (planFinish[plan] < finish) {
+                planFinish[plan] = finish;
+            }
+        }
+
+        // Przejście wstecz: najpóźniejszy start bez opóźnienia końca planu
+        int[] latestStart = new int[n];
+        for (int k = n - 1; k >= 0; k--) {
+            int i = order[k];
+            int latestFinish = planFinish[graph.taskPlans[i]];
+            for (int e = graph.successorStart[i]; e < graph.successorStart[i + 1]; e++) {
+                int s = graph.successors[e];
+                if (latestFinish > latestStart[s]) {
+                    latestFinish = latestStart[s];
+                }
+            }
+            latestStart[i] = latestFinish - graph.durations[i];
+        }
+
+        int[] start = level(graph, latestStart);
+        return new Schedule(graph, earliestStart, latestStart, planFinish, start);
+    }
+
+    /** Sortowanie topologiczne Kahna; kolejka na tablicy, bo każde zadanie trafia do niej raz */
+    private static int[] topologicalOrder(TaskGraph graph) {
+        int n = graph.getTaskCount();
+        int[] remaining = graph.predecessorCounts.clone();
+        int[] order = new int[n];
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            int i = order[head];
+            for (int e = graph.successorStart[i]; e < graph.successorStart[i + 1]; e++) {
+                int s = graph.successors[e];
+                if (--remaining[s] == 0) {
+                    order[tail++] = s;
+                }
+            }
+        }
+        if (tail < n) {
+            for (int i = 0; i < n; i++) {
+                if (remaining[i] > 0) {
+                    throw new IllegalArgumentException("Cykl zależności w planie "
+                            + graph.getPlanId(graph.taskPlans[i]) + " (zadanie " + graph.getTaskId(i) + ")");
+                }
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Szeregowanie listowe z ograniczoną liczbą brygad
+     * @return wyrównane terminy startu
+     */
+    private static int[] level(TaskGraph graph, int[] latestStart) {
+        int n = graph.getTaskCount();
+        int crewCount = graph.getCrewCount();
+        int[] start = new int[n];
+        int[] remaining = graph.predecessorCounts.clone();
+        int[] free = graph.crewCapacities.clone();
+        LongHeap[] ready = new LongHeap[crewCount];
+        for (int c = 0; c < crewCount; c++) {
+            ready[c] = new LongHeap();
+        }
+        LongHeap finishes = new LongHeap();
+
+        int time = 0;
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] == 0) {
+                release(graph, i, time, start, ready, finishes, latestStart);
+            }
+        }
+        while (true) {
+            for (int c = 0; c < crewCount; c++) {
+                while (free[c] > 0 && !ready[c].isEmpty()) {
+                    int i = LongHeap.task(ready[c].poll());
+                    free[c]--;
+                    start[i] = time;
+                    finishes.add(LongHeap.key(time + graph.durations[i], i));
+                }
+            }
+            if (finishes.isEmpty()) {
+                break;
+            }
+            time = LongHeap.priority(finishes.peek());
+            while (!finishes.isEmpty() && LongHeap.priority(finishes.peek()) == time) {
+                int i = LongHeap.task(finishes.poll());
+                if (graph.crews[i] != TaskGraph.NO_CREW) {
+                    free[graph.crews[i]]++;
+                }
+                for (int e = graph.successorStart[i]; e < graph.successorStart[i + 1]; e++) {
+                    int s = graph.successors[e];
+                    if (--remaining[s] == 0) {
+                        release(graph, s, time, start, ready, finishes, latestStart);
+                    }
+                }
+            }
+        }
+        return start;
+    }
+
+    /** Zadanie bez brygady startuje od razu, pozostałe czekają w kolejce swojej brygady */
+    private static void release(TaskGraph graph, int task, int time, int[] start, LongHeap[] ready,
+                                LongHeap finishes, int[] latestStart) {
+        int crew = graph.crews[task];
+        if (crew == TaskGraph.NO_CREW) {
+            start[task] = time;
+            finishes.add(LongHeap.key(time + graph.durations[task], task));
+        } else {
+            ready[crew].add(LongHeap.key(latestStart[task], task));
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.budapp.schedule;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Niezmienny graf zadań wielu planów remontu (DAG zależności w obrębie planu) z brygadami
+ * współdzielonymi przez wszystkie plany.
+ * <p>
+ * Zadania to indeksy w równoległych tablicach prymitywów: plan, czas trwania w godzinach
+ * (jak estimatedHours w modelu Task), brygada i koszt w groszach. Następniki zapisane są
+ * w układzie CSR: następniki zadania i to {@code successors[successorStart[i] .. successorStart[i + 1])}.
+ */
+public final class TaskGraph {
+
+    /** Zadanie niewymagające brygady (np. schnięcie) */
+    public static final int NO_CREW = -1;
+
+    /** Domyślna kolejność faz remontu według kategorii zadań */
+    public static final String[] DEFAULT_PHASES = {
+            "demolition", "electrical", "plumbing", "plastering", "preparation", "screed",
+            "waterproofing", "tiling", "painting", "flooring", "skirting"
+    };
+
+    final String[] planIds;
+    final String[] crewNames;
+    final int[] crewCapacities;
+    final String[] taskIds;
+    final int[] taskPlans;
+    final int[] durations;
+    final int[] crews;
+    final long[] costsMinor;
+    final int[] successorStart;
+    final int[] successors;
+    final int[] predecessorCounts;
+
+    private TaskGraph(Builder builder) {
+        planIds = builder.planIds.toArray(new String[0]);
+        crewNames = builder.crewNames.toArray(new String[0]);
+        crewCapacities = new int[crewNames.length];
+        for (int c = 0; c < crewNames.length; c++) {
+            crewCapacities[c] = builder.crewCapacities.get(c);
+        }
+        int size = builder.size;
+        taskIds = Arrays.copyOf(builder.taskIds, size);
+        taskPlans = Arrays.copyOf(builder.taskPlans, size);
+        durations = Arrays.copyOf(builder.durations, size);
+        crews = Arrays.copyOf(builder.crews, size);
+        costsMinor = Arrays.copyOf(builder.costsMinor, size);
+
+        // Krawędzie (poprzednik -> następnik) do układu CSR
+        int edges = builder.edgeCount;
+        successorStart = new int[size + 1];
+        predecessorCounts = new int[size];
+        for (int e = 0; e < edges; e++) {
+            successorStart[builder.edgeFrom[e] + 1]++;
+            predecessorCounts[builder.edgeTo[e]]++;
+        }
+        for (int i = 0; i < size; i++) {
+            successorStart[i + 1] += successorStart[i];
+        }
+        successors = new int[edges];
+        int[] next = Arrays.copyOf(successorStart, size);
+        for (int e = 0; e < edges; e++) {
+            successors[next[builder.edgeFrom[e]]++] = builder.edgeTo[e];
+        }
+    }
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int getPlanCount() {
+        return planIds.length;
+    }
+
+    @NonNull
+    public String getPlanId(int plan) {
+        return planIds[plan];
+    }
+
+    public int getCrewCount() {
+        return crewNames.length;
+    }
+
+    @NonNull
+    public String getCrewName(int crew) {
+        return crewNames[crew];
+    }
+
+    /** Liczba brygad danego rodzaju pracujących równolegle */
+    public int getCrewCapacity(int crew) {
+        return crewCapacities[crew];
+    }
+
+    public int getTaskCount() {
+        return taskIds.length;
+    }
+
+    @NonNull
+    public String getTaskId(int task) {
+        return taskIds[task];
+    }
+
+    public int getTaskPlan(int task) {
+        return taskPlans[task];
+    }
+
+    /** Czas trwania w godzinach pracy */
+    public int getDuration(int task) {
+        return durations[task];
+    }
+
+    /** Brygada lub {@link #NO_CREW} */
+    public int getCrew(int task) {
+        return crews[task];
+    }
+
+    public long getCostMinor(int task) {
+        return costsMinor[task];
+    }
+
+    public static final class Builder {
+        private final List<String> planIds = new ArrayList<>();
+        private final List<String> crewNames = new ArrayList<>();
+        private final List<Integer> crewCapacities = new ArrayList<>();
+        private final Map<String, Integer> taskIndex = new HashMap<>();
+        private String[] taskIds = new String[64];
+        private String[] categories = new String[64];
+        private int[] taskPlans = new int[64];
+        private int[] durations = new int[64];
+        private int[] crews = new int[64];
+        private long[] costsMinor = new long[64];
+        private int size;
+        private int[] edgeFrom = new int[64];
+        private int[] edgeTo = new int[64];
+        private int edgeCount;
+
+        /**
+         * Dodaje rodzaj brygady
+         * @param name nazwa (np. "Malarze")
+         * @param capacity liczba brygad tego rodzaju
+         * @return indeks brygady
+         */
+        public int addCrew(@NonNull String name, int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Liczba brygad musi być dodatnia: " + name);
+            }
+            crewNames.add(name);
+            crewCapacities.add(capacity);
+            return crewNames.size() - 1;
+        }
+
+        /**
+         * Dodaje plan
+         * @param id identyfikator planu
+         * @return indeks planu
+         */
+        public int addPlan(@NonNull String id) {
+            planIds.add(id);
+            return planIds.size() - 1;
+        }
+
+        /**
+         * Dodaje zadanie; koszt liczony jest jak {@link ConstructionCalculator#calculateWorkCost}
+         * @param plan indeks planu
+         * @param id identyfikator zadania (unikalny w planie)
+         * @param category kategoria (do zależności fazowych)
+         * @param durationHours czas trwania w godzinach pracy
+         * @param crew indeks brygady lub {@link #NO_CREW}
+         * @param area powierzchnia w m²
+         * @param pricePerSquareMeter stawka za m²
+         * @return indeks zadania
+         */
+        public int addTask(int plan, @NonNull String id, @NonNull String category, int durationHours, int crew,
+                           double area, double pricePerSquareMeter) {
+            if (plan < 0 || plan >= planIds.size()) {
+                throw new IllegalArgumentException("Nieznany plan: " + plan);
+            }
+            if (crew != NO_CREW && (crew < 0 || crew >= crewNames.size())) {
+                throw new IllegalArgumentException("Nieznana brygada: " + crew);
+            }
+            if (durationHours < 0) {
+                throw new IllegalArgumentException("Czas trwania musi być nieujemny: " + id);
+            }
+            String key = plan + "\u0000" + id;
+            if (taskIndex.containsKey(key)) {
+                throw new IllegalArgumentException("Powtórzone zadanie " + id + " w planie " + planIds.get(plan));
+            }
+            long cost = MoneyCalculator.fromDouble(ConstructionCalculator.calculateWorkCost(area, pricePerSquareMeter));
+            if (size == taskIds.length) {
+                int capacity = size * 2;
+                taskIds = Arrays.copyOf(taskIds, capacity);
+                categories = Arrays.copyOf(categories, capacity);
+                taskPlans = Arrays.copyOf(taskPlans, capacity);
+                durations = Arrays.copyOf(durations, capacity);
+                crews = Arrays.copyOf(crews, capacity);
+                costsMinor = Arrays.copyOf(costsMinor, capacity);
+            }
+            taskIds[size] = id;
+            categories[size] = category;
+            taskPlans[size] = plan;
+            durations[size] = durationHours;
+            crews[size] = crew;
+            costsMinor[size] = cost;
+            taskIndex.put(key, size);
+            return size++;
+        }
+
+        /**
+         * Dodaje zależność: zadanie może się zacząć dopiero po zakończeniu poprzednika
+         * @param task indeks zadania
+         * @param prerequisite indeks poprzednika (z tego samego planu)
+         * @return ten budowniczy
+         */
+        @NonNull
+        public Builder addDependency(int task, int prerequisite) {
+            if (task < 0 || task >= size || prerequisite < 0 || prerequisite >= size) {
+                throw new IllegalArgumentException("Nieznane zadanie");
+            }
+            if (taskPlans[task] != taskPlans[prerequisite]) {
+                throw new IllegalArgumentException("Zależność między różnymi planami: "
+                        + taskIds[prerequisite] + " -> " + taskIds[task]);
+            }
+            if (edgeCount == edgeFrom.length) {
+                edgeFrom = Arrays.copyOf(edgeFrom, edgeCount * 2);
+                edgeTo = Arrays.copyOf(edgeTo, edgeCount * 2);
+            }
+            edgeFrom[edgeCount] = prerequisite;
+            edgeTo[edgeCount++] = task;
+            return this;
+        }
+
+        /**
+         * Dodaje zależność po identyfikatorach - jak lista dependencies w modelu Task
+         * @param plan indeks planu
+         * @param taskId identyfikator zadania
+         * @param prerequisiteId identyfikator poprzednika
+         * @return ten budowniczy
+         */
+        @NonNull
+        public Builder addDependency(int plan, @NonNull String taskId, @NonNull String prerequisiteId) {
+            return addDependency(find(plan, taskId), find(plan, prerequisiteId));
+        }
+
+        /**
+         * Dodaje zależności fazowe w planie: każde zadanie kategorii z listy zależy od wszystkich
+         * zadań najbliższej wcześniejszej kategorii obecnej w planie (np. tynk przed malowaniem).
+         * Zadania innych kategorii nie są wiązane.
+         * @param plan indeks planu
+         * @param phases kategorie w kolejności wykonywania, np. {@link #DEFAULT_PHASES}
+         * @return ten budowniczy
+         */
+        @NonNull
+        public Builder addPhaseDependencies(int plan, @NonNull String... phases) {
+            Map<String, Integer> rank = new HashMap<>();
+            for (int p = 0; p < phases.length; p++) {
+                rank.put(phases[p], p);
+            }
+            List<List<Integer>> byPhase = new ArrayList<>(phases.length);
+            for (int p = 0; p < phases.length; p++) {
+                byPhase.add(new ArrayList<>());
+            }
+            for (int i = 0; i < size; i++) {
+                Integer r = taskPlans[i] == plan ? rank.get(categories[i]) : null;
+                if (r != null) {
+                    byPhase.get(r).add(i);
+                }
+            }
+            List<Integer> previous = null;
+            for (List<Integer> phase : byPhase) {
+                if (phase.isEmpty()) {
+                    continue;
+                }
+                if (previous != null) {
+                    for (int task : phase) {
+                        for (int prerequisite : previous) {
+                            addDependency(task, prerequisite);
+                        }
+                    }
+                }
+                previous = phase;
+            }
+            return this;
+        }
+
+        /** Buduje niezmienny graf */
+        @NonNull
+        public TaskGraph build() {
+            return new TaskGraph(this);
+        }
+
+        private int find(int plan, String taskId) {
+            Integer task = taskIndex.get(plan + "\u0000" + taskId);
+            if (task == null) {
+                throw new IllegalArgumentException("Nieznane zadanie " + taskId + " w planie " + plan);
+            }
+            return task;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.budapp.simulation;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.estimation.EstimationEngine;
+import com.example.budapp.estimation.Material;
+import com.example.budapp.estimation.RenovationPlan;
+import com.example.budapp.estimation.Room;
+import com.example.budapp.estimation.Task;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Niezmienny model kosztów z niepewnością dla {@link BudgetSimulator}.
+ * <p>
+ * Pozycja to materiał (ilość, procent odpadu i cena jednostkowa) albo zadanie (powierzchnia
+ * i cena za m²), każda wartość jako {@link Triangular}. Parametry rozkładów pozycji leżą obok
+ * siebie w jednej tablicy {@code double[]} (9 liczb na pozycję), kategorie to indeksy w puli nazw.
+ */
+public final class BudgetModel {
+
+    /** Liczba parametrów pozycji: (min, wartość, max) ilości, odpadu i ceny */
+    static final int STRIDE = 9;
+
+    final int[] categoryIds;
+    final String[] categories;
+    final boolean[] material;
+    final double[] parameters;
+
+    private BudgetModel(Builder builder) {
+        int size = builder.size;
+        categoryIds = Arrays.copyOf(builder.categoryIds, size);
+        material = Arrays.copyOf(builder.material, size);
+        parameters = new double[size * STRIDE];
+        for (int i = 0; i < size; i++) {
+            put(i * STRIDE, builder.quantities[i]);
+            put(i * STRIDE + 3, builder.wastePercentages[i]);
+            put(i * STRIDE + 6, builder.prices[i]);
+        }
+        categories = new String[builder.categories.size()];
+        for (Map.Entry<String, Integer> entry : builder.categories.entrySet()) {
+            categories[entry.getValue()] = entry.getKey();
+        }
+    }
+
+    private void put(int offset, Triangular distribution) {
+        parameters[offset] = distribution.getMin();
+        parameters[offset + 1] = distribution.getMode();
+        parameters[offset + 2] = distribution.getMax();
+    }
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Tworzy model z planu remontu - wartości planu stają się wartościami najbardziej
+     * prawdopodobnymi, a niepewność wyrażają względne rozrzuty
+     * @param plan plan remontu
+     * @param priceSpread rozrzut cen (0.1 = ±10%)
+     * @param quantitySpread rozrzut zużycia materiałów
+     * @param wasteSpread rozrzut procentu odpadu w punktach procentowych
+     * @return model
+     */
+    @NonNull
+    public static BudgetModel fromPlan(@NonNull RenovationPlan plan, double priceSpread, double quantitySpread,
+                                       double wasteSpread) {
+        Builder builder = builder();
+        for (Room room : plan.getRooms()) {
+            double area = room.getArea();
+            for (Material m : room.getMaterials()) {
+                double waste = m.getWastePercentage();
+                builder.addMaterial(m.getCategory(),
+                        Triangular.around(area * m.getUsagePerSquareMeter(), quantitySpread),
+                        Triangular.of(Math.max(0, waste - wasteSpread), waste, Math.min(100, waste + wasteSpread)),
+                        Triangular.around(m.getPricePerUnit(), priceSpread));
+            }
+            for (Task task : room.getTasks()) {
+                builder.addTask(EstimationEngine.LABOR_CATEGORY, Triangular.fixed(area),
+                        Triangular.around(task.getPricePerSquareMeter(), priceSpread));
+            }
+        }
+        return builder.build();
+    }
+
+    /** Liczba pozycji */
+    public int size() {
+        return categoryIds.length;
+    }
+
+    /** Liczba kategorii (w kolejności pierwszego wystąpienia) */
+    public int getCategoryCount() {
+        return categories.length;
+    }
+
+    @NonNull
+    public String getCategory(int i) {
+        return categories[i];
+    }
+
+    public static final class Builder {
+        private int[] categoryIds = new int[64];
+        private boolean[] material = new boolean[64];
+        private Triangular[] quantities = new Triangular[64];
+        private Triangular[] wastePercentages = new Triangular[64];
+        private Triangular[] prices = new Triangular[64];
+        private final Map<String, Integer> categories = new HashMap<>();
+        private int size;
+
+        /**
+         * Dodaje materiał: koszt = calculateWorkCost(calculateMaterialQuantity(ilość, 1, odpad), cena)
+         * @param category kategoria kosztu
+         * @param quantity ilość bez odpadu (powierzchnia x zużycie na m²)
+         * @param wastePercentage procent odpadu (0-100)
+         * @param unitPrice cena jednostkowa
+         * @return ten budowniczy
+         */
+        @NonNull
+        public Builder addMaterial(@NonNull String category, @NonNull Triangular quantity,
+                                   @NonNull Triangular wastePercentage, @NonNull Triangular unitPrice) {
+            if (wastePercentage.getMax() > 100) {
+                throw new IllegalArgumentException("Procent odpadu musi być między 0 a 100");
+            }
+            return add(category, true, quantity, wastePercentage, unitPrice);
+        }
+
+        /**
+         * Dodaje zadanie: koszt = calculateWorkCost(powierzchnia, cena za m²)
+         * @param category kategoria kosztu
+         * @param area powierzchnia w m²
+         * @param pricePerSquareMeter cena za m²
+         * @return ten budowniczy
+         */
+        @NonNull
+        public Builder addTask(@NonNull String category, @NonNull Triangular area,
+                               @NonNull Triangular pricePerSquareMeter) {
+            return add(category, false, area, Triangular.fixed(0), pricePerSquareMeter);
+        }
+
+        /** Buduje niezmienny model */
+        @NonNull
+        public BudgetModel build() {
+            return new BudgetModel(this);
+        }
+
+        private Builder add(String category, boolean isMaterial, Triangular quantity, Triangular waste,
+                            Triangular price) {
+            if (size == categoryIds.length) {
+                int capacity = size * 2;
+                categoryIds = Arrays.copyOf(categoryIds, capacity);
+                material = Arrays.copyOf(material, capacity);
+                quantities = Arrays.copyOf(quantities, capacity);
+                wastePercentages = Arrays.copyOf(wastePercentages, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+            }
+            Integer id = categories.get(category);
+            if (id == null) {
+                id = categories.size();
+                categories.put(category, id);
+            }
+            categoryIds[size] = id;
+            material[size] = isMaterial;
+            quantities[size] = quantity;
+            wastePercentages[size] = waste;
+            prices[size] = price;
+            size++;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.example.budapp.simulation;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Symulacja Monte Carlo kosztu netto planu zamiast stałej rezerwy 10%.
+ * <p>
+ * Każda próbka losuje parametry wszystkich pozycji {@link BudgetModel} i liczy koszt wzorami
+ * {@link ConstructionCalculator} (w groszach, jak {@code EstimationEngine}). Próbki dzielone są
+ * na stałe porcje; każda porcja dostaje własny {@link SplittableRandom} wydzielony z ziarna
+ * w kolejności porcji i zbiera wyniki w akumulatorze z tablicami prymitywów. Akumulatory łączone
+ * są zawsze w tym samym drzewie, więc wynik dla danego ziarna jest identyczny niezależnie
+ * od liczby wątków.
+ */
+public final class BudgetSimulator {
+
+    /** Liczba przedziałów histogramu kosztu */
+    public static final int BINS = 8192;
+
+    private static final int SAMPLES_PER_CHUNK = 16_384;
+
+    private final ForkJoinPool pool;
+
+    private BudgetSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /** Symulator liczący w bieżącym wątku */
+    @NonNull
+    public static BudgetSimulator sequential() {
+        return new BudgetSimulator(null);
+    }
+
+    /** Symulator liczący równolegle we wspólnej puli ForkJoin */
+    @NonNull
+    public static BudgetSimulator parallel() {
+        return parallel(ForkJoinPool.commonPool());
+    }
+
+    /** Symulator liczący równolegle we wskazanej puli */
+    @NonNull
+    public static BudgetSimulator parallel(@NonNull ForkJoinPool pool) {
+        return new BudgetSimulator(pool);
+    }
+
+    /**
+     * Uruchamia symulację
+     * @param model model kosztów
+     * @param budget budżet w złotych (jak totalBudget planu)
+     * @param samples liczba próbek
+     * @param seed ziarno - te same dane i ziarno dają ten sam wynik
+     * @return wynik symulacji
+     */
+    @NonNull
+    public SimulationResult simulate(@NonNull BudgetModel model, double budget, long samples, long seed) {
+        if (samples <= 0) {
+            throw new IllegalArgumentException("Liczba próbek musi być dodatnia");
+        }
+        if (budget < 0) {
+            throw new IllegalArgumentException("Budżet musi być nieujemny");
+        }
+        long chunks = (samples + SAMPLES_PER_CHUNK - 1) / SAMPLES_PER_CHUNK;
+        if (chunks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Za dużo próbek: " + samples);
+        }
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[(int) chunks];
+        for (int c = 0; c < randoms.length; c++) {
+            randoms[c] = root.split();
+        }
+
+        // Koszt jest rosnący względem każdego parametru, więc jego zakres wyznaczają minima i maksima
+        long[] reference = new long[model.getCategoryCount()];
+        long lower = evaluate(model, 0, new long[model.getCategoryCount()]);
+        long upper = evaluate(model, 2, new long[model.getCategoryCount()]);
+        long referenceTotal = evaluate(model, 1, reference);
+        Setup setup = new Setup(model, MoneyCalculator.fromDouble(budget), samples, randoms, lower,
+                (upper - lower + 1) / (double) BINS, reference, referenceTotal);
+
+        Accumulator total = pool == null
+                ? reduce(setup, 0, randoms.length)
+                : pool.invoke(new ChunkRange(setup, 0, randoms.length));
+        return total.toResult(setup, budget);
+    }
+
+    private static Accumulator reduce(Setup setup, int from, int to) {
+        if (to - from == 1) {
+            return runChunk(setup, from);
+        }
+        int mid = (from + to) >>> 1;
+        return reduce(setup, from, mid).merge(reduce(setup, mid, to));
+    }
+
+    private static Accumulator runChunk(Setup setup, int chunk) {
+        BudgetModel model = setup.model;
+        double[] parameters = model.parameters;
+        int[] categoryIds = model.categoryIds;
+        boolean[] material = model.material;
+        SplittableRandom random = setup.randoms[chunk];
+        Accumulator acc = new Accumulator(model.getCategoryCount());
+        long[] categoryCosts = new long[model.getCategoryCount()];
+        long first = (long) chunk * SAMPLES_PER_CHUNK;
+        long last = Math.min(first + SAMPLES_PER_CHUNK, setup.samples);
+
+        for (long s = first; s < last; s++) {
+            Arrays.fill(categoryCosts, 0);
+            long total = 0;
+            for (int i = 0, p = 0; i < categoryIds.length; i++, p += BudgetModel.STRIDE) {
+                double quantity = Triangular.sample(random, parameters[p], parameters[p + 1], parameters[p + 2]);
+                if (material[i]) {
+                    double waste = Triangular.sample(random, parameters[p + 3], parameters[p + 4], parameters[p + 5]);
+                    quantity = ConstructionCalculator.calculateMaterialQuantity(quantity, 1.0, waste);
+                }
+                double price = Triangular.sample(random, parameters[p + 6], parameters[p + 7], parameters[p + 8]);
+                long cost = MoneyCalculator.fromDouble(ConstructionCalculator.calculateWorkCost(quantity, price));
+                categoryCosts[categoryIds[i]] += cost;
+                total += cost;
+            }
+            acc.add(setup, total, categoryCosts);
+        }
+        return acc;
+    }
+
+    // Koszt przy parametrach z jednej kolumny rozkładów: 0 - minima, 1 - wartości, 2 - maksima
+    private static long evaluate(BudgetModel model, int column, long[] categoryCosts) {
+        double[] parameters = model.parameters;
+        long total = 0;
+        for (int i = 0, p = column; i < model.categoryIds.length; i++, p += BudgetModel.STRIDE) {
+            double quantity = parameters[p];
+            if (model.material[i]) {
+                quantity = ConstructionCalculator.calculateMaterialQuantity(quantity, 1.0, parameters[p + 3]);
+            }
+            long cost = MoneyCalculator.fromDouble(
+                    ConstructionCalculator.calculateWorkCost(quantity, parameters[p + 6]));
+            categoryCosts[model.categoryIds[i]] = Math.addExact(categoryCosts[model.categoryIds[i]], cost);
+            total = Math.addExact(total, cost);
+        }
+        return total;
+    }
+
+    private static final class Setup {
+        final BudgetModel model;
+        final long budgetMinor;
+        final long samples;
+        final SplittableRandom[] randoms;
+        final long lowerMinor;
+        final double binWidth;
+        // Koszty przy wartościach najbardziej prawdopodobnych - sumy liczone są względem nich,
+        // żeby sumy kwadratów nie traciły precyzji
+        final long[] referenceCategoryCosts;
+        final long referenceTotal;
+
+        Setup(BudgetModel model, long budgetMinor, long samples, SplittableRandom[] randoms, long lowerMinor,
+              double binWidth, long[] referenceCategoryCosts, long referenceTotal) {
+            this.model = model;
+            this.budgetMinor = budgetMinor;
+            this.samples = samples;
+            this.randoms = randoms;
+            this.lowerMinor = lowerMinor;
+            this.binWidth = binWidth;
+            this.referenceCategoryCosts = referenceCategoryCosts;
+            this.referenceTotal = referenceTotal;
+        }
+    }
+
+    private static final class Accumulator {
+        long count;
+        long exceedCount;
+        long minMinor = Long.MAX_VALUE;
+        long maxMinor = Long.MIN_VALUE;
+        double sum;
+        double sumSquares;
+        final long[] bins = new long[BINS];
+        final double[] categorySums;
+        final double[] categorySumSquares;
+        final double[] categoryCrossSums;
+
+        Accumulator(int categories) {
+            categorySums = new double[categories];
+            categorySumSquares = new double[categories];
+            categoryCrossSums = new double[categories];
+        }
+
+        void add(Setup setup, long total, long[] categoryCosts) {
+            count++;
+            if (total > setup.budgetMinor) {
+                exceedCount++;
+            }
+            minMinor = Math.min(minMinor, total);
+            maxMinor = Math.max(maxMinor, total);
+            int bin = (int) ((total - setup.lowerMinor) / setup.binWidth);
+            bins[Math.min(Math.max(bin, 0), BINS - 1)]++;
+
+            double d = total - setup.referenceTotal;
+            sum += d;
+            sumSquares += d * d;
+            for (int c = 0; c < categoryCosts.length; c++) {
+                double dc = categoryCosts[c] - setup.referenceCategoryCosts[c];
+                categorySums[c] += dc;
+                categorySumSquares[c] += dc * dc;
+                categoryCrossSums[c] += dc * d;
+            }
+        }
+
+        Accumulator merge(Accumulator other) {
+            count += other.count;
+            exceedCount += other.exceedCount;
+            minMinor = Math.min(minMinor, other.minMinor);
+            maxMinor = Math.max(maxMinor, other.maxMinor);
+            sum += other.sum;
+            sumSquares += other.sumSquares;
+            for (int b = 0; b < BINS; b++) {
+                bins[b] += other.bins[b];
+            }
+            for (int c = 0; c < categorySums.length; c++) {
+                categorySums[c] += other.categorySums[c];
+                categorySumSquares[c] += other.categorySumSquares[c];
+                categoryCrossSums[c] += other.categoryCrossSums[c];
+            }
+            return this;
+        }
+
+        SimulationResult toResult(Setup setup, double budget) {
+            double n = count;
+            double meanShift = sum / n;
+            double variance = count > 1 ? Math.max(0, (sumSquares - sum * meanShift) / (n - 1)) : 0;
+            int categories = categorySums.length;
+            double[] means = new double[categories];
+            double[] stdDevs = new double[categories];
+            double[] shares = new double[categories];
+            for (int c = 0; c < categories; c++) {
+                double categoryShift = categorySums[c] / n;
+                means[c] = (setup.referenceCategoryCosts[c] + categoryShift) / MoneyCalculator.MINOR_PER_UNIT;
+                double categoryVariance = count > 1
+                        ? Math.max(0, (categorySumSquares[c] - categorySums[c] * categoryShift) / (n - 1)) : 0;
+                stdDevs[c] = Math.sqrt(categoryVariance) / MoneyCalculator.MINOR_PER_UNIT;
+                double covariance = count > 1 ? (categoryCrossSums[c] - categorySums[c] * meanShift) / (n - 1) : 0;
+                shares[c] = variance > 0 ? covariance / variance : 0;
+            }
+            return new SimulationResult(count, budget, exceedCount, minMinor, maxMinor,
+                    (setup.referenceTotal + meanShift) / MoneyCalculator.MINOR_PER_UNIT,
+                    Math.sqrt(variance) / MoneyCalculator.MINOR_PER_UNIT, setup.lowerMinor, setup.binWidth, bins,
+                    setup.model.categories.clone(), means, stdDevs, shares);
+        }
+    }
+
+    private static final class ChunkRange extends RecursiveTask<Accumulator> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Setup setup;
+        private final int from;
+        private final int to;
+
+        ChunkRange(Setup setup, int from, int to) {
+            this.setup = setup;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Accumulator compute() {
+            if (to - from == 1) {
+                return runChunk(setup, from);
+            }
+            int mid = (from + to) >>> 1;
+            ChunkRange left = new ChunkRange(setup, from, mid);
+            left.fork();
+            Accumulator right = new ChunkRange(setup, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+}
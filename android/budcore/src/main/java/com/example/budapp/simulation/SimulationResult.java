@@ -0,0 +1,142 @@
+package com.example.budapp.simulation;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.utils.MoneyCalculator;
+
+/**
+ * Wynik symulacji Monte Carlo: rozkład kosztu netto (percentyle z histogramu), ryzyko
+ * przekroczenia budżetu i udział kategorii w zmienności kosztu. Kwoty w złotych.
+ * <p>
+ * Percentyle liczone są z histogramu o {@link BudgetSimulator#BINS} przedziałach rozpiętego
+ * między najmniejszym a największym możliwym kosztem - błąd nie przekracza szerokości przedziału.
+ */
+public final class SimulationResult {
+
+    private final long sampleCount;
+    private final double budget;
+    private final long exceedCount;
+    private final long minMinor;
+    private final long maxMinor;
+    private final double mean;
+    private final double stdDev;
+    private final long lowerMinor;
+    private final double binWidth;
+    private final long[] bins;
+    private final String[] categories;
+    private final double[] categoryMeans;
+    private final double[] categoryStdDevs;
+    private final double[] categoryVarianceShares;
+
+    SimulationResult(long sampleCount, double budget, long exceedCount, long minMinor, long maxMinor,
+                     double mean, double stdDev, long lowerMinor, double binWidth, long[] bins, String[] categories,
+                     double[] categoryMeans, double[] categoryStdDevs, double[] categoryVarianceShares) {
+        this.sampleCount = sampleCount;
+        this.budget = budget;
+        this.exceedCount = exceedCount;
+        this.minMinor = minMinor;
+        this.maxMinor = maxMinor;
+        this.mean = mean;
+        this.stdDev = stdDev;
+        this.lowerMinor = lowerMinor;
+        this.binWidth = binWidth;
+        this.bins = bins;
+        this.categories = categories;
+        this.categoryMeans = categoryMeans;
+        this.categoryStdDevs = categoryStdDevs;
+        this.categoryVarianceShares = categoryVarianceShares;
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /** Średni koszt */
+    public double getMean() {
+        return mean;
+    }
+
+    /** Odchylenie standardowe kosztu */
+    public double getStdDev() {
+        return stdDev;
+    }
+
+    /** Najmniejszy wylosowany koszt */
+    public double getMin() {
+        return MoneyCalculator.toDouble(minMinor);
+    }
+
+    /** Największy wylosowany koszt */
+    public double getMax() {
+        return MoneyCalculator.toDouble(maxMinor);
+    }
+
+    /**
+     * Zwraca percentyl kosztu
+     * @param p rząd percentyla (0-1), np. 0.8 dla P80
+     * @return koszt, którego nie przekracza ułamek p symulacji
+     */
+    public double getPercentile(double p) {
+        if (!(p >= 0 && p <= 1)) {
+            throw new IllegalArgumentException("Rząd percentyla musi być między 0 a 1");
+        }
+        double target = p * sampleCount;
+        long cumulative = 0;
+        for (int b = 0; b < bins.length; b++) {
+            if (bins[b] > 0 && cumulative + bins[b] >= target) {
+                double fraction = (target - cumulative) / bins[b];
+                double value = lowerMinor + (b + fraction) * binWidth;
+                return Math.min(Math.max(value, minMinor), maxMinor) / (double) MoneyCalculator.MINOR_PER_UNIT;
+            }
+            cumulative += bins[b];
+        }
+        return getMax();
+    }
+
+    public double getP50() {
+        return getPercentile(0.5);
+    }
+
+    public double getP80() {
+        return getPercentile(0.8);
+    }
+
+    public double getP95() {
+        return getPercentile(0.95);
+    }
+
+    public double getBudget() {
+        return budget;
+    }
+
+    /** Prawdopodobieństwo, że koszt przekroczy budżet */
+    public double getExceedanceProbability() {
+        return exceedCount / (double) sampleCount;
+    }
+
+    public int getCategoryCount() {
+        return categories.length;
+    }
+
+    @NonNull
+    public String getCategory(int i) {
+        return categories[i];
+    }
+
+    /** Średni koszt kategorii */
+    public double getCategoryMean(int i) {
+        return categoryMeans[i];
+    }
+
+    /** Odchylenie standardowe kosztu kategorii */
+    public double getCategoryStdDev(int i) {
+        return categoryStdDevs[i];
+    }
+
+    /**
+     * Udział kategorii w wariancji kosztu całkowitego: cov(kategoria, suma) / var(suma).
+     * Udziały sumują się do 1; największy wskazuje kategorię, której ceny warto zabezpieczyć najpierw.
+     */
+    public double getCategoryVarianceShare(int i) {
+        return categoryVarianceShares[i];
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.budapp.simulation;
+
+import androidx.annotation.NonNull;
+import java.util.SplittableRandom;
+
+/**
+ * Rozkład trójkątny (minimum, wartość najbardziej prawdopodobna, maksimum) - typowy sposób
+ * podawania niepewności w kosztorysach: "najpewniej 50 zł, ale od 45 do 65 zł".
+ * Rozkład z min = max jest wartością stałą.
+ */
+public final class Triangular {
+
+    private final double min;
+    private final double mode;
+    private final double max;
+
+    private Triangular(double min, double mode, double max) {
+        this.min = min;
+        this.mode = mode;
+        this.max = max;
+    }
+
+    /**
+     * @param min wartość minimalna (nieujemna)
+     * @param mode wartość najbardziej prawdopodobna
+     * @param max wartość maksymalna
+     * @throws IllegalArgumentException gdy nie zachodzi 0 <= min <= mode <= max
+     */
+    @NonNull
+    public static Triangular of(double min, double mode, double max) {
+        if (!(min >= 0 && min <= mode && mode <= max) || Double.isInfinite(max)) {
+            throw new IllegalArgumentException("Wymagane 0 <= min <= wartość <= max");
+        }
+        return new Triangular(min, mode, max);
+    }
+
+    /** Wartość stała */
+    @NonNull
+    public static Triangular fixed(double value) {
+        return of(value, value, value);
+    }
+
+    /**
+     * Rozkład wokół wartości: od value * (1 - spread) do value * (1 + spread)
+     * @param value wartość najbardziej prawdopodobna
+     * @param spread względny rozrzut (0.1 = ±10%)
+     */
+    @NonNull
+    public static Triangular around(double value, double spread) {
+        if (!(spread >= 0 && spread <= 1)) {
+            throw new IllegalArgumentException("Rozrzut musi być między 0 a 1");
+        }
+        return of(value * (1 - spread), value, value * (1 + spread));
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMode() {
+        return mode;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    /** Wartość oczekiwana */
+    public double getMean() {
+        return (min + mode + max) / 3.0;
+    }
+
+    /**
+     * Losuje wartość z rozkładu trójkątnego metodą odwrotnej dystrybuanty
+     */
+    static double sample(SplittableRandom random, double min, double mode, double max) {
+        double width = max - min;
+        if (width == 0) {
+            return min;
+        }
+        double u = random.nextDouble();
+        if (u * width < mode - min) {
+            return min + Math.sqrt(u * width * (mode - min));
+        }
+        return max - Math.sqrt((1 - u) * width * (max - mode));
+    }
+}
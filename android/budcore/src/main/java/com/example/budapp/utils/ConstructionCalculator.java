@@ -0,0 +1,509 @@
+package com.example.budapp.utils;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.catalog.PriceCatalog;
+import com.example.budapp.metrics.CalculatorMetrics;
+import com.example.budapp.metrics.CalculatorMetrics.Operation;
+import com.example.budapp.validation.ErrorSink;
+import com.example.budapp.validation.InvalidReason;
+
+/**
+ * Kalkulator budowlany - pomocnicza klasa z logiką biznesową
+ * Do testowania w testach jednostkowych
+ */
+public class ConstructionCalculator {
+    
+    /**
+     * Oblicza powierzchnię prostokąta
+     * @param length długość w metrach
+     * @param width szerokość w metrach
+     * @return powierzchnia w m²
+     */
+    public static double calculateArea(double length, double width) {
+        long start = CalculatorMetrics.start();
+        if (length < 0 || width < 0) {
+            throw CalculatorMetrics.rejected(Operation.AREA, "Długość i szerokość muszą być nieujemne");
+        }
+        double result = Math.round(length * width * 100.0) / 100.0;
+        CalculatorMetrics.stop(Operation.AREA, start);
+        return result;
+    }
+    
+    /**
+     * Oblicza koszt prac na podstawie powierzchni i ceny za m²
+     * @param area powierzchnia w m²
+     * @param pricePerSquareMeter cena za m²
+     * @return całkowity koszt
+     */
+    public static double calculateWorkCost(double area, double pricePerSquareMeter) {
+        long start = CalculatorMetrics.start();
+        if (area < 0) {
+            throw CalculatorMetrics.rejected(Operation.WORK_COST, "Powierzchnia musi być nieujemna");
+        }
+        if (pricePerSquareMeter < 0) {
+            throw CalculatorMetrics.rejected(Operation.WORK_COST, "Cena musi być nieujemna");
+        }
+        double result = Math.round(area * pricePerSquareMeter * 100.0) / 100.0;
+        CalculatorMetrics.stop(Operation.WORK_COST, start);
+        return result;
+    }
+    
+    /**
+     * Oblicza ilość materiału potrzebnego na daną powierzchnię
+     * @param area powierzchnia w m²
+     * @param usagePerSquareMeter zużycie na m²
+     * @param wastePercentage procent zapasu (0-100)
+     * @return całkowita ilość materiału
+     */
+    public static double calculateMaterialQuantity(double area, double usagePerSquareMeter, double wastePercentage) {
+        long start = CalculatorMetrics.start();
+        if (area < 0) {
+            throw CalculatorMetrics.rejected(Operation.MATERIAL, "Powierzchnia musi być nieujemna");
+        }
+        if (usagePerSquareMeter < 0) {
+            throw CalculatorMetrics.rejected(Operation.MATERIAL, "Zużycie musi być nieujemne");
+        }
+        if (wastePercentage < 0 || wastePercentage > 100) {
+            throw CalculatorMetrics.rejected(Operation.MATERIAL, "Procent zapasu musi być między 0 a 100");
+        }
+        
+        double baseQuantity = area * usagePerSquareMeter;
+        double waste = baseQuantity * (wastePercentage / 100.0);
+        double result = Math.round((baseQuantity + waste) * 100.0) / 100.0;
+        CalculatorMetrics.stop(Operation.MATERIAL, start);
+        return result;
+    }
+    
+    /**
+     * Oblicza objętość pomieszczenia
+     * @param length długość w metrach
+     * @param width szerokość w metrach
+     * @param height wysokość w metrach
+     * @return objętość w m³
+     */
+    public static double calculateVolume(double length, double width, double height) {
+        long start = CalculatorMetrics.start();
+        if (length < 0 || width < 0 || height < 0) {
+            throw CalculatorMetrics.rejected(Operation.VOLUME, "Wymiary muszą być nieujemne");
+        }
+        double result = Math.round(length * width * height * 100.0) / 100.0;
+        CalculatorMetrics.stop(Operation.VOLUME, start);
+        return result;
+    }
+    
+    /**
+     * Oblicza VAT od kwoty
+     * @param amount kwota netto
+     * @param vatRate stawka VAT (np. 23 dla 23%)
+     * @return kwota VAT
+     */
+    public static double calculateVAT(double amount, double vatRate) {
+        long start = CalculatorMetrics.start();
+        if (amount < 0) {
+            throw CalculatorMetrics.rejected(Operation.VAT, "Kwota musi być nieujemna");
+        }
+        if (vatRate < 0 || vatRate > 100) {
+            throw CalculatorMetrics.rejected(Operation.VAT, "Stawka VAT musi być między 0 a 100");
+        }
+        double result = Math.round(amount * (vatRate / 100.0) * 100.0) / 100.0;
+        CalculatorMetrics.stop(Operation.VAT, start);
+        return result;
+    }
+    
+    /**
+     * Oblicza kwotę brutto (netto + VAT)
+     * @param netAmount kwota netto
+     * @param vatRate stawka VAT (np. 23 dla 23%)
+     * @return kwota brutto
+     */
+    public static double calculateGrossAmount(double netAmount, double vatRate) {
+        long start = CalculatorMetrics.start();
+        if (netAmount < 0) {
+            throw CalculatorMetrics.rejected(Operation.GROSS, "Kwota musi być nieujemna");
+        }
+        if (vatRate < 0 || vatRate > 100) {
+            throw CalculatorMetrics.rejected(Operation.GROSS, "Stawka VAT musi być między 0 a 100");
+        }
+        double vat = Math.round(netAmount * (vatRate / 100.0) * 100.0) / 100.0;
+        double result = Math.round((netAmount + vat) * 100.0) / 100.0;
+        CalculatorMetrics.stop(Operation.GROSS, start);
+        return result;
+    }
+
+    /**
+     * Oblicza koszt materiału według ceny z katalogu
+     * @param quantity ilość materiału w jednostkach ceny katalogowej
+     * @param sku kod pozycji katalogu
+     * @param catalog katalog cen
+     * @return koszt materiału
+     */
+    public static double calculateMaterialCost(double quantity, @NonNull String sku, @NonNull PriceCatalog catalog) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Ilość musi być nieujemna");
+        }
+        return Math.round(quantity * catalog.getPrice(sku) * 100.0) / 100.0;
+    }
+    
+    // ==================== OBLICZENIA WSADOWE ====================
+
+    /**
+     * Wsadowa wersja {@link #calculateArea(double, double)}.
+     * Walidacja odbywa się raz dla całej partii, przed zapisem jakiegokolwiek wyniku.
+     * @param lengths długości w metrach
+     * @param widths szerokości w metrach
+     * @param out bufor na wyniki (co najmniej {@code lengths.length} elementów)
+     */
+    public static void calculateAreas(double[] lengths, double[] widths, double[] out) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(lengths, widths, out);
+        if (anyNegative(lengths, n) || anyNegative(widths, n)) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Długość i szerokość muszą być nieujemne");
+        }
+        for (int i = 0; i < n; i++) {
+            out[i] = Math.round(lengths[i] * widths[i] * 100.0) / 100.0;
+        }
+        CalculatorMetrics.stop(Operation.BATCH, start);
+    }
+
+    /**
+     * Wsadowa wersja {@link #calculateWorkCost(double, double)}.
+     * @param areas powierzchnie w m²
+     * @param pricesPerSquareMeter ceny za m²
+     * @param out bufor na wyniki
+     */
+    public static void calculateWorkCosts(double[] areas, double[] pricesPerSquareMeter, double[] out) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(areas, pricesPerSquareMeter, out);
+        if (anyNegative(areas, n)) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Powierzchnia musi być nieujemna");
+        }
+        if (anyNegative(pricesPerSquareMeter, n)) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Cena musi być nieujemna");
+        }
+        for (int i = 0; i < n; i++) {
+            out[i] = Math.round(areas[i] * pricesPerSquareMeter[i] * 100.0) / 100.0;
+        }
+        CalculatorMetrics.stop(Operation.BATCH, start);
+    }
+
+    /**
+     * Wsadowa wersja {@link #calculateMaterialQuantity(double, double, double)}.
+     * @param areas powierzchnie w m²
+     * @param usagesPerSquareMeter zużycie na m²
+     * @param wastePercentages procent zapasu (0-100)
+     * @param out bufor na wyniki
+     */
+    public static void calculateMaterialQuantities(double[] areas, double[] usagesPerSquareMeter,
+                                                   double[] wastePercentages, double[] out) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(areas, usagesPerSquareMeter, out);
+        checkLength(wastePercentages, n);
+        if (anyNegative(areas, n)) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Powierzchnia musi być nieujemna");
+        }
+        if (anyNegative(usagesPerSquareMeter, n)) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Zużycie musi być nieujemne");
+        }
+        if (anyOutsidePercent(wastePercentages, n)) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Procent zapasu musi być między 0 a 100");
+        }
+        for (int i = 0; i < n; i++) {
+            double baseQuantity = areas[i] * usagesPerSquareMeter[i];
+            double waste = baseQuantity * (wastePercentages[i] / 100.0);
+            out[i] = Math.round((baseQuantity + waste) * 100.0) / 100.0;
+        }
+        CalculatorMetrics.stop(Operation.BATCH, start);
+    }
+
+    /**
+     * Wsadowa wersja {@link #calculateVolume(double, double, double)}.
+     * @param lengths długości w metrach
+     * @param widths szerokości w metrach
+     * @param heights wysokości w metrach
+     * @param out bufor na wyniki
+     */
+    public static void calculateVolumes(double[] lengths, double[] widths, double[] heights, double[] out) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(lengths, widths, out);
+        checkLength(heights, n);
+        if (anyNegative(lengths, n) || anyNegative(widths, n) || anyNegative(heights, n)) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Wymiary muszą być nieujemne");
+        }
+        for (int i = 0; i < n; i++) {
+            out[i] = Math.round(lengths[i] * widths[i] * heights[i] * 100.0) / 100.0;
+        }
+        CalculatorMetrics.stop(Operation.BATCH, start);
+    }
+
+    /**
+     * Wsadowa wersja {@link #calculateVAT(double, double)}.
+     * @param amounts kwoty netto
+     * @param vatRates stawki VAT (np. 23 dla 23%)
+     * @param out bufor na wyniki
+     */
+    public static void calculateVATs(double[] amounts, double[] vatRates, double[] out) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(amounts, vatRates, out);
+        checkVatBatch(amounts, vatRates, n);
+        for (int i = 0; i < n; i++) {
+            out[i] = Math.round(amounts[i] * (vatRates[i] / 100.0) * 100.0) / 100.0;
+        }
+        CalculatorMetrics.stop(Operation.BATCH, start);
+    }
+
+    /**
+     * Wsadowa wersja {@link #calculateGrossAmount(double, double)}.
+     * @param netAmounts kwoty netto
+     * @param vatRates stawki VAT (np. 23 dla 23%)
+     * @param out bufor na wyniki
+     */
+    public static void calculateGrossAmounts(double[] netAmounts, double[] vatRates, double[] out) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(netAmounts, vatRates, out);
+        checkVatBatch(netAmounts, vatRates, n);
+        for (int i = 0; i < n; i++) {
+            double vat = Math.round(netAmounts[i] * (vatRates[i] / 100.0) * 100.0) / 100.0;
+            out[i] = Math.round((netAmounts[i] + vat) * 100.0) / 100.0;
+        }
+        CalculatorMetrics.stop(Operation.BATCH, start);
+    }
+
+    private static void checkVatBatch(double[] amounts, double[] vatRates, int n) {
+        if (anyNegative(amounts, n)) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Kwota musi być nieujemna");
+        }
+        if (anyOutsidePercent(vatRates, n)) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Stawka VAT musi być między 0 a 100");
+        }
+    }
+
+    private static int checkBatch(double[] first, double[] second, double[] out) {
+        int n = first.length;
+        checkLength(second, n);
+        if (out.length < n) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Bufor wyników jest za krótki");
+        }
+        return n;
+    }
+
+    private static void checkLength(double[] values, int n) {
+        if (values.length != n) {
+            throw CalculatorMetrics.rejected(Operation.BATCH, "Tablice wejściowe muszą mieć równą długość");
+        }
+    }
+
+    private static boolean anyNegative(double[] values, int n) {
+        for (int i = 0; i < n; i++) {
+            if (values[i] < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean anyOutsidePercent(double[] values, int n) {
+        for (int i = 0; i < n; i++) {
+            if (values[i] < 0 || values[i] > 100) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ==================== OBLICZENIA WSADOWE BEZ WYJĄTKÓW ====================
+    // Błędne wiersze nie przerywają partii: trafiają do ErrorSink (indeks + przyczyna),
+    // a w buforze wyników dostają NaN. Wyjątek rzucany jest tylko przy niezgodnych
+    // długościach tablic, bo to błąd programisty, a nie danych.
+
+    /**
+     * Wariant {@link #calculateAreas(double[], double[], double[])} zgłaszający błędne wiersze do {@code errors}
+     * @return liczba poprawnych wierszy
+     */
+    public static int calculateAreas(double[] lengths, double[] widths, double[] out, @NonNull ErrorSink errors) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(lengths, widths, out);
+        int rejected = 0;
+        for (int i = 0; i < n; i++) {
+            if (lengths[i] < 0 || widths[i] < 0) {
+                rejected += reject(errors, i, InvalidReason.NEGATIVE_DIMENSION, out);
+            } else {
+                out[i] = Math.round(lengths[i] * widths[i] * 100.0) / 100.0;
+            }
+        }
+        return finishBatch(start, n, rejected);
+    }
+
+    /**
+     * Wariant {@link #calculateWorkCosts(double[], double[], double[])} zgłaszający błędne wiersze do {@code errors}
+     * @return liczba poprawnych wierszy
+     */
+    public static int calculateWorkCosts(double[] areas, double[] pricesPerSquareMeter, double[] out,
+                                         @NonNull ErrorSink errors) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(areas, pricesPerSquareMeter, out);
+        int rejected = 0;
+        for (int i = 0; i < n; i++) {
+            if (areas[i] < 0) {
+                rejected += reject(errors, i, InvalidReason.NEGATIVE_AREA, out);
+            } else if (pricesPerSquareMeter[i] < 0) {
+                rejected += reject(errors, i, InvalidReason.NEGATIVE_PRICE, out);
+            } else {
+                out[i] = Math.round(areas[i] * pricesPerSquareMeter[i] * 100.0) / 100.0;
+            }
+        }
+        return finishBatch(start, n, rejected);
+    }
+
+    /**
+     * Wariant {@link #calculateMaterialQuantities(double[], double[], double[], double[])}
+     * zgłaszający błędne wiersze do {@code errors}
+     * @return liczba poprawnych wierszy
+     */
+    public static int calculateMaterialQuantities(double[] areas, double[] usagesPerSquareMeter,
+                                                  double[] wastePercentages, double[] out,
+                                                  @NonNull ErrorSink errors) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(areas, usagesPerSquareMeter, out);
+        checkLength(wastePercentages, n);
+        int rejected = 0;
+        for (int i = 0; i < n; i++) {
+            if (areas[i] < 0) {
+                rejected += reject(errors, i, InvalidReason.NEGATIVE_AREA, out);
+            } else if (usagesPerSquareMeter[i] < 0) {
+                rejected += reject(errors, i, InvalidReason.NEGATIVE_USAGE, out);
+            } else if (wastePercentages[i] < 0 || wastePercentages[i] > 100) {
+                rejected += reject(errors, i, InvalidReason.WASTE_OUT_OF_RANGE, out);
+            } else {
+                double baseQuantity = areas[i] * usagesPerSquareMeter[i];
+                double waste = baseQuantity * (wastePercentages[i] / 100.0);
+                out[i] = Math.round((baseQuantity + waste) * 100.0) / 100.0;
+            }
+        }
+        return finishBatch(start, n, rejected);
+    }
+
+    /**
+     * Wariant {@link #calculateVolumes(double[], double[], double[], double[])} zgłaszający błędne wiersze do {@code errors}
+     * @return liczba poprawnych wierszy
+     */
+    public static int calculateVolumes(double[] lengths, double[] widths, double[] heights, double[] out,
+                                       @NonNull ErrorSink errors) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(lengths, widths, out);
+        checkLength(heights, n);
+        int rejected = 0;
+        for (int i = 0; i < n; i++) {
+            if (lengths[i] < 0 || widths[i] < 0 || heights[i] < 0) {
+                rejected += reject(errors, i, InvalidReason.NEGATIVE_DIMENSION, out);
+            } else {
+                out[i] = Math.round(lengths[i] * widths[i] * heights[i] * 100.0) / 100.0;
+            }
+        }
+        return finishBatch(start, n, rejected);
+    }
+
+    /**
+     * Wariant {@link #calculateVATs(double[], double[], double[])} zgłaszający błędne wiersze do {@code errors}
+     * @return liczba poprawnych wierszy
+     */
+    public static int calculateVATs(double[] amounts, double[] vatRates, double[] out, @NonNull ErrorSink errors) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(amounts, vatRates, out);
+        int rejected = 0;
+        for (int i = 0; i < n; i++) {
+            InvalidReason reason = checkVat(amounts[i], vatRates[i]);
+            if (reason != null) {
+                rejected += reject(errors, i, reason, out);
+            } else {
+                out[i] = Math.round(amounts[i] * (vatRates[i] / 100.0) * 100.0) / 100.0;
+            }
+        }
+        return finishBatch(start, n, rejected);
+    }
+
+    /**
+     * Wariant {@link #calculateGrossAmounts(double[], double[], double[])} zgłaszający błędne wiersze do {@code errors}
+     * @return liczba poprawnych wierszy
+     */
+    public static int calculateGrossAmounts(double[] netAmounts, double[] vatRates, double[] out,
+                                            @NonNull ErrorSink errors) {
+        long start = CalculatorMetrics.start();
+        int n = checkBatch(netAmounts, vatRates, out);
+        int rejected = 0;
+        for (int i = 0; i < n; i++) {
+            InvalidReason reason = checkVat(netAmounts[i], vatRates[i]);
+            if (reason != null) {
+                rejected += reject(errors, i, reason, out);
+            } else {
+                double vat = Math.round(netAmounts[i] * (vatRates[i] / 100.0) * 100.0) / 100.0;
+                out[i] = Math.round((netAmounts[i] + vat) * 100.0) / 100.0;
+            }
+        }
+        return finishBatch(start, n, rejected);
+    }
+
+    private static InvalidReason checkVat(double amount, double vatRate) {
+        if (amount < 0) {
+            return InvalidReason.NEGATIVE_AMOUNT;
+        }
+        if (vatRate < 0 || vatRate > 100) {
+            return InvalidReason.VAT_RATE_OUT_OF_RANGE;
+        }
+        return null;
+    }
+
+    private static int reject(ErrorSink errors, int row, InvalidReason reason, double[] out) {
+        out[row] = Double.NaN;
+        errors.reject(row, reason);
+        return 1;
+    }
+
+    private static int finishBatch(long start, int n, int rejected) {
+        CalculatorMetrics.stop(Operation.BATCH, start);
+        CalculatorMetrics.rejectedRows(Operation.BATCH, rejected);
+        return n - rejected;
+    }
+
+    /**
+     * Sprawdza czy email jest poprawny (patrz {@link EmailValidator})
+     * @param email adres email
+     * @return true jeśli email jest poprawny
+     */
+    public static boolean isValidEmail(@NonNull String email) {
+        long start = CalculatorMetrics.start();
+        boolean valid = EmailValidator.isValid(email);
+        CalculatorMetrics.stop(Operation.EMAIL_VALIDATION, start);
+        return valid;
+    }
+    
+    /**
+     * Sprawdza czy hasło spełnia wymagania
+     * @param password hasło
+     * @return true jeśli hasło ma co najmniej 6 znaków
+     */
+    public static boolean isValidPassword(String password) {
+        return password != null && password.length() >= 6;
+    }
+    
+    /**
+     * Formatuje kwotę do wyświetlenia (bezpieczne wątkowo, patrz {@link CurrencyFormatter})
+     * @param amount kwota
+     * @return sformatowana kwota jako string
+     */
+    @NonNull
+    public static String formatCurrency(double amount) {
+        long start = CalculatorMetrics.start();
+        String formatted = CurrencyFormatter.PLN.format(amount);
+        CalculatorMetrics.stop(Operation.FORMAT, start);
+        return formatted;
+    }
+}
+
+
+
+
+
+
+
+
+
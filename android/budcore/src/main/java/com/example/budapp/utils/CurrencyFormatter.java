@@ -0,0 +1,168 @@
+package com.example.budapp.utils;
+
+import androidx.annotation.NonNull;
+import java.nio.CharBuffer;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Currency;
+import java.util.Locale;
+
+/**
+ * Formatowanie kwot w formacie "#.##" + kod waluty (np. "1234.56 PLN").
+ * Instancje są niezmienne i bezpieczne wątkowo; metody appendTo nie tworzą
+ * obiektów pośrednich. Zaokrąglanie HALF_EVEN na dokładnej wartości binarnej
+ * liczby - tak samo jak {@link DecimalFormat} w JDK.
+ */
+public final class CurrencyFormatter {
+
+    /** Domyślny formater PLN dla bieżącego locale - odpowiednik dawnego DecimalFormat w kalkulatorze. */
+    public static final CurrencyFormatter PLN = of(Currency.getInstance("PLN"), Locale.getDefault());
+
+    // Powyżej tej wartości (oraz dla NaN/nieskończoności) korzystamy z DecimalFormat
+    private static final double FAST_PATH_LIMIT = 1e16;
+
+    private final char zeroDigit;
+    private final char decimalSeparator;
+    private final char minusSign;
+    private final String suffix;
+    private final DecimalFormat fallback;
+
+    private CurrencyFormatter(DecimalFormatSymbols symbols, String currencyCode) {
+        this.zeroDigit = symbols.getZeroDigit();
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.minusSign = symbols.getMinusSign();
+        this.suffix = " " + currencyCode;
+        this.fallback = new DecimalFormat("#.##", symbols);
+    }
+
+    /**
+     * Tworzy formater dla waluty i locale
+     * @param currency waluta (jej kod jest dopisywany po kwocie)
+     * @param locale locale określające separator dziesiętny i znak minus
+     * @return formater
+     */
+    @NonNull
+    public static CurrencyFormatter of(@NonNull Currency currency, @NonNull Locale locale) {
+        return new CurrencyFormatter(DecimalFormatSymbols.getInstance(locale), currency.getCurrencyCode());
+    }
+
+    /**
+     * Formatuje kwotę do nowego stringa
+     * @param amount kwota
+     * @return sformatowana kwota z kodem waluty
+     */
+    @NonNull
+    public String format(double amount) {
+        return appendTo(new StringBuilder(24), amount).toString();
+    }
+
+    /**
+     * Dopisuje sformatowaną kwotę do bufora
+     * @param sb bufor docelowy
+     * @param amount kwota
+     * @return ten sam bufor
+     */
+    @NonNull
+    public StringBuilder appendTo(@NonNull StringBuilder sb, double amount) {
+        double abs = Math.abs(amount);
+        if (!(abs < FAST_PATH_LIMIT)) {
+            return sb.append(formatFallback(amount)).append(suffix);
+        }
+        long cents = roundToCents(abs);
+        long integerPart = cents / 100;
+        int fraction = (int) (cents % 100);
+
+        if (Double.doubleToRawLongBits(amount) < 0) {
+            sb.append(minusSign);
+        }
+        for (long p = pow10Floor(integerPart); p > 0; p /= 10) {
+            sb.append((char) (zeroDigit + (integerPart / p) % 10));
+        }
+        if (fraction != 0) {
+            sb.append(decimalSeparator).append((char) (zeroDigit + fraction / 10));
+            if (fraction % 10 != 0) {
+                sb.append((char) (zeroDigit + fraction % 10));
+            }
+        }
+        return sb.append(suffix);
+    }
+
+    /**
+     * Dopisuje sformatowaną kwotę do bufora znakowego
+     * @param buffer bufor docelowy (musi mieć wystarczająco miejsca)
+     * @param amount kwota
+     * @return ten sam bufor
+     * @throws java.nio.BufferOverflowException gdy w buforze brakuje miejsca
+     */
+    @NonNull
+    public CharBuffer appendTo(@NonNull CharBuffer buffer, double amount) {
+        double abs = Math.abs(amount);
+        if (!(abs < FAST_PATH_LIMIT)) {
+            return buffer.append(formatFallback(amount)).append(suffix);
+        }
+        long cents = roundToCents(abs);
+        long integerPart = cents / 100;
+        int fraction = (int) (cents % 100);
+
+        if (Double.doubleToRawLongBits(amount) < 0) {
+            buffer.put(minusSign);
+        }
+        for (long p = pow10Floor(integerPart); p > 0; p /= 10) {
+            buffer.put((char) (zeroDigit + (integerPart / p) % 10));
+        }
+        if (fraction != 0) {
+            buffer.put(decimalSeparator).put((char) (zeroDigit + fraction / 10));
+            if (fraction % 10 != 0) {
+                buffer.put((char) (zeroDigit + fraction % 10));
+            }
+        }
+        return buffer.put(suffix);
+    }
+
+    private String formatFallback(double amount) {
+        synchronized (fallback) {
+            return fallback.format(amount);
+        }
+    }
+
+    /**
+     * Zaokrągla |x| * 100 do liczby całkowitej metodą HALF_EVEN na dokładnej
+     * wartości binarnej (bez błędu mnożenia w arytmetyce double).
+     */
+    static long roundToCents(double abs) {
+        long bits = Double.doubleToRawLongBits(abs);
+        int exponent = (int) ((bits >>> 52) & 0x7ff);
+        long mantissa = bits & 0xfffffffffffffL;
+        if (exponent == 0) {
+            exponent = 1;
+        } else {
+            mantissa |= 1L << 52;
+        }
+        int shift = 1075 - exponent;
+        if (shift <= 0) {
+            // Wartość całkowita - brak części ułamkowej
+            return (mantissa << -shift) * 100;
+        }
+        if (shift >= 62) {
+            // 100 * mantysa < 2^60, więc wynik jest mniejszy niż 0.5
+            return 0;
+        }
+        long scaled = mantissa * 100;
+        long quotient = scaled >>> shift;
+        long remainder = scaled & ((1L << shift) - 1);
+        long half = 1L << (shift - 1);
+        if (remainder > half || (remainder == half && (quotient & 1) != 0)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    // Największa potęga 10 nie większa niż value (1 dla value == 0, bo zawsze piszemy cyfrę jedności)
+    private static long pow10Floor(long value) {
+        long p = 1;
+        while (value / p >= 10) {
+            p *= 10;
+        }
+        return p;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.budapp.utils;
+
+import androidx.annotation.NonNull;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Walidacja adresów email jednym przebiegiem po znakach, bez wyrażeń regularnych.
+ * Wynik jest identyczny z dopasowaniem całego ciągu do wzorca
+ * {@code ^[\w-\.]+@([\w-]+\.)+[\w-]{2,4}$}, gdzie {@code \w} to [a-zA-Z0-9_].
+ */
+public final class EmailValidator {
+
+    /** Wzorzec, któremu odpowiada walidator (dla porównań i dokumentacji) */
+    public static final String EMAIL_REGEX = "^[\\w-\\.]+@([\\w-]+\\.)+[\\w-]{2,4}$";
+
+    private static final boolean[] DOMAIN_CHARS = new boolean[128];
+    private static final boolean[] LOCAL_CHARS = new boolean[128];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            DOMAIN_CHARS[c] = true;
+            DOMAIN_CHARS[c - 'a' + 'A'] = true;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            DOMAIN_CHARS[c] = true;
+        }
+        DOMAIN_CHARS['_'] = true;
+        DOMAIN_CHARS['-'] = true;
+        System.arraycopy(DOMAIN_CHARS, 0, LOCAL_CHARS, 0, DOMAIN_CHARS.length);
+        LOCAL_CHARS['.'] = true;
+    }
+
+    private EmailValidator() {
+    }
+
+    /**
+     * Sprawdza czy email jest poprawny
+     * @param email adres email
+     * @return true jeśli email jest poprawny
+     */
+    public static boolean isValid(String email) {
+        if (email == null) {
+            return false;
+        }
+        int length = email.length();
+        int i = 0;
+        while (i < length && isLocalChar(email.charAt(i))) {
+            i++;
+        }
+        if (i == 0 || i == length || email.charAt(i) != '@') {
+            return false;
+        }
+
+        int labelLength = 0;
+        int dots = 0;
+        for (i++; i < length; i++) {
+            char c = email.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                dots++;
+                labelLength = 0;
+            } else if (c < 128 && DOMAIN_CHARS[c]) {
+                labelLength++;
+            } else {
+                return false;
+            }
+        }
+        return dots > 0 && labelLength >= 2 && labelLength <= 4;
+    }
+
+    /**
+     * Waliduje listę adresów (np. import kontrahentów z CSV)
+     * @param emails adresy email
+     * @return zbiór bitów - bit i ustawiony gdy adres i jest poprawny
+     */
+    @NonNull
+    public static BitSet validateAll(@NonNull List<String> emails) {
+        int size = emails.size();
+        BitSet valid = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (isValid(emails.get(i))) {
+                valid.set(i);
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Waliduje tablicę adresów
+     * @param emails adresy email
+     * @return zbiór bitów - bit i ustawiony gdy adres i jest poprawny
+     */
+    @NonNull
+    public static BitSet validateAll(@NonNull String[] emails) {
+        BitSet valid = new BitSet(emails.length);
+        for (int i = 0; i < emails.length; i++) {
+            if (isValid(emails[i])) {
+                valid.set(i);
+            }
+        }
+        return valid;
+    }
+
+    private static boolean isLocalChar(char c) {
+        return c < 128 && LOCAL_CHARS[c];
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.budapp.utils;
+
+import androidx.annotation.NonNull;
+import java.math.RoundingMode;
+
+/**
+ * Obliczenia pieniężne na liczbach stałoprzecinkowych - kwoty w groszach ({@code long}).
+ * Odpowiednik metod pieniężnych {@link ConstructionCalculator} bez dryfu double przy sumowaniu.
+ * Obsługiwane tryby zaokrąglania: {@link RoundingMode#HALF_UP} i {@link RoundingMode#HALF_EVEN}.
+ * Przepełnienie zgłaszane jest jako {@link ArithmeticException}.
+ */
+public final class MoneyCalculator {
+
+    /** Liczba groszy w złotym */
+    public static final long MINOR_PER_UNIT = 100;
+
+    /** Stawka VAT wyrażana jest w punktach bazowych: 2300 = 23% */
+    public static final int BASIS_POINTS_PER_PERCENT = 100;
+
+    private static final long BASIS_POINTS_SCALE = 100L * BASIS_POINTS_PER_PERCENT;
+
+    private MoneyCalculator() {
+    }
+
+    // ==================== KONWERSJE ====================
+
+    /**
+     * Zamienia kwotę z API double na grosze (tak samo jak {@code Math.round(x * 100.0)} w kalkulatorze)
+     * @param amount kwota w złotych
+     * @return kwota w groszach
+     */
+    public static long fromDouble(double amount) {
+        double scaled = amount * 100.0;
+        if (Double.isNaN(scaled) || Math.abs(scaled) >= 0x1p63) {
+            throw new ArithmeticException("Kwota poza zakresem: " + amount);
+        }
+        return Math.round(scaled);
+    }
+
+    /**
+     * Zamienia grosze na kwotę w API double
+     * @param minor kwota w groszach
+     * @return kwota w złotych, identyczna z wynikami {@link ConstructionCalculator}
+     */
+    public static double toDouble(long minor) {
+        return minor / 100.0;
+    }
+
+    /**
+     * Zamienia stawkę VAT w procentach (np. 23 lub 8.5) na punkty bazowe
+     * @param vatRate stawka VAT w procentach
+     * @return stawka w punktach bazowych
+     */
+    public static int vatRateToBasisPoints(double vatRate) {
+        if (vatRate < 0 || vatRate > 100) {
+            throw new IllegalArgumentException("Stawka VAT musi być między 0 a 100");
+        }
+        return (int) Math.round(vatRate * BASIS_POINTS_PER_PERCENT);
+    }
+
+    // ==================== OBLICZENIA ====================
+
+    /**
+     * Oblicza koszt prac w groszach
+     * @param areaHundredths powierzchnia w setnych m² (20.5 m² = 2050)
+     * @param pricePerSquareMeterMinor cena za m² w groszach
+     * @param mode tryb zaokrąglania
+     * @return koszt w groszach
+     */
+    public static long calculateWorkCost(long areaHundredths, long pricePerSquareMeterMinor, @NonNull RoundingMode mode) {
+        if (areaHundredths < 0) {
+            throw new IllegalArgumentException("Powierzchnia musi być nieujemna");
+        }
+        if (pricePerSquareMeterMinor < 0) {
+            throw new IllegalArgumentException("Cena musi być nieujemna");
+        }
+        return divide(Math.multiplyExact(areaHundredths, pricePerSquareMeterMinor), 100, mode);
+    }
+
+    /**
+     * Oblicza VAT w groszach
+     * @param netMinor kwota netto w groszach
+     * @param vatRateBasisPoints stawka VAT w punktach bazowych (2300 dla 23%)
+     * @param mode tryb zaokrąglania
+     * @return kwota VAT w groszach
+     */
+    public static long calculateVAT(long netMinor, int vatRateBasisPoints, @NonNull RoundingMode mode) {
+        if (netMinor < 0) {
+            throw new IllegalArgumentException("Kwota musi być nieujemna");
+        }
+        if (vatRateBasisPoints < 0 || vatRateBasisPoints > BASIS_POINTS_SCALE) {
+            throw new IllegalArgumentException("Stawka VAT musi być między 0 a 100");
+        }
+        return percentage(netMinor, vatRateBasisPoints, mode);
+    }
+
+    /**
+     * Oblicza procent kwoty (np. rezerwę 10% = 1000 punktów bazowych)
+     * @param amountMinor kwota w groszach
+     * @param rateBasisPoints procent w punktach bazowych
+     * @param mode tryb zaokrąglania
+     * @return wynik w groszach
+     */
+    public static long percentage(long amountMinor, int rateBasisPoints, @NonNull RoundingMode mode) {
+        return divide(Math.multiplyExact(amountMinor, (long) rateBasisPoints), BASIS_POINTS_SCALE, mode);
+    }
+
+    /**
+     * Oblicza kwotę brutto (netto + VAT) w groszach
+     * @param netMinor kwota netto w groszach
+     * @param vatRateBasisPoints stawka VAT w punktach bazowych
+     * @param mode tryb zaokrąglania VAT
+     * @return kwota brutto w groszach
+     */
+    public static long calculateGrossAmount(long netMinor, int vatRateBasisPoints, @NonNull RoundingMode mode) {
+        return Math.addExact(netMinor, calculateVAT(netMinor, vatRateBasisPoints, mode));
+    }
+
+    /**
+     * Sumuje kwoty w groszach bez utraty precyzji
+     * @param amounts kwoty w groszach
+     * @return suma
+     */
+    public static long sum(@NonNull long[] amounts) {
+        return sum(amounts, 0, amounts.length);
+    }
+
+    /**
+     * Sumuje fragment tablicy kwot
+     * @param amounts kwoty w groszach
+     * @param from indeks początkowy (włącznie)
+     * @param to indeks końcowy (wyłącznie)
+     * @return suma
+     */
+    public static long sum(@NonNull long[] amounts, int from, int to) {
+        long total = 0;
+        for (int i = from; i < to; i++) {
+            total = Math.addExact(total, amounts[i]);
+        }
+        return total;
+    }
+
+    /**
+     * Dzieli z zaokrągleniem w wybranym trybie (dzielnik dodatni)
+     */
+    static long divide(long dividend, long divisor, RoundingMode mode) {
+        if (mode != RoundingMode.HALF_UP && mode != RoundingMode.HALF_EVEN) {
+            throw new IllegalArgumentException("Nieobsługiwany tryb zaokrąglania: " + mode);
+        }
+        long quotient = dividend / divisor;
+        long remainder = Math.abs(dividend % divisor);
+        if (remainder == 0) {
+            return quotient;
+        }
+        long doubled = remainder * 2;
+        boolean roundAway = doubled > divisor
+                || (doubled == divisor && (mode == RoundingMode.HALF_UP || (quotient & 1) != 0));
+        if (!roundAway) {
+            return quotient;
+        }
+        return dividend < 0 ? quotient - 1 : quotient + 1;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.budapp.validation;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Odbiorca błędów walidacji z obliczeń wsadowych - zamiast wyjątku dostaje indeks wiersza i przyczynę.
+ */
+public interface ErrorSink {
+
+    /**
+     * Zgłasza odrzucony wiersz
+     * @param row indeks wiersza w partii
+     * @param reason przyczyna odrzucenia
+     */
+    void reject(int row, @NonNull InvalidReason reason);
+}
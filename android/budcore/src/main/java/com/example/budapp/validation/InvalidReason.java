@@ -0,0 +1,52 @@
+package com.example.budapp.validation;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Przyczyny odrzucenia wiersza w obliczeniach wsadowych bez wyjątków.
+ * Reguły są takie same jak w metodach {@code ConstructionCalculator} rzucających wyjątki.
+ * Kod liczbowy jest stały i może być przesyłany poza JVM.
+ */
+public enum InvalidReason {
+    NEGATIVE_DIMENSION(1, "Wymiary muszą być nieujemne"),
+    NEGATIVE_AREA(2, "Powierzchnia musi być nieujemna"),
+    NEGATIVE_PRICE(3, "Cena musi być nieujemna"),
+    NEGATIVE_USAGE(4, "Zużycie musi być nieujemne"),
+    WASTE_OUT_OF_RANGE(5, "Procent zapasu musi być między 0 a 100"),
+    NEGATIVE_AMOUNT(6, "Kwota musi być nieujemna"),
+    VAT_RATE_OUT_OF_RANGE(7, "Stawka VAT musi być między 0 a 100");
+
+    private static final InvalidReason[] VALUES = values();
+
+    private final int code;
+    private final String message;
+
+    InvalidReason(int code, String message) {
+        this.code = code;
+        this.message = message;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /** Komunikat dla użytkownika */
+    @NonNull
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Zwraca przyczynę o podanym kodzie
+     * @throws IllegalArgumentException dla nieznanego kodu
+     */
+    @NonNull
+    public static InvalidReason fromCode(int code) {
+        for (InvalidReason reason : VALUES) {
+            if (reason.code == code) {
+                return reason;
+            }
+        }
+        throw new IllegalArgumentException("Nieznany kod błędu: " + code);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.budapp.validation;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+
+/**
+ * {@link ErrorSink} zbierający błędy w tablicach prymitywnych - bez alokacji na każdy błąd.
+ * Instancja może być czyszczona i używana ponownie. Nie jest bezpieczna wątkowo.
+ */
+public final class ValidationErrors implements ErrorSink {
+
+    private static final InvalidReason[] REASONS = InvalidReason.values();
+
+    private int[] rows = new int[16];
+    private byte[] reasons = new byte[16];
+    private int size;
+
+    @Override
+    public void reject(int row, @NonNull InvalidReason reason) {
+        if (size == rows.length) {
+            rows = Arrays.copyOf(rows, size * 2);
+            reasons = Arrays.copyOf(reasons, size * 2);
+        }
+        rows[size] = row;
+        reasons[size] = (byte) reason.ordinal();
+        size++;
+    }
+
+    /** Liczba zgłoszonych błędów */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Indeks wiersza i-tego błędu */
+    public int getRow(int i) {
+        checkIndex(i);
+        return rows[i];
+    }
+
+    /** Przyczyna i-tego błędu */
+    @NonNull
+    public InvalidReason getReason(int i) {
+        checkIndex(i);
+        return REASONS[reasons[i]];
+    }
+
+    /** Usuwa zebrane błędy, zachowując zaalokowane tablice */
+    public void clear() {
+        size = 0;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Indeks błędu: " + i + ", liczba błędów: " + size);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.budapp.warmup;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+
+/**
+ * Niezmienna migawka czasów faz startu aplikacji w kolejności ich zakończenia.
+ * Fazy rozgrzewki i fazy zgłoszone przez aktywność (np. start procesu) trafiają do jednej listy.
+ */
+public final class StartupTimings {
+
+    private final String[] names;
+    private final long[] nanos;
+    private final String[] failures;
+    private final boolean ready;
+
+    StartupTimings(String[] names, long[] nanos, String[] failures, int count, boolean ready) {
+        this.names = Arrays.copyOf(names, count);
+        this.nanos = Arrays.copyOf(nanos, count);
+        this.failures = Arrays.copyOf(failures, count);
+        this.ready = ready;
+    }
+
+    /** Czy wszystkie fazy rozgrzewki zostały zakończone */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getPhaseCount() {
+        return names.length;
+    }
+
+    @NonNull
+    public String getPhaseName(int phase) {
+        return names[phase];
+    }
+
+    /** Czas fazy w nanosekundach */
+    public long getPhaseNanos(int phase) {
+        return nanos[phase];
+    }
+
+    /** Czas fazy w milisekundach */
+    public double getPhaseMillis(int phase) {
+        return nanos[phase] / 1e6;
+    }
+
+    /** Komunikat błędu fazy lub null, gdy faza zakończyła się poprawnie */
+    public String getPhaseFailure(int phase) {
+        return failures[phase];
+    }
+
+    /**
+     * Czas fazy o danej nazwie
+     * @return czas w nanosekundach lub -1, gdy faza nie została zakończona
+     */
+    public long getNanos(@NonNull String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return nanos[i];
+            }
+        }
+        return -1;
+    }
+
+    /** Suma czasów wszystkich faz w nanosekundach */
+    public long getTotalNanos() {
+        long total = 0;
+        for (long phase : nanos) {
+            total += phase;
+        }
+        return total;
+    }
+}
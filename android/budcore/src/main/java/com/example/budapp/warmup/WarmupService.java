@@ -0,0 +1,247 @@
+package com.example.budapp.warmup;
+
+import androidx.annotation.NonNull;
+import com.example.budapp.batch.CalculationBatch;
+import com.example.budapp.batch.CalculationOp;
+import com.example.budapp.history.HistoryType;
+import com.example.budapp.materials.MaterialTable;
+import com.example.budapp.materials.MaterialUnit;
+import com.example.budapp.materials.MeasureBasis;
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.CurrencyFormatter;
+import com.example.budapp.utils.EmailValidator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rozgrzewka stanu kalkulatorów przy starcie aplikacji.
+ * <p>
+ * Fazy wykonywane są kolejno w wątku tła podanym w {@link #start(Executor)}: ładowanie klas, budowa
+ * formaterów i tablic, a w fazie obliczeń wielokrotne wywołania metod kalkulatora, żeby pierwsze
+ * obliczenie użytkownika nie płaciło za interpretację i kompilację JIT. Błąd jednej fazy (również
+ * {@link Error}) jest zapisywany w czasach startu i nie przerywa kolejnych. Bezpieczna wątkowo.
+ */
+public final class WarmupService {
+
+    /** Powiadomienie o zakończeniu rozgrzewki */
+    public interface ReadyListener {
+        void onReady(@NonNull StartupTimings timings);
+    }
+
+    /** Liczba iteracji fazy obliczeń - dość, by metody kalkulatora zostały skompilowane */
+    static final int CALCULATOR_ITERATIONS = 5000;
+
+    private final String[] phaseNames;
+    private final Runnable[] phaseActions;
+    private final CountDownLatch ready = new CountDownLatch(1);
+    private final List<ReadyListener> listeners = new ArrayList<>();
+    private String[] names = new String[16];
+    private long[] nanos = new long[16];
+    private String[] failures = new String[16];
+    private int count;
+    private boolean started;
+    private boolean finished;
+
+    private WarmupService(Builder builder) {
+        phaseNames = builder.names.toArray(new String[0]);
+        phaseActions = builder.actions.toArray(new Runnable[0]);
+    }
+
+    @NonNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Uruchamia rozgrzewkę (kolejne wywołania nic nie robią)
+     * @param executor wykonawca w tle - fazy wykonywane są w jednym zadaniu
+     */
+    public void start(@NonNull Executor executor) {
+        synchronized (this) {
+            if (started) {
+                return;
+            }
+            started = true;
+        }
+        executor.execute(this::run);
+    }
+
+    private void run() {
+        for (int i = 0; i < phaseNames.length; i++) {
+            long begin = System.nanoTime();
+            String failure = null;
+            try {
+                phaseActions[i].run();
+            } catch (Throwable e) {
+                // Rozgrzewka inicjalizuje klasy - ExceptionInInitializerError czy NoClassDefFoundError
+                // nie może zatrzymać kolejnych faz ani zgłoszenia gotowości
+                failure = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            }
+            record(phaseNames[i], System.nanoTime() - begin, failure);
+        }
+        List<ReadyListener> toNotify;
+        StartupTimings timings;
+        synchronized (this) {
+            finished = true;
+            timings = snapshot();
+            toNotify = new ArrayList<>(listeners);
+            listeners.clear();
+        }
+        ready.countDown();
+        for (ReadyListener listener : toNotify) {
+            listener.onReady(timings);
+        }
+    }
+
+    /**
+     * Zapisuje czas fazy zmierzonej poza rozgrzewką (np. od startu procesu do utworzenia aktywności)
+     * @param name nazwa fazy
+     * @param phaseNanos czas w nanosekundach
+     */
+    public void record(@NonNull String name, long phaseNanos) {
+        record(name, phaseNanos, null);
+    }
+
+    private synchronized void record(String name, long phaseNanos, String failure) {
+        if (count == names.length) {
+            names = Arrays.copyOf(names, count * 2);
+            nanos = Arrays.copyOf(nanos, count * 2);
+            failures = Arrays.copyOf(failures, count * 2);
+        }
+        names[count] = name;
+        nanos[count] = phaseNanos;
+        failures[count++] = failure;
+    }
+
+    /** Czy rozgrzewka została zakończona */
+    public boolean isReady() {
+        return ready.getCount() == 0;
+    }
+
+    /**
+     * Czeka na zakończenie rozgrzewki
+     * @return true jeśli rozgrzewka zakończyła się przed upływem czasu
+     */
+    public boolean awaitReady(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+        return ready.await(timeout, unit);
+    }
+
+    /**
+     * Rejestruje słuchacza zakończenia; po zakończeniu rozgrzewki jest wywoływany od razu.
+     * Słuchacz wywoływany jest w wątku rozgrzewki albo w wątku rejestrującym.
+     */
+    public void whenReady(@NonNull ReadyListener listener) {
+        StartupTimings timings;
+        synchronized (this) {
+            if (!finished) {
+                listeners.add(listener);
+                return;
+            }
+            timings = snapshot();
+        }
+        listener.onReady(timings);
+    }
+
+    /** Czasy faz zakończonych do tej pory */
+    @NonNull
+    public synchronized StartupTimings getTimings() {
+        return snapshot();
+    }
+
+    private StartupTimings snapshot() {
+        return new StartupTimings(names, nanos, failures, count, finished);
+    }
+
+    // ==================== FAZY DOMYŚLNE ====================
+
+    /** Formatery kwot: symbole locale, szybka ścieżka i DecimalFormat dla dużych wartości */
+    static void warmFormatters() {
+        CurrencyFormatter.PLN.format(1234.56);
+        CurrencyFormatter.PLN.format(1e17);
+        ConstructionCalculator.formatCurrency(0.5);
+    }
+
+    /** Walidatory danych logowania */
+    static void warmValidators() {
+        EmailValidator.isValid("jan.kowalski@example.com");
+        ConstructionCalculator.isValidEmail("invalid-email");
+        ConstructionCalculator.isValidPassword("password123");
+    }
+
+    /** Tablice materiałów i typy historii */
+    static void warmTables() {
+        MaterialTable.defaults();
+        MaterialUnit.values();
+        MeasureBasis.values();
+        HistoryType.values();
+    }
+
+    /** Wielokrotne obliczenia wszystkich operacji kalkulatora i kanału paczek */
+    static void warmCalculators() {
+        double sink = 0;
+        for (int i = 0; i < CALCULATOR_ITERATIONS; i++) {
+            double x = 1 + (i & 63);
+            sink += ConstructionCalculator.calculateArea(x, 4.5);
+            sink += ConstructionCalculator.calculateWorkCost(x, 35);
+            sink += ConstructionCalculator.calculateMaterialQuantity(x, 2.5, 10);
+            sink += ConstructionCalculator.calculateVolume(x, 4, 2.7);
+            sink += ConstructionCalculator.calculateVAT(x * 100, 23);
+            sink += ConstructionCalculator.calculateGrossAmount(x * 100, 8);
+            sink += MoneyCalculator.calculateVAT(MoneyCalculator.fromDouble(x), 2300, RoundingMode.HALF_UP);
+        }
+        CalculationOp[] ops = CalculationOp.values();
+        ByteBuffer request = ByteBuffer.allocate(4 + ops.length * (1 + 3 * 8)).order(ByteOrder.LITTLE_ENDIAN);
+        request.putInt(ops.length);
+        for (CalculationOp op : ops) {
+            request.put((byte) op.getCode());
+            for (int a = 0; a < op.getArity(); a++) {
+                request.putDouble(10);
+            }
+        }
+        request.flip();
+        sink += CalculationBatch.decode(request).execute().remaining();
+        if (Double.isNaN(sink)) {
+            throw new IllegalStateException("Nieoczekiwany wynik rozgrzewki");
+        }
+    }
+
+    public static final class Builder {
+        private final List<String> names = new ArrayList<>();
+        private final List<Runnable> actions = new ArrayList<>();
+
+        /**
+         * Dodaje fazę rozgrzewki
+         * @param name nazwa fazy w czasach startu
+         * @param action działanie fazy
+         * @return ten budowniczy
+         */
+        @NonNull
+        public Builder addPhase(@NonNull String name, @NonNull Runnable action) {
+            names.add(name);
+            actions.add(action);
+            return this;
+        }
+
+        /** Dodaje fazy domyślne: formatters, validators, tables, calculators */
+        @NonNull
+        public Builder addDefaultPhases() {
+            return addPhase("formatters", WarmupService::warmFormatters)
+                    .addPhase("validators", WarmupService::warmValidators)
+                    .addPhase("tables", WarmupService::warmTables)
+                    .addPhase("calculators", WarmupService::warmCalculators);
+        }
+
+        @NonNull
+        public WarmupService build() {
+            return new WarmupService(this);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.budapp.weather;
+
+import androidx.annotation.NonNull;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Wczytuje zapisaną prognozę z pliku tekstowego UTF-8 - zamiast wywołania API, np. z pamięci
+ * podręcznej aplikacji lub pliku testowego.
+ * <p>
+ * Wiersz: {@code dt;temperatura;opad;wiatr}, gdzie dt to czas UTC w sekundach (pole dt z OpenWeatherMap),
+ * temperatura w °C, opad w mm za cały krok prognozy, a wiatr w m/s. Krok musi być stałą wielokrotnością
+ * godziny; prognoza 3-godzinna jest rozpisywana na godziny z opadem podzielonym równo.
+ * Liczby mogą mieć kropkę lub przecinek dziesiętny. Pierwszy wiersz zaczynający się od "dt;" jest
+ * traktowany jako nagłówek, puste wiersze są pomijane.
+ */
+public final class ForecastLoader {
+
+    private static final char SEPARATOR = ';';
+    private static final int HOUR_SECONDS = 3600;
+
+    private ForecastLoader() {
+    }
+
+    /**
+     * Wczytuje prognozę z pliku
+     * @throws IllegalArgumentException z numerem wiersza dla błędnych danych
+     */
+    @NonNull
+    public static HourlyForecast load(@NonNull File file, @NonNull String location, int utcOffsetSeconds)
+            throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            return load(in, location, utcOffsetSeconds);
+        }
+    }
+
+    /**
+     * Wczytuje prognozę ze strumienia (strumień nie jest zamykany)
+     * @param location lokalizacja prognozy
+     * @param utcOffsetSeconds przesunięcie czasu lokalnego w sekundach
+     * @throws IllegalArgumentException z numerem wiersza dla błędnych danych
+     */
+    @NonNull
+    public static HourlyForecast load(@NonNull InputStream in, @NonNull String location, int utcOffsetSeconds)
+            throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        long[] times = new long[64];
+        double[] temperatures = new double[64];
+        double[] rain = new double[64];
+        double[] wind = new double[64];
+        int rows = 0;
+        int step = 1;
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isEmpty() || (lineNumber == 1 && line.regionMatches(true, 0, "dt;", 0, 3))) {
+                continue;
+            }
+            try {
+                String[] columns = line.split(String.valueOf(SEPARATOR), -1);
+                if (columns.length != 4) {
+                    throw new IllegalArgumentException("Oczekiwano 4 kolumn: dt;temperatura;opad;wiatr");
+                }
+                long dt = (long) number(columns[0], "dt");
+                if (dt % HOUR_SECONDS != 0) {
+                    throw new IllegalArgumentException("Czas musi być pełną godziną: " + columns[0].trim());
+                }
+                if (rows > 0) {
+                    long gap = dt - times[rows - 1];
+                    if (rows == 1 && gap > 0) {
+                        step = (int) (gap / HOUR_SECONDS);
+                    }
+                    if (gap != (long) step * HOUR_SECONDS) {
+                        throw new IllegalArgumentException("Nieregularny krok prognozy: " + columns[0].trim());
+                    }
+                }
+                if (rows == times.length) {
+                    times = Arrays.copyOf(times, rows * 2);
+                    temperatures = Arrays.copyOf(temperatures, rows * 2);
+                    rain = Arrays.copyOf(rain, rows * 2);
+                    wind = Arrays.copyOf(wind, rows * 2);
+                }
+                times[rows] = dt;
+                temperatures[rows] = number(columns[1], "temperatura");
+                rain[rows] = number(columns[2], "opad");
+                wind[rows] = number(columns[3], "wiatr");
+                if (rain[rows] < 0 || wind[rows] < 0) {
+                    throw new IllegalArgumentException("Opad i wiatr muszą być nieujemne");
+                }
+                rows++;
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Wiersz " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+
+        // Rozpisanie kroków na godziny
+        int hours = rows * step;
+        double[] hourlyTemperatures = new double[hours];
+        double[] hourlyPrecipitation = new double[hours];
+        double[] hourlyWind = new double[hours];
+        for (int r = 0; r < rows; r++) {
+            for (int h = r * step; h < (r + 1) * step; h++) {
+                hourlyTemperatures[h] = temperatures[r];
+                hourlyPrecipitation[h] = rain[r] / step;
+                hourlyWind[h] = wind[r];
+            }
+        }
+        return new HourlyForecast(location, rows == 0 ? 0 : times[0] * 1000L, utcOffsetSeconds,
+                hourlyTemperatures, hourlyPrecipitation, hourlyWind);
+    }
+
+    private static double number(String value, String column) {
+        try {
+            return Double.parseDouble(value.trim().replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Nieprawidłowa wartość (" + column + "): " + value.trim());
+        }
+    }
+}
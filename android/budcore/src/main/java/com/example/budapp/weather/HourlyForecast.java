@@ -0,0 +1,94 @@
+package com.example.budapp.weather;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Godzinowa prognoza pogody dla jednej lokalizacji w równoległych tablicach prymitywów:
+ * temperatura (°C), opad (mm/h) i prędkość wiatru (m/s). Godzina {@code h} zaczyna się
+ * w chwili {@code startMillis + h * 3600000}.
+ */
+public final class HourlyForecast {
+
+    static final long HOUR_MILLIS = 3_600_000L;
+    static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+
+    private final String location;
+    private final long startMillis;
+    private final int utcOffsetSeconds;
+    private final double[] temperatures;
+    private final double[] precipitation;
+    private final double[] windSpeeds;
+
+    /**
+     * @param location lokalizacja (np. nazwa miasta jak w WeatherService)
+     * @param startMillis początek pierwszej godziny (UTC, pełna godzina)
+     * @param utcOffsetSeconds przesunięcie czasu lokalnego (pole timezone z OpenWeatherMap)
+     * @param temperatures temperatura w °C
+     * @param precipitation opad w mm/h
+     * @param windSpeeds prędkość wiatru w m/s
+     */
+    public HourlyForecast(@NonNull String location, long startMillis, int utcOffsetSeconds,
+                          @NonNull double[] temperatures, @NonNull double[] precipitation,
+                          @NonNull double[] windSpeeds) {
+        if (startMillis % HOUR_MILLIS != 0) {
+            throw new IllegalArgumentException("Prognoza musi zaczynać się o pełnej godzinie");
+        }
+        if (precipitation.length != temperatures.length || windSpeeds.length != temperatures.length) {
+            throw new IllegalArgumentException("Serie prognozy muszą mieć tę samą długość");
+        }
+        this.location = location;
+        this.startMillis = startMillis;
+        this.utcOffsetSeconds = utcOffsetSeconds;
+        this.temperatures = temperatures.clone();
+        this.precipitation = precipitation.clone();
+        this.windSpeeds = windSpeeds.clone();
+    }
+
+    @NonNull
+    public String getLocation() {
+        return location;
+    }
+
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public int getUtcOffsetSeconds() {
+        return utcOffsetSeconds;
+    }
+
+    public int getHourCount() {
+        return temperatures.length;
+    }
+
+    public double getTemperature(int hour) {
+        return temperatures[hour];
+    }
+
+    public double getPrecipitation(int hour) {
+        return precipitation[hour];
+    }
+
+    public double getWindSpeed(int hour) {
+        return windSpeeds[hour];
+    }
+
+    /** Początek godziny (UTC, ms) */
+    public long getHourMillis(int hour) {
+        return startMillis + hour * HOUR_MILLIS;
+    }
+
+    /** Lokalny dzień (liczba dni od 1970-01-01) danej godziny */
+    public long getEpochDay(int hour) {
+        return Math.floorDiv(getHourMillis(hour) + utcOffsetSeconds * 1000L, DAY_MILLIS);
+    }
+
+    /**
+     * Indeks godziny, od której zaczyna się lokalny dzień
+     * @param epochDay dzień (liczba dni od 1970-01-01)
+     * @return indeks godziny (ujemny lub poza prognozą, gdy dzień wykracza poza prognozę)
+     */
+    public long getDayStartHour(long epochDay) {
+        return Math.floorDiv(epochDay * DAY_MILLIS - utcOffsetSeconds * 1000L - startMillis, HOUR_MILLIS);
+    }
+}
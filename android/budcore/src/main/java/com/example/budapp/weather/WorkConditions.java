@@ -0,0 +1,84 @@
+package com.example.budapp.weather;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Progi pogodowe dla rodzaju prac zewnętrznych. Godzina nadaje się do pracy, gdy temperatura mieści się
+ * w zakresie, opad i wiatr nie przekraczają limitów, a przez {@code dryHoursBefore} poprzednich godzin
+ * nie padało ponad limit (np. suche podłoże pod farbę elewacyjną).
+ */
+public final class WorkConditions {
+
+    /** Betonowanie - wiązanie wymaga temperatury 5-30 °C i braku deszczu */
+    public static final WorkConditions CONCRETE_POUR =
+            new WorkConditions("Betonowanie", 5, 30, 0.0, 12, 0, 6);
+    /** Malowanie elewacji - suche podłoże po deszczu i słaby wiatr */
+    public static final WorkConditions FACADE_PAINTING =
+            new WorkConditions("Malowanie elewacji", 5, 28, 0.0, 8, 6, 4);
+    /** Prace dachowe - bez opadów i silnego wiatru */
+    public static final WorkConditions ROOFING =
+            new WorkConditions("Prace dachowe", -5, 35, 0.1, 10, 2, 3);
+
+    private final String name;
+    private final double minTemperature;
+    private final double maxTemperature;
+    private final double maxPrecipitation;
+    private final double maxWindSpeed;
+    private final int dryHoursBefore;
+    private final int minHours;
+
+    /**
+     * @param name nazwa rodzaju prac
+     * @param minTemperature minimalna temperatura w °C
+     * @param maxTemperature maksymalna temperatura w °C
+     * @param maxPrecipitation maksymalny opad w mm/h
+     * @param maxWindSpeed maksymalna prędkość wiatru w m/s
+     * @param dryHoursBefore liczba poprzedzających godzin bez opadu ponad limit
+     * @param minHours minimalna długość okna w godzinach
+     */
+    public WorkConditions(@NonNull String name, double minTemperature, double maxTemperature,
+                          double maxPrecipitation, double maxWindSpeed, int dryHoursBefore, int minHours) {
+        if (minTemperature > maxTemperature) {
+            throw new IllegalArgumentException("Minimalna temperatura większa od maksymalnej: " + name);
+        }
+        if (maxPrecipitation < 0 || maxWindSpeed < 0 || dryHoursBefore < 0 || minHours < 1) {
+            throw new IllegalArgumentException("Nieprawidłowe progi pogodowe: " + name);
+        }
+        this.name = name;
+        this.minTemperature = minTemperature;
+        this.maxTemperature = maxTemperature;
+        this.maxPrecipitation = maxPrecipitation;
+        this.maxWindSpeed = maxWindSpeed;
+        this.dryHoursBefore = dryHoursBefore;
+        this.minHours = minHours;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    public double getMinTemperature() {
+        return minTemperature;
+    }
+
+    public double getMaxTemperature() {
+        return maxTemperature;
+    }
+
+    public double getMaxPrecipitation() {
+        return maxPrecipitation;
+    }
+
+    public double getMaxWindSpeed() {
+        return maxWindSpeed;
+    }
+
+    public int getDryHoursBefore() {
+        return dryHoursBefore;
+    }
+
+    public int getMinHours() {
+        return minHours;
+    }
+}
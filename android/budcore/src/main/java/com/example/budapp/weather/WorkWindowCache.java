@@ -0,0 +1,162 @@
+package com.example.budapp.weather;
+
+import androidx.annotation.NonNull;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Pamięć podręczna okien pogodowych per lokalizacja i dzień z czasem życia wpisów (TTL),
+ * analogicznie do wpisów z datą ważności w CacheService aplikacji.
+ * <p>
+ * Wpis wygasa po {@code ttlMillis} od obliczenia; wygasłe wpisy są usuwane przy każdym chybieniu
+ * i w {@link #evictExpired()}. Po przekroczeniu limitu usuwany jest najdawniej używany wpis.
+ * Bezpieczna wątkowo; obliczenie wykonywane jest poza blokadą.
+ */
+public final class WorkWindowCache {
+
+    /** Domyślny czas życia - prognoza OpenWeatherMap odświeżana jest co 3 godziny */
+    public static final long DEFAULT_TTL_MILLIS = 3 * HourlyForecast.HOUR_MILLIS;
+    /** Domyślna maksymalna liczba wpisów */
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final List<WorkConditions> conditions;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final Map<String, CachedWindows> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public WorkWindowCache(@NonNull List<WorkConditions> conditions) {
+        this(conditions, DEFAULT_TTL_MILLIS, DEFAULT_MAXIMUM_SIZE, System::currentTimeMillis);
+    }
+
+    /**
+     * @param conditions rodzaje prac, dla których liczone są okna
+     * @param ttlMillis czas życia wpisu w ms
+     * @param maximumSize maksymalna liczba wpisów
+     * @param clock źródło bieżącego czasu w ms (w testach zegar sterowany ręcznie)
+     */
+    public WorkWindowCache(@NonNull List<WorkConditions> conditions, long ttlMillis, int maximumSize,
+                           @NonNull LongSupplier clock) {
+        if (ttlMillis <= 0 || maximumSize < 1) {
+            throw new IllegalArgumentException("Czas życia i rozmiar pamięci podręcznej muszą być dodatnie");
+        }
+        this.conditions = new ArrayList<>(conditions);
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, CachedWindows>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedWindows> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Zwraca okna dla lokalnego dnia prognozy, obliczając je przy braku ważnego wpisu.
+     * Godziny okien liczone są od początku prognozy; okno przechodzące przez północ ma pełne granice.
+     * @param forecast prognoza lokalizacji (kluczem jest {@link HourlyForecast#getLocation()})
+     * @param epochDay dzień (liczba dni od 1970-01-01)
+     */
+    @NonNull
+    public WorkWindows get(@NonNull HourlyForecast forecast, long epochDay) {
+        String key = forecast.getLocation() + '\u0000' + epochDay;
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            CachedWindows entry = entries.get(key);
+            if (entry != null && entry.expiresAt > now) {
+                hits.increment();
+                return entry.windows;
+            }
+        }
+        misses.increment();
+        long dayStart = forecast.getDayStartHour(epochDay);
+        int hours = forecast.getHourCount();
+        int from = (int) Math.max(0, Math.min(dayStart, hours));
+        int to = (int) Math.max(0, Math.min(dayStart + 24, hours));
+        WorkWindows windows = WorkWindowEngine.compute(forecast, from, to, conditions);
+        synchronized (entries) {
+            evictExpired(now);
+            entries.put(key, new CachedWindows(windows, now + ttlMillis));
+        }
+        return windows;
+    }
+
+    /**
+     * Oblicza z wyprzedzeniem okna wszystkich dni prognozy
+     * @return okna kolejnych dni
+     */
+    @NonNull
+    public List<WorkWindows> precompute(@NonNull HourlyForecast forecast) {
+        List<WorkWindows> days = new ArrayList<>();
+        int hours = forecast.getHourCount();
+        if (hours == 0) {
+            return days;
+        }
+        for (long day = forecast.getEpochDay(0); day <= forecast.getEpochDay(hours - 1); day++) {
+            days.add(get(forecast, day));
+        }
+        return days;
+    }
+
+    /** Usuwa wpisy lokalizacji, np. po pobraniu nowej prognozy */
+    public void invalidate(@NonNull String location) {
+        String prefix = location + '\u0000';
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    /**
+     * Usuwa wygasłe wpisy
+     * @return liczba usuniętych wpisów
+     */
+    public int evictExpired() {
+        long now = clock.getAsLong();
+        synchronized (entries) {
+            return evictExpired(now);
+        }
+    }
+
+    private int evictExpired(long now) {
+        int removed = 0;
+        for (Iterator<CachedWindows> it = entries.values().iterator(); it.hasNext(); ) {
+            if (it.next().expiresAt <= now) {
+                it.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /** Liczba wywołań obsłużonych z pamięci podręcznej */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /** Liczba wywołań wymagających obliczenia */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static final class CachedWindows {
+        final WorkWindows windows;
+        final long expiresAt;
+
+        CachedWindows(WorkWindows windows, long expiresAt) {
+            this.windows = windows;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
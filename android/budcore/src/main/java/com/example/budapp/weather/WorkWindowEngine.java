@@ -0,0 +1,120 @@
+package com.example.budapp.weather;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Wyznacza okna pogodowe dla prac zewnętrznych.
+ * <p>
+ * Jedno przejście po godzinach prognozy obsługuje wszystkie rodzaje prac naraz: każda godzina jest
+ * odczytywana raz, a dla każdego rodzaju utrzymywany jest początek bieżącego ciągu dobrych godzin
+ * oraz ostatnia godzina z opadem (okno suchości przesuwa się razem ze skanem). Ciąg zamknięty
+ * złą godziną lub końcem prognozy staje się oknem, jeśli ma co najmniej {@code minHours} godzin.
+ * Godziny sprzed prognozy traktowane są jako suche.
+ * <p>
+ * Dla fragmentu prognozy (np. jednego dnia) skan biegnie od początku prognozy i zwraca okna, które
+ * przecinają fragment, z ich pełnymi granicami - okno przechodzące przez północ należy do obu dni
+ * i jest identyczne z oknem z całej prognozy.
+ */
+public final class WorkWindowEngine {
+
+    private static final int NEVER = Integer.MIN_VALUE / 2;
+
+    private WorkWindowEngine() {
+    }
+
+    /**
+     * @param forecast prognoza godzinowa
+     * @param conditions progi kolejnych rodzajów prac
+     * @return okna dla każdego rodzaju w kolejności {@code conditions}
+     */
+    @NonNull
+    public static WorkWindows compute(@NonNull HourlyForecast forecast, @NonNull List<WorkConditions> conditions) {
+        return compute(forecast, 0, forecast.getHourCount(), conditions);
+    }
+
+    /**
+     * Wyznacza okna przecinające fragment prognozy, z pełnymi granicami liczonymi od początku prognozy
+     * @param forecast prognoza godzinowa
+     * @param fromHour pierwsza godzina fragmentu
+     * @param toHour godzina po ostatniej godzinie fragmentu
+     * @param conditions progi kolejnych rodzajów prac
+     */
+    @NonNull
+    public static WorkWindows compute(@NonNull HourlyForecast forecast, int fromHour, int toHour,
+                                      @NonNull List<WorkConditions> conditions) {
+        if (fromHour < 0 || toHour > forecast.getHourCount() || fromHour > toHour) {
+            throw new IllegalArgumentException("Nieprawidłowy zakres godzin: " + fromHour + "-" + toHour);
+        }
+        int types = conditions.size();
+        double[] minTemperature = new double[types];
+        double[] maxTemperature = new double[types];
+        double[] maxPrecipitation = new double[types];
+        double[] maxWind = new double[types];
+        int[] dryHours = new int[types];
+        int[] minHours = new int[types];
+        for (int k = 0; k < types; k++) {
+            WorkConditions c = conditions.get(k);
+            minTemperature[k] = c.getMinTemperature();
+            maxTemperature[k] = c.getMaxTemperature();
+            maxPrecipitation[k] = c.getMaxPrecipitation();
+            maxWind[k] = c.getMaxWindSpeed();
+            dryHours[k] = c.getDryHoursBefore();
+            minHours[k] = c.getMinHours();
+        }
+
+        int[] lastWet = new int[types];
+        int[] runStart = new int[types];
+        Arrays.fill(lastWet, NEVER);
+        Arrays.fill(runStart, -1);
+        int[][] bounds = new int[types][8];
+        int[] counts = new int[types];
+        if (fromHour == toHour) {
+            return new WorkWindows(forecast, conditions, bounds, counts);
+        }
+
+        int hours = forecast.getHourCount();
+        int open = 0;
+        for (int h = 0; h <= hours; h++) {
+            // Po końcu fragmentu nowe ciągi już go nie przetną - czekamy tylko na zamknięcie otwartych
+            if (h >= toHour && open == 0) {
+                break;
+            }
+            boolean end = h == hours;
+            double temperature = end ? 0 : forecast.getTemperature(h);
+            double precipitation = end ? 0 : forecast.getPrecipitation(h);
+            double wind = end ? 0 : forecast.getWindSpeed(h);
+            for (int k = 0; k < types; k++) {
+                boolean valid = false;
+                if (!end) {
+                    if (precipitation > maxPrecipitation[k]) {
+                        lastWet[k] = h;
+                    }
+                    valid = lastWet[k] < h - dryHours[k]
+                            && temperature >= minTemperature[k] && temperature <= maxTemperature[k]
+                            && wind <= maxWind[k];
+                }
+                if (valid) {
+                    if (runStart[k] < 0 && h < toHour) {
+                        runStart[k] = h;
+                        open++;
+                    }
+                } else if (runStart[k] >= 0) {
+                    if (h - runStart[k] >= minHours[k] && h > fromHour) {
+                        int n = counts[k];
+                        if (2 * n + 2 > bounds[k].length) {
+                            bounds[k] = Arrays.copyOf(bounds[k], bounds[k].length * 2);
+                        }
+                        bounds[k][2 * n] = runStart[k];
+                        bounds[k][2 * n + 1] = h;
+                        counts[k]++;
+                    }
+                    runStart[k] = -1;
+                    open--;
+                }
+            }
+        }
+        return new WorkWindows(forecast, conditions, bounds, counts);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.budapp.weather;
+
+import androidx.annotation.NonNull;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Okna pogodowe wyznaczone przez {@link WorkWindowEngine}. Okno to przedział godzin prognozy
+ * {@code [start, end)}; okna jednego rodzaju prac są rozłączne i posortowane.
+ * Granice przechowywane są w układzie CSR: okna rodzaju k zajmują pozycje
+ * {@code offsets[k] .. offsets[k + 1])} w tablicach {@code starts} i {@code ends}.
+ */
+public final class WorkWindows {
+
+    private final String location;
+    private final long startMillis;
+    private final WorkConditions[] conditions;
+    private final int[] offsets;
+    private final int[] starts;
+    private final int[] ends;
+
+    WorkWindows(HourlyForecast forecast, List<WorkConditions> conditions, int[][] bounds, int[] counts) {
+        this.location = forecast.getLocation();
+        this.startMillis = forecast.getStartMillis();
+        this.conditions = conditions.toArray(new WorkConditions[0]);
+        offsets = new int[counts.length + 1];
+        for (int k = 0; k < counts.length; k++) {
+            offsets[k + 1] = offsets[k] + counts[k];
+        }
+        starts = new int[offsets[counts.length]];
+        ends = new int[starts.length];
+        for (int k = 0; k < counts.length; k++) {
+            for (int i = 0; i < counts[k]; i++) {
+                starts[offsets[k] + i] = bounds[k][2 * i];
+                ends[offsets[k] + i] = bounds[k][2 * i + 1];
+            }
+        }
+    }
+
+    @NonNull
+    public String getLocation() {
+        return location;
+    }
+
+    /** Początek godziny 0 (UTC, ms) */
+    public long getStartMillis() {
+        return startMillis;
+    }
+
+    public int getTypeCount() {
+        return conditions.length;
+    }
+
+    @NonNull
+    public WorkConditions getConditions(int type) {
+        return conditions[type];
+    }
+
+    public int getWindowCount(int type) {
+        return offsets[type + 1] - offsets[type];
+    }
+
+    /** Pierwsza godzina okna */
+    public int getWindowStart(int type, int window) {
+        return starts[offsets[type] + window];
+    }
+
+    /** Godzina po ostatniej godzinie okna */
+    public int getWindowEnd(int type, int window) {
+        return ends[offsets[type] + window];
+    }
+
+    /** Łączna liczba godzin nadających się do pracy danego rodzaju */
+    public int getWorkableHours(int type) {
+        int hours = 0;
+        for (int i = offsets[type]; i < offsets[type + 1]; i++) {
+            hours += ends[i] - starts[i];
+        }
+        return hours;
+    }
+
+    /**
+     * Najwcześniejszy start zadania mieszczącego się w całości w jednym oknie
+     * @param type rodzaj prac
+     * @param durationHours czas trwania zadania
+     * @param earliestHour najwcześniejsza dopuszczalna godzina startu
+     * @return godzina startu lub -1, gdy prognoza nie zawiera odpowiedniego okna
+     */
+    public int firstFit(int type, int durationHours, int earliestHour) {
+        int from = offsets[type];
+        int to = offsets[type + 1];
+        // Pierwsze okno kończące się nie wcześniej niż najwcześniejszy możliwy koniec zadania
+        int i = Arrays.binarySearch(ends, from, to, earliestHour + durationHours);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        for (; i < to; i++) {
+            int start = Math.max(starts[i], earliestHour);
+            if (start + durationHours <= ends[i]) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Dopasowuje zaplanowane zadania zewnętrzne do okien (zadania nie blokują się nawzajem)
+     * @param types rodzaj prac każdego zadania
+     * @param durations czas trwania w godzinach
+     * @param earliestHours najwcześniejsza godzina startu (np. z harmonogramu)
+     * @return godzina startu każdego zadania lub -1
+     */
+    @NonNull
+    public int[] assign(@NonNull int[] types, @NonNull int[] durations, @NonNull int[] earliestHours) {
+        if (durations.length != types.length || earliestHours.length != types.length) {
+            throw new IllegalArgumentException("Tablice zadań muszą mieć tę samą długość");
+        }
+        int[] result = new int[types.length];
+        for (int t = 0; t < types.length; t++) {
+            result[t] = firstFit(types[t], durations[t], earliestHours[t]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.budapp;
+
+import com.example.budapp.boq.BillOfQuantitiesProcessor;
+import com.example.budapp.boq.ProcessingStats;
+import com.example.budapp.utils.ConstructionCalculator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla strumieniowego przetwarzania przedmiaru
+ */
+public class BillOfQuantitiesProcessorTest {
+
+    private static final String HEADER = "room,length,width,height,usage,waste,price,vat\n";
+
+    private static String run(BillOfQuantitiesProcessor processor, String csv) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        processor.process(Channels.newChannel(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))),
+                Channels.newChannel(out));
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    // ==================== TESTY PRZETWARZANIA ====================
+
+    @Test
+    public void process_Csv_EnrichesRowsWithCalculatorResults() throws IOException {
+        // Given: salon 5x4x2.5, 0.25 l/m² farby + 10% zapasu po 40 PLN, VAT 23%
+        String csv = HEADER + "Salon,5,4,2.5,0.25,10,40,23\r\n";
+
+        // When: przetwarzamy przedmiar
+        String result = run(new BillOfQuantitiesProcessor(), csv);
+
+        // Then: 20 m², 50 m³, 5.5 l, 220 PLN netto, 270.6 PLN brutto
+        assertEquals("room,area,volume,quantity,net,gross\nSalon,20,50,5.5,220,270.6\n", result);
+    }
+
+    @Test
+    public void process_RandomRows_MatchScalarCalculator() throws IOException {
+        // Given: wiersze z wartościami wymagającymi zaokrągleń
+        StringBuilder csv = new StringBuilder(HEADER);
+        Random random = new Random(5);
+        double[][] rows = new double[500][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new double[]{random.nextInt(2000) / 100.0, random.nextInt(2000) / 100.0,
+                    random.nextInt(400) / 100.0, random.nextInt(1000) / 1000.0, random.nextInt(30),
+                    random.nextInt(100_000) / 100.0, i % 2 == 0 ? 23 : 8};
+            csv.append("R").append(i);
+            for (double v : rows[i]) {
+                csv.append(',').append(v);
+            }
+            csv.append('\n');
+        }
+
+        // When: przetwarzamy przedmiar
+        String[] lines = run(new BillOfQuantitiesProcessor(), csv.toString()).split("\n");
+
+        // Then: każda kolumna zgodna z kalkulatorem
+        assertEquals(rows.length + 1, lines.length);
+        for (int i = 0; i < rows.length; i++) {
+            double[] r = rows[i];
+            double area = ConstructionCalculator.calculateArea(r[0], r[1]);
+            double quantity = ConstructionCalculator.calculateMaterialQuantity(area, r[3], r[4]);
+            double net = ConstructionCalculator.calculateWorkCost(quantity, r[5]);
+            String[] cols = lines[i + 1].split(",");
+            assertEquals(area, Double.parseDouble(cols[1]), 0.0);
+            assertEquals(ConstructionCalculator.calculateVolume(r[0], r[1], r[2]), Double.parseDouble(cols[2]), 0.0);
+            assertEquals(quantity, Double.parseDouble(cols[3]), 0.0);
+            assertEquals(net, Double.parseDouble(cols[4]), 0.0);
+            assertEquals(ConstructionCalculator.calculateGrossAmount(net, r[6]), Double.parseDouble(cols[5]), 0.0);
+        }
+    }
+
+    @Test
+    public void process_QuotedRoomName_IsPreservedInCsvAndEscapedInJson() throws IOException {
+        // Given: nazwa z separatorem, cudzysłowem i polskimi znakami; separator ';'
+        String csv = "\"Łazienka, \"\"mała\"\"\";2;1.5;2.5;1;0;10;8\n";
+
+        // When: przetwarzamy do CSV i JSON Lines
+        String asCsv = run(new BillOfQuantitiesProcessor(';', false, BillOfQuantitiesProcessor.OutputFormat.CSV), csv);
+        String asJson = run(new BillOfQuantitiesProcessor(';', false, BillOfQuantitiesProcessor.OutputFormat.JSON_LINES), csv);
+
+        // Then: CSV ponownie cytowane, JSON poprawnie escapowany
+        assertEquals("room,area,volume,quantity,net,gross\n\"Łazienka, \"\"mała\"\"\",3,7.5,3,30,32.4\n", asCsv);
+        assertEquals("{\"room\":\"Łazienka, \\\"mała\\\"\",\"area\":3,\"volume\":7.5,\"quantity\":3,"
+                + "\"net\":30,\"gross\":32.4}\n", asJson);
+    }
+
+    @Test
+    public void process_File_WritesOutputFile() throws IOException {
+        // Given: plik przedmiaru na dysku
+        Path input = Files.createTempFile("boq", ".csv");
+        Path output = Files.createTempFile("boq", ".out.csv");
+        try {
+            Files.write(input, (HEADER + "Kuchnia,3,3,2.5,1,0,100,23").getBytes(StandardCharsets.UTF_8));
+
+            // When: przetwarzamy plik
+            ProcessingStats stats = new BillOfQuantitiesProcessor().process(input, output);
+
+            // Then: jeden wiersz, ostatnia linia bez znaku nowej linii też przetworzona
+            assertEquals(1, stats.getRows());
+            assertEquals("room,area,volume,quantity,net,gross\nKuchnia,9,22.5,9,900,1107\n",
+                    new String(Files.readAllBytes(output), StandardCharsets.UTF_8));
+        } finally {
+            Files.deleteIfExists(input);
+            Files.deleteIfExists(output);
+        }
+    }
+
+    // ==================== TESTY BŁĘDÓW ====================
+
+    @Test
+    public void process_WithNegativeDimension_ReportsLineNumber() throws IOException {
+        // Given: trzeci wiersz pliku ma ujemną długość
+        String csv = HEADER + "A,1,1,1,1,0,1,23\nB,-1,1,1,1,0,1,23\n";
+
+        // When/Then: wyjątek z numerem wiersza
+        try {
+            run(new BillOfQuantitiesProcessor(), csv);
+            fail("Oczekiwano IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("Wiersz 3:"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void process_WithMissingColumn_ThrowsException() throws IOException {
+        // Given/When/Then: wiersz z 7 kolumnami
+        run(new BillOfQuantitiesProcessor(), HEADER + "A,1,1,1,1,0,1\n");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void process_WithInvalidNumber_ThrowsException() throws IOException {
+        // Given/When/Then: tekst zamiast liczby
+        run(new BillOfQuantitiesProcessor(), HEADER + "A,abc,1,1,1,0,1,23\n");
+    }
+
+    @Test
+    public void process_WithNonFiniteOrHugeNumber_ReportsLineNumber() throws IOException {
+        // Given: wartości, które Double.parseDouble przyjmuje, ale których nie da się zapisać w groszach
+        String[] rows = {
+                "A,NaN,1,1,1,0,1,23\n",
+                "A,1,Infinity,1,1,0,1,23\n",
+                "A,1,1,1,1,0,1e300,23\n",
+                "A,1e10,1e10,1,1,0,1,23\n"
+        };
+
+        for (String row : rows) {
+            // When/Then: błąd wiersza zamiast zniekształconej liczby na wyjściu
+            try {
+                run(new BillOfQuantitiesProcessor(), HEADER + row);
+                fail("Oczekiwano IllegalArgumentException dla " + row);
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("Wiersz 2:"));
+            }
+        }
+    }
+
+    // ==================== TESTY STRUMIENIOWE ====================
+
+    @Test
+    public void process_GeneratedStream_ProcessesAllRowsAndReportsThroughput() throws IOException {
+        // Given: generowany w locie strumień 300 tys. wierszy (nie trzymany w pamięci)
+        final int rows = 300_000;
+        ReadableByteChannel in = new GeneratedChannel(rows);
+        CountingChannel out = new CountingChannel();
+
+        // When: przetwarzamy strumień
+        ProcessingStats stats = new BillOfQuantitiesProcessor(',', false, BillOfQuantitiesProcessor.OutputFormat.JSON_LINES)
+                .process(in, out);
+
+        // Then: wszystkie wiersze przetworzone, przepustowość raportowana
+        assertEquals(rows, stats.getRows());
+        assertEquals(rows, out.lines);
+        assertTrue(stats.getRowsPerSecond() > 0);
+    }
+
+    /** Kanał generujący wiersze CSV na żądanie */
+    private static final class GeneratedChannel implements ReadableByteChannel {
+        private final int rows;
+        private int next;
+        private ByteBuffer pending = ByteBuffer.allocate(0);
+
+        GeneratedChannel(int rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (!pending.hasRemaining()) {
+                if (next == rows) {
+                    return -1;
+                }
+                int i = next++;
+                pending = ByteBuffer.wrap(String.format(Locale.ROOT, "Pokój %d,%d.%02d,4.2,2.6,0.3,10,35.5,23\n",
+                        i, 1 + i % 20, i % 100).getBytes(StandardCharsets.UTF_8));
+            }
+            int n = Math.min(dst.remaining(), pending.remaining());
+            for (int k = 0; k < n; k++) {
+                dst.put(pending.get());
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /** Kanał liczący linie bez przechowywania danych */
+    private static final class CountingChannel implements WritableByteChannel {
+        long lines;
+
+        @Override
+        public int write(ByteBuffer src) {
+            int n = src.remaining();
+            while (src.hasRemaining()) {
+                if (src.get() == '\n') {
+                    lines++;
+                }
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
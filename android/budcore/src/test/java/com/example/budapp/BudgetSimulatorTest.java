@@ -0,0 +1,135 @@
+package com.example.budapp;
+
+import com.example.budapp.estimation.EstimationEngine;
+import com.example.budapp.estimation.PlanEstimate;
+import com.example.budapp.estimation.RenovationPlan;
+import com.example.budapp.simulation.BudgetModel;
+import com.example.budapp.simulation.BudgetSimulator;
+import com.example.budapp.simulation.SimulationResult;
+import com.example.budapp.simulation.Triangular;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla symulacji Monte Carlo budżetu
+ */
+public class BudgetSimulatorTest {
+
+    // ==================== TESTY ROZKŁADU ====================
+
+    @Test
+    public void withoutUncertainty_MatchesPointEstimate() {
+        // Given: plan i model bez rozrzutu
+        RenovationPlan plan = EstimationEngineTest.randomPortfolio(3, 1, 20).get(0);
+        PlanEstimate estimate = EstimationEngine.sequential().estimate(plan);
+        BudgetModel model = BudgetModel.fromPlan(plan, 0, 0, 0);
+
+        // When: symulujemy z budżetem równym wycenie
+        SimulationResult result = BudgetSimulator.sequential().simulate(model, estimate.getNetTotal(), 10_000, 1);
+
+        // Then: każda próbka równa wycenie punktowej, budżet nie jest przekroczony
+        assertEquals(estimate.getNetTotal(), result.getMin(), 0.05);
+        assertEquals(estimate.getNetTotal(), result.getMax(), 0.05);
+        assertEquals(result.getMin(), result.getP95(), 0.0);
+        assertEquals(0.0, result.getStdDev(), 1e-9);
+        assertEquals(0.0, BudgetSimulator.sequential().simulate(model, result.getMin(), 1000, 1)
+                .getExceedanceProbability(), 0.0);
+        assertEquals(1.0, BudgetSimulator.sequential().simulate(model, result.getMin() - 0.01, 1000, 1)
+                .getExceedanceProbability(), 0.0);
+    }
+
+    @Test
+    public void symmetricTriangle_PercentilesMatchAnalyticValues() {
+        // Given: jedno zadanie 1 m² w cenie od 0 do 100 zł, najczęściej 50 zł
+        BudgetModel model = BudgetModel.builder()
+                .addTask("Robocizna", Triangular.fixed(1), Triangular.of(0, 50, 100))
+                .build();
+
+        // When: milion próbek
+        SimulationResult result = BudgetSimulator.parallel().simulate(model, 80, 1_000_000, 42);
+
+        // Then: percentyle rozkładu trójkątnego: 100 - sqrt((1 - p) * 5000)
+        assertEquals(50.0, result.getP50(), 0.2);
+        assertEquals(100 - Math.sqrt(0.2 * 5000), result.getP80(), 0.2);
+        assertEquals(100 - Math.sqrt(0.05 * 5000), result.getP95(), 0.2);
+        assertEquals(50.0, result.getMean(), 0.2);
+        assertEquals(0.08, result.getExceedanceProbability(), 0.002);
+    }
+
+    @Test
+    public void sensitivity_AttributesVarianceToUncertainCategory() {
+        // Given: stały koszt płytek i niepewny koszt farby
+        BudgetModel model = BudgetModel.builder()
+                .addMaterial("Płytki", Triangular.fixed(20), Triangular.fixed(10), Triangular.fixed(80))
+                .addMaterial("Farba", Triangular.of(8, 10, 14), Triangular.of(5, 10, 20), Triangular.around(30, 0.2))
+                .build();
+
+        // When: symulujemy
+        SimulationResult result = BudgetSimulator.sequential().simulate(model, 2000, 200_000, 7);
+
+        // Then: cała zmienność pochodzi z farby
+        assertEquals(2, result.getCategoryCount());
+        assertEquals("Płytki", result.getCategory(0));
+        assertEquals(1760.0, result.getCategoryMean(0), 1e-6);
+        assertEquals(0.0, result.getCategoryStdDev(0), 1e-9);
+        assertEquals(0.0, result.getCategoryVarianceShare(0), 1e-9);
+        assertEquals(1.0, result.getCategoryVarianceShare(1), 1e-9);
+        assertTrue(result.getP50() <= result.getP80() && result.getP80() <= result.getP95());
+        assertTrue(result.getMin() <= result.getP50() && result.getP95() <= result.getMax());
+    }
+
+    // ==================== TESTY POWTARZALNOŚCI ====================
+
+    @Test
+    public void sameSeed_SequentialAndParallel_GiveIdenticalResults() {
+        // Given: plan z niepewnością cen, ilości i odpadu
+        RenovationPlan plan = EstimationEngineTest.randomPortfolio(5, 1, 30).get(0);
+        BudgetModel model = BudgetModel.fromPlan(plan, 0.15, 0.1, 5);
+
+        // When: symulujemy sekwencyjnie i równolegle z tym samym ziarnem
+        SimulationResult sequential = BudgetSimulator.sequential().simulate(model, 100_000, 100_000, 2024);
+        SimulationResult parallel = BudgetSimulator.parallel().simulate(model, 100_000, 100_000, 2024);
+        SimulationResult otherSeed = BudgetSimulator.parallel().simulate(model, 100_000, 100_000, 2025);
+
+        // Then: wyniki identyczne co do bitu, inne ziarno daje inne wyniki
+        assertEquals(sequential.getMean(), parallel.getMean(), 0.0);
+        assertEquals(sequential.getStdDev(), parallel.getStdDev(), 0.0);
+        assertEquals(sequential.getP95(), parallel.getP95(), 0.0);
+        assertEquals(sequential.getExceedanceProbability(), parallel.getExceedanceProbability(), 0.0);
+        for (int c = 0; c < sequential.getCategoryCount(); c++) {
+            assertEquals(sequential.getCategoryVarianceShare(c), parallel.getCategoryVarianceShare(c), 0.0);
+        }
+        assertNotEquals(sequential.getMean(), otherSeed.getMean(), 0.0);
+    }
+
+    @Test
+    public void varianceShares_SumToOne() {
+        // Given: plan z niepewnością
+        RenovationPlan plan = EstimationEngineTest.randomPortfolio(9, 1, 10).get(0);
+        BudgetModel model = BudgetModel.fromPlan(plan, 0.2, 0.1, 3);
+
+        // When: symulujemy
+        SimulationResult result = BudgetSimulator.parallel().simulate(model, 0, 50_000, 3);
+
+        // Then: udziały kategorii sumują się do 1
+        double total = 0;
+        for (int c = 0; c < result.getCategoryCount(); c++) {
+            total += result.getCategoryVarianceShare(c);
+        }
+        assertEquals(1.0, total, 1e-6);
+    }
+
+    // ==================== TESTY BŁĘDÓW ====================
+
+    @Test(expected = IllegalArgumentException.class)
+    public void triangular_ModeOutsideRange_ThrowsException() {
+        // Given/When/Then: wartość najbardziej prawdopodobna większa niż maksimum
+        Triangular.of(1, 5, 3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void simulate_NoSamples_ThrowsException() {
+        // Given/When/Then: zero próbek
+        BudgetSimulator.sequential().simulate(BudgetModel.builder().build(), 100, 0, 1);
+    }
+}
@@ -0,0 +1,189 @@
+package com.example.budapp;
+
+import com.example.budapp.cache.CachedCalculator;
+import com.example.budapp.utils.ConstructionCalculator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla pamięci podręcznej wyników kalkulatora
+ */
+public class CachedCalculatorTest {
+
+    // ==================== TESTY TRAFIEŃ ====================
+
+    @Test
+    public void calculateArea_RepeatedInput_IsServedFromCache() {
+        // Given: pusta pamięć podręczna
+        CachedCalculator calculator = new CachedCalculator();
+
+        // When: trzy razy te same wymiary
+        double first = calculator.calculateArea(5.0, 4.0);
+        double second = calculator.calculateArea(5.0, 4.0);
+        double third = calculator.calculateArea(5.0, 4.0);
+
+        // Then: jedno obliczenie, dwa trafienia
+        assertEquals(20.0, first, 0.0);
+        assertEquals(first, second, 0.0);
+        assertEquals(first, third, 0.0);
+        assertEquals(1, calculator.getMissCount());
+        assertEquals(2, calculator.getHitCount());
+    }
+
+    @Test
+    public void operations_WithSameArguments_DoNotShareEntries() {
+        // Given: pamięć podręczna
+        CachedCalculator calculator = new CachedCalculator();
+
+        // When: objętość i ilość materiału z identycznymi argumentami
+        double volume = calculator.calculateVolume(2.0, 3.0, 10.0);
+        double quantity = calculator.calculateMaterialQuantity(2.0, 3.0, 10.0);
+
+        // Then: osobne wpisy i poprawne wyniki
+        assertEquals(60.0, volume, 0.0);
+        assertEquals(6.6, quantity, 0.0);
+        assertEquals(2, calculator.size());
+    }
+
+    @Test
+    public void randomInputs_MatchCalculatorExactly() {
+        // Given: mała pamięć podręczna i dużo powtarzających się losowych argumentów
+        CachedCalculator calculator = new CachedCalculator(64);
+        Random random = new Random(11);
+
+        for (int i = 0; i < 20_000; i++) {
+            double a = random.nextInt(200) / 10.0;
+            double b = random.nextInt(50) / 100.0;
+            double c = random.nextInt(30);
+
+            // When/Then: każdy wynik zgodny z kalkulatorem
+            assertEquals(ConstructionCalculator.calculateMaterialQuantity(a, b, c),
+                    calculator.calculateMaterialQuantity(a, b, c), 0.0);
+            assertEquals(ConstructionCalculator.calculateVolume(a, b, c),
+                    calculator.calculateVolume(a, b, c), 0.0);
+        }
+        assertTrue(calculator.size() <= 64);
+    }
+
+    // ==================== TESTY USUWANIA ====================
+
+    @Test
+    public void size_NeverExceedsMaximum() {
+        // Given: limit 100 wpisów
+        CachedCalculator calculator = new CachedCalculator(100);
+
+        // When: 10 tys. różnych argumentów
+        for (int i = 0; i < 10_000; i++) {
+            calculator.calculateArea(i, 1.0);
+        }
+
+        // Then: rozmiar w granicach limitu
+        assertTrue(calculator.size() <= 100);
+        assertTrue(calculator.size() > 50);
+    }
+
+    @Test
+    public void eviction_KeepsFrequentlyUsedEntry() {
+        // Given: limit 1024 wpisów, jeden często używany wpis
+        CachedCalculator calculator = new CachedCalculator(1 << 10);
+        calculator.calculateArea(3.0, 3.0);
+
+        // When: strumień jednorazowych argumentów przeplatany użyciem wpisu
+        for (int i = 0; i < 50_000; i++) {
+            calculator.calculateArea(1000.0 + i, 1.0);
+            if (i % 16 == 0) {
+                calculator.calculateArea(3.0, 3.0);
+            }
+        }
+        long missesBefore = calculator.getMissCount();
+        calculator.calculateArea(3.0, 3.0);
+
+        // Then: wpis nadal w pamięci podręcznej
+        assertEquals(missesBefore, calculator.getMissCount());
+    }
+
+    @Test
+    public void clear_RemovesEntries() {
+        // Given: zapamiętany wynik
+        CachedCalculator calculator = new CachedCalculator();
+        calculator.calculateArea(2.0, 2.0);
+
+        // When: czyścimy
+        calculator.clear();
+        calculator.calculateArea(2.0, 2.0);
+
+        // Then: kolejne wywołanie liczy od nowa
+        assertEquals(2, calculator.getMissCount());
+        assertEquals(1, calculator.size());
+    }
+
+    // ==================== TESTY BŁĘDÓW ====================
+
+    @Test
+    public void invalidInput_IsNotCached() {
+        // Given: pamięć podręczna
+        CachedCalculator calculator = new CachedCalculator();
+
+        // When: dwa razy ujemna długość
+        for (int i = 0; i < 2; i++) {
+            try {
+                calculator.calculateArea(-1.0, 2.0);
+                fail("Oczekiwano IllegalArgumentException");
+            } catch (IllegalArgumentException expected) {
+                // Then: wyjątek za każdym razem, brak wpisu
+            }
+        }
+        assertEquals(0, calculator.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_WithZeroSize_ThrowsException() {
+        // Given/When/Then: zerowy limit
+        new CachedCalculator(0);
+    }
+
+    // ==================== TESTY WSPÓŁBIEŻNOŚCI ====================
+
+    @Test
+    public void concurrentAccess_ReturnsCorrectResults() throws Exception {
+        // Given: 8 wątków na wspólnym zestawie argumentów
+        final CachedCalculator calculator = new CachedCalculator(256);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int seed = t;
+                futures.add(executor.submit(new Callable<Boolean>() {
+                    @Override
+                    public Boolean call() {
+                        Random random = new Random(seed);
+                        for (int i = 0; i < 50_000; i++) {
+                            double l = random.nextInt(500) / 10.0;
+                            double w = random.nextInt(20) / 10.0;
+                            if (calculator.calculateArea(l, w) != ConstructionCalculator.calculateArea(l, w)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+
+            // When/Then: wszystkie wątki dostają poprawne wyniki
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+            assertEquals(8 * 50_000, calculator.getHitCount() + calculator.getMissCount());
+            assertTrue(calculator.size() <= 256);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
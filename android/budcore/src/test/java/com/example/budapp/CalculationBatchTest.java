@@ -0,0 +1,137 @@
+package com.example.budapp;
+
+import com.example.budapp.batch.CalculationBatch;
+import com.example.budapp.batch.CalculationOp;
+import com.example.budapp.utils.ConstructionCalculator;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla binarnej paczki obliczeń kanału platformy
+ */
+public class CalculationBatchTest {
+
+    private static ByteBuffer request(Object... opsAndArgs) {
+        ByteBuffer buffer = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        int count = 0;
+        buffer.putInt(0);
+        for (Object item : opsAndArgs) {
+            if (item instanceof CalculationOp) {
+                buffer.put((byte) ((CalculationOp) item).getCode());
+                count++;
+            } else {
+                buffer.putDouble(((Number) item).doubleValue());
+            }
+        }
+        buffer.putInt(0, count);
+        buffer.flip();
+        return buffer;
+    }
+
+    // ==================== TESTY OBLICZEŃ ====================
+
+    @Test
+    public void execute_MixedOperations_ReturnsResultsInOrder() {
+        // Given: paczka z różnymi operacjami
+        ByteBuffer request = request(
+                CalculationOp.AREA, 5, 4,
+                CalculationOp.MATERIAL_QUANTITY, 20, 0.25, 10,
+                CalculationOp.GROSS_AMOUNT, 220, 23);
+
+        // When: wykonujemy paczkę
+        ByteBuffer response = CalculationBatch.decode(request).execute();
+
+        // Then: wyniki w kolejności żądania
+        assertEquals(3, response.getInt());
+        assertEquals(CalculationBatch.STATUS_OK, response.get());
+        assertEquals(20.0, response.getDouble(), 0.0);
+        assertEquals(CalculationBatch.STATUS_OK, response.get());
+        assertEquals(5.5, response.getDouble(), 0.0);
+        assertEquals(CalculationBatch.STATUS_OK, response.get());
+        assertEquals(270.6, response.getDouble(), 0.0);
+        assertFalse(response.hasRemaining());
+        assertTrue(response.isDirect());
+    }
+
+    @Test
+    public void execute_InvalidOperation_MarksOnlyThatResult() {
+        // Given: ujemna długość w środkowej operacji
+        ByteBuffer request = request(
+                CalculationOp.VOLUME, 1, 2, 3,
+                CalculationOp.AREA, -1, 2,
+                CalculationOp.VAT, 100, 8);
+
+        // When: wykonujemy paczkę
+        ByteBuffer response = CalculationBatch.decode(request).execute();
+
+        // Then: tylko błędna operacja ma status błędu
+        assertEquals(3, response.getInt());
+        assertEquals(CalculationBatch.STATUS_OK, response.get());
+        assertEquals(6.0, response.getDouble(), 0.0);
+        assertEquals(CalculationBatch.STATUS_INVALID, response.get());
+        assertTrue(Double.isNaN(response.getDouble()));
+        assertEquals(CalculationBatch.STATUS_OK, response.get());
+        assertEquals(8.0, response.getDouble(), 0.0);
+    }
+
+    @Test
+    public void execute_LargeBatch_MatchesScalarCalculator() {
+        // Given: 10 tys. operacji kosztu prac
+        Random random = new Random(10);
+        int count = 10_000;
+        ByteBuffer request = ByteBuffer.allocate(4 + count * 17).order(ByteOrder.LITTLE_ENDIAN);
+        double[] areas = new double[count];
+        double[] prices = new double[count];
+        request.putInt(count);
+        for (int i = 0; i < count; i++) {
+            areas[i] = random.nextInt(100_000) / 100.0;
+            prices[i] = random.nextInt(50_000) / 100.0;
+            request.put((byte) CalculationOp.WORK_COST.getCode()).putDouble(areas[i]).putDouble(prices[i]);
+        }
+        request.flip();
+
+        // When: wykonujemy paczkę
+        ByteBuffer response = CalculationBatch.decode(request).execute();
+
+        // Then: wyniki identyczne z kalkulatorem skalarnym
+        assertEquals(count, response.getInt());
+        for (int i = 0; i < count; i++) {
+            assertEquals(CalculationBatch.STATUS_OK, response.get());
+            assertEquals(ConstructionCalculator.calculateWorkCost(areas[i], prices[i]), response.getDouble(), 0.0);
+        }
+    }
+
+    @Test
+    public void decode_EmptyBatch_ReturnsEmptyResponse() {
+        // Given/When: pusta paczka
+        ByteBuffer response = CalculationBatch.decode(request()).execute();
+
+        // Then: sama liczba operacji
+        assertEquals(0, response.getInt());
+        assertFalse(response.hasRemaining());
+    }
+
+    // ==================== TESTY USZKODZONYCH KOMUNIKATÓW ====================
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decode_TruncatedMessage_ThrowsException() {
+        // Given/When/Then: brakuje drugiego argumentu
+        ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(1).put((byte) CalculationOp.AREA.getCode()).putDouble(1).putDouble(2);
+        buffer.putInt(0, 2);
+        buffer.flip();
+        CalculationBatch.decode(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decode_UnknownOpcode_ThrowsException() {
+        // Given/When/Then: kod operacji spoza zakresu
+        ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(1).put((byte) 99).putDouble(1).putDouble(2);
+        buffer.flip();
+        CalculationBatch.decode(buffer);
+    }
+}
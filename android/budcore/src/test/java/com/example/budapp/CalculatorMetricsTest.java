@@ -0,0 +1,146 @@
+package com.example.budapp;
+
+import com.example.budapp.metrics.CalculatorMetrics;
+import com.example.budapp.metrics.CalculatorMetrics.Operation;
+import com.example.budapp.metrics.LatencyHistogram;
+import com.example.budapp.metrics.MetricsSnapshot;
+import com.example.budapp.utils.ConstructionCalculator;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla metryk kalkulatora
+ */
+public class CalculatorMetricsTest {
+
+    @Before
+    public void setUp() {
+        CalculatorMetrics.reset();
+    }
+
+    @After
+    public void tearDown() {
+        CalculatorMetrics.setEnabled(false);
+        CalculatorMetrics.reset();
+    }
+
+    // ==================== TESTY LICZNIKÓW ====================
+
+    @Test
+    public void disabled_RecordsNothing() {
+        // Given: metryki wyłączone
+        CalculatorMetrics.setEnabled(false);
+
+        // When: wywołujemy kalkulator
+        ConstructionCalculator.calculateArea(2, 3);
+        try {
+            ConstructionCalculator.calculateArea(-2, 3);
+        } catch (IllegalArgumentException expected) {
+            // oczekiwany błąd walidacji
+        }
+
+        // Then: brak zapisów
+        MetricsSnapshot.OperationStats area = CalculatorMetrics.snapshot().get(Operation.AREA);
+        assertEquals(0, area.getCalls());
+        assertEquals(0, area.getFailures());
+    }
+
+    @Test
+    public void enabled_CountsCallsAndFailuresPerOperation() {
+        // Given: metryki włączone
+        CalculatorMetrics.setEnabled(true);
+
+        // When: różne wywołania, w tym odrzucone
+        for (int i = 0; i < 10; i++) {
+            ConstructionCalculator.calculateArea(i, 2);
+        }
+        ConstructionCalculator.calculateVolume(1, 2, 3);
+        ConstructionCalculator.calculateGrossAmount(100, 23);
+        ConstructionCalculator.formatCurrency(12.5);
+        ConstructionCalculator.isValidEmail("jan@example.com");
+        ConstructionCalculator.calculateAreas(new double[]{1, 2}, new double[]{3, 4}, new double[2]);
+        try {
+            ConstructionCalculator.calculateVAT(100, 150);
+            fail("Oczekiwano IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Then: komunikat kalkulatora zachowany
+            assertEquals("Stawka VAT musi być między 0 a 100", e.getMessage());
+        }
+
+        // Then: liczniki zgodne z wywołaniami
+        MetricsSnapshot snapshot = CalculatorMetrics.snapshot();
+        assertEquals(10, snapshot.get(Operation.AREA).getCalls());
+        assertEquals(1, snapshot.get(Operation.VOLUME).getCalls());
+        assertEquals(1, snapshot.get(Operation.GROSS).getCalls());
+        assertEquals(1, snapshot.get(Operation.FORMAT).getCalls());
+        assertEquals(1, snapshot.get(Operation.EMAIL_VALIDATION).getCalls());
+        assertEquals(1, snapshot.get(Operation.BATCH).getCalls());
+        assertEquals(0, snapshot.get(Operation.VAT).getCalls());
+        assertEquals(1, snapshot.get(Operation.VAT).getFailures());
+        assertTrue(snapshot.get(Operation.AREA).getMaxNanos() >= snapshot.get(Operation.AREA).getP50Nanos());
+    }
+
+    @Test
+    public void toJson_ContainsAllOperations() {
+        // Given: jedno wywołanie
+        CalculatorMetrics.setEnabled(true);
+        ConstructionCalculator.calculateWorkCost(10, 20);
+
+        // When: eksportujemy
+        String json = CalculatorMetrics.snapshot().toJson();
+
+        // Then: wszystkie operacje w eksporcie
+        assertTrue(json.startsWith("{\"area\":{\"calls\":0,"));
+        assertTrue(json.contains("\"workCost\":{\"calls\":1,\"failures\":0,"));
+        for (Operation operation : Operation.values()) {
+            assertTrue(json.contains("\"" + operation.getKey() + "\":{"));
+        }
+    }
+
+    // ==================== TESTY HISTOGRAMU ====================
+
+    @Test
+    public void histogram_PercentilesWithinBucketPrecision() {
+        // Given: pomiary 1..100000 ns
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100_000; i++) {
+            histogram.record(i);
+        }
+
+        // When/Then: percentyle z błędem względnym poniżej 7%
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000, histogram.getMaxNanos());
+        assertEquals(50_000, histogram.valueAtPercentile(50), 50_000 * 0.07);
+        assertEquals(99_000, histogram.valueAtPercentile(99), 99_000 * 0.07);
+        assertEquals(100_000, histogram.valueAtPercentile(100));
+        assertEquals(1, histogram.valueAtPercentile(0));
+    }
+
+    @Test
+    public void histogram_SmallValuesAreExact() {
+        // Given: wartości poniżej 32 ns mają własne kubełki
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(3);
+        histogram.record(17);
+
+        // When/Then: dokładne percentyle
+        assertEquals(3, histogram.valueAtPercentile(50));
+        assertEquals(17, histogram.valueAtPercentile(90));
+    }
+
+    @Test
+    public void histogram_HugeValue_IsClamped() {
+        // Given: pomiar poza zakresem
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When: zapisujemy Long.MAX_VALUE
+        histogram.record(Long.MAX_VALUE);
+
+        // Then: wartość przycięta do maksymalnej
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, histogram.getMaxNanos());
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_NANOS, histogram.valueAtPercentile(50));
+    }
+}
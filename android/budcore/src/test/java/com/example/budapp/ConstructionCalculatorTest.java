@@ -1,6 +1,8 @@
 package com.example.budapp;
 
 import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.validation.InvalidReason;
+import com.example.budapp.validation.ValidationErrors;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
@@ -313,13 +315,161 @@ public class ConstructionCalculatorTest {
         assertTrue(result.contains("PLN"));
         assertTrue(result.contains("1234.56") || result.contains("1234,56")); // może być przecinek lub kropka w zależności od locale
     }
-}
 
+    // ==================== TESTY OBLICZEŃ WSADOWYCH ====================
+
+    @Test
+    public void calculateAreas_MatchesScalarResultsExactly() {
+        // Given: wymiary z ułamkami, które wymagają zaokrąglenia
+        double[] lengths = {5.0, 5.5, 0.0, 3.333, 12.07};
+        double[] widths = {4.0, 4.3, 7.0, 2.111, 0.35};
+        double[] out = new double[lengths.length];
+
+        // When: obliczamy powierzchnie wsadowo
+        ConstructionCalculator.calculateAreas(lengths, widths, out);
+
+        // Then: każdy wynik jest identyczny z wersją skalarną
+        for (int i = 0; i < lengths.length; i++) {
+            assertEquals(Double.doubleToLongBits(ConstructionCalculator.calculateArea(lengths[i], widths[i])),
+                    Double.doubleToLongBits(out[i]));
+        }
+    }
+
+    @Test
+    public void calculateMaterialQuantities_MatchesScalarResultsExactly() {
+        // Given: powierzchnie, zużycie i zapas
+        double[] areas = {20.0, 13.37, 0.5};
+        double[] usages = {2.5, 0.33, 7.1};
+        double[] waste = {10.0, 0.0, 12.5};
+        double[] out = new double[areas.length];
+
+        // When: obliczamy ilości wsadowo
+        ConstructionCalculator.calculateMaterialQuantities(areas, usages, waste, out);
 
+        // Then: wyniki zgodne z wersją skalarną
+        for (int i = 0; i < areas.length; i++) {
+            assertEquals(ConstructionCalculator.calculateMaterialQuantity(areas[i], usages[i], waste[i]), out[i], 0.0);
+        }
+    }
 
+    @Test
+    public void calculateGrossAmounts_MatchesScalarResultsExactly() {
+        // Given: kwoty netto z różnymi stawkami VAT
+        double[] amounts = {1000.0, 99.99, 0.01, 12345.67};
+        double[] rates = {23.0, 8.0, 5.0, 23.0};
+        double[] vat = new double[amounts.length];
+        double[] gross = new double[amounts.length];
 
+        // When: obliczamy VAT i brutto wsadowo
+        ConstructionCalculator.calculateVATs(amounts, rates, vat);
+        ConstructionCalculator.calculateGrossAmounts(amounts, rates, gross);
 
+        // Then: wyniki zgodne z wersją skalarną
+        for (int i = 0; i < amounts.length; i++) {
+            assertEquals(ConstructionCalculator.calculateVAT(amounts[i], rates[i]), vat[i], 0.0);
+            assertEquals(ConstructionCalculator.calculateGrossAmount(amounts[i], rates[i]), gross[i], 0.0);
+        }
+    }
 
+    @Test
+    public void calculateVolumes_WithNegativeValue_ThrowsBeforeWritingResults() {
+        // Given: jedna ujemna wysokość na końcu partii
+        double[] out = {-1.0, -1.0};
 
+        // When: obliczamy objętości wsadowo
+        try {
+            ConstructionCalculator.calculateVolumes(new double[]{5.0, 5.0}, new double[]{4.0, 4.0},
+                    new double[]{3.0, -3.0}, out);
+            fail("Oczekiwano IllegalArgumentException");
+        } catch (IllegalArgumentException expected) {
+            // Then: bufor pozostaje nietknięty
+            assertEquals(-1.0, out[0], 0.0);
+        }
+    }
 
+    @Test(expected = IllegalArgumentException.class)
+    public void calculateWorkCosts_WithMismatchedLengths_ThrowsException() {
+        // Given/When/Then: tablice o różnych długościach
+        ConstructionCalculator.calculateWorkCosts(new double[2], new double[3], new double[3]);
+    }
 
+    // ==================== TESTY OBLICZEŃ WSADOWYCH BEZ WYJĄTKÓW ====================
+
+    @Test
+    public void calculateMaterialQuantities_WithErrorSink_SkipsInvalidRowsAndContinues() {
+        // Given: partia z trzema błędnymi wierszami różnego rodzaju
+        double[] areas = {20.0, -1.0, 10.0, 10.0, 5.0};
+        double[] usages = {0.25, 1.0, -0.5, 1.0, 2.0};
+        double[] waste = {10.0, 0.0, 0.0, 150.0, 0.0};
+        double[] out = new double[5];
+        ValidationErrors errors = new ValidationErrors();
+
+        // When: obliczamy z odbiorcą błędów
+        int valid = ConstructionCalculator.calculateMaterialQuantities(areas, usages, waste, out, errors);
+
+        // Then: poprawne wiersze policzone, błędne zgłoszone z indeksem i przyczyną
+        assertEquals(2, valid);
+        assertEquals(5.5, out[0], 0.0);
+        assertEquals(10.0, out[4], 0.0);
+        assertTrue(Double.isNaN(out[1]));
+        assertEquals(3, errors.size());
+        assertEquals(1, errors.getRow(0));
+        assertEquals(InvalidReason.NEGATIVE_AREA, errors.getReason(0));
+        assertEquals(2, errors.getRow(1));
+        assertEquals(InvalidReason.NEGATIVE_USAGE, errors.getReason(1));
+        assertEquals(3, errors.getRow(2));
+        assertEquals(InvalidReason.WASTE_OUT_OF_RANGE, errors.getReason(2));
+    }
+
+    @Test
+    public void errorSinkVariants_ValidRowsMatchScalarMethods() {
+        // Given: co dwudziesty wiersz błędny
+        int n = 1000;
+        double[] a = new double[n];
+        double[] b = new double[n];
+        double[] c = new double[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = i % 20 == 0 ? -1 - i : i * 0.37;
+            b[i] = (i % 97) * 1.13;
+            c[i] = i % 90;
+        }
+        double[] out = new double[n];
+        ValidationErrors errors = new ValidationErrors();
+
+        // When/Then: każdy wariant zgadza się z metodą skalarną dla poprawnych wierszy
+        assertEquals(n - 50, ConstructionCalculator.calculateAreas(a, b, out, errors));
+        assertEquals(ConstructionCalculator.calculateArea(a[7], b[7]), out[7], 0.0);
+        assertEquals(n - 50, ConstructionCalculator.calculateWorkCosts(a, b, out, errors));
+        assertEquals(ConstructionCalculator.calculateWorkCost(a[7], b[7]), out[7], 0.0);
+        assertEquals(n - 50, ConstructionCalculator.calculateVolumes(a, b, c, out, errors));
+        assertEquals(ConstructionCalculator.calculateVolume(a[7], b[7], c[7]), out[7], 0.0);
+        assertEquals(n - 50, ConstructionCalculator.calculateVATs(a, c, out, errors));
+        assertEquals(ConstructionCalculator.calculateVAT(a[7], c[7]), out[7], 0.0);
+        assertEquals(n - 50, ConstructionCalculator.calculateGrossAmounts(a, c, out, errors));
+        assertEquals(ConstructionCalculator.calculateGrossAmount(a[7], c[7]), out[7], 0.0);
+        assertEquals(5 * 50, errors.size());
+        assertEquals(InvalidReason.NEGATIVE_AMOUNT, errors.getReason(errors.size() - 1));
+    }
+
+    @Test
+    public void calculateVATs_WithErrorSink_ReportsRateOutOfRange() {
+        // Given: stawka spoza zakresu
+        ValidationErrors errors = new ValidationErrors();
+        double[] out = new double[2];
+
+        // When: obliczamy VAT
+        int valid = ConstructionCalculator.calculateVATs(new double[]{100, 100}, new double[]{23, 101}, out, errors);
+
+        // Then: drugi wiersz odrzucony z komunikatem jak w wyjątku
+        assertEquals(1, valid);
+        assertEquals(23.0, out[0], 0.0);
+        assertEquals(InvalidReason.VAT_RATE_OUT_OF_RANGE, errors.getReason(0));
+        assertEquals("Stawka VAT musi być między 0 a 100", errors.getReason(0).getMessage());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calculateAreas_WithErrorSinkAndMismatchedLengths_ThrowsException() {
+        // Given/When/Then: niezgodne długości to błąd programisty - nadal wyjątek
+        ConstructionCalculator.calculateAreas(new double[2], new double[3], new double[3], new ValidationErrors());
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.budapp;
+
+import com.example.budapp.utils.CurrencyFormatter;
+import java.nio.CharBuffer;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla formatera kwot
+ */
+public class CurrencyFormatterTest {
+
+    private static final CurrencyFormatter US_PLN =
+            CurrencyFormatter.of(Currency.getInstance("PLN"), Locale.US);
+
+    private static String reference(double amount, Locale locale) {
+        return new DecimalFormat("#.##", DecimalFormatSymbols.getInstance(locale)).format(amount) + " PLN";
+    }
+
+    // ==================== TESTY ZGODNOŚCI Z DECIMALFORMAT ====================
+
+    @Test
+    public void format_EdgeCases_MatchDecimalFormat() {
+        // Given: wartości graniczne (remisy, zera ze znakiem, duże liczby, NaN)
+        double[] values = {0, -0.0, 0.5, -0.5, 0.001, -0.001, 0.005, 0.015, 0.125, 0.135, 1.005,
+                1.015, 0.995, 9.995, 1234.56, 1000, 123456789012.345, 9.999999e15, 1e16, 1e20,
+                Double.MIN_VALUE, Double.MAX_VALUE, Double.NaN, Double.POSITIVE_INFINITY};
+
+        // When/Then: wynik identyczny z DecimalFormat("#.##") + " PLN"
+        for (double value : values) {
+            assertEquals("dla " + value, reference(value, Locale.US), US_PLN.format(value));
+        }
+    }
+
+    @Test
+    public void format_RandomAmounts_MatchDecimalFormat() {
+        // Given: losowe kwoty w różnych rzędach wielkości
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            double value = (random.nextDouble() - 0.3) * Math.pow(10, random.nextInt(14));
+            if (i % 4 == 0) {
+                // kwoty z dokładnie trzema miejscami po przecinku - dużo remisów
+                value = Math.rint(value * 1000) / 1000;
+            }
+
+            // Then: wynik identyczny z DecimalFormat
+            assertEquals(reference(value, Locale.US), US_PLN.format(value));
+        }
+    }
+
+    @Test
+    public void format_WithPolishLocale_UsesComma() {
+        // Given: formater dla polskiego locale
+        CurrencyFormatter formatter = CurrencyFormatter.of(Currency.getInstance("PLN"), new Locale("pl", "PL"));
+
+        // When/Then: separator dziesiętny to przecinek
+        assertEquals("1234,56 PLN", formatter.format(1234.56));
+        assertEquals(reference(-7.5, new Locale("pl", "PL")), formatter.format(-7.5));
+    }
+
+    @Test
+    public void format_WithOtherCurrency_UsesCurrencyCode() {
+        // Given: formater EUR
+        CurrencyFormatter formatter = CurrencyFormatter.of(Currency.getInstance("EUR"), Locale.US);
+
+        // When/Then: kod waluty po kwocie
+        assertEquals("99.9 EUR", formatter.format(99.9));
+    }
+
+    // ==================== TESTY DOPISYWANIA DO BUFORÓW ====================
+
+    @Test
+    public void appendTo_StringBuilder_AppendsToExistingContent() {
+        // Given: bufor z istniejącą treścią
+        StringBuilder sb = new StringBuilder("Razem: ");
+
+        // When: dopisujemy dwie kwoty
+        US_PLN.appendTo(sb, 1000.0);
+        sb.append(", ");
+        US_PLN.appendTo(sb, 0.05);
+
+        // Then: obie kwoty dopisane
+        assertEquals("Razem: 1000 PLN, 0.05 PLN", sb.toString());
+    }
+
+    @Test
+    public void appendTo_CharBuffer_WritesFormattedAmount() {
+        // Given: bufor znakowy
+        CharBuffer buffer = CharBuffer.allocate(32);
+
+        // When: dopisujemy kwotę
+        US_PLN.appendTo(buffer, -12.3);
+        buffer.flip();
+
+        // Then: zawartość zgodna z format()
+        assertEquals("-12.3 PLN", buffer.toString());
+    }
+
+    // ==================== TESTY WSPÓŁBIEŻNOŚCI ====================
+
+    @Test
+    public void format_FromManyThreads_ProducesConsistentOutput() throws Exception {
+        // Given: wiele wątków formatujących jednocześnie
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+        try {
+            for (int t = 0; t < 8; t++) {
+                final int seed = t;
+                results.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    StringBuilder sb = new StringBuilder();
+                    for (int i = 0; i < 20_000; i++) {
+                        double value = random.nextInt(10_000_000) / 100.0;
+                        sb.setLength(0);
+                        US_PLN.appendTo(sb, value);
+                        if (!reference(value, Locale.US).contentEquals(sb)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+
+            // Then: żaden wątek nie widzi zniekształconych wyników
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
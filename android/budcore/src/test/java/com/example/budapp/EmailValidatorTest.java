@@ -0,0 +1,98 @@
+package com.example.budapp;
+
+import com.example.budapp.utils.EmailValidator;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla walidatora email - porównanie z dotychczasowym wyrażeniem regularnym
+ */
+public class EmailValidatorTest {
+
+    private static final Pattern REFERENCE = Pattern.compile(EmailValidator.EMAIL_REGEX);
+
+    private static final String[] CORPUS = {
+            "user@example.com", "user.name@example.co.uk", "first-last@sub.domain.org",
+            "a_b@c.de", "x@y.io", "x@y.info", "x@y.museum", "x@y.c", "x@y.", "x@.com",
+            "x@y..com", "x@@y.com", "@example.com", "user@", "user@example", "user@com.",
+            ".user@example.com", "user.@example.com", "us..er@example.com", "-@-.--",
+            "user@exa_mple.com", "user@exa-mple.c-m", "user+tag@example.com", "user@exa mple.com",
+            " user@example.com", "user@example.com ", "user@example.com\n", "\tuser@example.com",
+            "użytkownik@example.com", "user@przykład.pl", "USER@EXAMPLE.COM", "123@456.789",
+            "user@example.com.pl", "user@a.b.c.d.e.fg", "user@example.abcde", "", " ", "invalid-email",
+            "user@example,com", "user@[127.0.0.1]", "\"quoted\"@example.com", "a@b.cd@e.fg",
+    };
+
+    private static boolean reference(String email) {
+        if (email == null || email.trim().isEmpty()) {
+            return false;
+        }
+        return REFERENCE.matcher(email).matches();
+    }
+
+    // ==================== TESTY ZGODNOŚCI ====================
+
+    @Test
+    public void isValid_EdgeCaseCorpus_MatchesRegex() {
+        // Given: korpus przypadków brzegowych
+        for (String email : CORPUS) {
+            // When/Then: wynik identyczny z wyrażeniem regularnym
+            assertEquals("dla '" + email + "'", reference(email), EmailValidator.isValid(email));
+        }
+    }
+
+    @Test
+    public void isValid_RandomStrings_MatchesRegex() {
+        // Given: losowe ciągi z alfabetu bogatego w znaki graniczne
+        char[] alphabet = "ab9_-.@ .Zżx@".toCharArray();
+        Random random = new Random(3);
+
+        for (int i = 0; i < 200_000; i++) {
+            char[] chars = new char[1 + random.nextInt(14)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = alphabet[random.nextInt(alphabet.length)];
+            }
+            String email = new String(chars);
+
+            // Then: wynik identyczny z wyrażeniem regularnym
+            assertEquals("dla '" + email + "'", reference(email), EmailValidator.isValid(email));
+        }
+    }
+
+    @Test
+    public void isValid_WithNull_ReturnsFalse() {
+        // Given/When/Then: null nie jest poprawnym adresem
+        assertFalse(EmailValidator.isValid(null));
+    }
+
+    // ==================== TESTY WALIDACJI ZBIORCZEJ ====================
+
+    @Test
+    public void validateAll_Array_SetsBitsForValidEntries() {
+        // Given: tablica adresów
+        String[] emails = {"user@example.com", "invalid-email", null, "a@b.pl"};
+
+        // When: walidujemy zbiorczo
+        BitSet valid = EmailValidator.validateAll(emails);
+
+        // Then: ustawione bity 0 i 3
+        assertEquals(2, valid.cardinality());
+        assertTrue(valid.get(0));
+        assertTrue(valid.get(3));
+    }
+
+    @Test
+    public void validateAll_List_MatchesSingleValidation() {
+        // Given: cały korpus jako lista
+        BitSet valid = EmailValidator.validateAll(Arrays.asList(CORPUS));
+
+        // Then: każdy bit zgodny z walidacją pojedynczą
+        for (int i = 0; i < CORPUS.length; i++) {
+            assertEquals(EmailValidator.isValid(CORPUS[i]), valid.get(i));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.budapp;
+
+import com.example.budapp.estimation.EstimationEngine;
+import com.example.budapp.estimation.Material;
+import com.example.budapp.estimation.PlanEstimate;
+import com.example.budapp.estimation.RenovationPlan;
+import com.example.budapp.estimation.Room;
+import com.example.budapp.estimation.Task;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla silnika wyceny planów remontu
+ */
+public class EstimationEngineTest {
+
+    private static final String[] CATEGORIES = {"Farby", "Płytki", "Podłogi", "Chemia budowlana"};
+
+    static List<RenovationPlan> randomPortfolio(long seed, int plans, int roomsPerPlan) {
+        Random random = new Random(seed);
+        List<RenovationPlan> portfolio = new ArrayList<>();
+        for (int p = 0; p < plans; p++) {
+            List<Room> rooms = new ArrayList<>();
+            for (int r = 0; r < roomsPerPlan; r++) {
+                List<Material> materials = new ArrayList<>();
+                for (int m = 0; m < 1 + random.nextInt(6); m++) {
+                    materials.add(new Material("M" + m, CATEGORIES[random.nextInt(CATEGORIES.length)],
+                            random.nextInt(500) / 100.0, random.nextInt(21), random.nextInt(20_000) / 100.0));
+                }
+                List<Task> tasks = new ArrayList<>();
+                for (int t = 0; t < random.nextInt(4); t++) {
+                    tasks.add(new Task("T" + t, "Wykończenie", random.nextInt(15_000) / 100.0));
+                }
+                rooms.add(new Room("R" + r, 4 + random.nextInt(4000) / 100.0, materials, tasks));
+            }
+            portfolio.add(new RenovationPlan("P" + p, "Plan " + p, rooms, p % 2 == 0 ? 23.0 : 8.0));
+        }
+        return portfolio;
+    }
+
+    // ==================== TESTY WYCENY ====================
+
+    @Test
+    public void estimate_SingleRoom_ComputesTotalsContingencyAndVat() {
+        // Given: łazienka 10 m², farba 0.2 l/m² + 10% zapasu po 50 PLN, malowanie 20 PLN/m²
+        Room bathroom = new Room("Łazienka", 10.0,
+                Collections.singletonList(new Material("Farba", "Farby", 0.2, 10.0, 50.0)),
+                Collections.singletonList(new Task("Malowanie", "Wykończenie", 20.0)));
+        RenovationPlan plan = new RenovationPlan("p1", "Remont", Collections.singletonList(bathroom), 23.0);
+
+        // When: wyceniamy plan
+        PlanEstimate estimate = EstimationEngine.sequential().estimate(plan);
+
+        // Then: 2.2 l farby = 110 PLN, robocizna 200 PLN, rezerwa 31 PLN, VAT 23% od 341 PLN
+        assertEquals(2.2, estimate.getRoom(0).getMaterialQuantity(0), 0.0);
+        assertEquals(11_000, estimate.getRoom(0).getMaterialCostMinor(0));
+        assertEquals(20_000, estimate.getRoom(0).getTaskCostMinor(0));
+        assertEquals(310.0, estimate.getNetTotal(), 0.0);
+        assertEquals(31.0, estimate.getContingency(), 0.0);
+        assertEquals(341.0, estimate.getGrandTotal(), 0.0);
+        assertEquals(78.43, estimate.getVat(), 0.0);
+        assertEquals(419.43, estimate.getGrossTotal(), 0.0);
+    }
+
+    @Test
+    public void estimate_GroupsCategoriesInOrderOfFirstAppearance() {
+        // Given: dwa pomieszczenia z powtarzającymi się kategoriami
+        Room kitchen = new Room("Kuchnia", 10.0,
+                Arrays.asList(new Material("Płytki", "Płytki", 1.0, 0, 80.0), new Material("Farba", "Farby", 0.1, 0, 40.0)),
+                Collections.singletonList(new Task("Kafelkowanie", "Wykończenie", 100.0)));
+        Room hall = new Room("Korytarz", 5.0,
+                Collections.singletonList(new Material("Farba", "Farby", 0.1, 0, 40.0)),
+                Collections.<Task>emptyList());
+        RenovationPlan plan = new RenovationPlan("p2", "Mieszkanie", Arrays.asList(kitchen, hall), 8.0);
+
+        // When: wyceniamy plan
+        PlanEstimate estimate = EstimationEngine.sequential().estimate(plan);
+
+        // Then: Płytki, Farby, Robocizna z sumami
+        assertEquals(3, estimate.getCategoryCount());
+        assertEquals("Płytki", estimate.getCategory(0));
+        assertEquals(80_000, estimate.getCategoryTotalMinor(0));
+        assertEquals("Farby", estimate.getCategory(1));
+        assertEquals(6_000, estimate.getCategoryTotalMinor(1));
+        assertEquals(EstimationEngine.LABOR_CATEGORY, estimate.getCategory(2));
+        assertEquals(100_000, estimate.getCategoryTotalMinor(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void estimate_WithInvalidWaste_ThrowsException() {
+        // Given: zapas 150%
+        Room room = new Room("Pokój", 10.0,
+                Collections.singletonList(new Material("Farba", "Farby", 0.2, 150.0, 50.0)),
+                Collections.<Task>emptyList());
+
+        // When/Then: wyjątek jak w kalkulatorze
+        EstimationEngine.sequential().estimate(
+                new RenovationPlan("p3", "Błędny", Collections.singletonList(room), 23.0));
+    }
+
+    // ==================== TESTY RÓWNOLEGŁOŚCI ====================
+
+    @Test
+    public void estimateAll_Parallel_MatchesSequentialExactly() {
+        // Given: portfel 200 planów po 30 pomieszczeń
+        List<RenovationPlan> portfolio = randomPortfolio(11, 200, 30);
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            // When: wyceniamy sekwencyjnie i równolegle
+            List<PlanEstimate> sequential = EstimationEngine.sequential().estimateAll(portfolio);
+            List<PlanEstimate> parallel = EstimationEngine.parallel(pool).estimateAll(portfolio);
+
+            // Then: wszystkie sumy identyczne
+            assertEquals(sequential.size(), parallel.size());
+            for (int p = 0; p < sequential.size(); p++) {
+                PlanEstimate expected = sequential.get(p);
+                PlanEstimate actual = parallel.get(p);
+                assertEquals(expected.getPlanId(), actual.getPlanId());
+                assertEquals(expected.getNetTotalMinor(), actual.getNetTotalMinor());
+                assertEquals(expected.getContingencyMinor(), actual.getContingencyMinor());
+                assertEquals(expected.getVatMinor(), actual.getVatMinor());
+                assertEquals(expected.getGrossTotalMinor(), actual.getGrossTotalMinor());
+                assertEquals(expected.getCategoryCount(), actual.getCategoryCount());
+                for (int c = 0; c < expected.getCategoryCount(); c++) {
+                    assertEquals(expected.getCategory(c), actual.getCategory(c));
+                    assertEquals(expected.getCategoryTotalMinor(c), actual.getCategoryTotalMinor(c));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.budapp;
+
+import com.example.budapp.geometry.FloorPlan;
+import com.example.budapp.geometry.GeometryEngine;
+import com.example.budapp.geometry.PlanGeometry;
+import com.example.budapp.utils.ConstructionCalculator;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla geometrii rzutów pomieszczeń
+ */
+public class GeometryEngineTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static double[] rectX(double length) {
+        return new double[]{0, length, length, 0};
+    }
+
+    private static double[] rectY(double width) {
+        return new double[]{0, 0, width, width};
+    }
+
+    // ==================== TESTY WIELOKĄTÓW ====================
+
+    @Test
+    public void rectangle_MatchesCalculatorAreaAndVolume() {
+        // Given: prostokąt 5 x 4 m, wysokość 2.5 m
+        FloorPlan.Builder builder = FloorPlan.builder();
+        builder.addRoom(rectX(5), rectY(4), 2.5);
+
+        // When: obliczamy geometrię
+        PlanGeometry geometry = GeometryEngine.evaluate(builder.build());
+
+        // Then: zgodnie z calculateArea / calculateVolume
+        assertEquals(ConstructionCalculator.calculateArea(5, 4), geometry.getFloorArea(0), DELTA);
+        assertEquals(ConstructionCalculator.calculateVolume(5, 4, 2.5), geometry.getVolume(0), DELTA);
+        assertEquals(18.0, geometry.getPerimeter(0), DELTA);
+        assertEquals(45.0, geometry.getGrossWallArea(0), DELTA);
+        assertEquals(20.0, geometry.getCeilingArea(0), DELTA);
+    }
+
+    @Test
+    public void concaveLShape_AnyOrientation_ComputesAreaAndPerimeter() {
+        // Given: kształt L (6 x 6 bez narożnika 3 x 3) w obu orientacjach
+        double[] xs = {0, 6, 6, 3, 3, 0};
+        double[] ys = {0, 0, 3, 3, 6, 6};
+        double[] reversedX = {0, 3, 3, 6, 6, 0};
+        double[] reversedY = {6, 6, 3, 3, 0, 0};
+
+        // Then: pole 27 m² i obwód 24 m niezależnie od orientacji
+        assertEquals(27.0, GeometryEngine.polygonArea(xs, ys), DELTA);
+        assertEquals(27.0, GeometryEngine.polygonArea(reversedX, reversedY), DELTA);
+        assertEquals(24.0, GeometryEngine.polygonPerimeter(xs, ys), DELTA);
+    }
+
+    @Test
+    public void scaleFactor_ConvertsCoordinatesToMeters() {
+        // Given: współrzędne w pikselach, 1 px = 1 cm
+        FloorPlan.Builder builder = FloorPlan.builder(0.01);
+        builder.addRoom(rectX(300), rectY(200), 2.6);
+
+        // When: obliczamy geometrię
+        PlanGeometry geometry = GeometryEngine.evaluate(builder.build());
+
+        // Then: wartości w metrach
+        assertEquals(6.0, geometry.getFloorArea(0), DELTA);
+        assertEquals(10.0, geometry.getPerimeter(0), DELTA);
+    }
+
+    @Test
+    public void largeCoordinates_KeepPrecision() {
+        // Given: mały prostokąt daleko od początku układu (współrzędne geodezyjne)
+        double[] xs = {5_500_000, 5_500_000.5, 5_500_000.5, 5_500_000};
+        double[] ys = {7_300_000, 7_300_000, 7_300_000.25, 7_300_000.25};
+
+        // Then: dokładne pole
+        assertEquals(0.125, GeometryEngine.polygonArea(xs, ys), DELTA);
+    }
+
+    // ==================== TESTY ŚCIAN I SUFITÓW ====================
+
+    @Test
+    public void openings_AreSubtractedFromWalls() {
+        // Given: pokój 5 x 4 x 2.5 z drzwiami 0.9 x 2.0 i oknem 1.2 x 1.5
+        FloorPlan.Builder builder = FloorPlan.builder();
+        int room = builder.addRoom(rectX(5), rectY(4), 2.5);
+        builder.addOpening(room, 0, 0.9, 2.0).addOpening(room, 2, 1.2, 1.5);
+
+        // When: obliczamy geometrię
+        PlanGeometry geometry = GeometryEngine.evaluate(builder.build());
+
+        // Then: 45 - 1.8 - 1.8 m²
+        assertEquals(3.6, geometry.getOpeningArea(0), DELTA);
+        assertEquals(41.4, geometry.getNetWallArea(0), DELTA);
+    }
+
+    @Test
+    public void slopedCeiling_ComputesWallsCeilingAndVolume() {
+        // Given: pokój 4 x 4 m, sufit od 1 m (x = 0) do 3 m (x = 4)
+        FloorPlan.Builder builder = FloorPlan.builder();
+        int room = builder.addRoom(rectX(4), rectY(4), 2.5);
+        builder.setSlopedCeiling(room, 0, 0, 1.0, 4, 0, 3.0);
+
+        // When: obliczamy geometrię
+        PlanGeometry geometry = GeometryEngine.evaluate(builder.build());
+
+        // Then: kubatura = pole x średnia wysokość, ściany jako trapezy, sufit dłuższy o nachylenie
+        assertEquals(32.0, geometry.getVolume(0), DELTA);
+        assertEquals(8 + 12 + 8 + 4, geometry.getGrossWallArea(0), DELTA);
+        assertEquals(16.0 * Math.sqrt(1.25), geometry.getCeilingArea(0), DELTA);
+    }
+
+    @Test
+    public void slopedCeiling_OverTriangle_UsesCentroidHeight() {
+        // Given: trójkąt (0,0) (2,0) (0,2) w zgodnej z zegarem kolejności, wysokość 1 + x
+        FloorPlan.Builder builder = FloorPlan.builder();
+        int room = builder.addRoom(new double[]{0, 0, 2}, new double[]{0, 2, 0}, 1.0);
+        builder.setSlopedCeiling(room, 0, 5, 1.0, 1, 5, 2.0);
+
+        // When: obliczamy geometrię
+        PlanGeometry geometry = GeometryEngine.evaluate(builder.build());
+
+        // Then: pole 2, środek ciężkości x = 2/3, kubatura 2 * (1 + 2/3)
+        assertEquals(2.0, geometry.getFloorArea(0), DELTA);
+        assertEquals(10.0 / 3.0, geometry.getVolume(0), DELTA);
+    }
+
+    // ==================== TESTY WSADOWE ====================
+
+    @Test
+    public void evaluate_ManyRooms_MatchesCalculator() {
+        // Given: 10 000 losowych prostokątów przesuniętych w rzucie
+        Random random = new Random(11);
+        FloorPlan.Builder builder = FloorPlan.builder();
+        double[][] dims = new double[10_000][3];
+        for (int i = 0; i < dims.length; i++) {
+            dims[i][0] = 1 + random.nextInt(1000) / 100.0;
+            dims[i][1] = 1 + random.nextInt(1000) / 100.0;
+            dims[i][2] = 2 + random.nextInt(100) / 100.0;
+            double ox = random.nextInt(100);
+            double oy = random.nextInt(100);
+            builder.addRoom(new double[]{ox, ox + dims[i][0], ox + dims[i][0], ox},
+                    new double[]{oy, oy, oy + dims[i][1], oy + dims[i][1]}, dims[i][2]);
+        }
+
+        // When: obliczamy geometrię wszystkich pomieszczeń
+        PlanGeometry geometry = GeometryEngine.evaluate(builder.build());
+
+        // Then: zgodnie z kalkulatorem (zaokrąglającym do 0.01)
+        assertEquals(dims.length, geometry.getRoomCount());
+        for (int i = 0; i < dims.length; i++) {
+            assertEquals(ConstructionCalculator.calculateArea(dims[i][0], dims[i][1]), geometry.getFloorArea(i), 0.005 + 1e-9);
+            assertEquals(ConstructionCalculator.calculateVolume(dims[i][0], dims[i][1], dims[i][2]),
+                    geometry.getVolume(i), 0.005 + 1e-9);
+        }
+    }
+
+    // ==================== TESTY BŁĘDÓW ====================
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addRoom_TwoVertices_ThrowsException() {
+        // Given/When/Then: odcinek zamiast wielokąta
+        FloorPlan.builder().addRoom(new double[]{0, 1}, new double[]{0, 1}, 2.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void evaluate_CollinearVertices_ThrowsException() {
+        // Given/When/Then: wierzchołki na jednej prostej
+        FloorPlan.Builder builder = FloorPlan.builder();
+        builder.addRoom(new double[]{0, 1, 2}, new double[]{0, 1, 2}, 2.5);
+        GeometryEngine.evaluate(builder.build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void evaluate_OpeningsLargerThanWall_ThrowsException() {
+        // Given/When/Then: okno 3 x 2 m w ścianie 2 x 2.5 m
+        FloorPlan.Builder builder = FloorPlan.builder();
+        int room = builder.addRoom(rectX(2), rectY(2), 2.5);
+        builder.addOpening(room, 1, 3, 2);
+        GeometryEngine.evaluate(builder.build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void evaluate_CeilingBelowFloor_ThrowsException() {
+        // Given/When/Then: sufit opadający poniżej zera w obrębie pomieszczenia
+        FloorPlan.Builder builder = FloorPlan.builder();
+        int room = builder.addRoom(rectX(4), rectY(4), 2.5);
+        builder.setSlopedCeiling(room, 0, 0, 2.0, 1, 0, 1.0);
+        GeometryEngine.evaluate(builder.build());
+    }
+}
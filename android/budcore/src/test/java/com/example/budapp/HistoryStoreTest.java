@@ -0,0 +1,148 @@
+package com.example.budapp;
+
+import com.example.budapp.history.HistoryLog;
+import com.example.budapp.history.HistoryRecord;
+import com.example.budapp.history.HistoryStore;
+import com.example.budapp.history.HistoryType;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla binarnego magazynu historii obliczeń
+ */
+public class HistoryStoreTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    // ==================== TESTY DOPISYWANIA I ODCZYTU ====================
+
+    @Test
+    public void append_ThenLatest_ReturnsNewestFirst() throws IOException {
+        // Given: magazyn z trzema wpisami powierzchni
+        try (HistoryStore store = new HistoryStore(folder.getRoot())) {
+            store.append(HistoryType.AREA, 1000, new double[]{5, 4, 20});
+            store.append(HistoryType.AREA, 2000, new double[]{3, 3, 9});
+            store.append(HistoryType.AREA, 3000, new double[]{2, 1, 2});
+
+            // When: pobieramy dwa najnowsze
+            List<HistoryRecord> latest = store.latest(HistoryType.AREA, 2);
+
+            // Then: od najnowszego
+            assertEquals(2, latest.size());
+            assertEquals(3000, latest.get(0).getTimestamp());
+            assertEquals(2.0, latest.get(0).getValue(2), 0.0);
+            assertEquals(9.0, latest.get(1).getValue(2), 0.0);
+        }
+    }
+
+    @Test
+    public void reopen_PreservesRecordsAndIds() throws IOException {
+        // Given: wpisy zapisane i magazyn zamknięty
+        long id;
+        try (HistoryStore store = new HistoryStore(folder.getRoot())) {
+            store.append(HistoryType.VAT_TAX, 1, new double[]{100, 23, 0, 1, 23, 123, 0, 123});
+            id = store.append(HistoryType.VAT_TAX, 2, new double[]{200, 8, 0, 0, 16, 216, 0, 216});
+        }
+
+        // When: otwieramy ponownie
+        try (HistoryStore store = new HistoryStore(folder.getRoot())) {
+            List<HistoryRecord> latest = store.latest(HistoryType.VAT_TAX, 10);
+
+            // Then: dane i identyfikatory zachowane, kolejne id rośnie
+            assertEquals(2, latest.size());
+            assertEquals(id, latest.get(0).getId());
+            assertEquals(216.0, latest.get(0).getValue(5), 0.0);
+            assertTrue(store.append(HistoryType.VAT_TAX, 3, new double[8]) > id);
+        }
+    }
+
+    @Test
+    public void append_BeyondInitialCapacity_GrowsMapping() throws IOException {
+        // Given: więcej wpisów niż początkowa pojemność pliku
+        try (HistoryStore store = new HistoryStore(folder.getRoot())) {
+            for (int i = 0; i < 1000; i++) {
+                store.append(HistoryType.MATERIAL, i, new double[]{i, 2, i * 2});
+            }
+
+            // Then: wszystkie wpisy dostępne
+            assertEquals(1000, store.log(HistoryType.MATERIAL).size());
+            assertEquals(999 * 2, store.latest(HistoryType.MATERIAL, 1).get(0).getValue(2), 0.0);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void append_WithWrongFieldCount_ThrowsException() throws IOException {
+        // Given/When/Then: wpis powierzchni z dwoma polami zamiast trzech
+        try (HistoryStore store = new HistoryStore(folder.getRoot())) {
+            store.append(HistoryType.AREA, 0, new double[]{1, 2});
+        }
+    }
+
+    // ==================== TESTY USUWANIA I KOMPAKTOWANIA ====================
+
+    @Test
+    public void remove_MarksTombstoneWithoutRewritingFile() throws IOException {
+        // Given: dziennik z trzema wpisami
+        try (HistoryLog log = new HistoryLog(new File(folder.getRoot(), "work.bin"), HistoryType.WORK)) {
+            log.append(1, new double[5]);
+            long middle = log.append(2, new double[5]);
+            log.append(3, new double[5]);
+
+            // When: usuwamy środkowy
+            assertTrue(log.remove(middle));
+            assertFalse(log.remove(middle));
+
+            // Then: rekord pozostaje w pliku jako usunięty, ale nie jest zwracany
+            assertEquals(3, log.slotCount());
+            assertEquals(2, log.size());
+            List<HistoryRecord> latest = log.latest(10);
+            assertEquals(3, latest.get(0).getTimestamp());
+            assertEquals(1, latest.get(1).getTimestamp());
+        }
+    }
+
+    @Test
+    public void remove_ManyRecords_TriggersCompactionAndKeepsIds() throws IOException {
+        // Given: 100 wpisów
+        File file = new File(folder.getRoot(), "volume.bin");
+        try (HistoryLog log = new HistoryLog(file, HistoryType.VOLUME_MASS)) {
+            long[] ids = new long[100];
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = log.append(i, new double[]{i, 1, 1, 1, 1, 1});
+            }
+
+            // When: usuwamy 90 najstarszych
+            for (int i = 0; i < 90; i++) {
+                log.remove(ids[i]);
+            }
+
+            // Then: plik skompaktowany, pozostałe wpisy i ich id bez zmian
+            assertEquals(10, log.size());
+            assertTrue(log.slotCount() < 100);
+            assertEquals(ids[99], log.latest(1).get(0).getId());
+            assertTrue(log.remove(ids[95]));
+            assertEquals(9, log.size());
+        }
+    }
+
+    @Test
+    public void clear_RemovesAllRecords() throws IOException {
+        // Given: dziennik z wpisami
+        try (HistoryStore store = new HistoryStore(folder.getRoot())) {
+            store.append(HistoryType.DIMENSIONS, 1, new double[4]);
+            store.append(HistoryType.DIMENSIONS, 2, new double[4]);
+
+            // When: czyścimy historię
+            store.clear(HistoryType.DIMENSIONS);
+
+            // Then: brak wpisów
+            assertTrue(store.latest(HistoryType.DIMENSIONS, 10).isEmpty());
+        }
+    }
+}
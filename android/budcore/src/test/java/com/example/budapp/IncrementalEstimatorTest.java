@@ -0,0 +1,186 @@
+package com.example.budapp;
+
+import com.example.budapp.estimation.EstimationEngine;
+import com.example.budapp.estimation.IncrementalEstimator;
+import com.example.budapp.estimation.Material;
+import com.example.budapp.estimation.PlanEstimate;
+import com.example.budapp.estimation.RenovationPlan;
+import com.example.budapp.estimation.Room;
+import com.example.budapp.estimation.Task;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla przyrostowej wyceny planu
+ */
+public class IncrementalEstimatorTest {
+
+    private static void assertSameEstimate(PlanEstimate expected, PlanEstimate actual) {
+        assertEquals(expected.getNetTotalMinor(), actual.getNetTotalMinor());
+        assertEquals(expected.getContingencyMinor(), actual.getContingencyMinor());
+        assertEquals(expected.getVatMinor(), actual.getVatMinor());
+        assertEquals(expected.getGrossTotalMinor(), actual.getGrossTotalMinor());
+        assertEquals(expected.getRoomCount(), actual.getRoomCount());
+        for (int r = 0; r < expected.getRoomCount(); r++) {
+            assertEquals(expected.getRoom(r).getTotalMinor(), actual.getRoom(r).getTotalMinor());
+        }
+        assertEquals(expected.getCategoryCount(), actual.getCategoryCount());
+        for (int c = 0; c < expected.getCategoryCount(); c++) {
+            assertEquals(expected.getCategory(c), actual.getCategory(c));
+            assertEquals(expected.getCategoryTotalMinor(c), actual.getCategoryTotalMinor(c));
+        }
+    }
+
+    private static RenovationPlan largePlan() {
+        return EstimationEngineTest.randomPortfolio(15, 1, 2000).get(0);
+    }
+
+    // ==================== TESTY ZGODNOŚCI ====================
+
+    @Test
+    public void constructor_MatchesFullEstimation() {
+        // Given: duży plan
+        RenovationPlan plan = largePlan();
+
+        // When: budujemy graf
+        IncrementalEstimator estimator = new IncrementalEstimator(plan);
+
+        // Then: wynik identyczny z pełną wyceną
+        assertSameEstimate(EstimationEngine.sequential().estimate(plan), estimator.snapshot());
+    }
+
+    @Test
+    public void randomEdits_MatchFullRecalculation() {
+        // Given: plan i seria losowych edycji
+        IncrementalEstimator estimator = new IncrementalEstimator(largePlan());
+        Random random = new Random(15);
+        String[] categories = {"Farby", "Podłogi", "Płytki", "Chemia budowlana"};
+
+        for (int step = 0; step < 500; step++) {
+            int room = random.nextInt(estimator.getRoomCount());
+            Room current = estimator.toPlan().getRooms().get(room);
+            switch (random.nextInt(5)) {
+                case 0:
+                    estimator.setRoomArea(room, 1 + random.nextInt(5000) / 100.0);
+                    break;
+                case 1:
+                    estimator.setMaterial(room, random.nextInt(current.getMaterials().size()),
+                            new Material("X", categories[random.nextInt(categories.length)],
+                                    random.nextInt(300) / 100.0, random.nextInt(21), random.nextInt(10_000) / 100.0));
+                    break;
+                case 2:
+                    if (!current.getTasks().isEmpty()) {
+                        estimator.setTask(room, random.nextInt(current.getTasks().size()),
+                                new Task("T", "Wykończenie", random.nextInt(10_000) / 100.0));
+                    }
+                    break;
+                case 3:
+                    estimator.removeRoom(room);
+                    estimator.addRoom(current);
+                    break;
+                default:
+                    estimator.setVatRate(random.nextBoolean() ? 8.0 : 23.0);
+                    break;
+            }
+
+            // When/Then: co jakiś czas porównujemy z pełnym przeliczeniem
+            if (step % 50 == 0) {
+                assertSameEstimate(EstimationEngine.sequential().estimate(estimator.toPlan()), estimator.snapshot());
+            }
+        }
+        assertSameEstimate(EstimationEngine.sequential().estimate(estimator.toPlan()), estimator.snapshot());
+    }
+
+    // ==================== TESTY ZAKRESU PRZELICZENIA ====================
+
+    @Test
+    public void setMaterial_RecomputesOnlyPathToTotals() {
+        // Given: plan z 2000 pomieszczeń
+        RenovationPlan plan = largePlan();
+        IncrementalEstimator estimator = new IncrementalEstimator(plan);
+        Material old = plan.getRooms().get(100).getMaterials().get(0);
+        estimator.resetRecomputedNodeCount();
+
+        // When: zmieniamy cenę jednego materiału
+        estimator.setMaterial(100, 0, new Material(old.getName(), old.getCategory(),
+                old.getUsagePerSquareMeter(), old.getWastePercentage(), old.getPricePerUnit() + 10));
+
+        // Then: pozycja, kategoria, pomieszczenie, netto, rezerwa, razem, VAT = 7 węzłów
+        assertEquals(7, estimator.getRecomputedNodeCount());
+    }
+
+    @Test
+    public void setTask_WithUnchangedCost_StopsPropagation() {
+        // Given: pomieszczenie z zadaniem 20 PLN/m²
+        Room room = new Room("Salon", 10.0, Collections.<Material>emptyList(),
+                Collections.singletonList(new Task("Malowanie", "Wykończenie", 20.0)));
+        IncrementalEstimator estimator = new IncrementalEstimator(
+                new RenovationPlan("p", "Plan", Collections.singletonList(room), 23.0));
+        estimator.resetRecomputedNodeCount();
+
+        // When: zmieniamy nazwę zadania, koszt bez zmian
+        estimator.setTask(0, 0, new Task("Malowanie 2x", "Wykończenie", 20.0));
+
+        // Then: przeliczona tylko pozycja
+        assertEquals(1, estimator.getRecomputedNodeCount());
+    }
+
+    @Test
+    public void setVatRate_RecomputesOnlyVat() {
+        // Given: plan
+        IncrementalEstimator estimator = new IncrementalEstimator(largePlan());
+        estimator.resetRecomputedNodeCount();
+
+        // When: zmieniamy stawkę VAT
+        estimator.setVatRate(8.0);
+
+        // Then: jeden węzeł
+        assertEquals(1, estimator.getRecomputedNodeCount());
+    }
+
+    @Test
+    public void setRoomArea_RecomputesOnlyThatRoom() {
+        // Given: pomieszczenie z dwoma materiałami i zadaniem w planie z innym pomieszczeniem
+        Room kitchen = new Room("Kuchnia", 10.0,
+                Arrays.asList(new Material("Farba", "Farby", 0.2, 10.0, 50.0),
+                        new Material("Płytki", "Płytki", 1.0, 10.0, 80.0)),
+                Collections.singletonList(new Task("Malowanie", "Wykończenie", 20.0)));
+        Room hall = new Room("Korytarz", 5.0,
+                Collections.singletonList(new Material("Farba", "Farby", 0.2, 10.0, 50.0)),
+                Collections.<Task>emptyList());
+        IncrementalEstimator estimator = new IncrementalEstimator(
+                new RenovationPlan("p", "Plan", Arrays.asList(kitchen, hall), 23.0));
+        estimator.resetRecomputedNodeCount();
+
+        // When: zmieniamy powierzchnię kuchni
+        estimator.setRoomArea(0, 12.0);
+
+        // Then: 3 pozycje + pomieszczenie + 3 kategorie + 4 węzły sum = 11
+        assertEquals(11, estimator.getRecomputedNodeCount());
+        // And: farba w kuchni 2.64 l = 132 PLN, w korytarzu bez zmian 55 PLN
+        assertEquals(13_200 + 5_500, estimator.getCategoryTotalMinor("Farby"));
+    }
+
+    @Test
+    public void removeMaterialCategory_RemovesCategoryFromSnapshot() {
+        // Given: jedyny materiał kategorii "Płytki"
+        Room room = new Room("Łazienka", 4.0,
+                Collections.singletonList(new Material("Płytki", "Płytki", 1.0, 0.0, 100.0)),
+                Collections.<Task>emptyList());
+        IncrementalEstimator estimator = new IncrementalEstimator(
+                new RenovationPlan("p", "Plan", Collections.singletonList(room), 23.0));
+
+        // When: zmieniamy kategorię materiału
+        estimator.setMaterial(0, 0, new Material("Farba", "Farby", 1.0, 0.0, 100.0));
+
+        // Then: stara kategoria znika
+        PlanEstimate snapshot = estimator.snapshot();
+        assertEquals(1, snapshot.getCategoryCount());
+        assertEquals("Farby", snapshot.getCategory(0));
+        assertEquals(0, estimator.getCategoryTotalMinor("Płytki"));
+        assertEquals(40_000, estimator.getNetTotalMinor());
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.budapp;
+
+import com.example.budapp.invoice.Invoice;
+import com.example.budapp.invoice.InvoiceLayout;
+import com.example.budapp.invoice.InvoiceLine;
+import com.example.budapp.invoice.InvoiceProcessor;
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla etapu obliczeń faktur
+ */
+public class InvoiceProcessorTest {
+
+    private static List<Invoice> randomInvoices(long seed, int count) {
+        Random random = new Random(seed);
+        double[] rates = {23, 8, 5, 0};
+        List<Invoice> invoices = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            List<InvoiceLine> lines = new ArrayList<>();
+            int lineCount = 1 + random.nextInt(20);
+            for (int l = 0; l < lineCount; l++) {
+                lines.add(new InvoiceLine("Pozycja " + l, Math.round(random.nextDouble() * 10000) / 100.0, "m2",
+                        Math.round(random.nextDouble() * 50000) / 100.0, rates[random.nextInt(rates.length)]));
+            }
+            invoices.add(new Invoice("FV/" + i, lines));
+        }
+        return invoices;
+    }
+
+    // ==================== TESTY SUM ====================
+
+    @Test
+    public void process_SingleRate_MatchesCalculatorFormulas() {
+        // Given: faktura z dwiema pozycjami w stawce 23%
+        Invoice invoice = new Invoice("FV/1/2024", Arrays.asList(
+                new InvoiceLine("Płytki", 12.5, "m2", 89.99, 23),
+                new InvoiceLine("Fugowanie", 12.5, "m2", 15.0, 23)));
+
+        // When: przeliczamy
+        InvoiceLayout layout = InvoiceProcessor.process(invoice);
+
+        // Then: sumy zgodne z calculateVAT / calculateGrossAmount kalkulatora
+        double net = ConstructionCalculator.calculateWorkCost(12.5, 89.99) + ConstructionCalculator.calculateWorkCost(12.5, 15.0);
+        assertEquals(MoneyCalculator.fromDouble(net), layout.getNetTotalMinor());
+        assertEquals(MoneyCalculator.fromDouble(ConstructionCalculator.calculateVAT(net, 23)), layout.getVatTotalMinor());
+        assertEquals(MoneyCalculator.fromDouble(ConstructionCalculator.calculateGrossAmount(net, 23)),
+                layout.getGrossTotalMinor());
+        assertEquals(1, layout.getVatRows().size());
+    }
+
+    @Test
+    public void process_MixedRates_SummarizesPerRate() {
+        // Given: pozycje w stawkach 8% i 23%
+        Invoice invoice = new Invoice("FV/2", Arrays.asList(
+                new InvoiceLine("Robocizna", 10, "m2", 100, 8),
+                new InvoiceLine("Farba", 3, "l", 33.33, 23),
+                new InvoiceLine("Gruntowanie", 10, "m2", 20, 8)));
+
+        // When: przeliczamy
+        InvoiceLayout layout = InvoiceProcessor.process(invoice);
+
+        // Then: zestawienie od najwyższej stawki, VAT od sumy netto stawki
+        InvoiceLayout.VatRow first = layout.getVatRows().get(0);
+        InvoiceLayout.VatRow second = layout.getVatRows().get(1);
+        assertEquals(2300, first.getRateBasisPoints());
+        assertEquals(9999, first.getNetMinor());
+        assertEquals(2300, first.getVatMinor());
+        assertEquals(800, second.getRateBasisPoints());
+        assertEquals(120000, second.getNetMinor());
+        assertEquals(9600, second.getVatMinor());
+        assertEquals(129999, layout.getNetTotalMinor());
+        assertEquals(11900, layout.getVatTotalMinor());
+    }
+
+    @Test
+    public void process_FormatsTextsForRendering() {
+        // Given: faktura z jedną pozycją
+        Invoice invoice = new Invoice("FV/3", Arrays.asList(new InvoiceLine("Panele", 2.0, "m2", 50.5, 8.5)));
+
+        // When: przeliczamy
+        InvoiceLayout layout = InvoiceProcessor.process(invoice);
+
+        // Then: teksty jak w PdfService
+        InvoiceLayout.Row row = layout.getRows().get(0);
+        assertEquals(1, row.getPosition());
+        assertEquals("2.0 m2", row.getQuantityText());
+        assertEquals("50.50 PLN", row.getUnitPriceText());
+        assertEquals("101.00 PLN", row.getNetText());
+        assertEquals("8.5%", row.getVatRateText());
+        assertEquals("8.59 PLN", layout.getVatTotalText());
+        assertEquals("109.59 PLN", layout.getGrossTotalText());
+    }
+
+    @Test
+    public void invoice_CopiesLines() {
+        // Given: faktura zbudowana z modyfikowalnej listy
+        List<InvoiceLine> lines = new ArrayList<>();
+        lines.add(new InvoiceLine("Panele", 2.0, "m2", 50.5, 8.5));
+        Invoice invoice = new Invoice("FV/4", lines);
+
+        // When: lista wejściowa zmienia się po utworzeniu faktury
+        lines.add(new InvoiceLine("Listwy", 4.0, "m", 12.0, 23));
+
+        // Then: faktura ma własną, niemodyfikowalną kopię pozycji
+        assertEquals(1, invoice.getLines().size());
+        try {
+            invoice.getLines().clear();
+            fail("Oczekiwano UnsupportedOperationException");
+        } catch (UnsupportedOperationException expected) {
+            assertEquals(1, invoice.getLines().size());
+        }
+    }
+
+    // ==================== TESTY RÓWNOLEGŁOŚCI ====================
+
+    @Test
+    public void processAll_Parallel_MatchesSequential() {
+        // Given: 2000 losowych faktur
+        List<Invoice> invoices = randomInvoices(7, 2000);
+
+        // When: przeliczamy sekwencyjnie i równolegle
+        List<InvoiceLayout> sequential = InvoiceProcessor.sequential().processAll(invoices);
+        List<InvoiceLayout> parallel = InvoiceProcessor.parallel().processAll(invoices);
+
+        // Then: identyczne wyniki w tej samej kolejności
+        assertEquals(invoices.size(), parallel.size());
+        for (int i = 0; i < invoices.size(); i++) {
+            assertEquals(sequential.get(i).getNumber(), parallel.get(i).getNumber());
+            assertEquals(sequential.get(i).getGrossTotalMinor(), parallel.get(i).getGrossTotalMinor());
+            assertEquals(sequential.get(i).getVatRows().size(), parallel.get(i).getVatRows().size());
+        }
+    }
+
+    // ==================== TESTY BŁĘDÓW ====================
+
+    @Test
+    public void process_NegativePrice_ReportsInvoiceAndPosition() {
+        // Given: druga pozycja z ujemną ceną
+        Invoice invoice = new Invoice("FV/9", Arrays.asList(
+                new InvoiceLine("A", 1, "szt", 10, 23),
+                new InvoiceLine("B", 1, "szt", -10, 23)));
+
+        // When/Then: komunikat wskazuje fakturę i pozycję
+        try {
+            InvoiceProcessor.process(invoice);
+            fail("Oczekiwano IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Faktura FV/9, pozycja 2: Cena musi być nieujemna", e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void process_InvalidVatRate_ThrowsException() {
+        // Given/When/Then: stawka VAT powyżej 100%
+        InvoiceProcessor.process(new Invoice("FV/10", Arrays.asList(new InvoiceLine("A", 1, "szt", 10, 123))));
+    }
+}
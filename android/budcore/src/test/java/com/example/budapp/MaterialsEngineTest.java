@@ -0,0 +1,200 @@
+package com.example.budapp;
+
+import com.example.budapp.geometry.FloorPlan;
+import com.example.budapp.geometry.GeometryEngine;
+import com.example.budapp.geometry.PlanGeometry;
+import com.example.budapp.materials.MaterialTable;
+import com.example.budapp.materials.MaterialTableLoader;
+import com.example.budapp.materials.MaterialUnit;
+import com.example.budapp.materials.MaterialsEngine;
+import com.example.budapp.materials.MeasureBasis;
+import com.example.budapp.materials.ShoppingList;
+import com.example.budapp.utils.ConstructionCalculator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla tabeli materiałów i przeliczania na opakowania
+ */
+public class MaterialsEngineTest {
+
+    private static final double DELTA = 1e-9;
+
+    private static PlanGeometry room5x4() {
+        FloorPlan.Builder builder = FloorPlan.builder();
+        int room = builder.addRoom(new double[]{0, 5, 5, 0}, new double[]{0, 0, 4, 4}, 2.5);
+        builder.addOpening(room, 0, 0.9, 2.0);
+        return GeometryEngine.evaluate(builder.build());
+    }
+
+    private static MaterialTable load(String text) throws IOException {
+        return MaterialTableLoader.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // ==================== TESTY JEDNOSTEK ====================
+
+    @Test
+    public void convert_SameDimension_UsesFactor() {
+        // Then: litry i metry sześcienne
+        assertEquals(0.25, MaterialUnit.LITER.convert(250, MaterialUnit.CUBIC_METER, 0), DELTA);
+        assertEquals(1500, MaterialUnit.CUBIC_METER.convert(1.5, MaterialUnit.LITER, 0), DELTA);
+    }
+
+    @Test
+    public void convert_VolumeToMass_UsesDensity() {
+        // Then: jak volumemasscalc.dart - masa = objętość x gęstość
+        assertEquals(170, MaterialUnit.CUBIC_METER.convert(0.1, MaterialUnit.KILOGRAM, 1700), DELTA);
+        assertEquals(1.4, MaterialUnit.KILOGRAM.convert(1.4, MaterialUnit.LITER, 1000), DELTA);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void convert_MassToArea_ThrowsException() {
+        // Given/When/Then: wielkości nieprzeliczalne
+        MaterialUnit.KILOGRAM.convert(1, MaterialUnit.SQUARE_METER, 1000);
+    }
+
+    // ==================== TESTY TABELI ====================
+
+    @Test
+    public void defaults_ResolveById() {
+        // Given: wbudowana tabela
+        MaterialTable table = MaterialTable.defaults();
+
+        // When: szukamy materiału
+        int index = table.indexOf("gladz");
+
+        // Then: dane materiału
+        assertTrue(index >= 0);
+        assertEquals("Gładź gipsowa", table.getName(index));
+        assertEquals(MeasureBasis.WALL_AREA, table.getBasis(index));
+        assertEquals(-1, table.indexOf("brak"));
+    }
+
+    @Test
+    public void defaults_LayerMaterialsUseFloorArea() {
+        // Given: materiały układane warstwą - wylewka, jastrych, podsypka z piasku
+        MaterialTable table = MaterialTable.defaults();
+
+        // Then: ilość zależy od powierzchni podłogi i grubości warstwy, a nie od kubatury pomieszczenia
+        for (String id : new String[]{"wylewka", "jastrych", "piasek"}) {
+            assertEquals(id, MeasureBasis.FLOOR_AREA, table.getBasis(table.require(id)));
+        }
+        assertEquals(2.0, MaterialsEngine.requiredQuantity(table, table.require("piasek"), 20), DELTA);
+    }
+
+    @Test
+    public void requiredQuantity_MatchesCalculatorFormula() {
+        // Given: klej 5 kg/m² z zapasem 10%
+        MaterialTable table = MaterialTable.defaults();
+        int glue = table.require("klej-plytki");
+
+        // Then: jak calculateMaterialQuantity
+        assertEquals(ConstructionCalculator.calculateMaterialQuantity(20, 5, 10),
+                MaterialsEngine.requiredQuantity(table, glue, 20), 0.005);
+    }
+
+    @Test
+    public void packageCount_ExactMultiple_DoesNotRoundUp() {
+        // Given: potrzebne dokładnie 3 opakowania mimo błędu zmiennoprzecinkowego
+        MaterialTable table = MaterialTable.builder()
+                .add("x", "X", MeasureBasis.FLOOR_AREA, 0.1, MaterialUnit.LITER, 0, 0.1, MaterialUnit.LITER, 0)
+                .build();
+
+        // Then: 0.1 + 0.1 + 0.1 to 3 opakowania, a nie 4
+        assertEquals(3, MaterialsEngine.packageCount(table, 0, 0.1 + 0.1 + 0.1));
+        assertEquals(4, MaterialsEngine.packageCount(table, 0, 0.31));
+    }
+
+    @Test
+    public void loader_ParsesTableWithHeaderAndDecimalComma() throws IOException {
+        // Given: tabela z nagłówkiem, przecinkiem dziesiętnym i średnikiem w nazwie
+        String text = "id;nazwa;wymiar;zużycie;jednostka;gęstość;opakowanie;jednostka;zapas\n"
+                + "beton;Beton; B20;floor;0,1;m3;2300;25;kg;5\n"
+                + "\n"
+                + "farba;Farba;walls;0,15;l;;2,5;l;10\n";
+
+        // When: wczytujemy
+        MaterialTable table = load(text);
+
+        // Then: dwa materiały
+        assertEquals(2, table.size());
+        assertEquals("Beton; B20", table.getName(0));
+        assertEquals(2300, table.getDensity(0), 0.0);
+        assertEquals(MaterialUnit.LITER, table.getPackageUnit(table.require("farba")));
+        assertEquals(2.5, table.getPackageSize(1), 0.0);
+    }
+
+    @Test
+    public void loader_InvalidUnit_ReportsLine() throws IOException {
+        // Given: nieznana jednostka w drugim wierszu
+        String text = "a;A;floor;1;kg;0;25;kg;0\n"
+                + "b;B;floor;1;ton;0;25;kg;0\n";
+
+        // When/Then: komunikat z numerem wiersza
+        try {
+            load(text);
+            fail("Oczekiwano IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("Wiersz 2: Nieznana jednostka: ton", e.getMessage());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void builder_VolumeToMassWithoutDensity_ThrowsException() {
+        // Given/When/Then: opakowanie w kg, zużycie w m³, brak gęstości
+        MaterialTable.builder().add("x", "X", MeasureBasis.FLOOR_AREA, 0.1, MaterialUnit.CUBIC_METER, 0,
+                25, MaterialUnit.KILOGRAM, 0);
+    }
+
+    // ==================== TESTY LISTY ZAKUPÓW ====================
+
+    @Test
+    public void forRoom_BuildsShoppingList() {
+        // Given: pokój 5 x 4 x 2.5 z drzwiami 0.9 x 2.0 (ściany netto 43.2 m²)
+        PlanGeometry geometry = room5x4();
+
+        // When: lista zakupów
+        ShoppingList list = MaterialsEngine.forRoom(MaterialTable.defaults(), geometry, 0,
+                "farba-scienna", "wylewka", "listwa");
+
+        // Then: farba 43.2 x 0.2 x 1.1 = 9.504 l -> 1 x 10 l
+        assertEquals(3, list.size());
+        assertEquals(9.504, list.getRequiredQuantity(0), DELTA);
+        assertEquals(1, list.getPackageCount(0));
+        // Wylewka: 20 x 0.005 x 1.05 = 0.105 m³ x 1700 kg/m³ = 178.5 kg -> 8 worków 25 kg
+        assertEquals(0.105, list.getRequiredQuantity(1), DELTA);
+        assertEquals(178.5, list.getPackageQuantity(1), DELTA);
+        assertEquals(8, list.getPackageCount(1));
+        assertEquals(200, list.getPurchasedQuantity(1), DELTA);
+        // Listwa: 18 x 1.1 = 19.8 m -> 8 x 2.5 m
+        assertEquals(8, list.getPackageCount(2));
+        assertEquals(MaterialUnit.METER, list.getPackageUnit(2));
+    }
+
+    @Test
+    public void forPlan_SumsRoomsBeforeRounding() {
+        // Given: dwa pokoje po 1 m² podłogi
+        FloorPlan.Builder builder = FloorPlan.builder();
+        builder.addRoom(new double[]{0, 1, 1, 0}, new double[]{0, 0, 1, 1}, 2.5);
+        builder.addRoom(new double[]{2, 3, 3, 2}, new double[]{0, 0, 1, 1}, 2.5);
+        PlanGeometry geometry = GeometryEngine.evaluate(builder.build());
+        MaterialTable table = MaterialTable.defaults();
+
+        // When: lista dla całego rzutu i dla pojedynczego pokoju
+        ShoppingList plan = MaterialsEngine.forPlan(table, geometry, "panele");
+        ShoppingList room = MaterialsEngine.forRoom(table, geometry, 0, "panele");
+
+        // Then: 2.1 m² mieści się w jednej paczce 2.22 m² - nie w dwóch
+        assertEquals(1, plan.getPackageCount(0));
+        assertEquals(1, room.getPackageCount(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void forRoom_UnknownMaterial_ThrowsException() {
+        // Given/When/Then: materiału nie ma w tabeli
+        MaterialsEngine.forRoom(MaterialTable.defaults(), room5x4(), 0, "marmur");
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.budapp;
+
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla obliczeń pieniężnych w groszach
+ */
+public class MoneyCalculatorTest {
+
+    private static final int LINES = 1_000_000;
+    private static final int[] RATES = {2300, 800, 500, 0};
+
+    // ==================== TESTY KONWERSJI ====================
+
+    @Test
+    public void fromDouble_RoundTripsCalculatorResults() {
+        // Given: wyniki kalkulatora double (zawsze zaokrąglone do groszy)
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            double net = random.nextInt(100_000_000) / 100.0;
+            double gross = ConstructionCalculator.calculateGrossAmount(net, 23.0);
+
+            // When/Then: konwersja tam i z powrotem nie zmienia wartości
+            assertEquals(gross, MoneyCalculator.toDouble(MoneyCalculator.fromDouble(gross)), 0.0);
+        }
+    }
+
+    @Test
+    public void vatRateToBasisPoints_WithFractionalRate_ReturnsBasisPoints() {
+        // Given/When/Then: 23% -> 2300, 8.5% -> 850
+        assertEquals(2300, MoneyCalculator.vatRateToBasisPoints(23.0));
+        assertEquals(850, MoneyCalculator.vatRateToBasisPoints(8.5));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void fromDouble_WithNaN_ThrowsException() {
+        // Given/When/Then: NaN nie ma reprezentacji w groszach
+        MoneyCalculator.fromDouble(Double.NaN);
+    }
+
+    // ==================== TESTY ZAOKRĄGLANIA ====================
+
+    @Test
+    public void calculateVAT_WithTie_RespectsRoundingMode() {
+        // Given: 0.50 PLN * 5% = 2.5 grosza (dokładny remis)
+        // When/Then: HALF_UP zaokrągla w górę, HALF_EVEN do parzystej
+        assertEquals(3, MoneyCalculator.calculateVAT(50, 500, RoundingMode.HALF_UP));
+        assertEquals(2, MoneyCalculator.calculateVAT(50, 500, RoundingMode.HALF_EVEN));
+        // 0.70 PLN * 5% = 3.5 grosza -> w obu trybach 4
+        assertEquals(4, MoneyCalculator.calculateVAT(70, 500, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    public void calculateWorkCost_WithValidInputs_ReturnsCorrectCost() {
+        // Given: 20.00 m² po 50.00 PLN/m²
+        // When/Then: 1000.00 PLN
+        assertEquals(100_000, MoneyCalculator.calculateWorkCost(2000, 5000, RoundingMode.HALF_UP));
+        // 0.33 m² po 0.50 PLN = 16.5 grosza
+        assertEquals(17, MoneyCalculator.calculateWorkCost(33, 50, RoundingMode.HALF_UP));
+        assertEquals(16, MoneyCalculator.calculateWorkCost(33, 50, RoundingMode.HALF_EVEN));
+    }
+
+    @Test
+    public void calculateGrossAmount_With23PercentVAT_ReturnsCorrectGross() {
+        // Given/When/Then: 1000.00 PLN + 23% = 1230.00 PLN
+        assertEquals(123_000, MoneyCalculator.calculateGrossAmount(100_000, 2300, RoundingMode.HALF_UP));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calculateVAT_WithInvalidRate_ThrowsException() {
+        // Given/When/Then: stawka 150%
+        MoneyCalculator.calculateVAT(100_000, 15_000, RoundingMode.HALF_UP);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calculateVAT_WithUnsupportedRoundingMode_ThrowsException() {
+        // Given/When/Then: tryb FLOOR nie jest obsługiwany
+        MoneyCalculator.calculateVAT(100_000, 2300, RoundingMode.FLOOR);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void sum_WithOverflow_ThrowsException() {
+        // Given/When/Then: suma przekracza zakres long
+        MoneyCalculator.sum(new long[]{Long.MAX_VALUE, 1});
+    }
+
+    // ==================== TESTY SUM DLA MILIONA POZYCJI ====================
+
+    @Test
+    public void totals_ForMillionLines_MatchBigDecimalExactly() {
+        // Given: milion pozycji faktury z mieszanymi stawkami VAT
+        Random random = new Random(2024);
+        long[] nets = new long[LINES];
+        long[] vats = new long[LINES];
+        long[] grosses = new long[LINES];
+        BigDecimal expectedNet = BigDecimal.ZERO;
+        BigDecimal expectedVat = BigDecimal.ZERO;
+        BigDecimal expectedGross = BigDecimal.ZERO;
+
+        for (int i = 0; i < LINES; i++) {
+            int rate = RATES[i % RATES.length];
+            nets[i] = random.nextInt(10_000_000);
+
+            // When: liczymy VAT i brutto w groszach
+            vats[i] = MoneyCalculator.calculateVAT(nets[i], rate, RoundingMode.HALF_UP);
+            grosses[i] = MoneyCalculator.calculateGrossAmount(nets[i], rate, RoundingMode.HALF_UP);
+
+            BigDecimal net = BigDecimal.valueOf(nets[i], 2);
+            BigDecimal vat = net.multiply(BigDecimal.valueOf(rate, 4)).setScale(2, RoundingMode.HALF_UP);
+            expectedNet = expectedNet.add(net);
+            expectedVat = expectedVat.add(vat);
+            expectedGross = expectedGross.add(net).add(vat);
+        }
+
+        // Then: sumy zgadzają się co do grosza z arytmetyką dziesiętną
+        long netTotal = MoneyCalculator.sum(nets);
+        long vatTotal = MoneyCalculator.sum(vats);
+        long grossTotal = MoneyCalculator.sum(grosses);
+        assertEquals(expectedNet.unscaledValue().longValueExact(), netTotal);
+        assertEquals(expectedVat.unscaledValue().longValueExact(), vatTotal);
+        assertEquals(expectedGross.unscaledValue().longValueExact(), grossTotal);
+        assertEquals(netTotal + vatTotal, grossTotal);
+    }
+
+    @Test
+    public void vat_ForMillionLinesHalfEven_MatchesBigDecimal() {
+        // Given: milion kwot z trybem HALF_EVEN
+        Random random = new Random(99);
+        for (int i = 0; i < LINES; i++) {
+            long net = random.nextInt(1_000_000);
+            int rate = RATES[i % RATES.length];
+
+            // When: liczymy VAT w groszach
+            long vat = MoneyCalculator.calculateVAT(net, rate, RoundingMode.HALF_EVEN);
+
+            // Then: identyczny z BigDecimal
+            long expected = BigDecimal.valueOf(net).multiply(BigDecimal.valueOf(rate))
+                    .divide(BigDecimal.valueOf(10_000), 0, RoundingMode.HALF_EVEN).longValueExact();
+            assertEquals(expected, vat);
+        }
+    }
+}
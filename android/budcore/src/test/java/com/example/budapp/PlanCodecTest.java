@@ -0,0 +1,232 @@
+package com.example.budapp;
+
+import com.example.budapp.estimation.EstimationEngine;
+import com.example.budapp.estimation.Material;
+import com.example.budapp.estimation.PlanCodec;
+import com.example.budapp.estimation.PlanEstimate;
+import com.example.budapp.estimation.RenovationPlan;
+import com.example.budapp.estimation.Room;
+import com.example.budapp.estimation.Task;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla binarnego formatu planów i wycen
+ */
+public class PlanCodecTest {
+
+    private static RenovationPlan samplePlan() {
+        return EstimationEngineTest.randomPortfolio(16, 1, 300).get(0);
+    }
+
+    private static void assertSamePlan(RenovationPlan expected, RenovationPlan actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getVatRate(), actual.getVatRate(), 0.0);
+        assertEquals(expected.getRooms().size(), actual.getRooms().size());
+        for (int r = 0; r < expected.getRooms().size(); r++) {
+            Room e = expected.getRooms().get(r);
+            Room a = actual.getRooms().get(r);
+            assertEquals(e.getName(), a.getName());
+            assertEquals(Double.doubleToLongBits(e.getArea()), Double.doubleToLongBits(a.getArea()));
+            assertEquals(e.getMaterials().size(), a.getMaterials().size());
+            for (int m = 0; m < e.getMaterials().size(); m++) {
+                Material em = e.getMaterials().get(m);
+                Material am = a.getMaterials().get(m);
+                assertEquals(em.getName(), am.getName());
+                assertEquals(em.getCategory(), am.getCategory());
+                assertEquals(em.getUsagePerSquareMeter(), am.getUsagePerSquareMeter(), 0.0);
+                assertEquals(em.getWastePercentage(), am.getWastePercentage(), 0.0);
+                assertEquals(em.getPricePerUnit(), am.getPricePerUnit(), 0.0);
+            }
+            assertEquals(e.getTasks().size(), a.getTasks().size());
+            for (int t = 0; t < e.getTasks().size(); t++) {
+                assertEquals(e.getTasks().get(t).getName(), a.getTasks().get(t).getName());
+                assertEquals(e.getTasks().get(t).getPricePerSquareMeter(),
+                        a.getTasks().get(t).getPricePerSquareMeter(), 0.0);
+            }
+        }
+    }
+
+    // Postać JSON odpowiadająca Room.toMap / Material.toMap / Task.toMap z renovation_plan.dart
+    private static String toJson(RenovationPlan plan) {
+        StringBuilder json = new StringBuilder("{\"id\":\"").append(plan.getId())
+                .append("\",\"name\":\"").append(plan.getName())
+                .append("\",\"vatRate\":").append(plan.getVatRate()).append(",\"rooms\":[");
+        for (int r = 0; r < plan.getRooms().size(); r++) {
+            Room room = plan.getRooms().get(r);
+            json.append(r > 0 ? "," : "").append("{\"name\":\"").append(room.getName())
+                    .append("\",\"area\":").append(room.getArea()).append(",\"materials\":[");
+            for (int m = 0; m < room.getMaterials().size(); m++) {
+                Material material = room.getMaterials().get(m);
+                json.append(m > 0 ? "," : "").append("{\"name\":\"").append(material.getName())
+                        .append("\",\"category\":\"").append(material.getCategory())
+                        .append("\",\"usagePerSquareMeter\":").append(material.getUsagePerSquareMeter())
+                        .append(",\"wastePercentage\":").append(material.getWastePercentage())
+                        .append(",\"pricePerUnit\":").append(material.getPricePerUnit()).append('}');
+            }
+            json.append("],\"tasks\":[");
+            for (int t = 0; t < room.getTasks().size(); t++) {
+                Task task = room.getTasks().get(t);
+                json.append(t > 0 ? "," : "").append("{\"name\":\"").append(task.getName())
+                        .append("\",\"category\":\"").append(task.getCategory())
+                        .append("\",\"pricePerSquareMeter\":").append(task.getPricePerSquareMeter()).append('}');
+            }
+            json.append("]}");
+        }
+        return json.append("]}").toString();
+    }
+
+    // ==================== TESTY PLANU ====================
+
+    @Test
+    public void plan_RoundTrip_PreservesAllFields() {
+        // Given: plan z 300 pomieszczeniami
+        RenovationPlan plan = samplePlan();
+
+        // When: kodujemy i dekodujemy
+        RenovationPlan decoded = PlanCodec.decodePlan(PlanCodec.encode(plan));
+
+        // Then: wszystkie pola zachowane
+        assertSamePlan(plan, decoded);
+    }
+
+    @Test
+    public void plan_WithNonDecimalValues_RoundTripsExactly() {
+        // Given: wartości, których nie da się zapisać jako setne, i polskie znaki
+        Room room = new Room("Łazienka „mała”", 1.0 / 3.0,
+                Collections.singletonList(new Material("Żywica", "Chemia", Math.PI, 0.0, -0.0)),
+                Collections.singletonList(new Task("Układanie", "Wykończenie", 1e300)));
+        RenovationPlan plan = new RenovationPlan("p-ł", "Remont", Collections.singletonList(room), 8.5);
+
+        // When: kodujemy i dekodujemy
+        RenovationPlan decoded = PlanCodec.decodePlan(PlanCodec.encode(plan));
+
+        // Then: bity liczb zachowane
+        assertSamePlan(plan, decoded);
+        Material material = decoded.getRooms().get(0).getMaterials().get(0);
+        assertEquals(Double.doubleToRawLongBits(-0.0), Double.doubleToRawLongBits(material.getPricePerUnit()));
+    }
+
+    @Test
+    public void plan_IsMuchSmallerThanJson() {
+        // Given: plan z 300 pomieszczeniami
+        RenovationPlan plan = samplePlan();
+
+        // When: porównujemy rozmiary
+        int binary = PlanCodec.encode(plan).remaining();
+        int json = toJson(plan).getBytes(StandardCharsets.UTF_8).length;
+
+        // Then: format binarny co najmniej 3x mniejszy
+        assertTrue("binary=" + binary + " json=" + json, binary * 3 < json);
+    }
+
+    @Test
+    public void decodePlan_FromDirectBufferAtOffset_Works() {
+        // Given: komunikat w buforze bezpośrednim za innymi danymi
+        RenovationPlan plan = samplePlan();
+        ByteBuffer encoded = PlanCodec.encode(plan);
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.remaining() + 10);
+        direct.position(10);
+        direct.put(encoded.duplicate());
+        direct.position(10);
+
+        // When: dekodujemy
+        RenovationPlan decoded = PlanCodec.decodePlan(direct);
+
+        // Then: plan zachowany, pozycja bufora bez zmian
+        assertSamePlan(plan, decoded);
+        assertEquals(10, direct.position());
+    }
+
+    // ==================== TESTY WYCENY ====================
+
+    @Test
+    public void estimate_RoundTrip_PreservesTotals() {
+        // Given: wycena planu
+        PlanEstimate estimate = EstimationEngine.sequential().estimate(samplePlan());
+
+        // When: kodujemy i dekodujemy
+        ByteBuffer encoded = PlanCodec.encode(estimate);
+        PlanEstimate decoded = PlanCodec.decodeEstimate(encoded);
+
+        // Then: sumy, kategorie i pomieszczenia zachowane
+        assertEquals(estimate.getPlanId(), decoded.getPlanId());
+        assertEquals(estimate.getGrossTotalMinor(), decoded.getGrossTotalMinor());
+        assertEquals(estimate.getContingencyMinor(), decoded.getContingencyMinor());
+        assertEquals(estimate.getCategoryCount(), decoded.getCategoryCount());
+        for (int c = 0; c < estimate.getCategoryCount(); c++) {
+            assertEquals(estimate.getCategory(c), decoded.getCategory(c));
+            assertEquals(estimate.getCategoryTotalMinor(c), decoded.getCategoryTotalMinor(c));
+        }
+        for (int r = 0; r < estimate.getRoomCount(); r++) {
+            assertEquals(estimate.getRoom(r).getTotalMinor(), decoded.getRoom(r).getTotalMinor());
+            for (int i = 0; i < estimate.getRoom(r).getMaterialCount(); i++) {
+                assertEquals(estimate.getRoom(r).getMaterialQuantity(i), decoded.getRoom(r).getMaterialQuantity(i), 0.0);
+            }
+        }
+        assertEquals(estimate.getGrossTotalMinor(), PlanCodec.peekGrossTotalMinor(encoded));
+    }
+
+    // ==================== TESTY USZKODZONYCH DANYCH ====================
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodePlan_Truncated_ThrowsException() {
+        // Given/When/Then: obcięty komunikat
+        ByteBuffer encoded = PlanCodec.encode(samplePlan());
+        encoded.limit(encoded.limit() / 2);
+        PlanCodec.decodePlan(encoded);
+    }
+
+    @Test
+    public void decodePlan_NewerVersion_ThrowsException() {
+        // Given: komunikat z wersją schematu wyższą niż obsługiwana
+        ByteBuffer encoded = PlanCodec.encode(samplePlan());
+        encoded.put(4, (byte) (PlanCodec.VERSION + 1));
+
+        // When/Then: czytelny błąd
+        try {
+            PlanCodec.decodePlan(encoded);
+            fail("Oczekiwano IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("wersja"));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodeEstimate_FromPlanMessage_ThrowsException() {
+        // Given/When/Then: komunikat planu zamiast wyceny
+        PlanCodec.decodeEstimate(PlanCodec.encode(new RenovationPlan("p", "P",
+                Arrays.<Room>asList(), 23.0)));
+    }
+
+    @Test
+    public void decodeEstimate_NegativeCountOrStringTag_ThrowsException() {
+        // Given: nagłówek wyceny i trzy kwoty, po nich 10-bajtowy varint o wartości ujemnej (-1)
+        ByteBuffer valid = PlanCodec.encode(EstimationEngine.sequential().estimate(samplePlan()));
+        byte[] prefix = new byte[32];
+        valid.duplicate().get(prefix);
+        byte[] negative = {-1, -1, -1, -1, -1, -1, -1, -1, -1, 1};
+        byte[] planId = {0, 1, 'p'};
+
+        // When/Then: ujemny znacznik tekstu (identyfikator planu) i ujemna liczba kategorii
+        for (byte[][] parts : new byte[][][]{{prefix, negative}, {prefix, planId, negative}}) {
+            ByteBuffer corrupted = ByteBuffer.allocate(64);
+            for (byte[] part : parts) {
+                corrupted.put(part);
+            }
+            corrupted.flip();
+            corrupted.limit(corrupted.capacity());
+            try {
+                PlanCodec.decodeEstimate(corrupted);
+                fail("Oczekiwano IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage(), e.getMessage().startsWith("Nieprawidłow"));
+            }
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.budapp;
+
+import com.example.budapp.catalog.PriceCatalog;
+import com.example.budapp.catalog.PriceCatalogLoader;
+import com.example.budapp.utils.ConstructionCalculator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla katalogu cen materiałów
+ */
+public class PriceCatalogTest {
+
+    private static PriceCatalog load(String text) throws IOException {
+        return PriceCatalogLoader.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // ==================== TESTY WCZYTYWANIA ====================
+
+    @Test
+    public void load_ParsesRowsAndSkipsHeader() throws IOException {
+        // Given: plik z nagłówkiem, przecinkiem dziesiętnym i średnikiem w nazwie
+        String text = "sku;name;unit;price\n"
+                + "FAR-001;Farba biała;l;39,90\n"
+                + "\n"
+                + "KLEJ-7;Klej; elastyczny;kg;12.5\n";
+
+        // When: wczytujemy katalog
+        PriceCatalog catalog = load(text);
+
+        // Then: dwie pozycje z poprawnymi danymi
+        assertEquals(2, catalog.size());
+        int paint = catalog.indexOf("FAR-001");
+        assertEquals("Farba biała", catalog.getName(paint));
+        assertEquals("l", catalog.getUnit(paint));
+        assertEquals(3990, catalog.getPriceMinor(paint));
+        assertEquals("Klej; elastyczny", catalog.getName(catalog.indexOf("KLEJ-7")));
+        assertEquals(12.5, catalog.getPrice("KLEJ-7"), 0.0);
+    }
+
+    @Test
+    public void load_WithInvalidPrice_ReportsLineNumber() throws IOException {
+        // Given/When/Then: błędna cena w trzecim wierszu
+        try {
+            load("A;a;szt.;1\nB;b;szt.;2\nC;c;szt.;abc\n");
+            fail("Oczekiwano IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().startsWith("Wiersz 3:"));
+        }
+    }
+
+    @Test
+    public void load_WithNonFinitePrice_ReportsLineNumber() throws IOException {
+        // Given/When/Then: NaN, nieskończoność, cena ujemna i poza zakresem w drugim wierszu
+        for (String price : new String[]{"NaN", "Infinity", "-1", "1e300"}) {
+            try {
+                load("A;a;szt.;1\nB;b;szt.;" + price + "\n");
+                fail("Oczekiwano IllegalArgumentException dla " + price);
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage().startsWith("Wiersz 2:"));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void load_WithDuplicateSku_ThrowsException() throws IOException {
+        // Given/When/Then: ten sam SKU dwa razy
+        load("A;a;szt.;1\nA;b;szt.;2\n");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void load_WithMissingColumn_ThrowsException() throws IOException {
+        // Given/When/Then: brak jednostki
+        load("A;a;1\n");
+    }
+
+    // ==================== TESTY WYSZUKIWANIA ====================
+
+    @Test
+    public void build_ThenAddToBuilder_DoesNotChangeCatalog() {
+        // Given: katalog zbudowany z jednej pozycji
+        PriceCatalog.Builder builder = PriceCatalog.builder();
+        builder.add("A", "a", "szt.", 100);
+        PriceCatalog catalog = builder.build();
+
+        // When: dodajemy kolejne pozycje do budowniczego
+        for (int i = 0; i < 100; i++) {
+            builder.add("B" + i, "b", "szt.", 200);
+        }
+
+        // Then: katalog nadal zawiera tylko pierwszą pozycję
+        assertEquals(1, catalog.size());
+        assertEquals(0, catalog.indexOf("A"));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(-1, catalog.indexOf("B" + i));
+        }
+    }
+
+    @Test
+    public void largeCatalog_LookupsAndPrefixSearchWork() throws IOException {
+        // Given: 120 tys. pozycji i 1000 różnych nazw
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 120_000; i++) {
+            text.append(String.format(Locale.ROOT, "SKU-%06d;Materiał %03d;szt.;%d.%02d\n", i, i % 1000, i % 500, i % 100));
+        }
+
+        // When: wczytujemy katalog
+        PriceCatalog catalog = load(text.toString());
+
+        // Then: nazwy zdeduplikowane, każdy SKU odnajdywany
+        assertEquals(120_000, catalog.size());
+        assertEquals(1000, catalog.distinctNameCount());
+        for (int i = 0; i < 120_000; i += 997) {
+            int index = catalog.indexOf(String.format(Locale.ROOT, "SKU-%06d", i));
+            assertEquals((i % 500) * 100L + i % 100, catalog.getPriceMinor(index));
+        }
+        assertEquals(-1, catalog.indexOf("SKU-999999"));
+
+        // Then: prefiks "materiał 12" pasuje do nazw 120-129, po 120 pozycji każda
+        int[] found = catalog.findByNamePrefix("MATERIAŁ 12", Integer.MAX_VALUE);
+        assertEquals(10 * 120, found.length);
+        for (int index : found) {
+            assertTrue(catalog.getName(index).startsWith("Materiał 12"));
+        }
+        assertEquals(5, catalog.findByNamePrefix("materiał", 5).length);
+        assertEquals(0, catalog.findByNamePrefix("cegła", 5).length);
+    }
+
+    @Test
+    public void findByNamePrefix_ReturnsAlphabeticalOrder() {
+        // Given: nazwy dodane w dowolnej kolejności
+        PriceCatalog catalog = PriceCatalog.builder()
+                .add("3", "Płytki ścienne", "m²", 8900)
+                .add("1", "Płyta GK", "szt.", 2500)
+                .add("2", "Farba", "l", 3990)
+                .add("4", "Płyta OSB", "szt.", 4500)
+                .build();
+
+        // When: szukamy po prefiksie
+        int[] found = catalog.findByNamePrefix("pły", 10);
+
+        // Then: wyniki alfabetycznie
+        assertEquals(3, found.length);
+        assertEquals("Płyta GK", catalog.getName(found[0]));
+        assertEquals("Płyta OSB", catalog.getName(found[1]));
+        assertEquals("Płytki ścienne", catalog.getName(found[2]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void findByNamePrefix_NegativeLimit_ThrowsException() {
+        // Given/When/Then: ujemny limit wyników
+        PriceCatalog.builder().add("1", "Płyta GK", "szt.", 2500).build().findByNamePrefix("pły", -1);
+    }
+
+    // ==================== TESTY WYCENY ====================
+
+    @Test
+    public void calculateMaterialCost_UsesCatalogPrice() {
+        // Given: farba po 39.90 zł/l
+        PriceCatalog catalog = PriceCatalog.builder().add("FAR-001", "Farba", "l", 3990).build();
+
+        // When: wyceniamy 5.5 l
+        double cost = ConstructionCalculator.calculateMaterialCost(5.5, "FAR-001", catalog);
+
+        // Then: 219.45 zł, jak calculateWorkCost z ceną podaną ręcznie
+        assertEquals(219.45, cost, 0.0);
+        assertEquals(ConstructionCalculator.calculateWorkCost(5.5, 39.90), cost, 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void calculateMaterialCost_WithUnknownSku_ThrowsException() {
+        // Given/When/Then: SKU spoza katalogu
+        ConstructionCalculator.calculateMaterialCost(1, "BRAK", PriceCatalog.builder().build());
+    }
+}
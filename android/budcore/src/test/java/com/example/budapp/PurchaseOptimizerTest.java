@@ -0,0 +1,227 @@
+package com.example.budapp;
+
+import com.example.budapp.estimation.EstimationEngine;
+import com.example.budapp.estimation.PlanEstimate;
+import com.example.budapp.estimation.RenovationPlan;
+import com.example.budapp.optimization.MaterialDemand;
+import com.example.budapp.optimization.PurchaseOptimizer;
+import com.example.budapp.optimization.PurchasePlan;
+import com.example.budapp.optimization.SupplyCatalog;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla doboru najtańszych zakupów
+ */
+public class PurchaseOptimizerTest {
+
+    // ==================== TESTY OPAKOWAŃ ====================
+
+    @Test
+    public void optimize_MixesPackageSizes() {
+        // Given: 12.5 l farby, puszki 10 l za 100 zł i 2.5 l za 30 zł
+        SupplyCatalog.Builder builder = SupplyCatalog.builder();
+        int shop = builder.addSupplier("Market", 0);
+        builder.addOffer(shop, "Farba", "Farba 10 l", 10, 100, 1)
+                .addOffer(shop, "Farba", "Farba 2.5 l", 2.5, 30, 1);
+
+        // When: optymalizujemy
+        PurchasePlan plan = PurchaseOptimizer.optimize(
+                Collections.singletonList(new MaterialDemand("Farba", 12.5, 15000)), builder.build());
+
+        // Then: 10 l + 2.5 l = 130 zł (taniej niż 2 x 10 l i 5 x 2.5 l)
+        assertEquals(13000, plan.getTotalCostMinor());
+        assertEquals(2, plan.getLineCount());
+        assertEquals(2000, plan.getPotentialSavingsMinor());
+    }
+
+    @Test
+    public void optimize_RespectsMinimumPackages() {
+        // Given: tańsza jednostkowo paleta wymaga zamówienia 40 worków
+        SupplyCatalog.Builder builder = SupplyCatalog.builder();
+        int shop = builder.addSupplier("Hurtownia", 0);
+        builder.addOffer(shop, "Klej", "Klej - paleta", 25, 20, 40)
+                .addOffer(shop, "Klej", "Klej - worek", 25, 30, 1);
+
+        // When: potrzebujemy 110 kg
+        PurchasePlan plan = PurchaseOptimizer.optimize(
+                Collections.singletonList(new MaterialDemand("Klej", 110, 0)), builder.build());
+
+        // Then: 5 worków detalicznie (150 zł) zamiast 40 worków z palety (800 zł)
+        assertEquals(15000, plan.getTotalCostMinor());
+        assertEquals(5, plan.getLinePackages(0));
+        assertEquals("Klej - worek", plan.getLineProduct(0));
+    }
+
+    // ==================== TESTY DOSTAWCÓW ====================
+
+    @Test
+    public void optimize_DeliveryFee_ConsolidatesSuppliers() {
+        // Given: B ma tańsze płytki o 50 zł, ale dostawa kosztuje 100 zł
+        SupplyCatalog.Builder builder = SupplyCatalog.builder();
+        int a = builder.addSupplier("A", 20);
+        int b = builder.addSupplier("B", 100);
+        builder.addOffer(a, "Płytki", "Płytki A", 1, 100, 1)
+                .addOffer(a, "Klej", "Klej A", 25, 40, 1)
+                .addOffer(b, "Płytki", "Płytki B", 1, 50, 1)
+                .addOffer(b, "Klej", "Klej B", 25, 45, 1);
+        List<MaterialDemand> demands = Arrays.asList(new MaterialDemand("Płytki", 1, 0), new MaterialDemand("Klej", 25, 0));
+
+        // When: optymalizujemy
+        PurchasePlan plan = PurchaseOptimizer.optimize(demands, builder.build());
+
+        // Then: wszystko u A: 100 + 40 + 20 dostawy
+        assertTrue(plan.isSupplierUsed(a));
+        assertFalse(plan.isSupplierUsed(b));
+        assertEquals(16000, plan.getTotalCostMinor());
+        assertEquals(2000, plan.getDeliveryFeesMinor());
+    }
+
+    @Test
+    public void optimize_RandomInstances_MatchBruteForce() {
+        Random random = new Random(99);
+        for (int round = 0; round < 20; round++) {
+            // Given: 8 dostawców, 40 materiałów, losowe ceny i dostępność
+            int suppliers = 8;
+            int materials = 40;
+            long[][] costs = new long[suppliers][materials];
+            long[] fees = new long[suppliers];
+            SupplyCatalog.Builder builder = SupplyCatalog.builder();
+            List<MaterialDemand> demands = new ArrayList<>();
+            for (int s = 0; s < suppliers; s++) {
+                fees[s] = random.nextInt(300) * 100L;
+                builder.addSupplier("S" + s, fees[s] / 100.0);
+            }
+            for (int m = 0; m < materials; m++) {
+                double quantity = 1 + random.nextInt(50);
+                demands.add(new MaterialDemand("M" + m, quantity, 0));
+                for (int s = 0; s < suppliers; s++) {
+                    if (s != m % suppliers && random.nextInt(3) == 0) {
+                        costs[s][m] = Long.MAX_VALUE;
+                        continue;
+                    }
+                    double size = 1 + random.nextInt(10);
+                    long price = 100 + random.nextInt(10_000);
+                    builder.addOffer(s, "M" + m, "M" + m + "@S" + s, size, price / 100.0, 1);
+                    costs[s][m] = (long) Math.ceil(quantity / size) * price;
+                }
+            }
+
+            // When: optymalizujemy
+            PurchasePlan plan = PurchaseOptimizer.optimize(demands, builder.build());
+
+            // Then: wynik równy przeglądowi wszystkich podzbiorów dostawców
+            long best = Long.MAX_VALUE;
+            for (int mask = 1; mask < 1 << suppliers; mask++) {
+                long total = 0;
+                int used = 0;
+                for (int m = 0; m < materials && total != Long.MAX_VALUE; m++) {
+                    int cheapest = -1;
+                    for (int s = 0; s < suppliers; s++) {
+                        if ((mask >> s & 1) != 0 && costs[s][m] != Long.MAX_VALUE
+                                && (cheapest < 0 || costs[s][m] < costs[cheapest][m])) {
+                            cheapest = s;
+                        }
+                    }
+                    if (cheapest < 0) {
+                        total = Long.MAX_VALUE;
+                    } else {
+                        total += costs[cheapest][m];
+                        used |= 1 << cheapest;
+                    }
+                }
+                if (total == Long.MAX_VALUE) {
+                    continue;
+                }
+                for (int s = 0; s < suppliers; s++) {
+                    if ((used >> s & 1) != 0) {
+                        total += fees[s];
+                    }
+                }
+                best = Math.min(best, total);
+            }
+            assertEquals(best, plan.getTotalCostMinor());
+        }
+    }
+
+    @Test
+    public void optimize_HundredsOfItems_PrunesSearch() {
+        // Given: 400 materiałów, 12 dostawców, po 3 rozmiary opakowań
+        Random random = new Random(5);
+        SupplyCatalog.Builder builder = SupplyCatalog.builder();
+        for (int s = 0; s < 12; s++) {
+            builder.addSupplier("S" + s, 50 + random.nextInt(200));
+        }
+        List<MaterialDemand> demands = new ArrayList<>();
+        for (int m = 0; m < 400; m++) {
+            demands.add(new MaterialDemand("M" + m, 1 + random.nextDouble() * 500, 0));
+            for (int s = 0; s < 12; s++) {
+                double unit = 1 + random.nextDouble() * 20;
+                for (double size : new double[]{1, 5, 25}) {
+                    builder.addOffer(s, "M" + m, "M" + m + "/" + size, size,
+                            Math.round(unit * size * (1 - size / 200) * 100) / 100.0, 1);
+                }
+            }
+        }
+        SupplyCatalog catalog = builder.build();
+
+        // When: optymalizujemy
+        PurchasePlan plan = PurchaseOptimizer.optimize(demands, catalog);
+
+        // Then: każdy materiał kupiony, a przeszukanie dużo mniejsze niż wszystkie podzbiory dostawców
+        // (czas mierzy PurchaseOptimizerBenchmark w android/benchmark)
+        assertEquals(400, plan.getDemandCount());
+        for (int d = 0; d < plan.getDemandCount(); d++) {
+            assertTrue(plan.getDemandSupplier(d) >= 0);
+        }
+        assertTrue("nodes=" + plan.getExploredNodes(), plan.getExploredNodes() < 1 << 12);
+    }
+
+    // ==================== TESTY PLANU ====================
+
+    @Test
+    public void fromPlan_SavingsRelativeToPlanPrices() {
+        // Given: plan i dostawca sprzedający każdy materiał o połowę taniej niż w planie
+        RenovationPlan plan = EstimationEngineTest.randomPortfolio(8, 1, 5).get(0);
+        List<MaterialDemand> demands = MaterialDemand.fromPlan(plan);
+        SupplyCatalog.Builder builder = SupplyCatalog.builder();
+        int shop = builder.addSupplier("Tani", 0);
+        for (MaterialDemand demand : demands) {
+            double unitPrice = demand.getBaselineCostMinor() / 100.0 / demand.getQuantity();
+            builder.addOffer(shop, demand.getMaterialKey(), demand.getMaterialKey(), 0.01,
+                    Math.round(unitPrice * 0.5) / 100.0, 1);
+        }
+
+        // When: optymalizujemy
+        PurchasePlan purchase = PurchaseOptimizer.optimize(demands, builder.build());
+
+        // Then: koszt odniesienia równy kosztom materiałów z wyceny, oszczędność dodatnia
+        PlanEstimate estimate = EstimationEngine.sequential().estimate(plan);
+        long materials = estimate.getNetTotalMinor() - estimate.getCategoryTotalMinor(
+                indexOf(estimate, EstimationEngine.LABOR_CATEGORY));
+        assertEquals(materials, purchase.getBaselineCostMinor());
+        assertTrue(purchase.getPotentialSavings() > 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void optimize_MaterialWithoutOffer_ThrowsException() {
+        // Given/When/Then: brak oferty na materiał
+        SupplyCatalog.Builder builder = SupplyCatalog.builder();
+        builder.addSupplier("A", 0);
+        PurchaseOptimizer.optimize(Collections.singletonList(new MaterialDemand("Farba", 1, 0)), builder.build());
+    }
+
+    private static int indexOf(PlanEstimate estimate, String category) {
+        for (int c = 0; c < estimate.getCategoryCount(); c++) {
+            if (estimate.getCategory(c).equals(category)) {
+                return c;
+            }
+        }
+        throw new AssertionError(category);
+    }
+}
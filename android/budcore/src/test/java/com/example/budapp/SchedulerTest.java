@@ -0,0 +1,228 @@
+package com.example.budapp;
+
+import com.example.budapp.schedule.CostCurve;
+import com.example.budapp.schedule.Schedule;
+import com.example.budapp.schedule.Scheduler;
+import com.example.budapp.schedule.TaskGraph;
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla harmonogramu CPM z wyrównaniem brygad
+ */
+public class SchedulerTest {
+
+    // ==================== TESTY ŚCIEŻKI KRYTYCZNEJ ====================
+
+    @Test
+    public void schedule_HandCheckedNetwork_ComputesCpmTimes() {
+        // Given: rozbiórka -> (elektryka 16h | hydraulika 4h) -> tynki -> malowanie
+        TaskGraph.Builder builder = TaskGraph.builder();
+        int plan = builder.addPlan("mieszkanie");
+        int a = builder.addTask(plan, "A", "demolition", 8, TaskGraph.NO_CREW, 10, 50);
+        int b = builder.addTask(plan, "B", "electrical", 16, TaskGraph.NO_CREW, 10, 80);
+        int c = builder.addTask(plan, "C", "plumbing", 4, TaskGraph.NO_CREW, 10, 90);
+        int d = builder.addTask(plan, "D", "plastering", 8, TaskGraph.NO_CREW, 30, 40);
+        int e = builder.addTask(plan, "E", "painting", 8, TaskGraph.NO_CREW, 30, 25);
+        builder.addDependency(b, a).addDependency(c, a).addDependency(d, b).addDependency(d, c);
+        builder.addDependency(plan, "E", "D");
+
+        // When: wyznaczamy harmonogram
+        Schedule schedule = Scheduler.schedule(builder.build());
+
+        // Then: terminy jak przy liczeniu ręcznym
+        assertEquals(40, schedule.getPlanDuration(plan));
+        assertEquals(8, schedule.getEarliestStart(c));
+        assertEquals(20, schedule.getLatestStart(c));
+        assertEquals(12, schedule.getSlack(c));
+        assertFalse(schedule.isCritical(c));
+        assertEquals(24, schedule.getEarliestStart(d));
+        assertEquals(32, schedule.getLatestStart(e));
+        assertArrayEquals(new int[]{a, b, d, e}, schedule.getCriticalPath(plan));
+    }
+
+    @Test
+    public void addPhaseDependencies_DefaultOrder_ChainsPresentPhases() {
+        // Given: plan z kategoriami w przypadkowej kolejności i zadaniem spoza faz
+        TaskGraph.Builder builder = TaskGraph.builder();
+        int plan = builder.addPlan("łazienka");
+        int tiling = builder.addTask(plan, "płytki", "tiling", 4, TaskGraph.NO_CREW, 5, 120);
+        int flooring = builder.addTask(plan, "panele", "flooring", 4, TaskGraph.NO_CREW, 5, 35);
+        int plastering = builder.addTask(plan, "tynk", "plastering", 4, TaskGraph.NO_CREW, 5, 40);
+        int painting = builder.addTask(plan, "malowanie", "painting", 4, TaskGraph.NO_CREW, 5, 25);
+        int other = builder.addTask(plan, "sprzątanie", "cleanup", 2, TaskGraph.NO_CREW, 0, 0);
+
+        // When: dodajemy domyślne zależności fazowe
+        builder.addPhaseDependencies(plan, TaskGraph.DEFAULT_PHASES);
+        Schedule schedule = Scheduler.schedule(builder.build());
+
+        // Then: tynk -> płytki -> malowanie -> panele, sprzątanie niezależne
+        assertEquals(0, schedule.getEarliestStart(plastering));
+        assertEquals(4, schedule.getEarliestStart(tiling));
+        assertEquals(8, schedule.getEarliestStart(painting));
+        assertEquals(12, schedule.getEarliestStart(flooring));
+        assertEquals(0, schedule.getEarliestStart(other));
+        assertEquals(14, schedule.getSlack(other));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void schedule_WithCycle_ThrowsException() {
+        // Given: dwa zadania zależne od siebie nawzajem
+        TaskGraph.Builder builder = TaskGraph.builder();
+        int plan = builder.addPlan("cykl");
+        int a = builder.addTask(plan, "A", "painting", 4, TaskGraph.NO_CREW, 1, 1);
+        int b = builder.addTask(plan, "B", "plastering", 4, TaskGraph.NO_CREW, 1, 1);
+        builder.addDependency(a, b).addDependency(b, a);
+
+        // When/Then: wyjątek
+        Scheduler.schedule(builder.build());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addDependency_AcrossPlans_ThrowsException() {
+        // Given: zadania w dwóch planach
+        TaskGraph.Builder builder = TaskGraph.builder();
+        int a = builder.addTask(builder.addPlan("P1"), "A", "painting", 4, TaskGraph.NO_CREW, 1, 1);
+        int b = builder.addTask(builder.addPlan("P2"), "B", "painting", 4, TaskGraph.NO_CREW, 1, 1);
+
+        // When/Then: zależność między planami odrzucona
+        builder.addDependency(a, b);
+    }
+
+    // ==================== TESTY WYRÓWNANIA BRYGAD ====================
+
+    @Test
+    public void schedule_SingleCrew_DelaysTaskWithMoreSlack() {
+        // Given: jedna brygada malarzy i dwa plany; w pierwszym malowanie ma zapas 32h
+        TaskGraph.Builder builder = TaskGraph.builder();
+        int painters = builder.addCrew("Malarze", 1);
+        int first = builder.addPlan("P1");
+        int relaxed = builder.addTask(first, "malowanie", "painting", 8, painters, 40, 25);
+        builder.addTask(first, "schnięcie", "drying", 40, TaskGraph.NO_CREW, 0, 0);
+        int second = builder.addPlan("P2");
+        int urgent = builder.addTask(second, "malowanie", "painting", 8, painters, 40, 25);
+
+        // When: wyznaczamy harmonogram
+        Schedule schedule = Scheduler.schedule(builder.build());
+
+        // Then: pierwszeństwo ma zadanie bez zapasu, drugie czeka na brygadę
+        assertEquals(0, schedule.getEarliestStart(relaxed));
+        assertEquals(32, schedule.getSlack(relaxed));
+        assertEquals(0, schedule.getStart(urgent));
+        assertEquals(8, schedule.getStart(relaxed));
+        assertEquals(8, schedule.getDelay(relaxed));
+        assertEquals(40, schedule.getLeveledPlanDuration(first));
+        assertEquals(40, schedule.getMakespan());
+    }
+
+    @Test
+    public void schedule_EnoughCrews_MatchesCpm() {
+        // Given: dwie brygady dla dwóch równoległych zadań
+        TaskGraph.Builder builder = TaskGraph.builder();
+        int painters = builder.addCrew("Malarze", 2);
+        int a = builder.addTask(builder.addPlan("P1"), "malowanie", "painting", 8, painters, 10, 25);
+        int b = builder.addTask(builder.addPlan("P2"), "malowanie", "painting", 8, painters, 10, 25);
+
+        // When: wyznaczamy harmonogram
+        Schedule schedule = Scheduler.schedule(builder.build());
+
+        // Then: brak opóźnień
+        assertEquals(0, schedule.getStart(a));
+        assertEquals(0, schedule.getStart(b));
+        assertEquals(8, schedule.getMakespan());
+    }
+
+    @Test
+    public void schedule_ThousandsOfTasks_RespectsDependenciesAndCapacities() {
+        // Given: 300 planów po 12 zadań z zależnościami fazowymi i współdzielonymi brygadami
+        String[] categories = {"demolition", "electrical", "plumbing", "plastering", "preparation", "screed",
+                "waterproofing", "tiling", "painting", "flooring", "skirting", "cleanup"};
+        int[] capacities = {15, 10, 25};
+        Random random = new Random(23);
+        TaskGraph.Builder builder = TaskGraph.builder();
+        int[] crews = new int[capacities.length];
+        for (int c = 0; c < crews.length; c++) {
+            crews[c] = builder.addCrew("Brygada " + c, capacities[c]);
+        }
+        for (int p = 0; p < 300; p++) {
+            int plan = builder.addPlan("P" + p);
+            for (int t = 0; t < categories.length; t++) {
+                int crew = t == categories.length - 1 ? TaskGraph.NO_CREW : crews[t % crews.length];
+                builder.addTask(plan, "T" + t, categories[t], 1 + random.nextInt(24), crew,
+                        5 + random.nextInt(60), 20 + random.nextInt(100));
+            }
+            builder.addPhaseDependencies(plan, TaskGraph.DEFAULT_PHASES);
+        }
+        TaskGraph graph = builder.build();
+
+        // When: wyznaczamy harmonogram
+        Schedule schedule = Scheduler.schedule(graph);
+
+        // Then: zależności zachowane, plany nie krótsze niż CPM, brygady nieprzeciążone
+        assertEquals(3600, graph.getTaskCount());
+        for (int p = 0; p < graph.getPlanCount(); p++) {
+            assertTrue(schedule.getLeveledPlanDuration(p) >= schedule.getPlanDuration(p));
+            int[] path = schedule.getCriticalPath(p);
+            int length = 0;
+            for (int task : path) {
+                length += graph.getDuration(task);
+            }
+            assertEquals(schedule.getPlanDuration(p), length);
+        }
+        int makespan = schedule.getMakespan();
+        int[][] load = new int[crews.length][makespan + 1];
+        for (int i = 0; i < graph.getTaskCount(); i++) {
+            assertTrue(schedule.getStart(i) >= schedule.getEarliestStart(i));
+            if (graph.getCrew(i) != TaskGraph.NO_CREW) {
+                for (int h = schedule.getStart(i); h < schedule.getFinish(i); h++) {
+                    load[graph.getCrew(i)][h]++;
+                }
+            }
+        }
+        for (int c = 0; c < crews.length; c++) {
+            for (int h = 0; h <= makespan; h++) {
+                assertTrue(load[c][h] <= capacities[c]);
+            }
+        }
+        int tiling = 7;
+        int painting = 8;
+        assertTrue(schedule.getStart(painting) >= schedule.getFinish(tiling));
+    }
+
+    // ==================== TESTY KRZYWEJ KOSZTÓW ====================
+
+    @Test
+    public void costCurve_TotalsMatchWorkCostAndGrowAtFinishTimes() {
+        // Given: dwa plany z zadaniami o znanych kosztach
+        TaskGraph.Builder builder = TaskGraph.builder();
+        int painters = builder.addCrew("Malarze", 1);
+        int first = builder.addPlan("P1");
+        builder.addTask(first, "tynk", "plastering", 8, TaskGraph.NO_CREW, 30, 40.5);
+        builder.addTask(first, "malowanie", "painting", 8, painters, 30, 25.33);
+        builder.addPhaseDependencies(first, TaskGraph.DEFAULT_PHASES);
+        int second = builder.addPlan("P2");
+        builder.addTask(second, "malowanie", "painting", 4, painters, 12.5, 27);
+
+        // When: wyznaczamy harmonogram i krzywą
+        Schedule schedule = Scheduler.schedule(builder.build());
+        CostCurve curve = schedule.getCostCurve();
+
+        // Then: suma równa kosztom robocizny, koszt naliczany po zakończeniu zadań
+        long expected = MoneyCalculator.fromDouble(ConstructionCalculator.calculateWorkCost(30, 40.5))
+                + MoneyCalculator.fromDouble(ConstructionCalculator.calculateWorkCost(30, 25.33))
+                + MoneyCalculator.fromDouble(ConstructionCalculator.calculateWorkCost(12.5, 27));
+        assertEquals(expected, curve.getTotalMinor());
+        assertEquals(0, curve.getCostAtMinor(3));
+        assertEquals(MoneyCalculator.fromDouble(ConstructionCalculator.calculateWorkCost(12.5, 27)),
+                curve.getCostAtMinor(4));
+        assertEquals(expected, curve.getCostAtMinor(1000));
+        assertEquals(3, curve.getPointCount());
+        assertEquals(16, curve.getTime(2));
+        assertEquals(curve.getTotalMinor(),
+                schedule.getCostCurve(first).getTotalMinor() + schedule.getCostCurve(second).getTotalMinor());
+        assertEquals(MoneyCalculator.toDouble(expected), curve.getTotal(), 0.0);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.budapp;
+
+import com.example.budapp.invoice.VatAggregator;
+import com.example.budapp.utils.ConstructionCalculator;
+import com.example.budapp.utils.MoneyCalculator;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla zestawienia VAT według stawek
+ */
+public class VatAggregatorTest {
+
+    private static final int[] RATES = {2300, 800, 500, 0};
+
+    private static final class PartialSum extends RecursiveTask<VatAggregator> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long[] nets;
+        private final int[] rates;
+        private final int from;
+        private final int to;
+
+        PartialSum(long[] nets, int[] rates, int from, int to) {
+            this.nets = nets;
+            this.rates = rates;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected VatAggregator compute() {
+            if (to - from <= 1000) {
+                VatAggregator partial = new VatAggregator();
+                for (int i = from; i < to; i++) {
+                    partial.add(nets[i], rates[i]);
+                }
+                return partial;
+            }
+            int mid = (from + to) >>> 1;
+            PartialSum left = new PartialSum(nets, rates, from, mid);
+            left.fork();
+            VatAggregator right = new PartialSum(nets, rates, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    // ==================== TESTY ZESTAWIENIA ====================
+
+    @Test
+    public void add_MixedRates_SumsPerRateBeforeRounding() {
+        // Given: trzy pozycje 23% po 0.33 zł i jedna 8%
+        VatAggregator aggregator = new VatAggregator()
+                .add(33, 2300).add(33, 2300).add(33, 2300)
+                .add(1000, 800);
+
+        // Then: VAT 23% od sumy 0.99 zł (23 gr), a nie 3 x 8 gr
+        assertEquals(2, aggregator.getRateCount());
+        assertEquals(2300, aggregator.getRateBasisPoints(0));
+        assertEquals(99, aggregator.getNetMinor(0));
+        assertEquals(23, aggregator.getVatMinor(0));
+        assertEquals(122, aggregator.getGrossMinor(0));
+        assertEquals(800, aggregator.getRateBasisPoints(1));
+        assertEquals(80, aggregator.getVatMinor(1));
+        assertEquals(1099, aggregator.getNetTotalMinor());
+        assertEquals(103, aggregator.getVatTotalMinor());
+        assertEquals(1202, aggregator.getGrossTotalMinor());
+    }
+
+    @Test
+    public void add_SingleRate_MatchesCalculatorGrossAmount() {
+        // Given: kwota netto w API double
+        VatAggregator aggregator = new VatAggregator().add(1234.56, 23);
+
+        // Then: wynik jak calculateGrossAmount
+        assertEquals(MoneyCalculator.fromDouble(ConstructionCalculator.calculateGrossAmount(1234.56, 23)),
+                aggregator.getGrossTotalMinor());
+    }
+
+    @Test
+    public void add_RatesInAnyOrder_KeepsDescendingOrder() {
+        // Given: stawki dodane w przypadkowej kolejności
+        VatAggregator aggregator = new VatAggregator().add(1, 500).add(1, 0).add(1, 2300).add(1, 800).add(1, 850);
+
+        // Then: od najwyższej
+        int[] expected = {2300, 850, 800, 500, 0};
+        assertEquals(expected.length, aggregator.getRateCount());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], aggregator.getRateBasisPoints(i));
+        }
+    }
+
+    @Test
+    public void halfEven_RoundsTiesToEven() {
+        // Given: VAT 5% od 0.50 zł = 2.5 gr
+        VatAggregator halfUp = new VatAggregator().add(50, 500);
+        VatAggregator halfEven = new VatAggregator(RoundingMode.HALF_EVEN).add(50, 500);
+
+        // Then: 3 gr dla HALF_UP, 2 gr dla HALF_EVEN
+        assertEquals(3, halfUp.getVatMinor(0));
+        assertEquals(2, halfEven.getVatMinor(0));
+    }
+
+    // ==================== TESTY ŁĄCZENIA ====================
+
+    @Test
+    public void merge_ParallelPartials_MatchesSequential() {
+        // Given: 100 000 losowych pozycji
+        Random random = new Random(42);
+        long[] nets = new long[100_000];
+        int[] rates = new int[nets.length];
+        VatAggregator sequential = new VatAggregator();
+        for (int i = 0; i < nets.length; i++) {
+            nets[i] = random.nextInt(1_000_000);
+            rates[i] = RATES[random.nextInt(RATES.length)];
+            sequential.add(nets[i], rates[i]);
+        }
+
+        // When: sumujemy częściowo w wątkach i łączymy
+        VatAggregator merged = ForkJoinPool.commonPool().invoke(new PartialSum(nets, rates, 0, nets.length));
+
+        // Then: identyczne zestawienie
+        assertEquals(sequential.getRateCount(), merged.getRateCount());
+        for (int i = 0; i < sequential.getRateCount(); i++) {
+            assertEquals(sequential.getRateBasisPoints(i), merged.getRateBasisPoints(i));
+            assertEquals(sequential.getNetMinor(i), merged.getNetMinor(i));
+            assertEquals(sequential.getVatMinor(i), merged.getVatMinor(i));
+        }
+        assertEquals(sequential.getGrossTotalMinor(), merged.getGrossTotalMinor());
+    }
+
+    @Test
+    public void clear_RemovesAllRates() {
+        // Given: zestawienie z pozycjami
+        VatAggregator aggregator = new VatAggregator().add(100, 2300).add(100, 800);
+
+        // When: czyścimy
+        aggregator.clear();
+
+        // Then: puste zestawienie, gotowe do ponownego użycia
+        assertEquals(0, aggregator.getRateCount());
+        assertEquals(0, aggregator.getGrossTotalMinor());
+        aggregator.add(100, 500);
+        assertEquals(500, aggregator.getRateBasisPoints(0));
+    }
+
+    // ==================== TESTY BŁĘDÓW ====================
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_NegativeAmount_ThrowsException() {
+        // Given/When/Then: ujemna kwota netto
+        new VatAggregator().add(-1, 2300);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void add_RateAbove100Percent_ThrowsException() {
+        // Given/When/Then: stawka powyżej 100%
+        new VatAggregator().add(100, 10001);
+    }
+}
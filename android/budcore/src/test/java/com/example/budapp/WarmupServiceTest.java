@@ -0,0 +1,150 @@
+package com.example.budapp;
+
+import com.example.budapp.warmup.StartupTimings;
+import com.example.budapp.warmup.WarmupService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla rozgrzewki kalkulatorów przy starcie
+ */
+public class WarmupServiceTest {
+
+    // ==================== TESTY FAZ ====================
+
+    @Test
+    public void start_RunsPhasesInOrderAndRecordsTimings() {
+        // Given: trzy fazy zapisujące kolejność
+        List<String> order = new ArrayList<>();
+        WarmupService service = WarmupService.builder()
+                .addPhase("a", () -> order.add("a"))
+                .addPhase("b", () -> order.add("b"))
+                .addPhase("c", () -> order.add("c"))
+                .build();
+
+        // When: uruchamiamy w bieżącym wątku
+        service.start(Runnable::run);
+
+        // Then: fazy w kolejności, czasy zapisane, gotowość zgłoszona
+        assertEquals(List.of("a", "b", "c"), order);
+        StartupTimings timings = service.getTimings();
+        assertTrue(timings.isReady());
+        assertTrue(service.isReady());
+        assertEquals(3, timings.getPhaseCount());
+        assertEquals("b", timings.getPhaseName(1));
+        assertTrue(timings.getNanos("c") >= 0);
+        assertEquals(-1, timings.getNanos("d"));
+    }
+
+    @Test
+    public void start_FailingPhase_IsRecordedAndOthersStillRun() {
+        // Given: środkowa faza rzuca wyjątek
+        AtomicInteger completed = new AtomicInteger();
+        WarmupService service = WarmupService.builder()
+                .addPhase("ok", completed::incrementAndGet)
+                .addPhase("broken", () -> {
+                    throw new IllegalStateException("brak pliku");
+                })
+                .addPhase("after", completed::incrementAndGet)
+                .build();
+
+        // When: uruchamiamy
+        service.start(Runnable::run);
+
+        // Then: błąd w czasach startu, rozgrzewka zakończona
+        StartupTimings timings = service.getTimings();
+        assertEquals(2, completed.get());
+        assertNull(timings.getPhaseFailure(0));
+        assertEquals("brak pliku", timings.getPhaseFailure(1));
+        assertTrue(timings.isReady());
+    }
+
+    @Test
+    public void start_PhaseThrowingError_StillSignalsReady() throws InterruptedException {
+        // Given: faza kończąca się błędem inicjalizacji klasy
+        AtomicInteger completed = new AtomicInteger();
+        WarmupService service = WarmupService.builder()
+                .addPhase("init", () -> {
+                    throw new ExceptionInInitializerError("static");
+                })
+                .addPhase("after", completed::incrementAndGet)
+                .build();
+        AtomicReference<StartupTimings> notified = new AtomicReference<>();
+        service.whenReady(notified::set);
+
+        // When: uruchamiamy
+        service.start(Runnable::run);
+
+        // Then: błąd zapisany, kolejna faza wykonana, gotowość zgłoszona
+        assertTrue(service.awaitReady(0, TimeUnit.SECONDS));
+        assertEquals(1, completed.get());
+        assertNotNull(notified.get());
+        assertNotNull(notified.get().getPhaseFailure(0));
+        assertNull(notified.get().getPhaseFailure(1));
+    }
+
+    @Test
+    public void start_CalledTwice_RunsPhasesOnce() {
+        // Given: faza licząca wywołania
+        AtomicInteger runs = new AtomicInteger();
+        WarmupService service = WarmupService.builder().addPhase("count", runs::incrementAndGet).build();
+
+        // When: dwa uruchomienia
+        service.start(Runnable::run);
+        service.start(Runnable::run);
+
+        // Then: jedno wykonanie
+        assertEquals(1, runs.get());
+    }
+
+    // ==================== TESTY GOTOWOŚCI ====================
+
+    @Test
+    public void whenReady_BeforeAndAfterCompletion_NotifiesListeners() throws InterruptedException {
+        // Given: rozgrzewka w wątku tła i faza zewnętrzna zgłoszona przez aktywność
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        WarmupService service = WarmupService.builder().addDefaultPhases().build();
+        service.record("process", 1_500_000);
+        AtomicReference<StartupTimings> early = new AtomicReference<>();
+        service.whenReady(early::set);
+
+        // When: uruchamiamy i czekamy
+        service.start(executor);
+        assertTrue(service.awaitReady(30, TimeUnit.SECONDS));
+        AtomicReference<StartupTimings> late = new AtomicReference<>();
+        service.whenReady(late::set);
+        executor.shutdown();
+
+        // Then: oba słuchacze powiadomieni, fazy domyślne bez błędów
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertNotNull(early.get());
+        assertNotNull(late.get());
+        StartupTimings timings = late.get();
+        assertEquals(5, timings.getPhaseCount());
+        assertEquals("process", timings.getPhaseName(0));
+        assertEquals(1.5, timings.getPhaseMillis(0), 0.0);
+        for (int i = 0; i < timings.getPhaseCount(); i++) {
+            assertNull(timings.getPhaseName(i), timings.getPhaseFailure(i));
+        }
+        assertTrue(timings.getNanos("calculators") > 0);
+        assertTrue(timings.getTotalNanos() >= timings.getNanos("calculators"));
+    }
+
+    @Test
+    public void getTimings_BeforeStart_IsNotReady() {
+        // Given/When: rozgrzewka nieuruchomiona
+        WarmupService service = WarmupService.builder().addDefaultPhases().build();
+
+        // Then: brak faz i gotowości
+        assertFalse(service.isReady());
+        assertFalse(service.getTimings().isReady());
+        assertEquals(0, service.getTimings().getPhaseCount());
+    }
+}
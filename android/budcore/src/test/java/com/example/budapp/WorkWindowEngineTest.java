@@ -0,0 +1,335 @@
+package com.example.budapp;
+
+import com.example.budapp.weather.ForecastLoader;
+import com.example.budapp.weather.HourlyForecast;
+import com.example.budapp.weather.WorkConditions;
+import com.example.budapp.weather.WorkWindowCache;
+import com.example.budapp.weather.WorkWindowEngine;
+import com.example.budapp.weather.WorkWindows;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Testy jednostkowe dla okien pogodowych prac zewnętrznych
+ */
+public class WorkWindowEngineTest {
+
+    /** Początek prognozy: 2026-05-04 00:00 UTC */
+    private static final long START_SECONDS = 1_777_852_800L;
+    private static final long FIRST_DAY = 20577;
+    private static final int CEST = 7200;
+
+    /** Prognoza 3-godzinna na dwie doby jak z /data/2.5/forecast: deszcz po południu, wiatr drugiego dnia */
+    private static final String FIXTURE = "dt;temperatura;opad;wiatr\n"
+            + rows(0, "8;0;3", "7;0;3", "10;0;4", "15;0;5", "18;0;6", "17;1,5;9", "13;0;4", "10;0;3",
+            "9;0;3", "8;0;2", "12;0;14", "16;0;15", "19;0;6", "20;0;5", "15;0;3", "11;0;2");
+
+    private static final List<WorkConditions> OUTDOOR =
+            Arrays.asList(WorkConditions.CONCRETE_POUR, WorkConditions.FACADE_PAINTING, WorkConditions.ROOFING);
+
+    private static String rows(int first, String... values) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            text.append(START_SECONDS + (first + i) * 3L * 3600).append(';').append(values[i]).append('\n');
+        }
+        return text.toString();
+    }
+
+    private static HourlyForecast load(String text) throws IOException {
+        return ForecastLoader.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), "Kraków", CEST);
+    }
+
+    private static int[] windows(WorkWindows windows, int type) {
+        int[] bounds = new int[windows.getWindowCount(type) * 2];
+        for (int i = 0; i < windows.getWindowCount(type); i++) {
+            bounds[2 * i] = windows.getWindowStart(type, i);
+            bounds[2 * i + 1] = windows.getWindowEnd(type, i);
+        }
+        return bounds;
+    }
+
+    // ==================== TESTY WCZYTYWANIA PROGNOZY ====================
+
+    @Test
+    public void load_ThreeHourFixture_ExpandsToHours() throws IOException {
+        // Given/When: prognoza 3-godzinna z pliku
+        HourlyForecast forecast = load(FIXTURE);
+
+        // Then: 16 kroków po 3 godziny, opad rozłożony równo
+        assertEquals(48, forecast.getHourCount());
+        assertEquals(START_SECONDS * 1000, forecast.getStartMillis());
+        assertEquals(8.0, forecast.getTemperature(2), 0.0);
+        assertEquals(0.5, forecast.getPrecipitation(15), 1e-12);
+        assertEquals(0.5, forecast.getPrecipitation(17), 1e-12);
+        assertEquals(14.0, forecast.getWindSpeed(30), 0.0);
+        assertEquals(FIRST_DAY, forecast.getEpochDay(0));
+        assertEquals(FIRST_DAY + 1, forecast.getEpochDay(22));
+    }
+
+    @Test
+    public void load_IrregularStep_ThrowsExceptionWithLineNumber() {
+        // Given: trzeci wiersz przesunięty o godzinę
+        String text = rows(0, "8;0;3", "7;0;3") + (START_SECONDS + 7 * 3600) + ";9;0;3\n";
+
+        // When/Then: wyjątek z numerem wiersza
+        try {
+            load(text);
+            fail("Oczekiwano wyjątku");
+        } catch (IllegalArgumentException | IOException e) {
+            assertTrue(e.getMessage().startsWith("Wiersz 3:"));
+        }
+    }
+
+    // ==================== TESTY OKIEN ====================
+
+    @Test
+    public void compute_HandCheckedSeries_FindsWindows() {
+        // Given: 12 godzin - zimny poranek, deszcz w godzinie 4, wichura w godzinie 7
+        double[] temperatures = {4, 6, 7, 8, 9, 10, 11, 12, 12, 12, 12, 12};
+        double[] precipitation = {0, 0, 0, 0, 0.5, 0, 0, 0, 0, 0, 0, 0};
+        double[] wind = {1, 1, 1, 1, 1, 1, 1, 15, 1, 1, 1, 1};
+        HourlyForecast forecast = new HourlyForecast("Test", 0, 0, temperatures, precipitation, wind);
+        WorkConditions dry = new WorkConditions("Suche podłoże", 5, 30, 0, 10, 2, 2);
+        WorkConditions wet = new WorkConditions("Bez wymogu suchości", 5, 30, 0, 10, 0, 2);
+
+        // When: wyznaczamy okna dla obu rodzajów w jednym przejściu
+        WorkWindows windows = WorkWindowEngine.compute(forecast, Arrays.asList(dry, wet));
+
+        // Then: po deszczu dwie godziny czekania na wyschnięcie
+        assertArrayEquals(new int[]{1, 4, 8, 12}, windows(windows, 0));
+        assertArrayEquals(new int[]{1, 4, 5, 7, 8, 12}, windows(windows, 1));
+        assertEquals(7, windows.getWorkableHours(0));
+        assertEquals(1, windows.firstFit(0, 3, 0));
+        assertEquals(8, windows.firstFit(0, 3, 2));
+        assertEquals(9, windows.firstFit(0, 2, 9));
+        assertEquals(-1, windows.firstFit(0, 5, 0));
+    }
+
+    @Test
+    public void compute_Fixture_AppliesDefaultThresholds() throws IOException {
+        // Given: prognoza z pliku
+        HourlyForecast forecast = load(FIXTURE);
+
+        // When: okna dla betonowania, elewacji i dachu
+        WorkWindows windows = WorkWindowEngine.compute(forecast, OUTDOOR);
+
+        // Then: betonowanie przerywa deszcz i wiatr, elewacja czeka 6 godzin po deszczu
+        assertArrayEquals(new int[]{0, 15, 18, 30, 36, 48}, windows(windows, 0));
+        assertArrayEquals(new int[]{0, 15, 24, 30, 36, 48}, windows(windows, 1));
+        assertEquals(3, windows.getTypeCount());
+        assertEquals("Kraków", windows.getLocation());
+    }
+
+    @Test
+    public void assign_ScheduledOutdoorTasks_StartInsideWindows() throws IOException {
+        // Given: okna z prognozy i trzy zadania zewnętrzne z najwcześniejszymi startami z harmonogramu
+        WorkWindows windows = WorkWindowEngine.compute(load(FIXTURE), OUTDOOR);
+
+        // When: dopasowujemy betonowanie 8h, malowanie elewacji 6h i za długie betonowanie
+        int[] starts = windows.assign(new int[]{0, 1, 0}, new int[]{8, 6, 20}, new int[]{10, 12, 0});
+
+        // Then: betonowanie po deszczu, elewacja po wyschnięciu, brak okna na 20h
+        assertArrayEquals(new int[]{18, 24, -1}, starts);
+    }
+
+    @Test
+    public void compute_RandomSeries_MatchesHourByHourCheck() {
+        // Given: losowa prognoza na 20 dni i losowe progi
+        Random random = new Random(24);
+        int hours = 480;
+        double[] temperatures = new double[hours];
+        double[] precipitation = new double[hours];
+        double[] wind = new double[hours];
+        for (int h = 0; h < hours; h++) {
+            temperatures[h] = -5 + random.nextDouble() * 35;
+            precipitation[h] = random.nextInt(5) == 0 ? random.nextDouble() * 2 : 0;
+            wind[h] = random.nextDouble() * 16;
+        }
+        HourlyForecast forecast = new HourlyForecast("Losowo", 0, 0, temperatures, precipitation, wind);
+        List<WorkConditions> conditions = new ArrayList<>();
+        for (int k = 0; k < 20; k++) {
+            double min = -5 + random.nextInt(15);
+            conditions.add(new WorkConditions("R" + k, min, min + 5 + random.nextInt(25), random.nextDouble() * 0.5,
+                    4 + random.nextInt(12), random.nextInt(8), 1 + random.nextInt(6)));
+        }
+
+        // When: jedno przejście dla wszystkich rodzajów
+        WorkWindows windows = WorkWindowEngine.compute(forecast, conditions);
+
+        // Then: identyczne okna jak przy sprawdzaniu każdej godziny osobno
+        for (int k = 0; k < conditions.size(); k++) {
+            WorkConditions c = conditions.get(k);
+            List<Integer> expected = new ArrayList<>();
+            int runStart = -1;
+            for (int h = 0; h <= hours; h++) {
+                boolean valid = h < hours && temperatures[h] >= c.getMinTemperature()
+                        && temperatures[h] <= c.getMaxTemperature() && wind[h] <= c.getMaxWindSpeed();
+                for (int back = 0; valid && back <= c.getDryHoursBefore() && h - back >= 0; back++) {
+                    valid = precipitation[h - back] <= c.getMaxPrecipitation();
+                }
+                if (valid && runStart < 0) {
+                    runStart = h;
+                } else if (!valid && runStart >= 0) {
+                    if (h - runStart >= c.getMinHours()) {
+                        expected.add(runStart);
+                        expected.add(h);
+                    }
+                    runStart = -1;
+                }
+            }
+            int[] actual = windows(windows, k);
+            assertEquals(expected.size(), actual.length);
+            for (int i = 0; i < actual.length; i++) {
+                assertEquals(expected.get(i).intValue(), actual[i]);
+            }
+        }
+    }
+
+    // ==================== TESTY PAMIĘCI PODRĘCZNEJ ====================
+
+    @Test
+    public void get_WithinTtl_IsServedFromCacheAndExpiresAfter() throws IOException {
+        // Given: pamięć podręczna z zegarem sterowanym ręcznie i TTL 1h
+        AtomicLong clock = new AtomicLong(1_000);
+        WorkWindowCache cache = new WorkWindowCache(OUTDOOR, 3_600_000, 16, clock::get);
+        HourlyForecast forecast = load(FIXTURE);
+
+        // When: dwa odczyty w czasie życia i jeden po wygaśnięciu
+        WorkWindows first = cache.get(forecast, FIRST_DAY);
+        clock.addAndGet(3_599_999);
+        WorkWindows second = cache.get(forecast, FIRST_DAY);
+        clock.addAndGet(1);
+        WorkWindows third = cache.get(forecast, FIRST_DAY);
+
+        // Then: trafienie w czasie życia, ponowne obliczenie po nim
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        // Wieczorne okno po deszczu trwa do następnego dnia - zachowuje pełne granice
+        assertArrayEquals(new int[]{0, 15, 18, 30}, windows(first, 0));
+    }
+
+    @Test
+    public void precompute_AllDays_CachesPerLocationAndDay() throws IOException {
+        // Given: pamięć podręczna i prognoza obejmująca trzy lokalne dni
+        AtomicLong clock = new AtomicLong();
+        WorkWindowCache cache = new WorkWindowCache(OUTDOOR, 3_600_000, 16, clock::get);
+        HourlyForecast forecast = load(FIXTURE);
+
+        // When: obliczamy z wyprzedzeniem wszystkie dni
+        List<WorkWindows> days = cache.precompute(forecast);
+
+        // Then: wpis na każdy dzień, kolejne odczyty z pamięci
+        assertEquals(3, days.size());
+        assertEquals(3, cache.size());
+        assertSame(days.get(1), cache.get(forecast, FIRST_DAY + 1));
+        assertArrayEquals(new int[]{20, 30, 36, 48}, windows(days.get(1), 2));
+        // Deszcz z poprzedniego dnia nadal blokuje elewację po północy
+        assertArrayEquals(new int[]{24, 30, 36, 48}, windows(days.get(1), 1));
+
+        // When: nowa prognoza dla miasta i upływ czasu
+        cache.invalidate("Kraków");
+
+        // Then: wpisy usunięte
+        assertEquals(0, cache.size());
+        cache.precompute(forecast);
+        clock.addAndGet(3_600_000);
+        assertEquals(3, cache.evictExpired());
+    }
+
+    @Test
+    public void get_WindowAcrossMidnight_BelongsToBothDaysWithFullBounds() {
+        // Given: betonowanie 10h od 20:00 do 06:00 (UTC, min. 8h), poza tym za zimno
+        double[] temperatures = new double[48];
+        for (int h = 20; h < 30; h++) {
+            temperatures[h] = 15;
+        }
+        double[] zeros = new double[48];
+        HourlyForecast forecast = new HourlyForecast("Poznań", 0, 0, temperatures, zeros, zeros);
+        WorkConditions pour = new WorkConditions("Betonowanie", 5, 30, 0, 12, 0, 8);
+        WorkWindowCache cache = new WorkWindowCache(Collections.singletonList(pour), 3_600_000, 16, () -> 0);
+
+        // When: okna obu dni
+        WorkWindows first = cache.get(forecast, 0);
+        WorkWindows second = cache.get(forecast, 1);
+
+        // Then: to samo okno w obu dniach
+        assertArrayEquals(new int[]{20, 30}, windows(first, 0));
+        assertArrayEquals(new int[]{20, 30}, windows(second, 0));
+    }
+
+    @Test
+    public void get_PerDay_MatchesWholeForecastWindowsIntersectingDay() {
+        // Given: losowa prognoza na 5 dni i losowe progi
+        Random random = new Random(2024);
+        int hours = 120;
+        double[] temperatures = new double[hours];
+        double[] precipitation = new double[hours];
+        double[] wind = new double[hours];
+        for (int h = 0; h < hours; h++) {
+            temperatures[h] = random.nextDouble() * 30;
+            precipitation[h] = random.nextInt(6) == 0 ? random.nextDouble() : 0;
+            wind[h] = random.nextDouble() * 14;
+        }
+        HourlyForecast forecast = new HourlyForecast("Losowo", START_SECONDS * 1000, CEST,
+                temperatures, precipitation, wind);
+        List<WorkConditions> conditions = new ArrayList<>();
+        for (int k = 0; k < 10; k++) {
+            conditions.add(new WorkConditions("R" + k, random.nextInt(8), 20 + random.nextInt(10),
+                    random.nextDouble() * 0.3, 6 + random.nextInt(8), random.nextInt(6), 1 + random.nextInt(10)));
+        }
+        WorkWindows whole = WorkWindowEngine.compute(forecast, conditions);
+        WorkWindowCache cache = new WorkWindowCache(conditions, 3_600_000, 16, () -> 0);
+
+        // When/Then: okna każdego dnia to okna całej prognozy przecinające ten dzień
+        for (long day = forecast.getEpochDay(0); day <= forecast.getEpochDay(hours - 1); day++) {
+            WorkWindows daily = cache.get(forecast, day);
+            long from = Math.max(0, forecast.getDayStartHour(day));
+            long to = Math.min(hours, forecast.getDayStartHour(day) + 24);
+            for (int k = 0; k < conditions.size(); k++) {
+                List<Integer> expected = new ArrayList<>();
+                for (int i = 0; i < whole.getWindowCount(k); i++) {
+                    if (whole.getWindowStart(k, i) < to && whole.getWindowEnd(k, i) > from) {
+                        expected.add(whole.getWindowStart(k, i));
+                        expected.add(whole.getWindowEnd(k, i));
+                    }
+                }
+                int[] actual = windows(daily, k);
+                assertEquals(expected.size(), actual.length);
+                for (int i = 0; i < actual.length; i++) {
+                    assertEquals(expected.get(i).intValue(), actual[i]);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void get_BeyondMaximumSize_EvictsLeastRecentlyUsed() {
+        // Given: pamięć na dwa wpisy
+        WorkWindowCache cache = new WorkWindowCache(Collections.singletonList(WorkConditions.ROOFING),
+                3_600_000, 2, () -> 0);
+        double[] hours = new double[48];
+        HourlyForecast forecast = new HourlyForecast("Gdańsk", 0, 0, hours, hours, hours);
+
+        // When: trzy dni, pierwszy używany ponownie przed trzecim
+        WorkWindows day0 = cache.get(forecast, 0);
+        cache.get(forecast, 1);
+        cache.get(forecast, 0);
+        cache.get(forecast, 2);
+
+        // Then: usunięty dzień 1, dzień 0 pozostał
+        assertEquals(2, cache.size());
+        assertSame(day0, cache.get(forecast, 0));
+        assertEquals(3, cache.getMissCount());
+    }
+}
@@ -26,3 +26,6 @@ plugins {
 }
 
 include(":app")
+
+// Rdzeń obliczeniowy (kalkulator, formatowanie, walidacja) jako samodzielny build JVM
+includeBuild("budcore")
@@ -1,7 +1,11 @@
 import 'dart:convert';
+import 'dart:io';
 
+import 'package:flutter/foundation.dart';
 import 'package:shared_preferences/shared_preferences.dart';
 
+import 'services/native_history_store.dart';
+
 class HistoryManager {
   static final HistoryManager _instance = HistoryManager._internal();
   factory HistoryManager() => _instance;
@@ -26,20 +30,101 @@ class HistoryManager {
   SharedPreferences? _prefs;
   bool _isInitialized = false;
 
+  /// Magazyn wybrany w [init] - natywny lub SharedPreferences
+  bool _native = false;
+
+  /// Na Androidzie historia trzymana jest w natywnym magazynie binarnym
+  bool get _useNativeStore => !kIsWeb && Platform.isAndroid;
+
   Future<void> init() async {
     if (_isInitialized) return;
     _prefs = await SharedPreferences.getInstance();
+    _native = await _nativeStoreAvailable();
 
-    _areaHistory.addAll(_loadHistory(_areaKey));
-    _workHistory.addAll(_loadHistory(_workKey));
-    _materialHistory.addAll(_loadHistory(_materialKey));
-    _dimensionsHistory.addAll(_loadHistory(_dimensionsKey));
-    _volumeMassHistory.addAll(_loadHistory(_volumeMassKey));
-    _vatTaxHistory.addAll(_loadHistory(_vatTaxKey));
+    await _initHistory(_areaKey, _areaHistory);
+    await _initHistory(_workKey, _workHistory);
+    await _initHistory(_materialKey, _materialHistory);
+    await _initHistory(_dimensionsKey, _dimensionsHistory);
+    await _initHistory(_volumeMassKey, _volumeMassHistory);
+    await _initHistory(_vatTaxKey, _vatTaxHistory);
 
     _isInitialized = true;
   }
 
+  String _nativeType(String key) => key.substring('history_'.length);
+
+  Future<bool> _nativeStoreAvailable() async {
+    if (!_useNativeStore) return false;
+    try {
+      await NativeHistoryStore().latest(_nativeType(_areaKey), 1);
+      return true;
+    } catch (_) {
+      // Brak kanału natywnego - zostajemy przy SharedPreferences
+      return false;
+    }
+  }
+
+  Future<void> _initHistory(
+      String key, List<Map<String, dynamic>> history) async {
+    if (!_native) {
+      history.addAll(_loadHistory(key));
+      return;
+    }
+    final type = _nativeType(key);
+    var entries = await NativeHistoryStore().latest(type, maxHistoryItems);
+    if (entries.isEmpty && (_prefs?.containsKey(key) ?? false)) {
+      // Migracja historii zapisanej przed przejściem na magazyn natywny
+      for (final entry in _loadHistory(key).reversed) {
+        await NativeHistoryStore().append(type, entry);
+      }
+      await _prefs?.remove(key);
+      entries = await NativeHistoryStore().latest(type, maxHistoryItems);
+    }
+    history.addAll(entries);
+  }
+
+  Future<void> _addHistory(String key, List<Map<String, dynamic>> history,
+      Map<String, dynamic> entry) async {
+    if (_native) {
+      final stored = Map<String, dynamic>.from(entry);
+      stored['id'] = await NativeHistoryStore().append(_nativeType(key), entry);
+      history.insert(0, stored);
+      while (history.length > maxHistoryItems) {
+        final removed = history.removeLast();
+        await NativeHistoryStore()
+            .remove(_nativeType(key), removed['id'] as int);
+      }
+      return;
+    }
+    history.insert(0, entry);
+    if (history.length > maxHistoryItems) {
+      history.removeLast();
+    }
+    await _saveHistory(key, history);
+  }
+
+  Future<void> _clearHistory(
+      String key, List<Map<String, dynamic>> history) async {
+    history.clear();
+    if (_native) {
+      await NativeHistoryStore().clear(_nativeType(key));
+      return;
+    }
+    await _saveHistory(key, history);
+  }
+
+  Future<void> _removeHistoryItem(
+      String key, List<Map<String, dynamic>> history, int index) async {
+    if (index < 0 || index >= history.length) return;
+    final removed = history.removeAt(index);
+    if (_native) {
+      if (removed['id'] is! int) return;
+      await NativeHistoryStore().remove(_nativeType(key), removed['id'] as int);
+      return;
+    }
+    await _saveHistory(key, history);
+  }
+
   List<Map<String, dynamic>> _loadHistory(String key) {
     final jsonString = _prefs?.getString(key);
     if (jsonString == null || jsonString.isEmpty) return [];
@@ -74,53 +159,23 @@ class HistoryManager {
     await _prefs?.setString(key, jsonEncode(serializable));
   }
 
-  Future<void> addAreaHistory(Map<String, dynamic> entry) async {
-    _areaHistory.insert(0, entry);
-    if (_areaHistory.length > maxHistoryItems) {
-      _areaHistory.removeLast();
-    }
-    await _saveHistory(_areaKey, _areaHistory);
-  }
+  Future<void> addAreaHistory(Map<String, dynamic> entry) =>
+      _addHistory(_areaKey, _areaHistory, entry);
 
-  Future<void> addWorkHistory(Map<String, dynamic> entry) async {
-    _workHistory.insert(0, entry);
-    if (_workHistory.length > maxHistoryItems) {
-      _workHistory.removeLast();
-    }
-    await _saveHistory(_workKey, _workHistory);
-  }
+  Future<void> addWorkHistory(Map<String, dynamic> entry) =>
+      _addHistory(_workKey, _workHistory, entry);
 
-  Future<void> addMaterialHistory(Map<String, dynamic> entry) async {
-    _materialHistory.insert(0, entry);
-    if (_materialHistory.length > maxHistoryItems) {
-      _materialHistory.removeLast();
-    }
-    await _saveHistory(_materialKey, _materialHistory);
-  }
+  Future<void> addMaterialHistory(Map<String, dynamic> entry) =>
+      _addHistory(_materialKey, _materialHistory, entry);
 
-  Future<void> addDimensionsHistory(Map<String, dynamic> entry) async {
-    _dimensionsHistory.insert(0, entry);
-    if (_dimensionsHistory.length > maxHistoryItems) {
-      _dimensionsHistory.removeLast();
-    }
-    await _saveHistory(_dimensionsKey, _dimensionsHistory);
-  }
+  Future<void> addDimensionsHistory(Map<String, dynamic> entry) =>
+      _addHistory(_dimensionsKey, _dimensionsHistory, entry);
 
-  Future<void> addVolumeMassHistory(Map<String, dynamic> entry) async {
-    _volumeMassHistory.insert(0, entry);
-    if (_volumeMassHistory.length > maxHistoryItems) {
-      _volumeMassHistory.removeLast();
-    }
-    await _saveHistory(_volumeMassKey, _volumeMassHistory);
-  }
+  Future<void> addVolumeMassHistory(Map<String, dynamic> entry) =>
+      _addHistory(_volumeMassKey, _volumeMassHistory, entry);
 
-  Future<void> addVatTaxHistory(Map<String, dynamic> entry) async {
-    _vatTaxHistory.insert(0, entry);
-    if (_vatTaxHistory.length > maxHistoryItems) {
-      _vatTaxHistory.removeLast();
-    }
-    await _saveHistory(_vatTaxKey, _vatTaxHistory);
-  }
+  Future<void> addVatTaxHistory(Map<String, dynamic> entry) =>
+      _addHistory(_vatTaxKey, _vatTaxHistory, entry);
 
   List<Map<String, dynamic>> getAreaHistory() => List.from(_areaHistory);
   List<Map<String, dynamic>> getWorkHistory() => List.from(_workHistory);
@@ -131,75 +186,37 @@ class HistoryManager {
       List.from(_volumeMassHistory);
   List<Map<String, dynamic>> getVatTaxHistory() => List.from(_vatTaxHistory);
 
-  Future<void> clearAreaHistory() async {
-    _areaHistory.clear();
-    await _saveHistory(_areaKey, _areaHistory);
-  }
+  Future<void> clearAreaHistory() => _clearHistory(_areaKey, _areaHistory);
 
-  Future<void> clearWorkHistory() async {
-    _workHistory.clear();
-    await _saveHistory(_workKey, _workHistory);
-  }
+  Future<void> clearWorkHistory() => _clearHistory(_workKey, _workHistory);
 
-  Future<void> clearMaterialHistory() async {
-    _materialHistory.clear();
-    await _saveHistory(_materialKey, _materialHistory);
-  }
+  Future<void> clearMaterialHistory() =>
+      _clearHistory(_materialKey, _materialHistory);
 
-  Future<void> clearDimensionsHistory() async {
-    _dimensionsHistory.clear();
-    await _saveHistory(_dimensionsKey, _dimensionsHistory);
-  }
+  Future<void> clearDimensionsHistory() =>
+      _clearHistory(_dimensionsKey, _dimensionsHistory);
 
-  Future<void> clearVolumeMassHistory() async {
-    _volumeMassHistory.clear();
-    await _saveHistory(_volumeMassKey, _volumeMassHistory);
-  }
+  Future<void> clearVolumeMassHistory() =>
+      _clearHistory(_volumeMassKey, _volumeMassHistory);
 
-  Future<void> clearVatTaxHistory() async {
-    _vatTaxHistory.clear();
-    await _saveHistory(_vatTaxKey, _vatTaxHistory);
-  }
+  Future<void> clearVatTaxHistory() =>
+      _clearHistory(_vatTaxKey, _vatTaxHistory);
 
-  Future<void> removeAreaHistoryItem(int index) async {
-    if (index >= 0 && index < _areaHistory.length) {
-      _areaHistory.removeAt(index);
-      await _saveHistory(_areaKey, _areaHistory);
-    }
-  }
+  Future<void> removeAreaHistoryItem(int index) =>
+      _removeHistoryItem(_areaKey, _areaHistory, index);
 
-  Future<void> removeWorkHistoryItem(int index) async {
-    if (index >= 0 && index < _workHistory.length) {
-      _workHistory.removeAt(index);
-      await _saveHistory(_workKey, _workHistory);
-    }
-  }
+  Future<void> removeWorkHistoryItem(int index) =>
+      _removeHistoryItem(_workKey, _workHistory, index);
 
-  Future<void> removeMaterialHistoryItem(int index) async {
-    if (index >= 0 && index < _materialHistory.length) {
-      _materialHistory.removeAt(index);
-      await _saveHistory(_materialKey, _materialHistory);
-    }
-  }
+  Future<void> removeMaterialHistoryItem(int index) =>
+      _removeHistoryItem(_materialKey, _materialHistory, index);
 
-  Future<void> removeDimensionsHistoryItem(int index) async {
-    if (index >= 0 && index < _dimensionsHistory.length) {
-      _dimensionsHistory.removeAt(index);
-      await _saveHistory(_dimensionsKey, _dimensionsHistory);
-    }
-  }
+  Future<void> removeDimensionsHistoryItem(int index) =>
+      _removeHistoryItem(_dimensionsKey, _dimensionsHistory, index);
 
-  Future<void> removeVolumeMassHistoryItem(int index) async {
-    if (index >= 0 && index < _volumeMassHistory.length) {
-      _volumeMassHistory.removeAt(index);
-      await _saveHistory(_volumeMassKey, _volumeMassHistory);
-    }
-  }
+  Future<void> removeVolumeMassHistoryItem(int index) =>
+      _removeHistoryItem(_volumeMassKey, _volumeMassHistory, index);
 
-  Future<void> removeVatTaxHistoryItem(int index) async {
-    if (index >= 0 && index < _vatTaxHistory.length) {
-      _vatTaxHistory.removeAt(index);
-      await _saveHistory(_vatTaxKey, _vatTaxHistory);
-    }
-  }
+  Future<void> removeVatTaxHistoryItem(int index) =>
+      _removeHistoryItem(_vatTaxKey, _vatTaxHistory, index);
 }
\ No newline at end of file
@@ -21,6 +21,7 @@ import 'splash_screen.dart';
 import 'services/auth_service.dart';
 import 'services/preferences_service.dart';
 import 'services/cache_service.dart';
+import 'services/native_warmup.dart';
 import 'firebase_options.dart';
 import 'screens/login_screen.dart';
 import 'screens/register_screen.dart';
@@ -46,6 +47,8 @@ void main() async {
         await CacheService().init();
         await HistoryManager().init();
         await FirebaseAuth.instance.signOut();
+        // Kalkulatory rozgrzewane w tle od startu aktywności - zwykle gotowe przed końcem splasha
+        await NativeWarmup().awaitReady();
       },
       child: const MyApp(),
     ),
@@ -0,0 +1,143 @@
+import 'dart:io';
+import 'dart:typed_data';
+
+import 'package:flutter/foundation.dart';
+import 'package:flutter/services.dart';
+
+/// Operacje kalkulatora - kody muszą zgadzać się z `CalculationOp` po stronie Androida.
+enum CalculationOp {
+  area(0, 2),
+  workCost(1, 2),
+  materialQuantity(2, 3),
+  volume(3, 3),
+  vat(4, 2),
+  grossAmount(5, 2);
+
+  const CalculationOp(this.code, this.arity);
+
+  final int code;
+  final int arity;
+}
+
+/// Paczka obliczeń wysyłana jednym komunikatem do natywnego kalkulatora.
+class CalculationBatch {
+  final List<CalculationOp> _ops = [];
+  final List<double> _args = [];
+
+  int get length => _ops.length;
+
+  /// Dodaje operację i zwraca jej indeks w liście wyników
+  int add(CalculationOp op, List<double> args) {
+    if (args.length != op.arity) {
+      throw ArgumentError('${op.name} wymaga ${op.arity} argumentów');
+    }
+    _ops.add(op);
+    _args.addAll(args);
+    return _ops.length - 1;
+  }
+
+  int area(double length, double width) =>
+      add(CalculationOp.area, [length, width]);
+
+  int workCost(double area, double pricePerSquareMeter) =>
+      add(CalculationOp.workCost, [area, pricePerSquareMeter]);
+
+  int materialQuantity(double area, double usage, double wastePercentage) =>
+      add(CalculationOp.materialQuantity, [area, usage, wastePercentage]);
+
+  int volume(double length, double width, double height) =>
+      add(CalculationOp.volume, [length, width, height]);
+
+  int vat(double net, double vatRate) => add(CalculationOp.vat, [net, vatRate]);
+
+  int grossAmount(double net, double vatRate) =>
+      add(CalculationOp.grossAmount, [net, vatRate]);
+
+  ByteData _encode() {
+    final data = ByteData(4 + _ops.length + _args.length * 8);
+    data.setInt32(0, _ops.length, Endian.little);
+    var offset = 4;
+    var arg = 0;
+    for (final op in _ops) {
+      data.setUint8(offset++, op.code);
+      for (var i = 0; i < op.arity; i++) {
+        data.setFloat64(offset, _args[arg++], Endian.little);
+        offset += 8;
+      }
+    }
+    return data;
+  }
+}
+
+/// Wykonuje paczki obliczeń w natywnym wątku roboczym (Android) lub lokalnie.
+class CalculatorChannelService {
+  static const BasicMessageChannel<ByteData?> _channel =
+      BasicMessageChannel('com.example.budapp/calculator', BinaryCodec());
+
+  static final CalculatorChannelService _instance =
+      CalculatorChannelService._internal();
+  factory CalculatorChannelService() => _instance;
+  CalculatorChannelService._internal();
+
+  bool get _useNative => !kIsWeb && Platform.isAndroid;
+
+  /// Zwraca wyniki w kolejności operacji; `null` oznacza odrzucone argumenty
+  Future<List<double?>> run(CalculationBatch batch) async {
+    if (batch.length == 0) return [];
+    if (_useNative) {
+      final response = await _channel.send(batch._encode());
+      if (response != null) return _decode(response);
+    }
+    return _runLocally(batch);
+  }
+
+  List<double?> _decode(ByteData data) {
+    final count = data.getInt32(0, Endian.little);
+    final results = List<double?>.filled(count, null);
+    var offset = 4;
+    for (var i = 0; i < count; i++) {
+      final ok = data.getUint8(offset) == 0;
+      final value = data.getFloat64(offset + 1, Endian.little);
+      results[i] = ok ? value : null;
+      offset += 9;
+    }
+    return results;
+  }
+
+  List<double?> _runLocally(CalculationBatch batch) {
+    final results = <double?>[];
+    var arg = 0;
+    for (final op in batch._ops) {
+      final a = batch._args.sublist(arg, arg + op.arity);
+      arg += op.arity;
+      results.add(_apply(op, a));
+    }
+    return results;
+  }
+
+  double _round(double value) => (value * 100).round() / 100;
+
+  double? _apply(CalculationOp op, List<double> a) {
+    switch (op) {
+      case CalculationOp.area:
+        if (a[0] < 0 || a[1] < 0) return null;
+        return _round(a[0] * a[1]);
+      case CalculationOp.workCost:
+        if (a[0] < 0 || a[1] < 0) return null;
+        return _round(a[0] * a[1]);
+      case CalculationOp.materialQuantity:
+        if (a[0] < 0 || a[1] < 0 || a[2] < 0 || a[2] > 100) return null;
+        final base = a[0] * a[1];
+        return _round(base + base * (a[2] / 100));
+      case CalculationOp.volume:
+        if (a[0] < 0 || a[1] < 0 || a[2] < 0) return null;
+        return _round(a[0] * a[1] * a[2]);
+      case CalculationOp.vat:
+        if (a[0] < 0 || a[1] < 0 || a[1] > 100) return null;
+        return _round(a[0] * (a[1] / 100));
+      case CalculationOp.grossAmount:
+        if (a[0] < 0 || a[1] < 0 || a[1] > 100) return null;
+        return _round(a[0] + _round(a[0] * (a[1] / 100)));
+    }
+  }
+}
@@ -0,0 +1,45 @@
+import 'package:flutter/services.dart';
+
+/// Binarny magazyn historii po stronie Androida (plik mapowany do pamięci).
+class NativeHistoryStore {
+  static const MethodChannel _channel =
+      MethodChannel('com.example.budapp/history');
+
+  static final NativeHistoryStore _instance = NativeHistoryStore._internal();
+  factory NativeHistoryStore() => _instance;
+  NativeHistoryStore._internal();
+
+  Future<int> append(String type, Map<String, dynamic> entry) async {
+    final values = Map<String, dynamic>.from(entry)..remove('timestamp');
+    final timestamp = entry['timestamp'] is DateTime
+        ? (entry['timestamp'] as DateTime).millisecondsSinceEpoch
+        : DateTime.now().millisecondsSinceEpoch;
+    final id = await _channel.invokeMethod<int>('append', {
+      'type': type,
+      'timestamp': timestamp,
+      'values': values,
+    });
+    return id ?? -1;
+  }
+
+  Future<List<Map<String, dynamic>>> latest(String type, int limit) async {
+    final records = await _channel.invokeListMethod<Map<dynamic, dynamic>>(
+        'latest', {'type': type, 'limit': limit});
+    return (records ?? []).map((record) {
+      final map = Map<String, dynamic>.from(record);
+      map['timestamp'] =
+          DateTime.fromMillisecondsSinceEpoch(map['timestamp'] as int);
+      return map;
+    }).toList();
+  }
+
+  Future<bool> remove(String type, int id) async {
+    final removed = await _channel
+        .invokeMethod<bool>('remove', {'type': type, 'id': id});
+    return removed ?? false;
+  }
+
+  Future<void> clear(String type) async {
+    await _channel.invokeMethod<void>('clear', {'type': type});
+  }
+}
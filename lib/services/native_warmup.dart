@@ -0,0 +1,90 @@
+import 'dart:async';
+import 'dart:io';
+
+import 'package:flutter/foundation.dart';
+import 'package:flutter/services.dart';
+
+/// Czas jednej fazy startu zmierzony po stronie Androida.
+class StartupPhase {
+  final String name;
+  final double millis;
+  final String? error;
+
+  const StartupPhase({required this.name, required this.millis, this.error});
+
+  factory StartupPhase.fromMap(Map<dynamic, dynamic> map) {
+    return StartupPhase(
+      name: map['name'] as String? ?? '',
+      millis: (map['ms'] as num?)?.toDouble() ?? 0,
+      error: map['error'] as String?,
+    );
+  }
+}
+
+/// Stan rozgrzewki kalkulatorów i czasy faz startu.
+class WarmupStatus {
+  final bool ready;
+  final double totalMillis;
+  final List<StartupPhase> phases;
+
+  const WarmupStatus({
+    required this.ready,
+    this.totalMillis = 0,
+    this.phases = const [],
+  });
+
+  factory WarmupStatus.fromMap(Map<dynamic, dynamic> map) {
+    final phases = map['phases'] as List<dynamic>? ?? [];
+    return WarmupStatus(
+      ready: map['ready'] as bool? ?? false,
+      totalMillis: (map['totalMs'] as num?)?.toDouble() ?? 0,
+      phases: phases
+          .map((phase) => StartupPhase.fromMap(phase as Map<dynamic, dynamic>))
+          .toList(),
+    );
+  }
+}
+
+/// Rozgrzewka natywnego kalkulatora uruchamiana w MainActivity (Android).
+/// Na innych platformach od razu zgłasza gotowość.
+class NativeWarmup {
+  static const MethodChannel _channel =
+      MethodChannel('com.example.budapp/warmup');
+
+  static final NativeWarmup _instance = NativeWarmup._internal();
+  factory NativeWarmup() => _instance;
+  NativeWarmup._internal();
+
+  bool get _useNative => !kIsWeb && Platform.isAndroid;
+
+  /// Bieżący stan bez czekania
+  Future<WarmupStatus> status() async {
+    if (!_useNative) return const WarmupStatus(ready: true);
+    try {
+      final map = await _channel.invokeMapMethod<String, dynamic>('status');
+      return WarmupStatus.fromMap(map ?? {});
+    } on PlatformException {
+      return const WarmupStatus(ready: false);
+    } on MissingPluginException {
+      return const WarmupStatus(ready: false);
+    }
+  }
+
+  /// Czeka na zakończenie rozgrzewki, najwyżej [timeout]
+  Future<WarmupStatus> awaitReady(
+      {Duration timeout = const Duration(seconds: 3)}) async {
+    if (!_useNative) return const WarmupStatus(ready: true);
+    try {
+      final map = await _channel
+          .invokeMapMethod<String, dynamic>('awaitReady')
+          .timeout(timeout);
+      return WarmupStatus.fromMap(map ?? {});
+    } on TimeoutException {
+      return status();
+    } on PlatformException {
+      return const WarmupStatus(ready: false);
+    } on MissingPluginException {
+      return const WarmupStatus(ready: false);
+    }
+  }
+}